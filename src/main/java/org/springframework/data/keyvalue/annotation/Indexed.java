@@ -0,0 +1,66 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.annotation;
+
+import static java.lang.annotation.ElementType.*;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Mark properties that should be backed by a secondary index. Adapters supporting secondary indexes maintain a lookup
+ * from property value to the ids of the objects holding that value so that derived equality and {@literal IN} queries
+ * can be answered without scanning the whole keyspace.
+ *
+ * <pre class="code">
+ * class Order {
+ *
+ * 	&#64;Id String id;
+ * 	&#64;Indexed String customerId;
+ * }
+ * </pre>
+ *
+ * Only simple (non-collection, non-map) top-level properties can be indexed. {@link #ordered() Ordered} indexes keep
+ * values in their natural order and additionally serve range queries ({@literal GreaterThan}, {@literal LessThan},
+ * {@literal Between}, …) and sorting by the indexed property:
+ *
+ * <pre class="code">
+ * class Order {
+ *
+ * 	&#64;Id String id;
+ * 	&#64;Indexed(ordered = true) Instant createdAt;
+ * }
+ * </pre>
+ *
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { FIELD, METHOD, ANNOTATION_TYPE })
+public @interface Indexed {
+
+	/**
+	 * Whether to keep indexed values in their natural order to support range lookups and ordered traversal. Values of
+	 * ordered indexes must be {@link Comparable} and mutually comparable.
+	 *
+	 * @return {@literal true} to create an ordered index. Defaults to {@literal false}.
+	 */
+	boolean ordered() default false;
+}
@@ -66,4 +66,22 @@ public @interface KeySpace {
 	 * @return dedicated keyspace the entity should reside in.
 	 */
 	String value() default "";
+
+	/**
+	 * Maximum number of entries the keyspace holds when stored by an adapter supporting bounded keyspaces. Entries
+	 * exceeding the maximum get evicted. Zero or negative values do not limit the keyspace.
+	 *
+	 * @return the maximum number of entries.
+	 * @since 4.2
+	 */
+	long maximumSize() default -1;
+
+	/**
+	 * Whether values of the keyspace are stored compressed when held by an adapter supporting compression. Compression
+	 * pays off for large values sharing content and trades CPU time on reads and writes for memory.
+	 *
+	 * @return {@literal true} to store values compressed.
+	 * @since 4.2
+	 */
+	boolean compressed() default false;
 }
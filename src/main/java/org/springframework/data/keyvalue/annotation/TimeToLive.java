@@ -0,0 +1,75 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.annotation;
+
+import static java.lang.annotation.ElementType.*;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Declare the time to live of objects stored in a keyspace. Adapters supporting expiration remove objects once their
+ * time to live has elapsed.
+ * <p>
+ * Used on a type, the annotation declares the default time to live for all objects of that type:
+ *
+ * <pre class="code">
+ * &#64;TimeToLive(value = 30, unit = TimeUnit.MINUTES)
+ * class Session {
+ *
+ * 	&#64;Id String id;
+ * }
+ * </pre>
+ *
+ * Used on a numeric or {@link java.time.Duration} property, the property value determines the time to live of each
+ * individual object. A {@literal null} property value falls back to the type-level default while a zero or negative
+ * time to live lets the object never expire.
+ *
+ * <pre class="code">
+ * class Session {
+ *
+ * 	&#64;Id String id;
+ * 	&#64;TimeToLive(unit = TimeUnit.SECONDS) Long expiration;
+ * }
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target(value = { TYPE, FIELD, METHOD, ANNOTATION_TYPE })
+public @interface TimeToLive {
+
+	/**
+	 * Default time to live expressed in {@link #unit()} when used on a type. Ignored on properties. Zero or negative
+	 * values disable expiration.
+	 *
+	 * @return the default time to live.
+	 */
+	long value() default -1;
+
+	/**
+	 * Time unit of the {@link #value()} or of numeric property values.
+	 *
+	 * @return the time unit, {@link TimeUnit#SECONDS} by default.
+	 */
+	TimeUnit unit() default TimeUnit.SECONDS;
+
+}
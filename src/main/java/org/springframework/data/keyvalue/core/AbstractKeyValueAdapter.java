@@ -19,7 +19,10 @@ import java.util.Collection;
 import java.util.Comparator;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * Base implementation of {@link KeyValueAdapter} holds {@link QueryEngine} to delegate {@literal find} and
@@ -89,8 +92,23 @@ public abstract class AbstractKeyValueAdapter implements KeyValueAdapter {
 		return engine.execute(query, keyspace);
 	}
 
+	@Override
+	public <T> CloseableIterator<T> stream(KeyValueQuery<?> query, String keyspace, Class<T> type) {
+		return engine.stream(query, keyspace, type);
+	}
+
 	@Override
 	public long count(KeyValueQuery<?> query, String keyspace) {
 		return engine.count(query, keyspace);
 	}
+
+	@Override
+	public boolean exists(KeyValueQuery<?> query, String keyspace) {
+		return engine.exists(query, keyspace);
+	}
+
+	@Override
+	public AggregationResults aggregate(KeyValueQuery<?> query, Aggregation aggregation, String keyspace) {
+		return engine.aggregate(query, aggregation, keyspace);
+	}
 }
@@ -0,0 +1,217 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
+
+/**
+ * Single pass accumulator evaluating an {@link Aggregation} over a sequence of objects. Group by values are read into a
+ * hash map of groups holding a {@code long} count and {@link AggregationResults.Statistics} per summarized path so that
+ * accumulating integral values allocates nothing apart from boxing property values and, for multiple group by paths,
+ * the group key. Instances are not thread-safe.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class Aggregator {
+
+	private static final Object NULL_KEY = new Object();
+
+	private final PathAccessor[] groupBy;
+	private final PathAccessor[] summarized;
+	private final Map<Object, Accumulator> groups = new LinkedHashMap<>();
+
+	Aggregator(Aggregation aggregation) {
+
+		this.groupBy = PathAccessor.of(aggregation.getGroupBy());
+		this.summarized = PathAccessor.of(aggregation.getSummarized());
+	}
+
+	/**
+	 * Accumulate all objects of the given {@link Iterator}.
+	 *
+	 * @param iterator the objects to accumulate.
+	 * @param aggregation the aggregation to evaluate.
+	 * @return the {@link AggregationResults}.
+	 */
+	static AggregationResults aggregate(Iterator<?> iterator, Aggregation aggregation) {
+
+		Aggregator aggregator = new Aggregator(aggregation);
+
+		while (iterator.hasNext()) {
+			aggregator.add(iterator.next());
+		}
+
+		return aggregator.getResults();
+	}
+
+	/**
+	 * Accumulate the given {@code candidate}. {@literal null} candidates are ignored.
+	 *
+	 * @param candidate the object to accumulate.
+	 * @throws IllegalArgumentException if a summarized property holds a non-numeric value.
+	 */
+	void add(@Nullable Object candidate) {
+
+		if (candidate == null) {
+			return;
+		}
+
+		Object key = getKey(candidate);
+		Accumulator accumulator = groups.get(key);
+
+		if (accumulator == null) {
+			accumulator = new Accumulator(summarized.length);
+			groups.put(key, accumulator);
+		}
+
+		accumulator.count++;
+
+		for (int i = 0; i < summarized.length; i++) {
+
+			Object value = summarized[i].getValue(candidate);
+
+			if (value == null) {
+				continue;
+			}
+
+			if (!(value instanceof Number number)) {
+				throw new IllegalArgumentException(String.format("Cannot summarize non-numeric value of property '%s' of %s",
+						summarized[i].path, candidate.getClass().getName()));
+			}
+
+			accumulator.statistics[i].accept(number);
+		}
+	}
+
+	/**
+	 * @return the {@link AggregationResults} of all objects accumulated so far.
+	 */
+	AggregationResults getResults() {
+
+		if (groupBy.length == 0 && groups.isEmpty()) {
+			groups.put(Collections.emptyList(), new Accumulator(summarized.length));
+		}
+
+		List<AggregationResults.Group> result = new ArrayList<>(groups.size());
+
+		for (Map.Entry<Object, Accumulator> entry : groups.entrySet()) {
+
+			Map<String, AggregationResults.Statistics> statistics = new LinkedHashMap<>(summarized.length * 2);
+			for (int i = 0; i < summarized.length; i++) {
+				statistics.put(summarized[i].path, entry.getValue().statistics[i]);
+			}
+
+			result.add(new AggregationResults.Group(toKey(entry.getKey()), entry.getValue().count, statistics));
+		}
+
+		return new AggregationResults(result);
+	}
+
+	private Object getKey(Object candidate) {
+
+		if (groupBy.length == 0) {
+			return Collections.emptyList();
+		}
+
+		if (groupBy.length == 1) {
+
+			Object value = groupBy[0].getValue(candidate);
+			return value != null ? value : NULL_KEY;
+		}
+
+		Object[] values = new Object[groupBy.length];
+		for (int i = 0; i < groupBy.length; i++) {
+			values[i] = groupBy[i].getValue(candidate);
+		}
+
+		return Arrays.asList(values);
+	}
+
+	@SuppressWarnings("unchecked")
+	private List<@Nullable Object> toKey(Object key) {
+
+		if (groupBy.length == 1) {
+			return Collections.singletonList(key != NULL_KEY ? key : null);
+		}
+
+		return (List<@Nullable Object>) key;
+	}
+
+	private static class Accumulator {
+
+		private long count;
+		private final AggregationResults.Statistics[] statistics;
+
+		Accumulator(int paths) {
+
+			this.statistics = new AggregationResults.Statistics[paths];
+			for (int i = 0; i < paths; i++) {
+				statistics[i] = new AggregationResults.Statistics();
+			}
+		}
+	}
+
+	/**
+	 * Reads a property path from objects, resolving the {@link CompiledPropertyPathAccessor} once per type.
+	 */
+	private static class PathAccessor {
+
+		private final String path;
+		private @Nullable Class<?> type;
+		private @Nullable CompiledPropertyPathAccessor accessor;
+
+		PathAccessor(String path) {
+			this.path = path;
+		}
+
+		static PathAccessor[] of(List<String> paths) {
+
+			PathAccessor[] result = new PathAccessor[paths.size()];
+			for (int i = 0; i < result.length; i++) {
+				result[i] = new PathAccessor(paths.get(i));
+			}
+
+			return result;
+		}
+
+		@Nullable
+		Object getValue(Object source) {
+
+			CompiledPropertyPathAccessor accessor = this.accessor;
+
+			if (accessor == null || type != source.getClass()) {
+
+				accessor = CompiledPropertyPathAccessor.of(PropertyPath.from(path, source.getClass()));
+				this.accessor = accessor;
+				this.type = source.getClass();
+			}
+
+			return accessor.getValue(source);
+		}
+	}
+}
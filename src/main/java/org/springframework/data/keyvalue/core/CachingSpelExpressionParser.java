@@ -0,0 +1,61 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.Map;
+
+import org.springframework.expression.ParseException;
+import org.springframework.expression.spel.SpelCompilerMode;
+import org.springframework.expression.spel.SpelParserConfiguration;
+import org.springframework.expression.spel.standard.SpelExpression;
+import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ConcurrentReferenceHashMap;
+
+/**
+ * {@link SpelExpressionParser} caching {@link SpelExpression parsed expressions} by their expression string so that
+ * expressions compiled through the {@link SpelCompilerMode configured compiler mode} are reused across queries instead
+ * of being compiled over and over again. Cached expressions must be evaluated against an explicit
+ * {@link org.springframework.expression.EvaluationContext} as they are shared.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class CachingSpelExpressionParser extends SpelExpressionParser {
+
+	private final Map<String, SpelExpression> cache = new ConcurrentReferenceHashMap<>();
+
+	/**
+	 * Creates a new {@link CachingSpelExpressionParser} using the given {@link SpelCompilerMode}.
+	 *
+	 * @param compilerMode must not be {@literal null}.
+	 */
+	CachingSpelExpressionParser(SpelCompilerMode compilerMode) {
+		super(new SpelParserConfiguration(compilerMode, CachingSpelExpressionParser.class.getClassLoader()));
+	}
+
+	@Override
+	public SpelExpression parseRaw(String expressionString) throws ParseException {
+
+		SpelExpression expression = cache.get(expressionString);
+
+		if (expression == null) {
+			expression = super.parseRaw(expressionString);
+			cache.put(expressionString, expression);
+		}
+
+		return expression;
+	}
+}
@@ -0,0 +1,139 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.expression.BeanResolver;
+import org.springframework.expression.ConstructorResolver;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.IndexAccessor;
+import org.springframework.expression.MethodResolver;
+import org.springframework.expression.OperatorOverloader;
+import org.springframework.expression.PropertyAccessor;
+import org.springframework.expression.TypeComparator;
+import org.springframework.expression.TypeConverter;
+import org.springframework.expression.TypeLocator;
+import org.springframework.expression.TypedValue;
+
+/**
+ * {@link EvaluationContext} exposing the candidate currently evaluated as variable while delegating everything else to
+ * a shared {@link EvaluationContext}. Allows reusing a single context for all candidates of a query execution without
+ * modifying the shared context. Instances are confined to the thread executing the query.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class CandidateEvaluationContext implements EvaluationContext {
+
+	private final EvaluationContext delegate;
+	private final String variableName;
+
+	private @Nullable Object candidate;
+
+	/**
+	 * Creates a new {@link CandidateEvaluationContext}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @param variableName name of the variable holding the candidate, must not be {@literal null}.
+	 */
+	CandidateEvaluationContext(EvaluationContext delegate, String variableName) {
+
+		this.delegate = delegate;
+		this.variableName = variableName;
+	}
+
+	/**
+	 * Set the candidate to evaluate.
+	 *
+	 * @param candidate can be {@literal null}.
+	 */
+	void setCandidate(@Nullable Object candidate) {
+		this.candidate = candidate;
+	}
+
+	@Override
+	public TypedValue getRootObject() {
+		return delegate.getRootObject();
+	}
+
+	@Override
+	public List<PropertyAccessor> getPropertyAccessors() {
+		return delegate.getPropertyAccessors();
+	}
+
+	@Override
+	public List<IndexAccessor> getIndexAccessors() {
+		return delegate.getIndexAccessors();
+	}
+
+	@Override
+	public List<ConstructorResolver> getConstructorResolvers() {
+		return delegate.getConstructorResolvers();
+	}
+
+	@Override
+	public List<MethodResolver> getMethodResolvers() {
+		return delegate.getMethodResolvers();
+	}
+
+	@Override
+	public @Nullable BeanResolver getBeanResolver() {
+		return delegate.getBeanResolver();
+	}
+
+	@Override
+	public TypeLocator getTypeLocator() {
+		return delegate.getTypeLocator();
+	}
+
+	@Override
+	public TypeConverter getTypeConverter() {
+		return delegate.getTypeConverter();
+	}
+
+	@Override
+	public TypeComparator getTypeComparator() {
+		return delegate.getTypeComparator();
+	}
+
+	@Override
+	public OperatorOverloader getOperatorOverloader() {
+		return delegate.getOperatorOverloader();
+	}
+
+	@Override
+	public boolean isAssignmentEnabled() {
+		return delegate.isAssignmentEnabled();
+	}
+
+	@Override
+	public void setVariable(String name, @Nullable Object value) {
+
+		if (variableName.equals(name)) {
+			this.candidate = value;
+			return;
+		}
+
+		delegate.setVariable(name, value);
+	}
+
+	@Override
+	public @Nullable Object lookupVariable(String name) {
+		return variableName.equals(name) ? candidate : delegate.lookupVariable(name);
+	}
+}
@@ -0,0 +1,180 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.NotReadablePropertyException;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.util.Assert;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Accessor reading the value at a {@link PropertyPath} through {@link MethodHandle method handles} resolved once per
+ * type and property. Resolves properties like {@link org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper}
+ * preferring getters and falling back to fields. Reading a value does not use reflection and allocates nothing apart
+ * from boxing primitive values. Instances are thread-safe and obtained through {@link #of(PropertyPath)}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public final class CompiledPropertyPathAccessor {
+
+	private static final MethodType READER_TYPE = MethodType.methodType(Object.class, Object.class);
+
+	private static final Map<PropertyPath, CompiledPropertyPathAccessor> ACCESSORS = new ConcurrentReferenceHashMap<>();
+
+	private static final ClassValue<Map<String, MethodHandle>> READERS = new ClassValue<>() {
+
+		@Override
+		protected Map<String, MethodHandle> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>(4);
+		}
+	};
+
+	private final PropertyPath path;
+	private final Segment[] segments;
+
+	private CompiledPropertyPathAccessor(PropertyPath path) {
+
+		List<Segment> segments = new ArrayList<>();
+		for (PropertyPath current : path) {
+			segments.add(new Segment(current.getSegment()));
+		}
+
+		this.path = path;
+		this.segments = segments.toArray(new Segment[0]);
+	}
+
+	/**
+	 * Obtain the {@link CompiledPropertyPathAccessor} for the given {@link PropertyPath}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the cached {@link CompiledPropertyPathAccessor}.
+	 */
+	public static CompiledPropertyPathAccessor of(PropertyPath path) {
+
+		Assert.notNull(path, "PropertyPath must not be null");
+
+		return ACCESSORS.computeIfAbsent(path, CompiledPropertyPathAccessor::new);
+	}
+
+	/**
+	 * Read the value at the {@link #getPath() path} from the given {@code source}.
+	 *
+	 * @param source can be {@literal null}.
+	 * @return the value or {@literal null} if the value or any intermediate value is {@literal null}.
+	 * @throws NotReadablePropertyException if a property can be neither read via getter nor via field.
+	 */
+	public @Nullable Object getValue(@Nullable Object source) {
+
+		Object current = source;
+		for (Segment segment : segments) {
+
+			if (current == null) {
+				return null;
+			}
+
+			current = segment.read(current);
+		}
+
+		return current;
+	}
+
+	/**
+	 * @return the {@link PropertyPath} to read.
+	 */
+	public PropertyPath getPath() {
+		return path;
+	}
+
+	private static MethodHandle getReader(Class<?> type, String property) {
+		return READERS.get(type).computeIfAbsent(property, it -> createReader(type, it));
+	}
+
+	private static MethodHandle createReader(Class<?> type, String property) {
+
+		try {
+
+			PropertyDescriptor descriptor = BeanUtils.getPropertyDescriptor(type, property);
+			Method getter = descriptor != null ? descriptor.getReadMethod() : null;
+
+			if (getter != null) {
+				ReflectionUtils.makeAccessible(getter);
+				return MethodHandles.lookup().unreflect(getter).asType(READER_TYPE);
+			}
+
+			Field field = ReflectionUtils.findField(type, property);
+
+			if (field != null) {
+				ReflectionUtils.makeAccessible(field);
+				return MethodHandles.lookup().unreflectGetter(field).asType(READER_TYPE);
+			}
+		} catch (IllegalAccessException e) {
+			throw new IllegalStateException(String.format("Cannot access property '%s' of %s", property, type), e);
+		}
+
+		throw new NotReadablePropertyException(type, property);
+	}
+
+	/**
+	 * Single property of a path caching the reader for the last type read from.
+	 */
+	private static class Segment {
+
+		private final String property;
+		private volatile @Nullable Reader last;
+
+		Segment(String property) {
+			this.property = property;
+		}
+
+		@Nullable
+		Object read(Object source) {
+
+			Class<?> type = source.getClass();
+			Reader reader = last;
+
+			if (reader == null || reader.type() != type) {
+				reader = new Reader(type, getReader(type, property));
+				last = reader;
+			}
+
+			try {
+				return (Object) reader.handle().invokeExact(source);
+			} catch (RuntimeException | Error e) {
+				throw e;
+			} catch (Throwable e) {
+				throw new IllegalStateException(String.format("Cannot read property '%s' of %s", property, type), e);
+			}
+		}
+	}
+
+	private record Reader(Class<?> type, MethodHandle handle) {
+	}
+}
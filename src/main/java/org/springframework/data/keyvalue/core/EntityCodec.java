@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+/**
+ * SPI to convert entities into a binary representation and back. {@link KeyValueAdapter} implementations storing
+ * serialized entities can use an {@link EntityCodec} instead of providing their own serialization.
+ * <p>
+ * Encoding a value for its declared type allows implementations to omit type information that can be derived when
+ * decoding. Implementations must be thread-safe.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see MappingEntityCodec
+ */
+public interface EntityCodec {
+
+	/**
+	 * Encode the given {@code value} including its type so that it can be decoded without knowing its type.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the binary representation of {@code value}, never {@literal null}.
+	 */
+	default byte[] encode(Object value) {
+		return encode(value, Object.class);
+	}
+
+	/**
+	 * Encode the given {@code value} to be decoded as the given {@code type}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @param type the type to decode the value as, must not be {@literal null}.
+	 * @return the binary representation of {@code value}, never {@literal null}.
+	 */
+	byte[] encode(Object value, Class<?> type);
+
+	/**
+	 * Decode a value encoded through {@link #encode(Object)}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return the decoded value, never {@literal null}.
+	 */
+	default Object decode(byte[] bytes) {
+		return decode(bytes, Object.class);
+	}
+
+	/**
+	 * Decode a value encoded for the given {@code type}.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the decoded value, never {@literal null}.
+	 */
+	<T> T decode(byte[] bytes, Class<T> type);
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.domain.Range;
+import org.springframework.util.Assert;
+
+/**
+ * {@link Predicate} that is able to narrow down the candidates to evaluate by using {@link KeyValueIndex secondary
+ * indexes}. Combining {@link IndexAwarePredicate}s via {@link #and(Predicate)} and {@link #or(Predicate)} retains
+ * index awareness so that the resulting predicate can still be resolved against indexes.
+ * <p>
+ * Index lookups only select candidates. The {@link PredicateQueryEngine} still {@link #test(Object) tests} each
+ * candidate so implementations of {@link #resolveIds(Function)} may return a superset of matching ids.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @param <T>
+ */
+public interface IndexAwarePredicate<T> extends Predicate<T> {
+
+	/**
+	 * Resolve the ids of candidate objects using the given index lookup function.
+	 *
+	 * @param indexes function returning the {@link KeyValueIndex} for a given property dot path or {@literal null} if
+	 *          the property is not indexed.
+	 * @return the ids of candidate objects or {@literal null} if the predicate cannot be resolved using indexes and
+	 *         requires a full scan.
+	 */
+	@Nullable
+	Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes);
+
+	/**
+	 * Return the {@link Range} the value of the property at the given {@code path} has to lie within for an object to
+	 * satisfy this predicate. Objects with a {@literal null} value may only match if the lower bound of the returned
+	 * {@link Range} is unbounded.
+	 *
+	 * @param path property dot path.
+	 * @return the {@link Range} or {@literal null} if the predicate does not restrict the property to a range.
+	 */
+	default @Nullable Range<?> getRange(String path) {
+		return null;
+	}
+
+	@Override
+	default IndexAwarePredicate<T> and(Predicate<? super T> other) {
+
+		Assert.notNull(other, "Other predicate must not be null");
+
+		IndexAwarePredicate<T> self = this;
+
+		return new IndexAwarePredicate<>() {
+
+			@Override
+			public boolean test(T t) {
+				return self.test(t) && other.test(t);
+			}
+
+			@Override
+			public @Nullable Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes) {
+
+				Set<Object> left = self.resolveIds(indexes);
+				Set<Object> right = other instanceof IndexAwarePredicate<?> predicate ? predicate.resolveIds(indexes) : null;
+
+				if (left == null) {
+					return right;
+				}
+
+				if (right == null) {
+					return left;
+				}
+
+				return intersect(left, right);
+			}
+
+			@Override
+			public @Nullable Range<?> getRange(String path) {
+
+				Range<?> range = self.getRange(path);
+
+				if (range != null) {
+					return range;
+				}
+
+				return other instanceof IndexAwarePredicate<?> predicate ? predicate.getRange(path) : null;
+			}
+		};
+	}
+
+	@Override
+	default IndexAwarePredicate<T> or(Predicate<? super T> other) {
+
+		Assert.notNull(other, "Other predicate must not be null");
+
+		IndexAwarePredicate<T> self = this;
+
+		return new IndexAwarePredicate<>() {
+
+			@Override
+			public boolean test(T t) {
+				return self.test(t) || other.test(t);
+			}
+
+			@Override
+			public @Nullable Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes) {
+
+				if (!(other instanceof IndexAwarePredicate<?> predicate)) {
+					return null;
+				}
+
+				Set<Object> left = self.resolveIds(indexes);
+				Set<Object> right = left != null ? predicate.resolveIds(indexes) : null;
+
+				if (left == null || right == null) {
+					return null;
+				}
+
+				Set<Object> union = new HashSet<>(left);
+				union.addAll(right);
+				return union;
+			}
+		};
+	}
+
+	private static Set<Object> intersect(Set<Object> left, Set<Object> right) {
+
+		Set<Object> smaller = left.size() <= right.size() ? left : right;
+		Set<Object> larger = smaller == left ? right : left;
+
+		Set<Object> intersection = new HashSet<>(smaller.size());
+		for (Object id : smaller) {
+			if (larger.contains(id)) {
+				intersection.add(id);
+			}
+		}
+
+		return intersection;
+	}
+}
@@ -15,11 +15,20 @@
  */
 package org.springframework.data.keyvalue.core;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.util.CloseableIterator;
 
@@ -41,6 +50,106 @@ public interface KeyValueAdapter extends DisposableBean {
 	 */
 	@Nullable Object put(Object id, Object item, String keyspace);
 
+	/**
+	 * Add object with given id to keyspace if no object is associated with the id yet. The default implementation
+	 * serializes conditional writes on this adapter. Adapters should override this method with an atomic operation of
+	 * the underlying store.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param item must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@literal null} if the item was added, otherwise the item already associated with the id.
+	 * @since 4.2
+	 */
+	default @Nullable Object putIfAbsent(Object id, Object item, String keyspace) {
+
+		synchronized (this) {
+
+			Object existing = get(id, keyspace);
+
+			if (existing == null) {
+				put(id, item, keyspace);
+			}
+
+			return existing;
+		}
+	}
+
+	/**
+	 * Replace the object with given id within keyspace only if an object is associated with the id. The default
+	 * implementation serializes conditional writes on this adapter. Adapters should override this method with an atomic
+	 * operation of the underlying store.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param item must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the item previously associated with the id or {@literal null} if nothing was replaced.
+	 * @since 4.2
+	 */
+	default @Nullable Object replace(Object id, Object item, String keyspace) {
+
+		synchronized (this) {
+			return get(id, keyspace) != null ? put(id, item, keyspace) : null;
+		}
+	}
+
+	/**
+	 * Replace the object with given id within keyspace only if it is currently associated with an object
+	 * {@link Object#equals(Object) equal} to {@code expected}. Use {@link #compute(Object, BiFunction, String)} to
+	 * condition the write on other criteria such as a version property. The default implementation serializes
+	 * conditional writes on this adapter. Adapters should override this method with an atomic operation of the
+	 * underlying store.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param expected must not be {@literal null}.
+	 * @param item must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@literal true} if the item was replaced.
+	 * @since 4.2
+	 */
+	default boolean replace(Object id, Object expected, Object item, String keyspace) {
+
+		synchronized (this) {
+
+			if (!expected.equals(get(id, keyspace))) {
+				return false;
+			}
+
+			put(id, item, keyspace);
+			return true;
+		}
+	}
+
+	/**
+	 * Compute a new object for the given id within keyspace from the object currently associated with it. Returning
+	 * {@literal null} from the {@code remappingFunction} removes the object. The default implementation serializes
+	 * conditional writes on this adapter. Adapters should override this method with an atomic operation of the
+	 * underlying store.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param remappingFunction must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the object now associated with the id, {@literal null} if none.
+	 * @since 4.2
+	 */
+	default @Nullable Object compute(Object id, BiFunction<Object, @Nullable Object, @Nullable Object> remappingFunction,
+			String keyspace) {
+
+		synchronized (this) {
+
+			Object existing = get(id, keyspace);
+			Object computed = remappingFunction.apply(id, existing);
+
+			if (computed != null) {
+				put(id, computed, keyspace);
+			} else if (existing != null) {
+				delete(id, keyspace);
+			}
+
+			return computed;
+		}
+	}
+
 	/**
 	 * Check if a object with given id exists in keyspace.
 	 *
@@ -71,6 +180,22 @@ public interface KeyValueAdapter extends DisposableBean {
 	 */
 	<T> @Nullable T get(Object id, String keyspace, Class<T> type);
 
+	/**
+	 * Get the object with given {@code long} or {@code int} id from keyspace. Adapters storing numeric identifiers unboxed
+	 * can override this method to look up the object without boxing the id. The default implementation boxes the id to
+	 * {@link Integer} if the {@link org.springframework.data.annotation.Id identifier property} of {@code type} is an
+	 * {@code int}, to {@link Long} otherwise, and calls {@link #get(Object, String, Class)}.
+	 *
+	 * @param id the identifier.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return {@literal null} in case no matching item exists.
+	 * @since 4.2
+	 */
+	default <T> @Nullable T get(long id, String keyspace, Class<T> type) {
+		return get(PrimitiveIdentifiers.toId(id, type), keyspace, type);
+	}
+
 	/**
 	 * Delete and return the object with given type and id.
 	 *
@@ -92,6 +217,68 @@ public interface KeyValueAdapter extends DisposableBean {
 	 */
 	<T> @Nullable T delete(Object id, String keyspace, Class<T> type);
 
+	/**
+	 * Add all given objects keyed by their id to keyspace. The default implementation calls
+	 * {@link #put(Object, Object, String)} for each entry. Adapters should override this method to resolve the keyspace
+	 * only once.
+	 *
+	 * @param items must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @since 4.2
+	 */
+	default void putAll(Map<?, ?> items, String keyspace) {
+		items.forEach((id, item) -> put(id, item, keyspace));
+	}
+
+	/**
+	 * Get all objects with the given ids from keyspace. The default implementation calls {@link #get(Object, String)}
+	 * for each id.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the objects found keyed by their id in iteration order of {@code ids}. Ids without a matching object are
+	 *         not contained.
+	 * @since 4.2
+	 */
+	default Map<Object, Object> getAll(Collection<?> ids, String keyspace) {
+
+		Map<Object, Object> result = new LinkedHashMap<>(ids.size());
+
+		for (Object id : ids) {
+
+			Object value = get(id, keyspace);
+			if (value != null) {
+				result.put(id, value);
+			}
+		}
+
+		return result;
+	}
+
+	/**
+	 * Delete all objects with the given ids from keyspace. The default implementation calls
+	 * {@link #delete(Object, String)} for each id.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the deleted objects keyed by their id.
+	 * @since 4.2
+	 */
+	default Map<Object, Object> deleteAll(Collection<?> ids, String keyspace) {
+
+		Map<Object, Object> result = new LinkedHashMap<>(ids.size());
+
+		for (Object id : ids) {
+
+			Object value = delete(id, keyspace);
+			if (value != null) {
+				result.put(id, value);
+			}
+		}
+
+		return result;
+	}
+
 	/**
 	 * Get all elements for given keyspace.
 	 *
@@ -134,6 +321,94 @@ public interface KeyValueAdapter extends DisposableBean {
 		return (CloseableIterator) entries(keyspace);
 	}
 
+	/**
+	 * Returns a {@link CloseableIterator} over the entries whose key lies within the given range ordered by key. The range
+	 * includes {@code fromKey} and excludes {@code toKey}. Keys are compared by their natural ordering unless the adapter
+	 * keeps the keyspace sorted by a different order. Adapters keeping keyspaces sorted should override this method to
+	 * visit only matching keys. The default implementation scans all {@link #entries(String) entries} and sorts the
+	 * matches.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param fromKey the lower bound (inclusive), {@literal null} to start with the first key.
+	 * @param toKey the upper bound (exclusive), {@literal null} to end with the last key.
+	 * @return empty {@link CloseableIterator} if no key lies within the range.
+	 * @since 4.2
+	 */
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	default CloseableIterator<Map.Entry<Object, Object>> entries(String keyspace, @Nullable Object fromKey,
+			@Nullable Object toKey) {
+
+		Comparator<Object> comparator = (Comparator) Comparator.naturalOrder();
+		List<Map.Entry<Object, Object>> matches = new ArrayList<>();
+
+		try (CloseableIterator<Map.Entry<Object, Object>> entries = entries(keyspace)) {
+
+			while (entries.hasNext()) {
+
+				Map.Entry<Object, Object> entry = entries.next();
+
+				if ((fromKey == null || comparator.compare(entry.getKey(), fromKey) >= 0)
+						&& (toKey == null || comparator.compare(entry.getKey(), toKey) < 0)) {
+					matches.add(entry);
+				}
+			}
+		}
+
+		matches.sort(Map.Entry.comparingByKey(comparator));
+		return new ForwardingCloseableIterator<>(matches.iterator());
+	}
+
+	/**
+	 * Returns a {@link CloseableIterator} over the entries whose {@link String} key starts with the given {@code prefix}
+	 * ordered by key. Adapters keeping keyspaces sorted should override this method to visit only matching keys. The
+	 * default implementation scans all {@link #entries(String) entries} and sorts the matches.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param prefix must not be {@literal null}.
+	 * @return empty {@link CloseableIterator} if no key starts with the prefix.
+	 * @since 4.2
+	 */
+	default CloseableIterator<Map.Entry<Object, Object>> entriesWithPrefix(String keyspace, String prefix) {
+
+		List<Map.Entry<Object, Object>> matches = new ArrayList<>();
+
+		try (CloseableIterator<Map.Entry<Object, Object>> entries = entries(keyspace)) {
+
+			while (entries.hasNext()) {
+
+				Map.Entry<Object, Object> entry = entries.next();
+
+				if (entry.getKey() instanceof String key && key.startsWith(prefix)) {
+					matches.add(entry);
+				}
+			}
+		}
+
+		matches.sort(Comparator.comparing(entry -> (String) entry.getKey()));
+		return new ForwardingCloseableIterator<>(matches.iterator());
+	}
+
+	/**
+	 * Return whether the data held by this adapter outlives the application. Persistent adapters are not cleared when
+	 * the owning {@link KeyValueTemplate} is destroyed.
+	 *
+	 * @return {@literal true} if the adapter is persistent. {@literal false} by default.
+	 * @since 4.2
+	 */
+	default boolean isPersistent() {
+		return false;
+	}
+
+	/**
+	 * Register a listener receiving {@link KeyValueEvent events} raised by the adapter itself, such as objects expiring or
+	 * being evicted from a bounded keyspace. {@link KeyValueTemplate} registers itself to publish those events along with
+	 * the ones it raises. Adapters not raising events ignore the listener.
+	 *
+	 * @param listener must not be {@literal null}.
+	 * @since 4.2
+	 */
+	default void setEventListener(Consumer<KeyValueEvent<?>> listener) {}
+
 	/**
 	 * Remove all objects of given type.
 	 *
@@ -166,6 +441,21 @@ public interface KeyValueAdapter extends DisposableBean {
 	 */
 	<T> Iterable<T> find(KeyValueQuery<?> query, String keyspace, Class<T> type);
 
+	/**
+	 * Lazily evaluate the given {@link KeyValueQuery} within {@literal keyspace}. The returned {@link CloseableIterator}
+	 * must be {@link CloseableIterator#close() closed} after use. The default implementation iterates over the result of
+	 * {@link #find(KeyValueQuery, String, Class)}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return empty {@link CloseableIterator} if no match found.
+	 * @since 4.2
+	 */
+	default <T> CloseableIterator<T> stream(KeyValueQuery<?> query, String keyspace, Class<T> type) {
+		return new ForwardingCloseableIterator<>(find(query, keyspace, type).iterator());
+	}
+
 	/**
 	 * Count number of objects within {@literal keyspace}.
 	 *
@@ -194,4 +484,50 @@ public interface KeyValueAdapter extends DisposableBean {
 	default boolean exists(KeyValueQuery<?> query, String keyspace) {
 		return count(query, keyspace) > 0;
 	}
+
+	/**
+	 * Evaluate the given {@link Aggregation} over all objects matching the {@link KeyValueQuery} within
+	 * {@literal keyspace} in a single pass. The default implementation accumulates the objects of the
+	 * {@link #stream(KeyValueQuery, String, Class) lazy result}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregation must not be {@literal null}.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the {@link AggregationResults}.
+	 * @since 4.2
+	 */
+	default AggregationResults aggregate(KeyValueQuery<?> query, Aggregation aggregation, String keyspace) {
+
+		try (CloseableIterator<Object> iterator = stream(query, keyspace, Object.class)) {
+			return Aggregator.aggregate(iterator, aggregation);
+		}
+	}
+
+	/**
+	 * Get the {@link KeyValueIndex secondary index} for the property identified by its dot {@code path} within
+	 * {@literal keyspace}. Adapters that do not maintain secondary indexes return {@literal null} causing query engines
+	 * to fall back to scanning the keyspace.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param path property dot path, must not be {@literal null}.
+	 * @return the {@link KeyValueIndex} or {@literal null} if the property is not indexed.
+	 * @since 4.2
+	 */
+	default @Nullable KeyValueIndex getIndex(String keyspace, String path) {
+		return null;
+	}
+
+	/**
+	 * Return a counter that changes whenever objects of {@literal keyspace} are added, replaced or removed. The counter
+	 * is changed after the modification becomes visible, allowing {@link QueryResultCache cached query results} read
+	 * with an unchanged counter to be reused. Adapters that do not track modifications return a negative value causing
+	 * query results not to be cached.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the modification count or a negative value if modifications are not tracked.
+	 * @since 4.2
+	 */
+	default long getModificationCount(String keyspace) {
+		return -1;
+	}
 }
@@ -0,0 +1,44 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.Set;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Secondary index over the values of a single property within a keyspace. A {@link KeyValueIndex} maps property values
+ * to the ids of the objects holding the value.
+ * <p>
+ * Indexes are allowed to report ids of objects that no longer match the indexed value (e.g. during concurrent
+ * modification). Callers are expected to re-evaluate their criteria against the actual object.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see org.springframework.data.keyvalue.annotation.Indexed
+ * @see KeyValueAdapter#getIndex(String, String)
+ */
+public interface KeyValueIndex {
+
+	/**
+	 * Get the ids of all objects whose indexed property is equal to the given {@code value}.
+	 *
+	 * @param value the property value to look up, can be {@literal null}.
+	 * @return the ids of matching objects. Empty {@link Set} if none found. Never {@literal null}.
+	 */
+	Set<Object> get(@Nullable Object value);
+
+}
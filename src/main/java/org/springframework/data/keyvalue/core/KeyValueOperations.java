@@ -15,14 +15,25 @@
  */
 package org.springframework.data.keyvalue.core;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.factory.DisposableBean;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.PersistentProperty;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.util.Streamable;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Interface that specifies a basic set of key/value operations. Implemented by {@link KeyValueTemplate}.
@@ -49,6 +60,27 @@ public interface KeyValueOperations extends DisposableBean {
 	 */
 	<T> T insert(Object id, T objectToInsert);
 
+	/**
+	 * Add all given objects. Objects need to have an id property to which a generated value will be assigned if not
+	 * set. The keyspace is resolved once per type and a batch event is published per keyspace along with the events
+	 * for each object. The default implementation calls {@link #insert(Object)} for each object.
+	 *
+	 * @param objectsToInsert must not be {@literal null}.
+	 * @return the inserted objects.
+	 * @throws org.springframework.dao.DuplicateKeyException if any of the objects already exists.
+	 * @since 4.2
+	 */
+	default <T> List<T> insertAll(Iterable<T> objectsToInsert) {
+
+		List<T> result = new ArrayList<>();
+
+		for (T objectToInsert : objectsToInsert) {
+			result.add(insert(objectToInsert));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Get all elements of given type. Respects {@link KeySpace} if present and therefore returns all elements that can be
 	 * assigned to requested type.
@@ -78,6 +110,45 @@ public interface KeyValueOperations extends DisposableBean {
 	 */
 	<T> Optional<T> findById(Object id, Class<T> type);
 
+	/**
+	 * Get element of given type with given {@code long} or {@code int} id. Respects {@link KeySpace} if present and
+	 * therefore returns all elements that can be assigned to requested type. The default implementation converts the id
+	 * to the type of the id property and calls {@link #findById(Object, Class)}.
+	 *
+	 * @param id the identifier.
+	 * @param type must not be {@literal null}.
+	 * @return {@link Optional#empty()} if not found.
+	 * @since 4.2
+	 */
+	default <T> Optional<T> findById(long id, Class<T> type) {
+
+		PersistentProperty<?> idProperty = getMappingContext().getRequiredPersistentEntity(type).getIdProperty();
+		boolean intId = idProperty != null && ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType()) == Integer.class;
+
+		return findById(intId ? (Object) Math.toIntExact(id) : (Object) id, type);
+	}
+
+	/**
+	 * Get all elements of given type with the given ids. Respects {@link KeySpace} if present and therefore returns all
+	 * elements that can be assigned to requested type. The default implementation calls
+	 * {@link #findById(Object, Class)} for each id.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the elements found in iteration order of {@code ids}. Empty list if no elements found.
+	 * @since 4.2
+	 */
+	default <T> List<T> findAllById(Iterable<?> ids, Class<T> type) {
+
+		List<T> result = new ArrayList<>();
+
+		for (Object id : ids) {
+			findById(id, type).ifPresent(result::add);
+		}
+
+		return result;
+	}
+
 	/**
 	 * Execute operation against underlying store.
 	 *
@@ -97,6 +168,59 @@ public interface KeyValueOperations extends DisposableBean {
 	 */
 	<T> Iterable<T> find(KeyValueQuery<?> query, Class<T> type);
 
+	/**
+	 * Lazily stream all elements matching the given query. Matches are evaluated on demand, unsorted queries hold no
+	 * more than the current element in memory. The returned {@link Stream} must be {@link Stream#close() closed} after
+	 * use. <br />
+	 * Respects {@link KeySpace} if present and therefore returns all elements that can be assigned to requested type.
+	 * The default implementation streams the result of {@link #find(KeyValueQuery, Class)}.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return empty {@link Stream} if no match found.
+	 * @since 4.2
+	 */
+	default <T> Stream<T> stream(KeyValueQuery<?> query, Class<T> type) {
+		return Streamable.of(find(query, type)).stream();
+	}
+
+	/**
+	 * Lazily stream all elements whose id lies within the given range ordered by id. The range includes {@code fromId}
+	 * and excludes {@code toId}. Adapters keeping keyspaces sorted visit only matching ids. The returned {@link Stream}
+	 * must be {@link Stream#close() closed} after use. <br />
+	 * Respects {@link KeySpace} if present and therefore returns all elements that can be assigned to requested type.
+	 * The default implementation obtains the entries from {@link KeyValueAdapter#entries(String, Object, Object)}.
+	 *
+	 * @param fromId the lower bound (inclusive), {@literal null} to start with the first id.
+	 * @param toId the upper bound (exclusive), {@literal null} to end with the last id.
+	 * @param type must not be {@literal null}.
+	 * @return empty {@link Stream} if no id lies within the range.
+	 * @since 4.2
+	 * @see KeyValueAdapter#entries(String, Object, Object)
+	 */
+	default <T> Stream<T> streamByIdRange(@Nullable Object fromId, @Nullable Object toId, Class<T> type) {
+		return getKeyValueAdapter().entries(getKeySpace(type), fromId, toId).stream().map(Map.Entry::getValue)
+				.filter(type::isInstance).map(type::cast);
+	}
+
+	/**
+	 * Lazily stream all elements whose {@link String} id starts with the given {@code prefix} ordered by id. Adapters
+	 * keeping keyspaces sorted visit only matching ids. The returned {@link Stream} must be {@link Stream#close() closed}
+	 * after use. <br />
+	 * Respects {@link KeySpace} if present and therefore returns all elements that can be assigned to requested type.
+	 * The default implementation obtains the entries from {@link KeyValueAdapter#entriesWithPrefix(String, String)}.
+	 *
+	 * @param prefix must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return empty {@link Stream} if no id starts with the prefix.
+	 * @since 4.2
+	 * @see KeyValueAdapter#entriesWithPrefix(String, String)
+	 */
+	default <T> Stream<T> streamByIdPrefix(String prefix, Class<T> type) {
+		return getKeyValueAdapter().entriesWithPrefix(getKeySpace(type), prefix).stream().map(Map.Entry::getValue)
+				.filter(type::isInstance).map(type::cast);
+	}
+
 	/**
 	 * Get all elements in given range. Respects {@link KeySpace} if present and therefore returns all elements that can
 	 * be assigned to requested type.
@@ -121,18 +245,48 @@ public interface KeyValueOperations extends DisposableBean {
 	<T> Iterable<T> findInRange(long offset, int rows, Sort sort, Class<T> type);
 
 	/**
+	 * Update the given object. Objects declaring a {@link org.springframework.data.annotation.Version version property}
+	 * are only updated if the stored version matches and get their version incremented. Objects carrying the initial
+	 * version are inserted if not stored yet.
+	 *
 	 * @param objectToUpdate must not be {@literal null}.
 	 * @return the updated object.
+	 * @throws org.springframework.dao.OptimisticLockingFailureException if the stored version does not match.
 	 */
 	<T> T update(T objectToUpdate);
 
 	/**
+	 * Update the given object using the given id. Objects declaring a
+	 * {@link org.springframework.data.annotation.Version version property} are only updated if the stored version
+	 * matches and get their version incremented. Objects carrying the initial version are inserted if not stored yet.
+	 *
 	 * @param id must not be {@literal null}.
 	 * @param objectToUpdate must not be {@literal null}.
 	 * @return the updated object.
+	 * @throws org.springframework.dao.OptimisticLockingFailureException if the stored version does not match.
 	 */
 	<T> T update(Object id, T objectToUpdate);
 
+	/**
+	 * Update all given objects using their id property. The keyspace is resolved once per type and a batch event is
+	 * published per keyspace along with the events for each object. The default implementation calls
+	 * {@link #update(Object)} for each object.
+	 *
+	 * @param objectsToUpdate must not be {@literal null}.
+	 * @return the updated objects.
+	 * @since 4.2
+	 */
+	default <T> List<T> updateAll(Iterable<T> objectsToUpdate) {
+
+		List<T> result = new ArrayList<>();
+
+		for (T objectToUpdate : objectsToUpdate) {
+			result.add(update(objectToUpdate));
+		}
+
+		return result;
+	}
+
 	/**
 	 * Remove all elements of type. Respects {@link KeySpace} if present and therefore removes all elements that can be
 	 * assigned to requested type.
@@ -156,6 +310,21 @@ public interface KeyValueOperations extends DisposableBean {
 	 */
 	<T> @Nullable T delete(Object id, Class<T> type);
 
+	/**
+	 * Delete all items of type with the given ids. The default implementation calls {@link #delete(Object, Class)} for
+	 * each id.
+	 *
+	 * @param ids must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @since 4.2
+	 */
+	default void deleteAllById(Iterable<?> ids, Class<?> type) {
+
+		for (Object id : ids) {
+			delete(id, type);
+		}
+	}
+
 	/**
 	 * Total number of elements with given type available. Respects {@link KeySpace} if present and therefore counts all
 	 * elements that can be assigned to requested type.
@@ -185,14 +354,62 @@ public interface KeyValueOperations extends DisposableBean {
 	 */
 	boolean exists(KeyValueQuery<?> query, Class<?> type);
 
+	/**
+	 * Evaluate the given {@link Aggregation} over all objects of the keyspace of the given {@code type} in a single pass.
+	 *
+	 * @param aggregation must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the {@link AggregationResults}.
+	 * @since 4.2
+	 */
+	default AggregationResults aggregate(Aggregation aggregation, Class<?> type) {
+		return aggregate(new KeyValueQuery<>(), aggregation, type);
+	}
+
+	/**
+	 * Evaluate the given {@link Aggregation} over all objects matching the given {@link KeyValueQuery} within the
+	 * keyspace of the given {@code type} in a single pass. Matching objects are accumulated while the query is evaluated
+	 * and not collected unless required for {@link KeyValueQuery#getSort() sorting}. {@link AggregationResults.Group
+	 * Groups} are returned in the order they were first encountered.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param aggregation must not be {@literal null}.
+	 * @param type must not be {@literal null}.
+	 * @return the {@link AggregationResults}.
+	 * @throws IllegalArgumentException if a summarized property holds a non-numeric value.
+	 * @since 4.2
+	 */
+	default AggregationResults aggregate(KeyValueQuery<?> query, Aggregation aggregation, Class<?> type) {
+		return getKeyValueAdapter().aggregate(query, aggregation, getKeySpace(type));
+	}
+
 	/**
 	 * @return mapping context in use.
 	 */
 	MappingContext<?, ?> getMappingContext();
 
+	/**
+	 * Get the {@link MaterializedView} registered with the given {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return the {@link MaterializedView} or {@literal null} if no view with the given {@code name} is registered.
+	 * @since 4.2
+	 */
+	default @Nullable MaterializedView<?> getView(String name) {
+		return null;
+	}
+
 	/**
 	 * @return {@link KeyValueAdapter} in use.
 	 * @since 3.2.4
 	 */
 	KeyValueAdapter getKeyValueAdapter();
+
+	private String getKeySpace(Class<?> type) {
+
+		String keyspace = ((KeyValuePersistentEntity<?, ?>) getMappingContext().getRequiredPersistentEntity(type))
+				.getKeySpace();
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		return keyspace;
+	}
 }
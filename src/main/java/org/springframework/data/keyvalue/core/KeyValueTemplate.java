@@ -17,9 +17,18 @@ package org.springframework.data.keyvalue.core;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEventPublisher;
@@ -27,17 +36,24 @@ import org.springframework.context.ApplicationEventPublisherAware;
 import org.springframework.dao.DataAccessException;
 import org.springframework.dao.DuplicateKeyException;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.dao.support.PersistenceExceptionTranslator;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
 import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
 import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.NumberUtils;
+import org.springframework.util.ObjectUtils;
 
 /**
  * Basic implementation of {@link KeyValueOperations}.
@@ -62,6 +78,7 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 	private boolean publishEvents = true;
 	private @SuppressWarnings("rawtypes") Set<Class<? extends KeyValueEvent>> eventTypesToPublish = Collections
 			.emptySet();
+	private final Map<String, MaterializedView<?>> views = new ConcurrentHashMap<>();
 
 	/**
 	 * Create new {@link KeyValueTemplate} using the given {@link KeyValueAdapter} with a default
@@ -103,6 +120,8 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		this.adapter = adapter;
 		this.mappingContext = mappingContext;
 		this.identifierGenerator = identifierGenerator;
+
+		adapter.setEventListener(this::potentiallyPublishEvent);
 	}
 
 	/**
@@ -137,6 +156,108 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		this.eventPublisher = applicationEventPublisher;
 	}
 
+	/**
+	 * Register a {@link MaterializedView} holding the objects of the given {@code type} matching {@code filter} in the
+	 * order they entered the view. The view is populated from the objects currently stored and maintained on each
+	 * modification performed through this template.
+	 *
+	 * @param name the name of the view, must not be {@literal null} or empty.
+	 * @param type the type of objects held by the view, must not be {@literal null}.
+	 * @param filter must not be {@literal null}.
+	 * @return the registered {@link MaterializedView}.
+	 * @throws IllegalArgumentException if a view with the given {@code name} is already registered.
+	 * @since 4.2
+	 */
+	public <T> MaterializedView<T> registerView(String name, Class<T> type, Predicate<? super T> filter) {
+		return doRegisterView(name, type, filter, null, null);
+	}
+
+	/**
+	 * Register a {@link MaterializedView} holding the objects of the given {@code type} matching {@code filter} ordered
+	 * by the natural order of the sort key extracted from each object, placing {@literal null} keys last. The view is
+	 * populated from the objects currently stored and maintained on each modification performed through this template.
+	 *
+	 * @param name the name of the view, must not be {@literal null} or empty.
+	 * @param type the type of objects held by the view, must not be {@literal null}.
+	 * @param filter must not be {@literal null}.
+	 * @param sortKey extracts the sort key, must not be {@literal null}.
+	 * @return the registered {@link MaterializedView}.
+	 * @throws IllegalArgumentException if a view with the given {@code name} is already registered.
+	 * @since 4.2
+	 */
+	public <T, K extends Comparable<? super K>> MaterializedView<T> registerView(String name, Class<T> type,
+			Predicate<? super T> filter, Function<? super T, ? extends K> sortKey) {
+		return registerView(name, type, filter, sortKey, Comparator.nullsLast(Comparator.<K> naturalOrder()));
+	}
+
+	/**
+	 * Register a {@link MaterializedView} holding the objects of the given {@code type} matching {@code filter} ordered
+	 * by the sort key extracted from each object using {@code keyOrder}. Sort keys are extracted when objects enter the
+	 * view or are updated, so objects modified in place keep their position until updated. The view is populated from
+	 * the objects currently stored and maintained on each modification performed through this template.
+	 *
+	 * @param name the name of the view, must not be {@literal null} or empty.
+	 * @param type the type of objects held by the view, must not be {@literal null}.
+	 * @param filter must not be {@literal null}.
+	 * @param sortKey extracts the sort key, must not be {@literal null}.
+	 * @param keyOrder compares sort keys, must not be {@literal null}.
+	 * @return the registered {@link MaterializedView}.
+	 * @throws IllegalArgumentException if a view with the given {@code name} is already registered.
+	 * @since 4.2
+	 */
+	public <T, K> MaterializedView<T> registerView(String name, Class<T> type, Predicate<? super T> filter,
+			Function<? super T, ? extends K> sortKey, Comparator<? super K> keyOrder) {
+
+		Assert.notNull(sortKey, "Sort key must not be null");
+		Assert.notNull(keyOrder, "Key order must not be null");
+
+		return doRegisterView(name, type, filter, sortKey, keyOrder);
+	}
+
+	private <T, K> MaterializedView<T> doRegisterView(String name, Class<T> type, Predicate<? super T> filter,
+			@Nullable Function<? super T, ? extends K> sortKey, @Nullable Comparator<? super K> keyOrder) {
+
+		Assert.hasText(name, "View name must not be null or empty");
+		Assert.notNull(type, "Type must not be null");
+		Assert.notNull(filter, "Filter must not be null");
+
+		MaterializedView<T> view = new MaterializedView<>(name, resolveKeySpace(type), type, filter, sortKey, keyOrder);
+
+		if (views.putIfAbsent(name, view) != null) {
+			throw new IllegalArgumentException(String.format("View %s is already registered", name));
+		}
+
+		execute((KeyValueCallback<Void>) adapter -> {
+
+			view.populate(adapter);
+			return null;
+		});
+
+		return view;
+	}
+
+	/**
+	 * Remove the {@link MaterializedView} registered with the given {@code name}.
+	 *
+	 * @param name must not be {@literal null}.
+	 * @return {@literal true} if a view was registered with the given {@code name}.
+	 * @since 4.2
+	 */
+	public boolean unregisterView(String name) {
+
+		Assert.notNull(name, "View name must not be null");
+
+		return views.remove(name) != null;
+	}
+
+	@Override
+	public @Nullable MaterializedView<?> getView(String name) {
+
+		Assert.notNull(name, "View name must not be null");
+
+		return views.get(name);
+	}
+
 	@Override
 	public <T> T insert(T objectToInsert) {
 
@@ -156,23 +277,127 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		Assert.notNull(objectToInsert, "Object to be inserted must not be null");
 
 		String keyspace = resolveKeySpace(objectToInsert.getClass());
+		KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToInsert);
+		Object version = initializeVersion(entity, objectToInsert);
 
 		potentiallyPublishEvent(KeyValueEvent.beforeInsert(id, keyspace, objectToInsert.getClass(), objectToInsert));
 
+		try {
+
+			execute((KeyValueCallback<Void>) adapter -> {
+
+				if (adapter.putIfAbsent(id, objectToInsert, keyspace) != null) {
+					throw new DuplicateKeyException(
+							String.format("Cannot insert existing object with id %s; Please use update", id));
+				}
+
+				return null;
+			});
+		} catch (RuntimeException ex) {
+
+			restoreVersion(entity, objectToInsert, version);
+			throw ex;
+		}
+
+		potentiallyPublishEvent(KeyValueEvent.afterInsert(id, keyspace, objectToInsert.getClass(), objectToInsert));
+
+		return objectToInsert;
+	}
+
+	@Override
+	public <T> List<T> insertAll(Iterable<T> objectsToInsert) {
+
+		Assert.notNull(objectsToInsert, "Objects to be inserted must not be null");
+
+		Map<Class<?>, Map<Object, T>> batches = new LinkedHashMap<>();
+		Map<Object, @Nullable Object> versions = new IdentityHashMap<>();
+		List<T> result = new ArrayList<>();
+
+		try {
+
+			for (T objectToInsert : objectsToInsert) {
+
+				Assert.notNull(objectToInsert, "Object to be inserted must not be null");
+
+				KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToInsert);
+				GeneratingIdAccessor generatingIdAccessor = new GeneratingIdAccessor(entity.getPropertyAccessor(objectToInsert),
+						entity.getRequiredIdProperty(), identifierGenerator);
+				Object id = generatingIdAccessor.getOrGenerateIdentifier();
+
+				if (entity.hasVersionProperty() && !versions.containsKey(objectToInsert)) {
+					versions.put(objectToInsert, initializeVersion(entity, objectToInsert));
+				}
+
+				if (batches.computeIfAbsent(objectToInsert.getClass(), it -> new LinkedHashMap<>()).putIfAbsent(id,
+						objectToInsert) != null) {
+					throw new DuplicateKeyException(String.format("Cannot insert multiple objects with id %s", id));
+				}
+
+				result.add(objectToInsert);
+			}
+
+			batches.forEach((type, batch) -> {
+
+				doInsertAll(type, batch);
+				batch.values().forEach(versions::remove);
+			});
+		} catch (RuntimeException ex) {
+
+			versions.forEach((object, version) -> restoreVersion(getKeyValuePersistentEntity(object), object, version));
+			throw ex;
+		}
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void doInsertAll(Class<?> type, Map<Object, T> batch) {
+
+		String keyspace = resolveKeySpace(type);
+
+		potentiallyPublishEvent(KeyValueEvent.beforeBatchInsert(keyspace, (Class<T>) type, batch));
+
+		if (isPublishing(KeyValueEvent.BeforeInsertEvent.class)) {
+			batch.forEach(
+					(id, object) -> publishObjectEvent(KeyValueEvent.beforeInsert(id, keyspace, (Class<T>) type, object)));
+		}
+
 		execute((KeyValueCallback<Void>) adapter -> {
 
-			if (adapter.contains(id, keyspace)) {
-				throw new DuplicateKeyException(
-						String.format("Cannot insert existing object with id %s; Please use update", id));
+			List<Map.Entry<Object, T>> inserted = new ArrayList<>(batch.size());
+
+			for (Map.Entry<Object, T> entry : batch.entrySet()) {
+
+				if (adapter.putIfAbsent(entry.getKey(), entry.getValue(), keyspace) != null) {
+
+					rollbackInsert(adapter, inserted, keyspace);
+					throw new DuplicateKeyException(
+							String.format("Cannot insert existing object with id %s; Please use update", entry.getKey()));
+				}
+
+				inserted.add(entry);
 			}
 
-			adapter.put(id, objectToInsert, keyspace);
 			return null;
 		});
 
-		potentiallyPublishEvent(KeyValueEvent.afterInsert(id, keyspace, objectToInsert.getClass(), objectToInsert));
+		potentiallyPublishEvent(KeyValueEvent.afterBatchInsert(keyspace, (Class<T>) type, batch));
 
-		return objectToInsert;
+		if (isPublishing(KeyValueEvent.AfterInsertEvent.class)) {
+			batch.forEach(
+					(id, object) -> publishObjectEvent(KeyValueEvent.afterInsert(id, keyspace, (Class<T>) type, object)));
+		}
+	}
+
+	/**
+	 * Remove the objects inserted by a failed batch insert unless they have been replaced concurrently in the meantime.
+	 */
+	private static void rollbackInsert(KeyValueAdapter adapter, List<? extends Map.Entry<Object, ?>> inserted,
+			String keyspace) {
+
+		for (Map.Entry<Object, ?> entry : inserted) {
+			adapter.compute(entry.getKey(), (id, existing) -> existing == entry.getValue() ? null : existing, keyspace);
+		}
 	}
 
 	@Override
@@ -196,9 +421,13 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 
 		String keyspace = resolveKeySpace(objectToUpdate.getClass());
 
+		KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToUpdate);
+
 		potentiallyPublishEvent(KeyValueEvent.beforeUpdate(id, keyspace, objectToUpdate.getClass(), objectToUpdate));
 
-		Object existing = execute(adapter -> adapter.put(id, objectToUpdate, keyspace));
+		Object existing = execute(adapter -> entity.hasVersionProperty()
+				? doUpdateVersioned(adapter, entity, id, objectToUpdate, keyspace)
+				: adapter.put(id, objectToUpdate, keyspace));
 
 		potentiallyPublishEvent(
 				KeyValueEvent.afterUpdate(id, keyspace, objectToUpdate.getClass(), objectToUpdate, existing));
@@ -206,6 +435,81 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		return objectToUpdate;
 	}
 
+	@Override
+	public <T> List<T> updateAll(Iterable<T> objectsToUpdate) {
+
+		Assert.notNull(objectsToUpdate, "Objects to be updated must not be null");
+
+		Map<Class<?>, Map<Object, T>> batches = new LinkedHashMap<>();
+		List<T> result = new ArrayList<>();
+
+		for (T objectToUpdate : objectsToUpdate) {
+
+			Assert.notNull(objectToUpdate, "Object to be updated must not be null");
+
+			KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(objectToUpdate);
+
+			if (!entity.hasIdProperty()) {
+				throw new InvalidDataAccessApiUsageException(
+						String.format("Cannot determine id for type %s", ClassUtils.getUserClass(objectToUpdate)));
+			}
+
+			Object id = entity.getIdentifierAccessor(objectToUpdate).getRequiredIdentifier();
+			batches.computeIfAbsent(objectToUpdate.getClass(), it -> new LinkedHashMap<>()).put(id, objectToUpdate);
+			result.add(objectToUpdate);
+		}
+
+		batches.forEach(this::doUpdateAll);
+
+		return result;
+	}
+
+	@SuppressWarnings("unchecked")
+	private <T> void doUpdateAll(Class<?> type, Map<Object, T> batch) {
+
+		String keyspace = resolveKeySpace(type);
+
+		potentiallyPublishEvent(KeyValueEvent.beforeBatchUpdate(keyspace, (Class<T>) type, batch));
+
+		if (isPublishing(KeyValueEvent.BeforeUpdateEvent.class)) {
+			batch.forEach(
+					(id, object) -> publishObjectEvent(KeyValueEvent.beforeUpdate(id, keyspace, (Class<T>) type, object)));
+		}
+
+		KeyValuePersistentEntity<?, ?> entity = this.mappingContext.getRequiredPersistentEntity(type);
+		boolean collectPrevious = isPublishing(KeyValueEvent.AfterUpdateEvent.class);
+		Map<Object, Object> previous = new HashMap<>();
+
+		execute((KeyValueCallback<Void>) adapter -> {
+
+			if (!entity.hasVersionProperty() && !collectPrevious) {
+
+				adapter.putAll(batch, keyspace);
+				return null;
+			}
+
+			batch.forEach((id, objectToUpdate) -> {
+
+				Object existing = entity.hasVersionProperty()
+						? doUpdateVersioned(adapter, entity, id, objectToUpdate, keyspace)
+						: adapter.put(id, objectToUpdate, keyspace);
+
+				if (existing != null) {
+					previous.put(id, existing);
+				}
+			});
+
+			return null;
+		});
+
+		potentiallyPublishEvent(KeyValueEvent.afterBatchUpdate(keyspace, (Class<T>) type, batch));
+
+		if (collectPrevious) {
+			batch.forEach((id, object) -> publishObjectEvent(
+					KeyValueEvent.afterUpdate(id, keyspace, (Class<T>) type, object, previous.get(id))));
+		}
+	}
+
 	@Override
 	public <T> Iterable<T> findAll(Class<T> type) {
 
@@ -253,6 +557,72 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		return Optional.ofNullable(result);
 	}
 
+	@Override
+	public <T> Optional<T> findById(long id, Class<T> type) {
+
+		Assert.notNull(type, "Type to fetch must not be null");
+
+		String keyspace = resolveKeySpace(type);
+		Object eventId = eventPublisher != null && publishEvents ? toId(id, type) : null;
+
+		if (eventId != null) {
+			potentiallyPublishEvent(KeyValueEvent.beforeGet(eventId, keyspace, type));
+		}
+
+		T result = execute(adapter -> {
+
+			T value = adapter.get(id, keyspace, type);
+			return value == null || typeCheck(type, value) ? value : null;
+		});
+
+		if (eventId != null) {
+			potentiallyPublishEvent(KeyValueEvent.afterGet(eventId, keyspace, type, result));
+		}
+
+		return Optional.ofNullable(result);
+	}
+
+	@Override
+	public <T> List<T> findAllById(Iterable<?> ids, Class<T> type) {
+
+		Assert.notNull(ids, "Ids for objects to be found must not be null");
+		Assert.notNull(type, "Type to fetch must not be null");
+
+		List<Object> idsToFind = toList(ids, "Id for object to be found must not be null");
+		String keyspace = resolveKeySpace(type);
+
+		potentiallyPublishEvent(KeyValueEvent.beforeBatchGet(idsToFind, keyspace, type));
+
+		if (isPublishing(KeyValueEvent.BeforeGetEvent.class)) {
+			idsToFind.forEach(id -> publishObjectEvent(KeyValueEvent.beforeGet(id, keyspace, type)));
+		}
+
+		Map<Object, Object> values = executeRequired(adapter -> adapter.getAll(idsToFind, keyspace));
+
+		Map<Object, T> found = new LinkedHashMap<>(values.size());
+		List<T> result = new ArrayList<>(values.size());
+
+		for (Object id : idsToFind) {
+
+			Object value = values.get(id);
+
+			if (value != null && typeCheck(type, value)) {
+
+				T typed = type.cast(value);
+				found.put(id, typed);
+				result.add(typed);
+			}
+		}
+
+		potentiallyPublishEvent(KeyValueEvent.afterBatchGet(idsToFind, keyspace, type, found));
+
+		if (isPublishing(KeyValueEvent.AfterGetEvent.class)) {
+			idsToFind.forEach(id -> publishObjectEvent(KeyValueEvent.afterGet(id, keyspace, type, found.get(id))));
+		}
+
+		return result;
+	}
+
 	@Override
 	public void delete(Class<?> type) {
 
@@ -297,6 +667,32 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		return result;
 	}
 
+	@Override
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	public void deleteAllById(Iterable<?> ids, Class<?> type) {
+
+		Assert.notNull(ids, "Ids for objects to be deleted must not be null");
+		Assert.notNull(type, "Type to delete must not be null");
+
+		List<Object> idsToDelete = toList(ids, "Id for object to be deleted must not be null");
+		String keyspace = resolveKeySpace(type);
+
+		potentiallyPublishEvent(KeyValueEvent.beforeBatchDelete(idsToDelete, keyspace, type));
+
+		if (isPublishing(KeyValueEvent.BeforeDeleteEvent.class)) {
+			idsToDelete.forEach(id -> publishObjectEvent(KeyValueEvent.beforeDelete(id, keyspace, type)));
+		}
+
+		Map<Object, Object> removed = executeRequired(adapter -> adapter.deleteAll(idsToDelete, keyspace));
+
+		potentiallyPublishEvent(KeyValueEvent.afterBatchDelete(idsToDelete, keyspace, (Class) type, removed));
+
+		if (isPublishing(KeyValueEvent.AfterDeleteEvent.class)) {
+			idsToDelete.forEach(
+					id -> publishObjectEvent(KeyValueEvent.afterDelete(id, keyspace, (Class) type, removed.get(id))));
+		}
+	}
+
 	@Override
 	public long count(Class<?> type) {
 
@@ -354,6 +750,38 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		});
 	}
 
+	@Override
+	public <T> Stream<T> stream(KeyValueQuery<?> query, Class<T> type) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(type, "Type to fetch must not be null");
+
+		CloseableIterator<T> iterator = executeRequired(adapter -> adapter.stream(query, resolveKeySpace(type), type));
+
+		return iterator.stream().filter(candidate -> typeCheck(type, candidate)).map(type::cast);
+	}
+
+	@Override
+	public <T> Stream<T> streamByIdRange(@Nullable Object fromId, @Nullable Object toId, Class<T> type) {
+
+		Assert.notNull(type, "Type to fetch must not be null");
+
+		return streamValues(executeRequired(adapter -> adapter.entries(resolveKeySpace(type), fromId, toId)), type);
+	}
+
+	@Override
+	public <T> Stream<T> streamByIdPrefix(String prefix, Class<T> type) {
+
+		Assert.notNull(prefix, "Prefix must not be null");
+		Assert.notNull(type, "Type to fetch must not be null");
+
+		return streamValues(executeRequired(adapter -> adapter.entriesWithPrefix(resolveKeySpace(type), prefix)), type);
+	}
+
+	private static <T> Stream<T> streamValues(CloseableIterator<Map.Entry<Object, Object>> entries, Class<T> type) {
+		return entries.stream().map(Map.Entry::getValue).filter(candidate -> typeCheck(type, candidate)).map(type::cast);
+	}
+
 	@SuppressWarnings("rawtypes")
 	@Override
 	public <T> Iterable<T> findAll(Sort sort, Class<T> type) {
@@ -382,6 +810,16 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		return executeRequired(adapter -> adapter.exists(query, resolveKeySpace(type)));
 	}
 
+	@Override
+	public AggregationResults aggregate(KeyValueQuery<?> query, Aggregation aggregation, Class<?> type) {
+
+		Assert.notNull(query, "Query must not be null");
+		Assert.notNull(aggregation, "Aggregation must not be null");
+		Assert.notNull(type, "Type to aggregate must not be null");
+
+		return executeRequired(adapter -> adapter.aggregate(query, aggregation, resolveKeySpace(type)));
+	}
+
 	@Override
 	public MappingContext<?, ?> getMappingContext() {
 		return this.mappingContext;
@@ -394,7 +832,10 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 
 	@Override
 	public void destroy() throws Exception {
-		this.adapter.clear();
+
+		if (!this.adapter.isPersistent()) {
+			this.adapter.clear();
+		}
 	}
 
 	private KeyValuePersistentEntity<?, ?> getKeyValuePersistentEntity(Object objectToInsert) {
@@ -402,6 +843,109 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 	}
 
 
+	/**
+	 * Replace the object stored for {@code id} only if its version matches the version of {@code objectToUpdate} and
+	 * increment the version of {@code objectToUpdate}. Objects carrying the initial version are inserted if no object is
+	 * stored for {@code id}. The version of {@code objectToUpdate} remains unchanged if the write fails.
+	 *
+	 * @return the previously stored object or {@literal null} if inserted.
+	 * @throws OptimisticLockingFailureException if the stored object does not exist or was modified concurrently.
+	 */
+	private @Nullable Object doUpdateVersioned(KeyValueAdapter adapter, KeyValuePersistentEntity<?, ?> entity, Object id,
+			Object objectToUpdate, String keyspace) {
+
+		KeyValuePersistentProperty<?> versionProperty = entity.getRequiredVersionProperty();
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(objectToUpdate);
+		Object version = accessor.getProperty(versionProperty);
+		Object[] existing = new Object[1];
+
+		try {
+
+			adapter.compute(id, (key, stored) -> {
+
+				if (stored == null && isInitialVersion(versionProperty, version)) {
+
+					accessor.setProperty(versionProperty, initialVersion(versionProperty));
+					return objectToUpdate;
+				}
+
+				if (stored == null || !ObjectUtils.nullSafeEquals(version, getVersion(stored))) {
+					throw new OptimisticLockingFailureException(String.format(
+							"Cannot update object with id %s and version %s in keyspace %s; Was it modified or deleted", id,
+							version, keyspace));
+				}
+
+				existing[0] = stored;
+				accessor.setProperty(versionProperty, nextVersion(versionProperty, version));
+
+				return objectToUpdate;
+			}, keyspace);
+		} catch (RuntimeException ex) {
+
+			accessor.setProperty(versionProperty, version);
+			throw ex;
+		}
+
+		return existing[0];
+	}
+
+	private @Nullable Object getVersion(Object object) {
+
+		KeyValuePersistentEntity<?, ?> entity = getKeyValuePersistentEntity(object);
+
+		return entity.hasVersionProperty()
+				? entity.getPropertyAccessor(object).getProperty(entity.getRequiredVersionProperty())
+				: null;
+	}
+
+	/**
+	 * Initialize the version property of {@code object} if not set. Wrapper types start at {@literal 0}, primitive types
+	 * at {@literal 1} as {@literal 0} marks them as new.
+	 *
+	 * @return the previous version to {@link #restoreVersion restore} if the object cannot be stored.
+	 */
+	private static @Nullable Object initializeVersion(KeyValuePersistentEntity<?, ?> entity, Object object) {
+
+		if (!entity.hasVersionProperty()) {
+			return null;
+		}
+
+		KeyValuePersistentProperty<?> versionProperty = entity.getRequiredVersionProperty();
+		PersistentPropertyAccessor<?> accessor = entity.getPropertyAccessor(object);
+		Object version = accessor.getProperty(versionProperty);
+
+		if (isInitialVersion(versionProperty, version)) {
+			accessor.setProperty(versionProperty, initialVersion(versionProperty));
+		}
+
+		return version;
+	}
+
+	private static void restoreVersion(KeyValuePersistentEntity<?, ?> entity, Object object, @Nullable Object version) {
+
+		if (entity.hasVersionProperty()) {
+			entity.getPropertyAccessor(object).setProperty(entity.getRequiredVersionProperty(), version);
+		}
+	}
+
+	private static boolean isInitialVersion(KeyValuePersistentProperty<?> versionProperty, @Nullable Object version) {
+		return version == null || versionProperty.getType().isPrimitive() && ((Number) version).longValue() == 0;
+	}
+
+	private static Number initialVersion(KeyValuePersistentProperty<?> versionProperty) {
+		return toVersionType(versionProperty, versionProperty.getType().isPrimitive() ? 1 : 0);
+	}
+
+	private static Number nextVersion(KeyValuePersistentProperty<?> versionProperty, @Nullable Object version) {
+		return toVersionType(versionProperty, version != null ? ((Number) version).longValue() + 1 : 0);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static Number toVersionType(KeyValuePersistentProperty<?> versionProperty, long version) {
+		return NumberUtils.convertNumberToTargetClass(version,
+				(Class<Number>) ClassUtils.resolvePrimitiveIfNecessary(versionProperty.getType()));
+	}
+
 	private  String resolveKeySpace(Class<?> type) {
 
 		String keyspace = this.mappingContext.getRequiredPersistentEntity(type).getKeySpace();
@@ -409,6 +953,19 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		return keyspace;
 	}
 
+	private static List<Object> toList(Iterable<?> ids, String message) {
+
+		List<Object> result = new ArrayList<>();
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, message);
+			result.add(id);
+		}
+
+		return result;
+	}
+
 	private RuntimeException resolveExceptionIfPossible(RuntimeException e) {
 
 		DataAccessException translatedException = exceptionTranslator.translateExceptionIfPossible(e);
@@ -418,6 +975,10 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 	@SuppressWarnings("rawtypes")
 	private void potentiallyPublishEvent(KeyValueEvent event) {
 
+		if (!views.isEmpty()) {
+			updateViews(event);
+		}
+
 		if (eventPublisher == null) {
 			return;
 		}
@@ -427,6 +988,42 @@ public class KeyValueTemplate implements KeyValueOperations, ApplicationEventPub
 		}
 	}
 
+	/**
+	 * Return whether events of the given type are published to the {@link ApplicationEventPublisher}.
+	 */
+	@SuppressWarnings("rawtypes")
+	private boolean isPublishing(Class<? extends KeyValueEvent> eventType) {
+		return eventPublisher != null && publishEvents
+				&& (eventTypesToPublish.isEmpty() || eventTypesToPublish.contains(eventType));
+	}
+
+	/**
+	 * Publish an event for a single object of a batch operation. Views are refreshed by the batch event already.
+	 */
+	private void publishObjectEvent(KeyValueEvent<?> event) {
+
+		if (eventPublisher != null) {
+			eventPublisher.publishEvent(event);
+		}
+	}
+
+	private void updateViews(KeyValueEvent<?> event) {
+
+		for (MaterializedView<?> view : views.values()) {
+			if (view.getKeySpace().equals(event.getKeyspace())) {
+				view.apply(event, adapter);
+			}
+		}
+	}
+
+	private Object toId(long id, Class<?> type) {
+
+		KeyValuePersistentProperty<?> idProperty = mappingContext.getRequiredPersistentEntity(type).getIdProperty();
+		boolean intId = idProperty != null && ClassUtils.resolvePrimitiveIfNecessary(idProperty.getType()) == Integer.class;
+
+		return intId ? (Object) Math.toIntExact(id) : (Object) id;
+	}
+
 	private static boolean typeCheck(Class<?> requiredType, @Nullable Object candidate) {
 		return candidate == null || ClassUtils.isAssignable(requiredType, candidate.getClass());
 	}
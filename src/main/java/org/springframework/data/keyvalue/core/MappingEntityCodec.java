@@ -0,0 +1,633 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.core.CollectionFactory;
+import org.springframework.core.serializer.support.DeserializingConverter;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.data.core.TypeInformation;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.Parameter;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.data.mapping.model.EntityInstantiator;
+import org.springframework.data.mapping.model.EntityInstantiators;
+import org.springframework.data.mapping.model.ParameterValueProvider;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link EntityCodec} using a compact binary format derived from {@link KeyValuePersistentEntity} metadata.
+ * <p>
+ * Each value starts with a single byte tag followed by its payload. Integral numbers are written as zig-zag encoded
+ * variable length integers, strings as UTF-8 prefixed by their length. Entities write the values of their persistent
+ * properties in property order without property names. The property layout and the instantiation strategy of an entity
+ * type are resolved once and reused for all values of that type. Type names are only written if the type of a value
+ * differs from the declared type of its property. Values of other {@link Serializable} types fall back to Java
+ * serialization.
+ * <p>
+ * As the format relies on the property order, changing the properties of an entity requires stored values to be
+ * re-encoded.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class MappingEntityCodec implements EntityCodec {
+
+	private static final int NULL = 0;
+	private static final int TRUE = 1;
+	private static final int FALSE = 2;
+	private static final int INT = 3;
+	private static final int LONG = 4;
+	private static final int SHORT = 5;
+	private static final int BYTE = 6;
+	private static final int CHAR = 7;
+	private static final int FLOAT = 8;
+	private static final int DOUBLE = 9;
+	private static final int STRING = 10;
+	private static final int BYTES = 11;
+	private static final int BIG_INTEGER = 12;
+	private static final int BIG_DECIMAL = 13;
+	private static final int UUID_VALUE = 14;
+	private static final int INSTANT = 15;
+	private static final int LOCAL_DATE = 16;
+	private static final int LOCAL_DATE_TIME = 17;
+	private static final int DATE = 18;
+	private static final int ENUM = 19;
+	private static final int TYPED_ENUM = 20;
+	private static final int LIST = 21;
+	private static final int SET = 22;
+	private static final int MAP = 23;
+	private static final int ENTITY = 24;
+	private static final int TYPED_ENTITY = 25;
+	private static final int SERIALIZED = 26;
+
+	private final MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext;
+	private final @Nullable ClassLoader classLoader;
+	private final EntityInstantiators instantiators = new EntityInstantiators();
+	private final SerializingConverter serializer = new SerializingConverter();
+	private final DeserializingConverter deserializer;
+	private final Map<Class<?>, Optional<EntityLayout<?>>> layouts = new ConcurrentHashMap<>();
+	private final Map<String, Class<?>> types = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new {@link MappingEntityCodec} using a default {@link KeyValueMappingContext}.
+	 */
+	public MappingEntityCodec() {
+		this(new KeyValueMappingContext<>());
+	}
+
+	/**
+	 * Create a new {@link MappingEntityCodec} using the given {@link MappingContext}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 */
+	public MappingEntityCodec(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext) {
+		this(mappingContext, null);
+	}
+
+	/**
+	 * Create a new {@link MappingEntityCodec} using the given {@link MappingContext} resolving types through the given
+	 * {@link ClassLoader}.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @param classLoader can be {@literal null} to use the default {@link ClassLoader}.
+	 */
+	public MappingEntityCodec(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext,
+			@Nullable ClassLoader classLoader) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.mappingContext = mappingContext;
+		this.classLoader = classLoader;
+		this.deserializer = classLoader != null ? new DeserializingConverter(classLoader) : new DeserializingConverter();
+	}
+
+	@Override
+	public byte[] encode(Object value, Class<?> type) {
+
+		Assert.notNull(value, "Value must not be null");
+		Assert.notNull(type, "Type must not be null");
+
+		Output out = new Output();
+		write(out, value, TypeInformation.of(ClassUtils.resolvePrimitiveIfNecessary(type)));
+
+		return out.toByteArray();
+	}
+
+	@Override
+	@SuppressWarnings("unchecked")
+	public <T> T decode(byte[] bytes, Class<T> type) {
+
+		Assert.notNull(bytes, "Bytes must not be null");
+		Assert.notNull(type, "Type must not be null");
+
+		Object value = read(new Input(bytes), TypeInformation.of(ClassUtils.resolvePrimitiveIfNecessary(type)));
+
+		Assert.state(value != null, "Decoded value must not be null");
+
+		return (T) value;
+	}
+
+	private void write(Output out, @Nullable Object value, TypeInformation<?> declared) {
+
+		if (value == null) {
+			out.writeByte(NULL);
+		} else if (value instanceof Boolean bool) {
+			out.writeByte(bool ? TRUE : FALSE);
+		} else if (value instanceof Integer number) {
+			out.writeByte(INT);
+			out.writeZigZag(number);
+		} else if (value instanceof Long number) {
+			out.writeByte(LONG);
+			out.writeZigZag(number);
+		} else if (value instanceof Short number) {
+			out.writeByte(SHORT);
+			out.writeZigZag(number);
+		} else if (value instanceof Byte number) {
+			out.writeByte(BYTE);
+			out.writeByte(number);
+		} else if (value instanceof Character character) {
+			out.writeByte(CHAR);
+			out.writeVarLong(character);
+		} else if (value instanceof Float number) {
+			out.writeByte(FLOAT);
+			out.writeFixed(Float.floatToIntBits(number), 4);
+		} else if (value instanceof Double number) {
+			out.writeByte(DOUBLE);
+			out.writeFixed(Double.doubleToLongBits(number), 8);
+		} else if (value instanceof String string) {
+			out.writeByte(STRING);
+			out.writeString(string);
+		} else if (value instanceof byte[] bytes) {
+			out.writeByte(BYTES);
+			out.writeBytes(bytes);
+		} else if (value instanceof BigInteger number) {
+			out.writeByte(BIG_INTEGER);
+			out.writeBytes(number.toByteArray());
+		} else if (value instanceof BigDecimal number) {
+			out.writeByte(BIG_DECIMAL);
+			out.writeZigZag(number.scale());
+			out.writeBytes(number.unscaledValue().toByteArray());
+		} else if (value instanceof UUID uuid) {
+			out.writeByte(UUID_VALUE);
+			out.writeFixed(uuid.getMostSignificantBits(), 8);
+			out.writeFixed(uuid.getLeastSignificantBits(), 8);
+		} else if (value instanceof Instant instant) {
+			out.writeByte(INSTANT);
+			out.writeZigZag(instant.getEpochSecond());
+			out.writeVarLong(instant.getNano());
+		} else if (value instanceof LocalDate date) {
+			out.writeByte(LOCAL_DATE);
+			out.writeZigZag(date.toEpochDay());
+		} else if (value instanceof LocalDateTime dateTime) {
+			out.writeByte(LOCAL_DATE_TIME);
+			out.writeZigZag(dateTime.toLocalDate().toEpochDay());
+			out.writeVarLong(dateTime.toLocalTime().toNanoOfDay());
+		} else if (value.getClass() == Date.class) {
+			out.writeByte(DATE);
+			out.writeZigZag(((Date) value).getTime());
+		} else if (value instanceof Enum<?> constant) {
+			writeType(out, constant.getDeclaringClass(), declared, ENUM, TYPED_ENUM);
+			out.writeString(constant.name());
+		} else if (value instanceof Collection<?> collection) {
+			writeCollection(out, collection, declared);
+		} else if (value instanceof Map<?, ?> map) {
+			writeMap(out, map, declared);
+		} else {
+
+			Class<?> type = ClassUtils.getUserClass(value);
+			EntityLayout<?> layout = getLayout(type);
+
+			if (layout != null) {
+				writeType(out, type, declared, ENTITY, TYPED_ENTITY);
+				layout.write(out, value);
+			} else if (value instanceof Serializable) {
+				out.writeByte(SERIALIZED);
+				out.writeBytes(serializer.convert(value));
+			} else {
+				throw new IllegalArgumentException("Cannot encode value of type %s".formatted(type.getName()));
+			}
+		}
+	}
+
+	private void writeType(Output out, Class<?> type, TypeInformation<?> declared, int tag, int typedTag) {
+
+		if (type == declared.getType()) {
+			out.writeByte(tag);
+		} else {
+			out.writeByte(typedTag);
+			out.writeString(type.getName());
+		}
+	}
+
+	private void writeCollection(Output out, Collection<?> collection, TypeInformation<?> declared) {
+
+		TypeInformation<?> elementType = getComponentType(declared);
+
+		out.writeByte(collection instanceof Set ? SET : LIST);
+		out.writeVarLong(collection.size());
+
+		for (Object element : collection) {
+			write(out, element, elementType);
+		}
+	}
+
+	private void writeMap(Output out, Map<?, ?> map, TypeInformation<?> declared) {
+
+		TypeInformation<?> keyType = getComponentType(declared);
+		TypeInformation<?> valueType = getMapValueType(declared);
+
+		out.writeByte(MAP);
+		out.writeVarLong(map.size());
+
+		for (Map.Entry<?, ?> entry : map.entrySet()) {
+			write(out, entry.getKey(), keyType);
+			write(out, entry.getValue(), valueType);
+		}
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private @Nullable Object read(Input in, TypeInformation<?> declared) {
+
+		int tag = in.readByte();
+
+		return switch (tag) {
+			case NULL -> null;
+			case TRUE -> Boolean.TRUE;
+			case FALSE -> Boolean.FALSE;
+			case INT -> (int) in.readZigZag();
+			case LONG -> in.readZigZag();
+			case SHORT -> (short) in.readZigZag();
+			case BYTE -> (byte) in.readByte();
+			case CHAR -> (char) in.readVarLong();
+			case FLOAT -> Float.intBitsToFloat((int) in.readFixed(4));
+			case DOUBLE -> Double.longBitsToDouble(in.readFixed(8));
+			case STRING -> in.readString();
+			case BYTES -> in.readBytes();
+			case BIG_INTEGER -> new BigInteger(in.readBytes());
+			case BIG_DECIMAL -> {
+				int scale = (int) in.readZigZag();
+				yield new BigDecimal(new BigInteger(in.readBytes()), scale);
+			}
+			case UUID_VALUE -> new UUID(in.readFixed(8), in.readFixed(8));
+			case INSTANT -> Instant.ofEpochSecond(in.readZigZag(), in.readVarLong());
+			case LOCAL_DATE -> LocalDate.ofEpochDay(in.readZigZag());
+			case LOCAL_DATE_TIME -> {
+				LocalDate date = LocalDate.ofEpochDay(in.readZigZag());
+				yield LocalDateTime.of(date, LocalTime.ofNanoOfDay(in.readVarLong()));
+			}
+			case DATE -> new Date(in.readZigZag());
+			case ENUM -> Enum.valueOf((Class) declared.getType(), in.readString());
+			case TYPED_ENUM -> Enum.valueOf((Class) resolveType(in.readString()), in.readString());
+			case LIST, SET -> readCollection(in, tag, declared);
+			case MAP -> readMap(in, declared);
+			case ENTITY -> getRequiredLayout(declared.getType()).read(in);
+			case TYPED_ENTITY -> getRequiredLayout(resolveType(in.readString())).read(in);
+			case SERIALIZED -> deserializer.convert(in.readBytes());
+			default -> throw new IllegalStateException("Unknown value tag %d".formatted(tag));
+		};
+	}
+
+	private Collection<@Nullable Object> readCollection(Input in, int tag, TypeInformation<?> declared) {
+
+		int size = in.readLength();
+		TypeInformation<?> elementType = getComponentType(declared);
+		Class<?> type = declared.getType();
+		Collection<@Nullable Object> collection;
+
+		if (Collection.class.isAssignableFrom(type) && type != Collection.class) {
+			collection = CollectionFactory.createCollection(type, elementType.getType(), size);
+		} else {
+			collection = tag == SET ? new LinkedHashSet<>(size) : new ArrayList<>(size);
+		}
+
+		for (int i = 0; i < size; i++) {
+			collection.add(read(in, elementType));
+		}
+
+		return collection;
+	}
+
+	private Map<@Nullable Object, @Nullable Object> readMap(Input in, TypeInformation<?> declared) {
+
+		int size = in.readLength();
+		TypeInformation<?> keyType = getComponentType(declared);
+		TypeInformation<?> valueType = getMapValueType(declared);
+		Class<?> type = declared.getType();
+
+		Map<@Nullable Object, @Nullable Object> map = Map.class.isAssignableFrom(type)
+				? CollectionFactory.createMap(type, keyType.getType(), size)
+				: new LinkedHashMap<>(size);
+
+		for (int i = 0; i < size; i++) {
+			map.put(read(in, keyType), read(in, valueType));
+		}
+
+		return map;
+	}
+
+	private static TypeInformation<?> getComponentType(TypeInformation<?> type) {
+
+		TypeInformation<?> componentType = type.getComponentType();
+		return componentType != null ? componentType : TypeInformation.OBJECT;
+	}
+
+	private static TypeInformation<?> getMapValueType(TypeInformation<?> type) {
+
+		TypeInformation<?> valueType = type.isMap() ? type.getMapValueType() : null;
+		return valueType != null ? valueType : TypeInformation.OBJECT;
+	}
+
+	private Class<?> resolveType(String name) {
+		return types.computeIfAbsent(name, it -> ClassUtils.resolveClassName(it, classLoader));
+	}
+
+	private @Nullable EntityLayout<?> getLayout(Class<?> type) {
+
+		return layouts.computeIfAbsent(type, it -> {
+
+			if (it.isArray() || it.getName().startsWith("java.")) {
+				return Optional.empty();
+			}
+
+			KeyValuePersistentEntity<?, ?> entity = mappingContext.getPersistentEntity(it);
+			return entity != null ? Optional.of(createLayout(entity)) : Optional.empty();
+		}).orElse(null);
+	}
+
+	private EntityLayout<?> getRequiredLayout(Class<?> type) {
+
+		EntityLayout<?> layout = getLayout(type);
+
+		if (layout == null) {
+			throw new IllegalStateException("No persistent entity found for type %s".formatted(type.getName()));
+		}
+
+		return layout;
+	}
+
+	private <P extends KeyValuePersistentProperty<P>> EntityLayout<P> createLayout(KeyValuePersistentEntity<?, P> entity) {
+		return new EntityLayout<>(entity);
+	}
+
+	/**
+	 * Property layout and instantiation strategy of a persistent entity.
+	 */
+	private class EntityLayout<P extends KeyValuePersistentProperty<P>> {
+
+		private final KeyValuePersistentEntity<?, P> entity;
+		private final List<P> properties = new ArrayList<>();
+		private final Map<String, Integer> positions = new HashMap<>();
+		private final boolean[] creatorArguments;
+		private final EntityInstantiator instantiator;
+
+		EntityLayout(KeyValuePersistentEntity<?, P> entity) {
+
+			this.entity = entity;
+
+			for (P property : entity) {
+				positions.put(property.getName(), properties.size());
+				properties.add(property);
+			}
+
+			this.creatorArguments = new boolean[properties.size()];
+
+			for (int i = 0; i < creatorArguments.length; i++) {
+				creatorArguments[i] = entity.isCreatorArgument(properties.get(i));
+			}
+
+			this.instantiator = instantiators.getInstantiatorFor(entity);
+		}
+
+		void write(Output out, Object value) {
+
+			PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(value);
+
+			for (P property : properties) {
+				MappingEntityCodec.this.write(out, accessor.getProperty(property), property.getTypeInformation());
+			}
+		}
+
+		Object read(Input in) {
+
+			@Nullable Object[] values = new Object[properties.size()];
+
+			for (int i = 0; i < values.length; i++) {
+				values[i] = MappingEntityCodec.this.read(in, properties.get(i).getTypeInformation());
+			}
+
+			Object instance = instantiator.createInstance(entity, new ParameterValueProvider<P>() {
+
+				@Override
+				@SuppressWarnings("unchecked")
+				public <T> @Nullable T getParameterValue(Parameter<T, P> parameter) {
+
+					String name = parameter.getName();
+					Integer position = name != null ? positions.get(name) : null;
+
+					return position != null ? (T) values[position] : null;
+				}
+			});
+
+			PersistentPropertyAccessor<Object> accessor = entity.getPropertyAccessor(instance);
+
+			for (int i = 0; i < values.length; i++) {
+				if (!creatorArguments[i] && values[i] != null) {
+					accessor.setProperty(properties.get(i), values[i]);
+				}
+			}
+
+			return accessor.getBean();
+		}
+	}
+
+	/**
+	 * Growable buffer to write encoded values to.
+	 */
+	private static class Output {
+
+		private byte[] buffer = new byte[64];
+		private int size;
+
+		void writeByte(int value) {
+
+			ensureCapacity(1);
+			buffer[size++] = (byte) value;
+		}
+
+		void writeVarLong(long value) {
+
+			ensureCapacity(10);
+
+			while ((value & ~0x7FL) != 0) {
+				buffer[size++] = (byte) ((value & 0x7F) | 0x80);
+				value >>>= 7;
+			}
+
+			buffer[size++] = (byte) value;
+		}
+
+		void writeZigZag(long value) {
+			writeVarLong((value << 1) ^ (value >> 63));
+		}
+
+		void writeFixed(long value, int bytes) {
+
+			ensureCapacity(bytes);
+
+			for (int shift = (bytes - 1) * 8; shift >= 0; shift -= 8) {
+				buffer[size++] = (byte) (value >>> shift);
+			}
+		}
+
+		void writeBytes(byte[] bytes) {
+
+			writeVarLong(bytes.length);
+			ensureCapacity(bytes.length);
+			System.arraycopy(bytes, 0, buffer, size, bytes.length);
+			size += bytes.length;
+		}
+
+		void writeString(String value) {
+			writeBytes(value.getBytes(StandardCharsets.UTF_8));
+		}
+
+		byte[] toByteArray() {
+			return Arrays.copyOf(buffer, size);
+		}
+
+		private void ensureCapacity(int bytes) {
+
+			if (size + bytes > buffer.length) {
+				buffer = Arrays.copyOf(buffer, Math.max(buffer.length * 2, size + bytes));
+			}
+		}
+	}
+
+	/**
+	 * Cursor over an encoded value.
+	 */
+	private static class Input {
+
+		private final byte[] buffer;
+		private int position;
+
+		Input(byte[] buffer) {
+			this.buffer = buffer;
+		}
+
+		int readByte() {
+
+			if (position >= buffer.length) {
+				throw new IllegalStateException("Unexpected end of encoded value");
+			}
+
+			return buffer[position++];
+		}
+
+		long readVarLong() {
+
+			long value = 0;
+
+			for (int shift = 0; shift < 64; shift += 7) {
+
+				int next = readByte();
+				value |= (long) (next & 0x7F) << shift;
+
+				if ((next & 0x80) == 0) {
+					return value;
+				}
+			}
+
+			throw new IllegalStateException("Malformed variable length integer");
+		}
+
+		long readZigZag() {
+
+			long value = readVarLong();
+			return (value >>> 1) ^ -(value & 1);
+		}
+
+		long readFixed(int bytes) {
+
+			long value = 0;
+
+			for (int i = 0; i < bytes; i++) {
+				value = (value << 8) | (readByte() & 0xFF);
+			}
+
+			return value;
+		}
+
+		int readLength() {
+
+			long length = readVarLong();
+
+			if (length < 0 || length > buffer.length - position) {
+				throw new IllegalStateException("Invalid length %d".formatted(length));
+			}
+
+			return (int) length;
+		}
+
+		byte[] readBytes() {
+
+			int length = readLength();
+			byte[] bytes = Arrays.copyOfRange(buffer, position, position + length);
+			position += length;
+
+			return bytes;
+		}
+
+		String readString() {
+
+			int length = readLength();
+			String value = new String(buffer, position, length, StandardCharsets.UTF_8);
+			position += length;
+
+			return value;
+		}
+	}
+}
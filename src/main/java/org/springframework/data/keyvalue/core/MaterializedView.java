@@ -0,0 +1,259 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.core.event.KeyValueEvent;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Named subset of a keyspace holding the objects matching a {@link Predicate}, optionally ordered by a sort key. Views
+ * are {@link KeyValueTemplate#registerView(String, Class, Predicate, Function, Comparator) registered}
+ * on a {@link KeyValueTemplate} and maintained incrementally from the {@link KeyValueEvent events} raised for each
+ * insert, update and delete as well as objects expiring or being evicted by the adapter. Reading a view visits only the
+ * objects it contains, so its cost depends on the size of the result and not on the size of the keyspace.
+ * <p>
+ * Views track their objects by id. Changed ids are re-read from the {@link KeyValueAdapter} while holding the view
+ * lock, so concurrent writes of the same object converge to the stored object. Reading the size, membership or a range
+ * of the view holds the view lock as well and therefore never observes a partially applied change. Modifications bypassing the
+ * {@link KeyValueTemplate} are not reflected. Objects are ordered by their sort key and by the order they entered the
+ * view if their sort keys are equal. The sort key is extracted when an object enters the view or is updated, so
+ * modifying an object in place does not corrupt the order of the view but is reflected in its position only once the
+ * object is updated through the {@link KeyValueTemplate}. Sort keys are expected to be immutable values.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @param <T> the type of objects held by the view.
+ */
+public class MaterializedView<T> {
+
+	private final String name;
+	private final String keyspace;
+	private final Class<T> type;
+	private final Predicate<? super T> filter;
+	private final @Nullable Function<? super T, ?> sortKey;
+	private final @Nullable Comparator<Object> keyOrder;
+
+	private final Map<Object, Entry<T>> entries = new HashMap<>();
+	private final NavigableSet<Entry<T>> ordered;
+	private long sequence;
+
+	@SuppressWarnings("unchecked")
+	<K> MaterializedView(String name, String keyspace, Class<T> type, Predicate<? super T> filter,
+			@Nullable Function<? super T, ? extends K> sortKey, @Nullable Comparator<? super K> keyOrder) {
+
+		this.name = name;
+		this.keyspace = keyspace;
+		this.type = type;
+		this.filter = filter;
+		this.sortKey = sortKey;
+		this.keyOrder = (Comparator<Object>) keyOrder;
+		this.ordered = new ConcurrentSkipListSet<>(this::compare);
+	}
+
+	/**
+	 * @return the name of the view.
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * @return the keyspace the view selects objects from.
+	 */
+	public String getKeySpace() {
+		return keyspace;
+	}
+
+	/**
+	 * @return the type of objects held by the view.
+	 */
+	public Class<T> getType() {
+		return type;
+	}
+
+	/**
+	 * @return the number of objects held by the view.
+	 */
+	public synchronized int size() {
+		return entries.size();
+	}
+
+	/**
+	 * @param id must not be {@literal null}.
+	 * @return {@literal true} if the view holds the object with the given {@code id}.
+	 */
+	public synchronized boolean contains(Object id) {
+		return entries.containsKey(id);
+	}
+
+	/**
+	 * Return all objects held by the view in view order.
+	 *
+	 * @return the objects of the view.
+	 */
+	public List<T> getAll() {
+		return get(-1, -1);
+	}
+
+	/**
+	 * Return a range of the objects held by the view in view order.
+	 *
+	 * @param offset number of objects to skip, use negative value for none.
+	 * @param rows number of objects to read, use negative value for all.
+	 * @return the objects of the view.
+	 */
+	public synchronized List<T> get(long offset, int rows) {
+
+		List<T> result = new ArrayList<>(rows > 0 ? Math.min(rows, entries.size()) : entries.size());
+		Iterator<Entry<T>> iterator = ordered.iterator();
+
+		for (long skipped = 0; skipped < offset && iterator.hasNext(); skipped++) {
+			iterator.next();
+		}
+
+		while (iterator.hasNext() && (rows < 0 || result.size() < rows)) {
+			result.add(iterator.next().value());
+		}
+
+		return result;
+	}
+
+	/**
+	 * Lazily stream the objects held by the view in view order. The stream does not hold the view lock and reflects
+	 * modifications of the view applied while it is consumed.
+	 *
+	 * @return the objects of the view.
+	 */
+	public Stream<T> stream() {
+		return ordered.stream().map(Entry::value);
+	}
+
+	/**
+	 * Apply a {@link KeyValueEvent} raised for the keyspace of the view.
+	 *
+	 * @param event the event to apply.
+	 * @param adapter the adapter to re-read changed objects from.
+	 */
+	void apply(KeyValueEvent<?> event, KeyValueAdapter adapter) {
+
+		if (event instanceof KeyValueEvent.AfterInsertEvent<?> inserted) {
+			refresh(inserted.getKey(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterUpdateEvent<?> updated) {
+			refresh(updated.getKey(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterDeleteEvent<?> deleted) {
+			refresh(deleted.getKey(), adapter);
+		} else if (event instanceof KeyValueEvent.ExpiredEvent<?> expired) {
+			refresh(expired.getKey(), adapter);
+		} else if (event instanceof KeyValueEvent.EvictedEvent<?> evicted) {
+			refresh(evicted.getKey(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterBatchInsertEvent<?> inserted) {
+			refresh(inserted.getKeys(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterBatchUpdateEvent<?> updated) {
+			refresh(updated.getKeys(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterBatchDeleteEvent<?> deleted) {
+			refresh(deleted.getKeys(), adapter);
+		} else if (event instanceof KeyValueEvent.AfterDropKeySpaceEvent<?>) {
+			clear();
+		}
+	}
+
+	/**
+	 * Populate the view from all objects currently held by its keyspace.
+	 *
+	 * @param adapter the adapter to read objects from.
+	 */
+	synchronized void populate(KeyValueAdapter adapter) {
+
+		try (CloseableIterator<Map.Entry<Object, Object>> iterator = adapter.entries(keyspace)) {
+
+			while (iterator.hasNext()) {
+
+				Map.Entry<Object, Object> entry = iterator.next();
+				update(entry.getKey(), entry.getValue());
+			}
+		}
+	}
+
+	private void refresh(Collection<?> ids, KeyValueAdapter adapter) {
+
+		for (Object id : ids) {
+			refresh(id, adapter);
+		}
+	}
+
+	private synchronized void refresh(Object id, KeyValueAdapter adapter) {
+		update(id, adapter.get(id, keyspace));
+	}
+
+	private synchronized void clear() {
+
+		entries.clear();
+		ordered.clear();
+	}
+
+	private void update(Object id, @Nullable Object value) {
+
+		Entry<T> previous = entries.remove(id);
+
+		if (previous != null) {
+			ordered.remove(previous);
+		}
+
+		if (value == null || !type.isInstance(value) || !filter.test(type.cast(value))) {
+			return;
+		}
+
+		T object = type.cast(value);
+		Entry<T> entry = new Entry<>(id, object, sortKey != null ? sortKey.apply(object) : null,
+				previous != null ? previous.sequence() : sequence++);
+
+		entries.put(id, entry);
+		ordered.add(entry);
+	}
+
+	private int compare(Entry<T> left, Entry<T> right) {
+
+		int result = keyOrder != null ? keyOrder.compare(left.sortKey(), right.sortKey()) : 0;
+		return result != 0 ? result : Long.compare(left.sequence(), right.sequence());
+	}
+
+	/**
+	 * Object held by a view.
+	 *
+	 * @param id the object id.
+	 * @param value the object.
+	 * @param sortKey the sort key extracted from the object when it was added to the view.
+	 * @param sequence order in which the object entered the view.
+	 */
+	private record Entry<T>(Object id, T value, @Nullable Object sortKey, long sequence) {
+
+	}
+}
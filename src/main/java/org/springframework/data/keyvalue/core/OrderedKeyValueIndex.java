@@ -0,0 +1,57 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.Map;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Direction;
+
+/**
+ * {@link KeyValueIndex} keeping indexed values in their natural order. Ordered indexes support range lookups and
+ * traversal of ids in value order.
+ * <p>
+ * {@literal null} values are not part of the ordered value range and can be obtained through {@link #get(Object)
+ * get(null)}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see org.springframework.data.keyvalue.annotation.Indexed#ordered()
+ */
+public interface OrderedKeyValueIndex extends KeyValueIndex {
+
+	/**
+	 * Get the ids of all objects whose indexed property value lies within the given {@link Range} ordered by value in
+	 * the requested {@link Direction}. Implementations should traverse the index lazily.
+	 *
+	 * @param range must not be {@literal null}.
+	 * @param direction must not be {@literal null}.
+	 * @return the ids of matching objects in value order. Never {@literal null}.
+	 */
+	Iterable<Object> getRange(Range<?> range, Direction direction);
+
+	/**
+	 * Get the ids of all objects whose indexed property value lies within the given {@link Range} along with the value
+	 * they are indexed by, ordered by value in the requested {@link Direction}. Allows callers to verify that the object
+	 * still holds the indexed value before relying on the index order. Implementations should traverse the index lazily.
+	 *
+	 * @param range must not be {@literal null}.
+	 * @param direction must not be {@literal null}.
+	 * @return entries of indexed value and id in value order. Never {@literal null}.
+	 */
+	Iterable<Map.Entry<Object, Object>> getRangeEntries(Range<?> range, Direction direction);
+
+}
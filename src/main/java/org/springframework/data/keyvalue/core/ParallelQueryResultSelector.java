@@ -0,0 +1,238 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BinaryOperator;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Parallel variant of {@link QueryResultSelector} evaluating candidates on a {@link ForkJoinPool}. The candidates are
+ * split using their {@link Spliterator} without copying them. Each split selects its matches using
+ * {@link QueryResultSelector}, retaining only its best {@code offset + rows} matches for sorted and limited queries.
+ * Results of splits are merged pairwise in encounter order of the splits, so ties in sort order resolve as for a
+ * stable sort and results are deterministic for unchanged candidates.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class ParallelQueryResultSelector {
+
+	/**
+	 * Minimum number of candidates of a split to be processed without splitting it further.
+	 */
+	static final int MIN_SPLIT_SIZE = 1024;
+
+	private ParallelQueryResultSelector() {}
+
+	/**
+	 * Create a {@link ForkJoinPool} dedicated to query execution using one thread per available processor.
+	 *
+	 * @return a new {@link ForkJoinPool}.
+	 */
+	static ForkJoinPool createPool() {
+
+		return new ForkJoinPool(Runtime.getRuntime().availableProcessors(), pool -> {
+
+			ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+			thread.setName("keyvalue-query-" + thread.getPoolIndex());
+			thread.setDaemon(true);
+			return thread;
+		}, null, false);
+	}
+
+	/**
+	 * Select the matching range of candidates in parallel.
+	 *
+	 * @param pool the pool to run on, must not be {@literal null}.
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @param sort can be {@literal null} to retain encounter order.
+	 * @param offset number of matches to skip, use negative value for none.
+	 * @param rows number of matches to select, use negative value for all.
+	 * @return the selected matches.
+	 * @see QueryResultSelector#select(Iterable, Predicate, Comparator, long, int)
+	 */
+	@SuppressWarnings("unchecked")
+	static <S> List<S> select(ForkJoinPool pool, Collection<? extends S> source, @Nullable Predicate<?> filter,
+			@Nullable Comparator<?> sort, long offset, int rows) {
+
+		long toSkip = Math.max(offset, 0);
+		int limit = rows > 0 && toSkip + rows <= Integer.MAX_VALUE - 8 ? (int) (toSkip + rows) : -1;
+		Comparator<? super S> sortToUse = (Comparator<? super S>) sort;
+
+		List<S> matches = pool.invoke(new SplitTask<>((Spliterator<S>) source.spliterator(), splitSize(pool, source),
+				split -> QueryResultSelector.select(iterable(split), filter, sort, 0, limit),
+				(first, second) -> sortToUse != null ? merge(first, second, sortToUse, limit)
+						: concat(first, second, limit)));
+
+		int from = (int) Math.min(toSkip, matches.size());
+		int to = rows > 0 ? (int) Math.min((long) from + rows, matches.size()) : matches.size();
+
+		return from == 0 && to == matches.size() ? matches : new ArrayList<>(matches.subList(from, to));
+	}
+
+	/**
+	 * Count the matching candidates in parallel.
+	 *
+	 * @param pool the pool to run on, must not be {@literal null}.
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @return the number of matches.
+	 */
+	@SuppressWarnings("unchecked")
+	static long count(ForkJoinPool pool, Collection<?> source, @Nullable Predicate<?> filter) {
+
+		return pool.invoke(new SplitTask<>((Spliterator<Object>) source.spliterator(), splitSize(pool, source),
+				split -> QueryResultSelector.count(iterable(split), filter), Long::sum));
+	}
+
+	/**
+	 * Determine in parallel whether any candidate matches. Splits stop evaluating candidates once a match was found.
+	 *
+	 * @param pool the pool to run on, must not be {@literal null}.
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @return {@literal true} if at least one candidate matches.
+	 */
+	@SuppressWarnings("unchecked")
+	static boolean anyMatch(ForkJoinPool pool, Collection<?> source, @Nullable Predicate<?> filter) {
+
+		Predicate<Object> filterToUse = (Predicate<Object>) filter;
+		AtomicBoolean found = new AtomicBoolean();
+
+		return pool.invoke(new SplitTask<>((Spliterator<Object>) source.spliterator(), splitSize(pool, source), split -> {
+
+			while (!found.get() && split.tryAdvance(candidate -> {
+				if (filterToUse == null || filterToUse.test(candidate)) {
+					found.set(true);
+				}
+			})) {
+				// evaluate next candidate
+			}
+
+			return found.get();
+		}, Boolean::logicalOr));
+	}
+
+	private static long splitSize(ForkJoinPool pool, Collection<?> source) {
+		return Math.max(MIN_SPLIT_SIZE, source.size() / (pool.getParallelism() * 4L));
+	}
+
+	private static <S> Iterable<S> iterable(Spliterator<S> split) {
+		return () -> Spliterators.iterator(split);
+	}
+
+	/**
+	 * Merge two sorted lists retaining at most {@code limit} elements. Elements of {@code first} precede equal elements
+	 * of {@code second}.
+	 */
+	private static <S> List<S> merge(List<S> first, List<S> second, Comparator<? super S> sort, int limit) {
+
+		if (second.isEmpty()) {
+			return first;
+		}
+
+		if (first.isEmpty()) {
+			return second;
+		}
+
+		int size = limit > 0 ? Math.min(limit, first.size() + second.size()) : first.size() + second.size();
+		List<S> merged = new ArrayList<>(size);
+		int i = 0;
+		int j = 0;
+
+		while (merged.size() < size) {
+
+			if (j >= second.size() || (i < first.size() && sort.compare(first.get(i), second.get(j)) <= 0)) {
+				merged.add(first.get(i++));
+			} else {
+				merged.add(second.get(j++));
+			}
+		}
+
+		return merged;
+	}
+
+	private static <S> List<S> concat(List<S> first, List<S> second, int limit) {
+
+		if (second.isEmpty() || (limit > 0 && first.size() >= limit)) {
+			return first;
+		}
+
+		List<S> result = new ArrayList<>(first.size() + second.size());
+		result.addAll(first);
+		result.addAll(second);
+
+		return limit > 0 && result.size() > limit ? new ArrayList<>(result.subList(0, limit)) : result;
+	}
+
+	/**
+	 * {@link RecursiveTask} splitting candidates until reaching the split size. Results of both halves are combined in
+	 * encounter order. {@link Spliterator}s reporting {@link Spliterator#ORDERED} hand out the prefix on
+	 * {@link Spliterator#trySplit()} while unordered ones, such as those of {@link java.util.concurrent.ConcurrentHashMap}
+	 * views, retain the prefix.
+	 */
+	@SuppressWarnings("serial")
+	private static class SplitTask<S, R> extends RecursiveTask<R> {
+
+		private final Spliterator<S> spliterator;
+		private final long splitSize;
+		private final Function<Spliterator<S>, R> leaf;
+		private final BinaryOperator<R> combiner;
+
+		SplitTask(Spliterator<S> spliterator, long splitSize, Function<Spliterator<S>, R> leaf,
+				BinaryOperator<R> combiner) {
+
+			this.spliterator = spliterator;
+			this.splitSize = splitSize;
+			this.leaf = leaf;
+			this.combiner = combiner;
+		}
+
+		@Override
+		protected R compute() {
+
+			Spliterator<S> split = spliterator.estimateSize() > splitSize ? spliterator.trySplit() : null;
+
+			if (split == null) {
+				return leaf.apply(spliterator);
+			}
+
+			boolean prefixSplit = spliterator.hasCharacteristics(Spliterator.ORDERED);
+
+			SplitTask<S, R> forked = new SplitTask<>(split, splitSize, leaf, combiner);
+			forked.fork();
+
+			R retained = new SplitTask<>(spliterator, splitSize, leaf, combiner).compute();
+			R other = forked.join();
+
+			return prefixSplit ? combiner.apply(other, retained) : combiner.apply(retained, other);
+		}
+	}
+}
@@ -15,20 +15,35 @@
  */
 package org.springframework.data.keyvalue.core;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
 import java.util.function.Predicate;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
-import org.springframework.lang.Contract;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.util.Assert;
 
 /**
  * {@link QueryEngine} implementation specific for executing {@link Predicate} based {@link KeyValueQuery} against
  * {@link KeyValueAdapter}.
+ * <p>
+ * Queries scanning a keyspace holding at least {@link #setParallelThreshold(int) parallel threshold} objects are
+ * evaluated in parallel on a dedicated {@link ForkJoinPool} if they are sorted, unlimited, or count or check for
+ * existence of matches. Criteria and sort comparators must therefore be safe to use concurrently.
  *
  * @author Christoph Strobl
  * @since 3.3
@@ -37,6 +52,16 @@ public class PredicateQueryEngine extends QueryEngine<KeyValueAdapter, Predicate
 
 	public static final PredicateQueryEngine INSTANCE = new PredicateQueryEngine();
 
+	/**
+	 * Default minimum keyspace size for parallel query execution.
+	 *
+	 * @since 4.2
+	 */
+	public static final int DEFAULT_PARALLEL_THRESHOLD = 100_000;
+
+	private volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+	private volatile @Nullable ForkJoinPool pool;
+
 	/**
 	 * Creates a new {@link PredicateQueryEngine}.
 	 */
@@ -57,45 +82,374 @@ public class PredicateQueryEngine extends QueryEngine<KeyValueAdapter, Predicate
 		}, sortAccessor);
 	}
 
+	/**
+	 * Configure the minimum number of objects of a keyspace to scan it in parallel. Defaults to
+	 * {@link #DEFAULT_PARALLEL_THRESHOLD}. Use {@link Integer#MAX_VALUE} to disable parallel execution.
+	 *
+	 * @param parallelThreshold must be greater than zero.
+	 * @since 4.2
+	 */
+	public void setParallelThreshold(int parallelThreshold) {
+
+		Assert.isTrue(parallelThreshold > 0, "Parallel threshold must be greater than zero");
+
+		this.parallelThreshold = parallelThreshold;
+	}
+
+	/**
+	 * Configure the {@link ForkJoinPool} to evaluate queries in parallel on. Defaults to a pool dedicated to this engine
+	 * that is created on first parallel execution using one thread per available processor.
+	 *
+	 * @param pool must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setForkJoinPool(ForkJoinPool pool) {
+
+		Assert.notNull(pool, "ForkJoinPool must not be null");
+
+		this.pool = pool;
+	}
+
 	@Override
 	public Collection<?> execute(@Nullable Predicate<?> criteria, @Nullable Comparator<?> sort, long offset, int rows,
 			String keyspace) {
-		return sortAndFilterMatchingRange(getRequiredAdapter().getAllOf(keyspace), criteria, sort, offset, rows);
+
+		Candidates candidates = getCandidates(criteria, sort, rows > 0, keyspace);
+		Iterable<?> source = candidates.source();
+
+		if (source == null) {
+
+			source = getRequiredAdapter().getAllOf(keyspace);
+			Collection<?> parallelSource = sort != null || rows <= 0 ? getParallelSource(source) : null;
+
+			if (parallelSource != null) {
+				return ParallelQueryResultSelector.select(getPool(), parallelSource, criteria, sort, offset, rows);
+			}
+		}
+
+		return sortAndFilterMatchingRange(source, criteria, candidates.sorted() ? null : sort, offset, rows);
+	}
+
+	@Override
+	public CloseableIterator<?> stream(@Nullable Predicate<?> criteria, @Nullable Comparator<?> sort, long offset,
+			int rows, String keyspace) {
+
+		Candidates candidates = getCandidates(criteria, sort, true, keyspace);
+		Iterable<?> source = candidates.source();
+
+		if (sort != null && !candidates.sorted()) {
+
+			Iterable<?> values = source != null ? source : getRequiredAdapter().getAllOf(keyspace);
+			Collection<?> parallelSource = source == null ? getParallelSource(values) : null;
+
+			return new ForwardingCloseableIterator<>(parallelSource != null
+					? ParallelQueryResultSelector.select(getPool(), parallelSource, criteria, sort, offset, rows).iterator()
+					: sortAndFilterMatchingRange(values, criteria, sort, offset, rows).iterator());
+		}
+
+		CloseableIterator<?> iterator = source != null ? new ForwardingCloseableIterator<>(source.iterator())
+				: QueryResultSelector.values(getRequiredAdapter().entries(keyspace));
+
+		return QueryResultSelector.selectLazily(iterator, criteria, offset, rows);
 	}
 
 	@Override
 	public long count(@Nullable Predicate<?> criteria, String keyspace) {
-		return filterMatchingRange(IterableConverter.toList(getRequiredAdapter().getAllOf(keyspace)), criteria, -1, -1)
-				.size();
+
+		if (criteria == null) {
+			return getRequiredAdapter().count(keyspace);
+		}
+
+		Iterable<?> source = getCandidates(criteria, null, false, keyspace).source();
+
+		if (source == null) {
+
+			source = getRequiredAdapter().getAllOf(keyspace);
+			Collection<?> parallelSource = getParallelSource(source);
+
+			if (parallelSource != null) {
+				return ParallelQueryResultSelector.count(getPool(), parallelSource, criteria);
+			}
+		}
+
+		return QueryResultSelector.count(source, criteria);
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private List<?> sortAndFilterMatchingRange(Iterable<?> source, @Nullable Predicate<?> criteria,
-			@Nullable Comparator sort, long offset, int rows) {
+	@Override
+	public boolean exists(@Nullable Predicate<?> criteria, String keyspace) {
+
+		Iterable<?> source = getCandidates(criteria, null, false, keyspace).source();
+
+		if (source == null) {
+
+			source = getRequiredAdapter().getAllOf(keyspace);
+			Collection<?> parallelSource = getParallelSource(source);
 
-		List<?> tmp = IterableConverter.toList(source);
-		if (sort != null) {
-			tmp.sort(sort);
+			if (parallelSource != null) {
+				return ParallelQueryResultSelector.anyMatch(getPool(), parallelSource, criteria);
+			}
 		}
 
-		return filterMatchingRange(tmp, criteria, offset, rows);
+		return QueryResultSelector.anyMatch(source, criteria);
 	}
 
-	@Contract("!null, _, _, _ -> !null")
-	private static <S> List<S> filterMatchingRange(List<S> source, @Nullable Predicate<?> criteria, long offset, int rows) {
+	/**
+	 * Resolve the objects to evaluate the given {@code criteria} against. Prefers traversing the
+	 * {@link OrderedKeyValueIndex} backing the {@code sort} property if the criteria restricts the sort property to a
+	 * range, then {@link KeyValueAdapter#getIndex(String, String) secondary indexes} if the criteria is
+	 * {@link IndexAwarePredicate index-aware}, then traversing the {@link OrderedKeyValueIndex} backing the {@code sort}
+	 * property as a whole.
+	 *
+	 * @param criteria can be {@literal null}.
+	 * @param sort can be {@literal null}.
+	 * @param useIndexedSort whether to consider traversing the index backing the sort property.
+	 * @param keyspace must not be {@literal null}.
+	 * @return the {@link Candidates}. The candidate source is {@literal null} if the whole keyspace needs to be scanned.
+	 */
+	private Candidates getCandidates(@Nullable Predicate<?> criteria, @Nullable Comparator<?> sort,
+			boolean useIndexedSort, String keyspace) {
+
+		KeyValueAdapter adapter = getRequiredAdapter();
+		PropertyPathComparator<?> indexedSort = useIndexedSort ? getIndexedSort(sort, keyspace) : null;
+		IndexAwarePredicate<?> predicate = criteria instanceof IndexAwarePredicate<?> it ? it : null;
+
+		Range<?> range = indexedSort != null && predicate != null ? predicate.getRange(indexedSort.getPath()) : null;
 
-		Stream<S> stream = source.stream();
+		if (range == null) {
 
-		if (criteria != null) {
-			stream = stream.filter((Predicate<? super S>) criteria);
+			Set<Object> ids = predicate != null ? predicate.resolveIds(path -> adapter.getIndex(keyspace, path)) : null;
+
+			if (ids != null) {
+				return new Candidates(lookup(ids, keyspace), false);
+			}
+
+			if (indexedSort == null) {
+				return new Candidates(null, false);
+			}
+
+			range = Range.unbounded();
 		}
-		if (offset > 0) {
-			stream = stream.skip(offset);
+
+		return new Candidates(findInIndexOrder(indexedSort, range, keyspace), true);
+	}
+
+	/**
+	 * Return the objects of a keyspace as {@link Collection} if there are enough of them to be evaluated in parallel. Uses
+	 * the size of the collection as obtained from the adapter instead of counting the keyspace, which requires a pass over
+	 * its objects when they are subject to expiration.
+	 *
+	 * @param values the objects of the keyspace.
+	 * @return the objects to evaluate in parallel or {@literal null} to evaluate them sequentially.
+	 */
+	private @Nullable Collection<?> getParallelSource(Iterable<?> values) {
+
+		int threshold = parallelThreshold;
+
+		if (threshold == Integer.MAX_VALUE || !(values instanceof Collection<?> collection)) {
+			return null;
 		}
-		if (rows > 0) {
-			stream = stream.limit(rows);
+
+		return collection.size() >= threshold ? collection : null;
+	}
+
+	private ForkJoinPool getPool() {
+
+		ForkJoinPool pool = this.pool;
+
+		if (pool == null) {
+
+			synchronized (this) {
+
+				pool = this.pool;
+
+				if (pool == null) {
+					pool = ParallelQueryResultSelector.createPool();
+					this.pool = pool;
+				}
+			}
 		}
 
-		return stream.collect(Collectors.toList());
+		return pool;
+	}
+
+	/**
+	 * Return the given {@code sort} if it orders by a single property that is backed by an {@link OrderedKeyValueIndex}.
+	 */
+	private @Nullable PropertyPathComparator<?> getIndexedSort(@Nullable Comparator<?> sort, String keyspace) {
+
+		if (sort == null || sort.getClass() != PropertyPathComparator.class) {
+			return null;
+		}
+
+		PropertyPathComparator<?> comparator = (PropertyPathComparator<?>) sort;
+
+		return getRequiredAdapter().getIndex(keyspace, comparator.getPath()) instanceof OrderedKeyValueIndex ? comparator
+				: null;
+	}
+
+	/**
+	 * Traverse the {@link OrderedKeyValueIndex} backing the {@code sort} property in sort order. Avoids loading and
+	 * sorting the whole keyspace as callers stop once {@code offset + rows} matches have been found. Objects are only
+	 * returned at the position of the value they currently hold so that stale index entries do not break the order.
+	 */
+	private Iterable<Object> findInIndexOrder(PropertyPathComparator<?> sort, Range<?> range, String keyspace) {
+
+		OrderedKeyValueIndex index = (OrderedKeyValueIndex) getRequiredAdapter().getIndex(keyspace, sort.getPath());
+
+		if (index == null) {
+			return Collections.emptyList();
+		}
+
+		boolean includeNulls = !range.getLowerBound().isBounded();
+		boolean nullsAtStart = sort.isAscending() == sort.isNullsFirst();
+
+		List<Iterable<Map.Entry<Object, Object>>> segments = new ArrayList<>(3);
+		if (includeNulls && nullsAtStart) {
+			segments.add(withValue(null, index.get(null)));
+		}
+		segments.add(index.getRangeEntries(range, sort.isAscending() ? Direction.ASC : Direction.DESC));
+		if (includeNulls && !nullsAtStart) {
+			segments.add(withValue(null, index.get(null)));
+		}
+
+		return () -> new LookupIterator(segments, getRequiredAdapter(), keyspace, sort.getPath());
+	}
+
+	/**
+	 * Lazily look up the objects for the given ids skipping duplicate and absent ids.
+	 */
+	private Iterable<Object> lookup(Set<Object> ids, String keyspace) {
+		return () -> new LookupIterator(List.of(withValue(null, ids)), getRequiredAdapter(), keyspace, null);
+	}
+
+	private static Iterable<Map.Entry<Object, Object>> withValue(@Nullable Object value, Iterable<Object> ids) {
+		return () -> new Iterator<>() {
+
+			private final Iterator<Object> delegate = ids.iterator();
+
+			@Override
+			public boolean hasNext() {
+				return delegate.hasNext();
+			}
+
+			@Override
+			public Map.Entry<Object, Object> next() {
+				return new AbstractMap.SimpleImmutableEntry<>(value, delegate.next());
+			}
+		};
+	}
+
+	private static List<?> sortAndFilterMatchingRange(Iterable<?> source, @Nullable Predicate<?> criteria,
+			@Nullable Comparator<?> sort, long offset, int rows) {
+		return QueryResultSelector.select(source, criteria, sort, offset, rows);
+	}
+
+	/**
+	 * Candidates to evaluate a query against.
+	 *
+	 * @param source the candidates or {@literal null} to scan the whole keyspace.
+	 * @param sorted whether the candidates are already in sort order.
+	 */
+	private record Candidates(@Nullable Iterable<?> source, boolean sorted) {
+	}
+
+	/**
+	 * {@link Iterator} looking up objects by the ids of consecutive segments of indexed value and id entries. Ids are
+	 * deduplicated and, if an indexed {@code path} is given, objects are skipped unless they currently hold the value
+	 * they were found under.
+	 */
+	private static class LookupIterator implements Iterator<Object> {
+
+		private final Iterator<? extends Iterable<Map.Entry<Object, Object>>> segments;
+		private final KeyValueAdapter adapter;
+		private final String keyspace;
+		private final @Nullable String path;
+		private final Set<Object> visited = new HashSet<>();
+
+		private Iterator<Map.Entry<Object, Object>> entries = Collections.emptyIterator();
+		private @Nullable Object next;
+		private @Nullable Class<?> type;
+		private @Nullable CompiledPropertyPathAccessor accessor;
+
+		LookupIterator(List<? extends Iterable<Map.Entry<Object, Object>>> segments, KeyValueAdapter adapter,
+				String keyspace, @Nullable String path) {
+
+			this.segments = segments.iterator();
+			this.adapter = adapter;
+			this.keyspace = keyspace;
+			this.path = path;
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			while (next == null) {
+
+				while (!entries.hasNext()) {
+
+					if (!segments.hasNext()) {
+						return false;
+					}
+
+					entries = segments.next().iterator();
+				}
+
+				Map.Entry<Object, Object> entry = entries.next();
+				Object id = entry.getValue();
+
+				if (visited.contains(id)) {
+					continue;
+				}
+
+				Object candidate = adapter.get(id, keyspace);
+
+				if (candidate != null && (path == null || isIndexedValue(entry.getKey(), getValue(path, candidate)))) {
+
+					visited.add(id);
+					next = candidate;
+				}
+			}
+
+			return true;
+		}
+
+		@Override
+		public Object next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			Object result = next;
+			next = null;
+
+			return result;
+		}
+
+		private @Nullable Object getValue(String path, Object candidate) {
+
+			CompiledPropertyPathAccessor accessor = this.accessor;
+
+			if (accessor == null || type != candidate.getClass()) {
+
+				accessor = CompiledPropertyPathAccessor.of(PropertyPath.from(path, candidate.getClass()));
+				this.accessor = accessor;
+				this.type = candidate.getClass();
+			}
+
+			return accessor.getValue(candidate);
+		}
+
+		@SuppressWarnings({ "unchecked", "rawtypes" })
+		private static boolean isIndexedValue(@Nullable Object indexed, @Nullable Object current) {
+
+			if (indexed == null || current == null) {
+				return indexed == current;
+			}
+
+			return indexed instanceof Comparable comparable && indexed.getClass() == current.getClass()
+					? comparable.compareTo(current) == 0
+					: indexed.equals(current);
+		}
 	}
 }
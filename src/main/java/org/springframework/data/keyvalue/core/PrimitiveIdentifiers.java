@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.Map;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.util.AnnotationDetectionFieldCallback;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Converts primitive identifiers into the type of the {@link Id identifier property} of an entity for
+ * {@link KeyValueAdapter adapters} that do not have access to a mapping context.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class PrimitiveIdentifiers {
+
+	private static final Map<Class<?>, Boolean> INT_IDENTIFIERS = new ConcurrentReferenceHashMap<>();
+
+	private PrimitiveIdentifiers() {}
+
+	/**
+	 * Convert the given {@code id} into an {@link Integer} if the identifier property of {@code type} is an {@code int}
+	 * or {@link Integer}, into a {@link Long} otherwise.
+	 *
+	 * @param id the primitive identifier.
+	 * @param type the entity type.
+	 * @return the boxed identifier.
+	 * @throws ArithmeticException if the identifier property is an {@code int} and {@code id} overflows it.
+	 */
+	static Object toId(long id, Class<?> type) {
+		return INT_IDENTIFIERS.computeIfAbsent(type, PrimitiveIdentifiers::hasIntIdentifier)
+				? (Object) Math.toIntExact(id)
+				: (Object) id;
+	}
+
+	private static boolean hasIntIdentifier(Class<?> type) {
+
+		AnnotationDetectionFieldCallback callback = new AnnotationDetectionFieldCallback(Id.class);
+		ReflectionUtils.doWithFields(type, callback);
+
+		Class<?> idType = callback.getType();
+		return idType != null && ClassUtils.resolvePrimitiveIfNecessary(idType) == Integer.class;
+	}
+}
@@ -16,8 +16,8 @@
 package org.springframework.data.keyvalue.core;
 
 import java.util.Comparator;
-import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.core.PropertyPath;
@@ -42,7 +42,8 @@ public class PropertyPathComparator<T> implements Comparator<T> {
 	private boolean asc = true;
 	private boolean nullsFirst = true;
 
-	private final Map<Class<?>, PropertyPath> pathCache = new HashMap<>(2);
+	private final Map<Class<?>, PropertyPath> pathCache = new ConcurrentHashMap<>(2);
+	private volatile @Nullable CompiledPropertyPathAccessor accessor;
 
 	public PropertyPathComparator(String path) {
 		this.path = path;
@@ -61,7 +62,7 @@ public class PropertyPathComparator<T> implements Comparator<T> {
 			return nullsFirst ? 1 : -1;
 		}
 
-		PropertyPath propertyPath = pathCache.computeIfAbsent(o1.getClass(), it -> PropertyPath.from(path, it));
+		PropertyPath propertyPath = getPropertyPath(o1.getClass());
 		Object value1 = getCompareValue(o1, propertyPath);
 		Object value2 = getCompareValue(o2, propertyPath);
 
@@ -69,7 +70,26 @@ public class PropertyPathComparator<T> implements Comparator<T> {
 	}
 
 	protected <S> @Nullable Object getCompareValue(S object, PropertyPath propertyPath) {
-		return new SimplePropertyPathAccessor<>(object).getValue(propertyPath);
+
+		CompiledPropertyPathAccessor accessor = this.accessor;
+
+		if (accessor == null || accessor.getPath() != propertyPath) {
+			accessor = CompiledPropertyPathAccessor.of(propertyPath);
+			this.accessor = accessor;
+		}
+
+		return accessor.getValue(object);
+	}
+
+	private PropertyPath getPropertyPath(Class<?> type) {
+
+		PropertyPath propertyPath = pathCache.get(type);
+
+		if (propertyPath == null) {
+			propertyPath = pathCache.computeIfAbsent(type, it -> PropertyPath.from(path, it));
+		}
+
+		return propertyPath;
 	}
 
 	@SuppressWarnings("unchecked")
@@ -120,4 +140,30 @@ public class PropertyPathComparator<T> implements Comparator<T> {
 		this.nullsFirst = false;
 		return this;
 	}
+
+	/**
+	 * Get dot path to property.
+	 *
+	 * @return
+	 * @since 4.2
+	 */
+	public String getPath() {
+		return path;
+	}
+
+	/**
+	 * @return {@literal true} if sorting {@literal ascending}.
+	 * @since 4.2
+	 */
+	public boolean isAscending() {
+		return asc;
+	}
+
+	/**
+	 * @return {@literal true} if {@literal null} values are compared as being less than non-{@literal null} values.
+	 * @since 4.2
+	 */
+	public boolean isNullsFirst() {
+		return nullsFirst;
+	}
 }
@@ -19,7 +19,10 @@ import java.util.Collection;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.util.CloseableIterator;
 
 /**
  * Base implementation for accessing and executing {@link KeyValueQuery} against a {@link KeyValueAdapter}.
@@ -36,6 +39,7 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 	private final Optional<SortAccessor<SORT>> sortAccessor;
 
 	private @Nullable ADAPTER adapter;
+	private volatile @Nullable QueryResultCache resultCache;
 
 	public QueryEngine(@Nullable CriteriaAccessor<CRITERIA> criteriaAccessor, @Nullable SortAccessor<SORT> sortAccessor) {
 
@@ -44,7 +48,8 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 	}
 
 	/**
-	 * Extract query attributes and delegate to concrete execution.
+	 * Extract query attributes and delegate to concrete execution. Returns a cached result if a
+	 * {@link #setResultCache(QueryResultCache) result cache} is configured and holds a current result for the query.
 	 *
 	 * @param query
 	 * @param keyspace
@@ -54,8 +59,15 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 
 		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
 		SORT sort = this.sortAccessor.map(it -> it.resolve(query)).orElse(null);
+		QueryResultCache cache = getResultCache(query, criteria);
+
+		if (cache == null) {
+			return execute(criteria, sort, query.getOffset(), query.getRows(), keyspace);
+		}
 
-		return execute(criteria, sort, query.getOffset(), query.getRows(), keyspace);
+		return cache.execute(keyspace, null, criteria, query.getSort(), query.getOffset(), query.getRows(),
+				getModificationCount(keyspace),
+				() -> execute(criteria, sort, query.getOffset(), query.getRows(), keyspace));
 	}
 
 	/**
@@ -69,8 +81,15 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 
 		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
 		SORT sort = this.sortAccessor.map(it -> it.resolve(query)).orElse(null);
+		QueryResultCache cache = getResultCache(query, criteria);
 
-		return execute(criteria, sort, query.getOffset(), query.getRows(), keyspace, type);
+		if (cache == null) {
+			return execute(criteria, sort, query.getOffset(), query.getRows(), keyspace, type);
+		}
+
+		return cache.execute(keyspace, type, criteria, query.getSort(), query.getOffset(), query.getRows(),
+				getModificationCount(keyspace),
+				() -> execute(criteria, sort, query.getOffset(), query.getRows(), keyspace, type));
 	}
 
 	/**
@@ -83,7 +102,61 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 	public long count(KeyValueQuery<?> query, String keyspace) {
 
 		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
-		return count(criteria, keyspace);
+		QueryResultCache cache = getResultCache(query, criteria);
+
+		if (cache == null) {
+			return count(criteria, keyspace);
+		}
+
+		return cache.count(keyspace, criteria, getModificationCount(keyspace), () -> count(criteria, keyspace));
+	}
+
+	/**
+	 * Extract query attributes and delegate to concrete lazy execution.
+	 *
+	 * @param query
+	 * @param keyspace
+	 * @param type
+	 * @return
+	 * @since 4.2
+	 */
+	public <T> CloseableIterator<T> stream(KeyValueQuery<?> query, String keyspace, Class<T> type) {
+
+		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
+		SORT sort = this.sortAccessor.map(it -> it.resolve(query)).orElse(null);
+
+		return stream(criteria, sort, query.getOffset(), query.getRows(), keyspace, type);
+	}
+
+	/**
+	 * Extract query attributes and delegate to concrete existence check.
+	 *
+	 * @param query
+	 * @param keyspace
+	 * @return
+	 * @since 4.2
+	 */
+	public boolean exists(KeyValueQuery<?> query, String keyspace) {
+
+		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
+		return exists(criteria, keyspace);
+	}
+
+	/**
+	 * Extract query attributes and delegate to concrete aggregation.
+	 *
+	 * @param query
+	 * @param aggregation
+	 * @param keyspace
+	 * @return
+	 * @since 4.2
+	 */
+	public AggregationResults aggregate(KeyValueQuery<?> query, Aggregation aggregation, String keyspace) {
+
+		CRITERIA criteria = this.criteriaAccessor.map(it -> it.resolve(query)).orElse(null);
+		SORT sort = this.sortAccessor.map(it -> it.resolve(query)).orElse(null);
+
+		return aggregate(criteria, sort, query.getOffset(), query.getRows(), aggregation, keyspace);
 	}
 
 	/**
@@ -113,6 +186,40 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 		return (Collection<T>) execute(criteria, sort, offset, rows, keyspace);
 	}
 
+	/**
+	 * Lazily evaluate the query. The default implementation iterates over the {@link #execute(Object, Object, long, int,
+	 * String) materialized result}. Engines capable of evaluating criteria element by element should override this
+	 * method to hold no more than the elements required for sorting.
+	 *
+	 * @param criteria
+	 * @param sort
+	 * @param offset
+	 * @param rows
+	 * @param keyspace
+	 * @return
+	 * @since 4.2
+	 */
+	public CloseableIterator<?> stream(@Nullable CRITERIA criteria, @Nullable SORT sort, long offset, int rows,
+			String keyspace) {
+		return new ForwardingCloseableIterator<>(execute(criteria, sort, offset, rows, keyspace).iterator());
+	}
+
+	/**
+	 * @param criteria
+	 * @param sort
+	 * @param offset
+	 * @param rows
+	 * @param keyspace
+	 * @param type
+	 * @return
+	 * @since 4.2
+	 */
+	@SuppressWarnings("unchecked")
+	public <T> CloseableIterator<T> stream(@Nullable CRITERIA criteria, @Nullable SORT sort, long offset, int rows,
+			String keyspace, Class<T> type) {
+		return (CloseableIterator<T>) stream(criteria, sort, offset, rows, keyspace);
+	}
+
 	/**
 	 * @param criteria
 	 * @param keyspace
@@ -120,6 +227,76 @@ public abstract class QueryEngine<ADAPTER extends KeyValueAdapter, CRITERIA, SOR
 	 */
 	public abstract long count(@Nullable CRITERIA criteria, String keyspace);
 
+	/**
+	 * Determine whether at least one element matches the given {@code criteria}. The default implementation executes the
+	 * query limited to a single result. Engines should override this method to stop evaluating at the first match
+	 * without allocating a result.
+	 *
+	 * @param criteria
+	 * @param keyspace
+	 * @return
+	 * @since 4.2
+	 */
+	public boolean exists(@Nullable CRITERIA criteria, String keyspace) {
+		return !execute(criteria, null, -1, 1, keyspace).isEmpty();
+	}
+
+	/**
+	 * Evaluate the given {@link Aggregation} over all elements matching {@code criteria} in a single pass. The default
+	 * implementation accumulates the elements of the {@link #stream(Object, Object, long, int, String) lazy result} so
+	 * that matching elements are not collected unless required for sorting.
+	 *
+	 * @param criteria
+	 * @param sort
+	 * @param offset
+	 * @param rows
+	 * @param aggregation
+	 * @param keyspace
+	 * @return
+	 * @since 4.2
+	 */
+	public AggregationResults aggregate(@Nullable CRITERIA criteria, @Nullable SORT sort, long offset, int rows,
+			Aggregation aggregation, String keyspace) {
+
+		try (CloseableIterator<?> iterator = stream(criteria, sort, offset, rows, keyspace)) {
+			return Aggregator.aggregate(iterator, aggregation);
+		}
+	}
+
+	/**
+	 * Configure a {@link QueryResultCache} caching results of {@link #execute(KeyValueQuery, String)} and
+	 * {@link #count(KeyValueQuery, String)}. Cached results are invalidated by any modification of their keyspace
+	 * reported through {@link KeyValueAdapter#getModificationCount(String)}.
+	 *
+	 * @param resultCache can be {@literal null} to disable caching.
+	 * @since 4.2
+	 */
+	public void setResultCache(@Nullable QueryResultCache resultCache) {
+		this.resultCache = resultCache;
+	}
+
+	/**
+	 * Get the {@link QueryResultCache} used.
+	 *
+	 * @return the {@link QueryResultCache} or {@literal null} if results are not cached.
+	 * @since 4.2
+	 */
+	public @Nullable QueryResultCache getResultCache() {
+		return this.resultCache;
+	}
+
+	private @Nullable QueryResultCache getResultCache(KeyValueQuery<?> query, @Nullable CRITERIA criteria) {
+
+		QueryResultCache cache = this.resultCache;
+		return cache != null && cache.isCacheable(query, criteria) ? cache : null;
+	}
+
+	private long getModificationCount(String keyspace) {
+
+		ADAPTER adapter = getAdapter();
+		return adapter != null ? adapter.getModificationCount(keyspace) : -1;
+	}
+
 	/**
 	 * Get the {@link KeyValueAdapter} used.
 	 *
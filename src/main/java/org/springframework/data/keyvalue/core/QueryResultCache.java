@@ -0,0 +1,272 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.util.Assert;
+import org.springframework.util.ReflectionUtils;
+
+/**
+ * Bounded cache of query results held by a {@link QueryEngine}. Results are cached per keyspace and keyed by criteria,
+ * {@link Sort}, offset and rows. Each result is tagged with the {@link KeyValueAdapter#getModificationCount(String)
+ * modification count} of its keyspace read before executing the query, so any modification of the keyspace
+ * invalidates its cached results without having to track them.
+ * <p>
+ * Only criteria declaring value-based equality by overriding {@link Object#equals(Object)} are cached as other
+ * criteria, such as lambdas, never match a previous query. Queries of adapters not tracking modifications are never
+ * cached, neither are queries of keyspaces holding objects that expire without a tracked modification. Cached results
+ * are shared across queries and therefore unmodifiable. Once the {@link #getMaximumSize() maximum size} is reached,
+ * the least recently used result is evicted.
+ * <p>
+ * By default, all queries meeting the conditions above are cached. A cache created in {@link #isOptIn() opt-in} mode
+ * caches only queries that opted in through {@link KeyValueQuery#setCacheable(boolean)}, such as queries of repository
+ * methods or repositories annotated with
+ * {@link org.springframework.data.keyvalue.repository.query.CacheableQuery @CacheableQuery}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see QueryEngine#setResultCache(QueryResultCache)
+ */
+public class QueryResultCache {
+
+	private final int maximumSize;
+	private final boolean optIn;
+	private final Map<Key, Result> results;
+	private final Map<Class<?>, Boolean> cacheableCriteria = new ConcurrentHashMap<>();
+
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder evictions = new LongAdder();
+
+	/**
+	 * Create a new {@link QueryResultCache} holding at most {@code maximumSize} results of any query.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 */
+	public QueryResultCache(int maximumSize) {
+		this(maximumSize, false);
+	}
+
+	/**
+	 * Create a new {@link QueryResultCache} holding at most {@code maximumSize} results.
+	 *
+	 * @param maximumSize must be greater than zero.
+	 * @param optIn {@literal true} to cache only queries that opted in through
+	 *          {@link KeyValueQuery#setCacheable(boolean)}, {@literal false} to cache any query.
+	 */
+	public QueryResultCache(int maximumSize, boolean optIn) {
+
+		Assert.isTrue(maximumSize > 0, "Maximum size must be greater than zero");
+
+		this.maximumSize = maximumSize;
+		this.optIn = optIn;
+		this.results = new LinkedHashMap<>(16, 0.75f, true) {
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+
+				if (size() <= QueryResultCache.this.maximumSize) {
+					return false;
+				}
+
+				evictions.increment();
+				return true;
+			}
+		};
+	}
+
+	/**
+	 * @return the maximum number of cached results.
+	 */
+	public int getMaximumSize() {
+		return maximumSize;
+	}
+
+	/**
+	 * @return {@literal true} if only queries that opted in through {@link KeyValueQuery#setCacheable(boolean)} are
+	 *         cached.
+	 */
+	public boolean isOptIn() {
+		return optIn;
+	}
+
+	/**
+	 * @return the current {@link QueryResultCacheStatistics}.
+	 */
+	public QueryResultCacheStatistics getStatistics() {
+
+		synchronized (results) {
+			return new QueryResultCacheStatistics(hits.sum(), misses.sum(), evictions.sum(), results.size());
+		}
+	}
+
+	/**
+	 * Remove all cached results.
+	 */
+	public void clear() {
+
+		synchronized (results) {
+			results.clear();
+		}
+	}
+
+	/**
+	 * Return whether results of the given {@code query} using the given {@code criteria} can be cached.
+	 *
+	 * @param query must not be {@literal null}.
+	 * @param criteria the criteria resolved from the query, can be {@literal null}.
+	 * @return {@literal true} if the query {@link #isOptIn() opted in}, if required, and its criteria is
+	 *         {@link #isCacheable(Object) cacheable}.
+	 */
+	boolean isCacheable(KeyValueQuery<?> query, @Nullable Object criteria) {
+		return (!optIn || query.isCacheable()) && isCacheable(criteria);
+	}
+
+	/**
+	 * Return whether results of queries using the given {@code criteria} can be cached.
+	 *
+	 * @param criteria can be {@literal null}.
+	 * @return {@literal true} if the criteria is {@literal null} or declares value-based equality.
+	 */
+	boolean isCacheable(@Nullable Object criteria) {
+		return criteria == null
+				|| cacheableCriteria.computeIfAbsent(criteria.getClass(), QueryResultCache::declaresEquals);
+	}
+
+	/**
+	 * Return the cached result of a query or execute the query and cache its result.
+	 *
+	 * @param keyspace the keyspace to query.
+	 * @param type the requested result type, {@literal null} if not typed.
+	 * @param criteria the criteria, must be {@link #isCacheable(Object) cacheable}.
+	 * @param sort the requested {@link Sort}.
+	 * @param offset number of elements to skip.
+	 * @param rows number of elements to read.
+	 * @param modificationCount the modification count of the keyspace read before calling this method.
+	 * @param execution executes the query.
+	 * @return the unmodifiable result.
+	 */
+	@SuppressWarnings("unchecked")
+	<T> Collection<T> execute(String keyspace, @Nullable Class<?> type, @Nullable Object criteria, Sort sort,
+			long offset, int rows, long modificationCount, Supplier<? extends Collection<T>> execution) {
+
+		if (modificationCount < 0) {
+			return execution.get();
+		}
+
+		Key key = new Key(keyspace, Operation.EXECUTE, type, criteria, sort, offset, rows);
+		Object cached = lookup(key, modificationCount);
+
+		if (cached != null) {
+			return (Collection<T>) cached;
+		}
+
+		Collection<T> result = Collections.unmodifiableList(new ArrayList<>(execution.get()));
+		store(key, modificationCount, result);
+
+		return result;
+	}
+
+	/**
+	 * Return the cached count of a query or execute the count and cache its result.
+	 *
+	 * @param keyspace the keyspace to query.
+	 * @param criteria the criteria, must be {@link #isCacheable(Object) cacheable}.
+	 * @param modificationCount the modification count of the keyspace read before calling this method.
+	 * @param execution executes the count.
+	 * @return the count.
+	 */
+	long count(String keyspace, @Nullable Object criteria, long modificationCount, Supplier<Long> execution) {
+
+		if (modificationCount < 0) {
+			return execution.get();
+		}
+
+		Key key = new Key(keyspace, Operation.COUNT, null, criteria, Sort.unsorted(), -1, -1);
+		Object cached = lookup(key, modificationCount);
+
+		if (cached != null) {
+			return (Long) cached;
+		}
+
+		Long result = execution.get();
+		store(key, modificationCount, result);
+
+		return result;
+	}
+
+	private @Nullable Object lookup(Key key, long modificationCount) {
+
+		Result result;
+
+		synchronized (results) {
+			result = results.get(key);
+		}
+
+		if (result != null && result.modificationCount() == modificationCount) {
+
+			hits.increment();
+			return result.value();
+		}
+
+		misses.increment();
+		return null;
+	}
+
+	private void store(Key key, long modificationCount, Object value) {
+
+		synchronized (results) {
+
+			Result existing = results.get(key);
+
+			if (existing == null || existing.modificationCount() < modificationCount) {
+				results.put(key, new Result(modificationCount, value));
+			}
+		}
+	}
+
+	private static boolean declaresEquals(Class<?> type) {
+
+		Method equals = ReflectionUtils.findMethod(type, "equals", Object.class);
+		return equals != null && equals.getDeclaringClass() != Object.class;
+	}
+
+	private enum Operation {
+		EXECUTE, COUNT
+	}
+
+	private record Key(String keyspace, Operation operation, @Nullable Class<?> type, @Nullable Object criteria,
+			Sort sort, long offset, int rows) {
+
+	}
+
+	private record Result(long modificationCount, Object value) {
+
+	}
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+/**
+ * Counters of a {@link QueryResultCache}. Counters are cumulative and cover all lookups since the cache was created.
+ *
+ * @param hits number of queries answered from the cache.
+ * @param misses number of queries executed because no current result was cached.
+ * @param evictions number of results removed to stay within the maximum size.
+ * @param size number of results currently cached.
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public record QueryResultCacheStatistics(long hits, long misses, long evictions, int size) {
+
+	/**
+	 * @return the ratio of hits to lookups, {@code 0.0} if no lookup happened yet.
+	 */
+	public double hitRate() {
+
+		long lookups = hits + misses;
+		return lookups > 0 ? (double) hits / lookups : 0.0;
+	}
+}
@@ -0,0 +1,308 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Selects the matching range of query results from a source of candidates. Candidates are filtered first. Sorted and
+ * limited queries retain only the best {@code offset + rows} matches in a bounded heap requiring {@code O(n log k)}
+ * comparisons and {@code O(k)} memory instead of sorting all candidates. Ties retain encounter order so that results
+ * are equal to those of a stable sort. Unsorted results can be selected lazily without materializing matches.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class QueryResultSelector {
+
+	private QueryResultSelector() {}
+
+	/**
+	 * Select the matching range of candidates.
+	 *
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @param sort can be {@literal null} to retain encounter order.
+	 * @param offset number of matches to skip, use negative value for none.
+	 * @param rows number of matches to select, use negative value for all.
+	 * @return the selected matches.
+	 */
+	@SuppressWarnings("unchecked")
+	static <S> List<S> select(Iterable<? extends S> source, @Nullable Predicate<?> filter, @Nullable Comparator<?> sort,
+			long offset, int rows) {
+
+		Predicate<? super S> filterToUse = (Predicate<? super S>) filter;
+		Comparator<? super S> sortToUse = (Comparator<? super S>) sort;
+		long toSkip = Math.max(offset, 0);
+
+		if (sortToUse == null) {
+			return selectInEncounterOrder(source, filterToUse, toSkip, rows);
+		}
+
+		if (rows > 0 && toSkip + rows <= Integer.MAX_VALUE - 8) {
+			return selectTopK(source, filterToUse, sortToUse, toSkip, rows);
+		}
+
+		List<S> matches = selectInEncounterOrder(source, filterToUse, 0, -1);
+		matches.sort(sortToUse);
+
+		return skip(matches, toSkip);
+	}
+
+	/**
+	 * Count the matching candidates without retaining them.
+	 *
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @return the number of matches.
+	 */
+	@SuppressWarnings("unchecked")
+	static long count(Iterable<?> source, @Nullable Predicate<?> filter) {
+
+		Predicate<Object> filterToUse = (Predicate<Object>) filter;
+		long count = 0;
+
+		for (Object candidate : source) {
+			if (filterToUse == null || filterToUse.test(candidate)) {
+				count++;
+			}
+		}
+
+		return count;
+	}
+
+	/**
+	 * Determine whether any candidate matches stopping at the first match.
+	 *
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @return {@literal true} if at least one candidate matches.
+	 */
+	@SuppressWarnings("unchecked")
+	static boolean anyMatch(Iterable<?> source, @Nullable Predicate<?> filter) {
+
+		Predicate<Object> filterToUse = (Predicate<Object>) filter;
+
+		for (Object candidate : source) {
+			if (filterToUse == null || filterToUse.test(candidate)) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	/**
+	 * Lazily select the matching range of candidates in encounter order. Closing the returned iterator closes the
+	 * {@code source}.
+	 *
+	 * @param source the candidates, must not be {@literal null}.
+	 * @param filter can be {@literal null} to match all candidates.
+	 * @param offset number of matches to skip, use negative value for none.
+	 * @param rows number of matches to select, use negative value for all.
+	 * @return the selected matches.
+	 */
+	static <S> CloseableIterator<S> selectLazily(CloseableIterator<? extends S> source, @Nullable Predicate<?> filter,
+			long offset, int rows) {
+		return new MatchingRangeIterator<>(source, filter, offset, rows);
+	}
+
+	/**
+	 * Adapt the given {@link KeyValueAdapter#entries(String) entries} to a {@link CloseableIterator} over their values.
+	 *
+	 * @param entries must not be {@literal null}.
+	 * @return the values.
+	 */
+	static CloseableIterator<Object> values(CloseableIterator<Map.Entry<Object, Object>> entries) {
+		return new ForwardingCloseableIterator<>(entries.stream().map(Map.Entry::getValue).iterator(), entries::close);
+	}
+
+	private static <S> List<S> selectInEncounterOrder(Iterable<? extends S> source, @Nullable Predicate<? super S> filter,
+			long offset, int rows) {
+
+		List<S> result = rows > 0 ? new ArrayList<>(rows) : new ArrayList<>();
+		long toSkip = offset;
+
+		for (S candidate : source) {
+
+			if (filter != null && !filter.test(candidate)) {
+				continue;
+			}
+
+			if (toSkip > 0) {
+				toSkip--;
+				continue;
+			}
+
+			result.add(candidate);
+
+			if (rows > 0 && result.size() >= rows) {
+				break;
+			}
+		}
+
+		return result;
+	}
+
+	private static <S> List<S> selectTopK(Iterable<? extends S> source, @Nullable Predicate<? super S> filter,
+			Comparator<? super S> sort, long offset, int rows) {
+
+		int limit = (int) (offset + rows);
+		Comparator<Ranked<S>> order = Comparator.<Ranked<S>, S> comparing(Ranked::value, sort)
+				.thenComparingLong(Ranked::sequence);
+
+		// max-heap on the sort order: the head is the worst retained element
+		PriorityQueue<Ranked<S>> heap = new PriorityQueue<>(Math.min(limit, 1024) + 1, order.reversed());
+		long sequence = 0;
+
+		for (S candidate : source) {
+
+			if (filter != null && !filter.test(candidate)) {
+				continue;
+			}
+
+			long current = sequence++;
+
+			if (heap.size() < limit) {
+				heap.add(new Ranked<>(candidate, current));
+				continue;
+			}
+
+			// later candidates lose ties against retained ones
+			if (sort.compare(candidate, heap.peek().value()) >= 0) {
+				continue;
+			}
+
+			heap.poll();
+			heap.add(new Ranked<>(candidate, current));
+		}
+
+		List<Ranked<S>> ranked = new ArrayList<>(heap);
+		ranked.sort(order);
+
+		if (offset >= ranked.size()) {
+			return Collections.emptyList();
+		}
+
+		List<S> result = new ArrayList<>(ranked.size() - (int) offset);
+		for (int i = (int) offset; i < ranked.size(); i++) {
+			result.add(ranked.get(i).value());
+		}
+
+		return result;
+	}
+
+	private static <S> List<S> skip(List<S> source, long offset) {
+
+		if (offset <= 0) {
+			return source;
+		}
+
+		return offset >= source.size() ? new ArrayList<>() : new ArrayList<>(source.subList((int) offset, source.size()));
+	}
+
+	private record Ranked<S>(S value, long sequence) {
+	}
+
+	/**
+	 * {@link CloseableIterator} filtering the source on demand and applying {@code offset} and {@code rows}.
+	 *
+	 * @param <S>
+	 */
+	private static class MatchingRangeIterator<S> implements CloseableIterator<S> {
+
+		private final CloseableIterator<? extends S> source;
+		private final @Nullable Predicate<? super S> filter;
+		private final int rows;
+
+		private long toSkip;
+		private int returned;
+		private @Nullable S next;
+		private boolean hasNext;
+
+		@SuppressWarnings("unchecked")
+		MatchingRangeIterator(CloseableIterator<? extends S> source, @Nullable Predicate<?> filter, long offset, int rows) {
+
+			this.source = source;
+			this.filter = (Predicate<? super S>) filter;
+			this.rows = rows;
+			this.toSkip = Math.max(offset, 0);
+		}
+
+		@Override
+		public boolean hasNext() {
+
+			if (hasNext) {
+				return true;
+			}
+
+			if (rows > 0 && returned >= rows) {
+				return false;
+			}
+
+			while (source.hasNext()) {
+
+				S candidate = source.next();
+
+				if (filter != null && !filter.test(candidate)) {
+					continue;
+				}
+
+				if (toSkip > 0) {
+					toSkip--;
+					continue;
+				}
+
+				next = candidate;
+				hasNext = true;
+				return true;
+			}
+
+			return false;
+		}
+
+		@Override
+		@SuppressWarnings("NullAway")
+		public S next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			S result = next;
+			next = null;
+			hasNext = false;
+			returned++;
+
+			return result;
+		}
+
+		@Override
+		public void close() {
+			source.close();
+		}
+	}
+}
@@ -16,9 +16,7 @@
 package org.springframework.data.keyvalue.core;
 
 import org.jspecify.annotations.Nullable;
-import org.springframework.beans.BeanWrapper;
 import org.springframework.data.core.PropertyPath;
-import org.springframework.data.util.DirectFieldAccessFallbackBeanWrapper;
 
 /**
  * @author Christoph Strobl
@@ -32,19 +30,13 @@ public class SimplePropertyPathAccessor<T> {
 		this.root = source;
 	}
 
+	/**
+	 * Read the value at the given {@link PropertyPath} using the cached {@link CompiledPropertyPathAccessor}.
+	 *
+	 * @param path must not be {@literal null}.
+	 * @return the value or {@literal null}.
+	 */
 	public @Nullable Object getValue(PropertyPath path) {
-
-		Object currentValue = root;
-		for (PropertyPath current : path) {
-			currentValue = wrap(currentValue).getPropertyValue(current.getSegment());
-			if (currentValue == null) {
-				break;
-			}
-		}
-		return currentValue;
-	}
-
-	BeanWrapper wrap(Object o) {
-		return new DirectFieldAccessFallbackBeanWrapper(o);
+		return CompiledPropertyPathAccessor.of(path).getValue(root);
 	}
 }
@@ -18,6 +18,7 @@ package org.springframework.data.keyvalue.core;
 import java.util.Comparator;
 
 import org.jspecify.annotations.Nullable;
+import org.springframework.expression.EvaluationContext;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
@@ -25,7 +26,9 @@ import org.springframework.lang.Contract;
 import org.springframework.util.Assert;
 
 /**
- * {@link Comparator} implementation using {@link SpelExpression}.
+ * {@link Comparator} implementation using {@link SpelExpression}. Expressions are evaluated against an
+ * {@link EvaluationContext} created per evaluation instead of one set on the expression so that comparisons may run
+ * concurrently, e.g. when sorting in parallel.
  *
  * @author Christoph Strobl
  * @author Oliver Gierke
@@ -138,14 +141,10 @@ public class SpelPropertyComparator<T> implements Comparator<T> {
 
 	private @Nullable Object getValue(@Nullable T arg) {
 
-		SpelExpression expressionToUse = getExpression();
-
-		SimpleEvaluationContext ctx = SimpleEvaluationContext.forReadOnlyDataBinding().build();
+		EvaluationContext ctx = SimpleEvaluationContext.forReadOnlyDataBinding().build();
 		ctx.setVariable("arg1", arg);
 
-		expressionToUse.setEvaluationContext(ctx);
-
-		return expressionToUse.getValue();
+		return getExpression().getValue(ctx);
 	}
 
 	/**
@@ -18,11 +18,14 @@ package org.springframework.data.keyvalue.core;
 import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
-import java.util.stream.Stream;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.util.CloseableIterator;
+import org.springframework.expression.EvaluationContext;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.SpelEvaluationException;
 import org.springframework.expression.spel.standard.SpelExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
@@ -38,6 +41,9 @@ import org.springframework.expression.spel.standard.SpelExpressionParser;
 public class SpelQueryEngine extends QueryEngine<KeyValueAdapter, SpelCriteria, Comparator<?>> {
 
 	private static final SpelExpressionParser PARSER = new SpelExpressionParser();
+	private static final Pattern CANDIDATE_VARIABLE = Pattern.compile("#it\\b");
+
+	private final @Nullable SpelExpressionParser compilingParser;
 
 	/**
 	 * Creates a new {@link SpelQueryEngine}.
@@ -52,7 +58,29 @@ public class SpelQueryEngine extends QueryEngine<KeyValueAdapter, SpelCriteria,
 	 * @since 3.1.10
 	 */
 	public SpelQueryEngine(SortAccessor<Comparator<?>> sortAccessor) {
+
 		super(new SpelCriteriaAccessor(PARSER), sortAccessor);
+		this.compilingParser = null;
+	}
+
+	/**
+	 * Creates a new query engine compiling criteria and sort expressions using the given {@link SpelCompilerMode}.
+	 * Compiled expressions are cached and shared across queries. {@link SpelCompilerMode#MIXED} compiles expressions
+	 * after repeated interpretation and falls back to interpretation if the types of evaluated objects change.
+	 * {@link SpelCompilerMode#IMMEDIATE} compiles expressions after their first evaluation and fails if a compiled
+	 * expression cannot be applied to an evaluated object.
+	 *
+	 * @param compilerMode must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public SpelQueryEngine(SpelCompilerMode compilerMode) {
+		this(new CachingSpelExpressionParser(compilerMode), compilerMode);
+	}
+
+	private SpelQueryEngine(CachingSpelExpressionParser parser, SpelCompilerMode compilerMode) {
+
+		super(new SpelCriteriaAccessor(parser), new SpelSortAccessor(parser));
+		this.compilingParser = SpelCompilerMode.OFF.equals(compilerMode) ? null : parser;
 	}
 
 	@Override
@@ -62,39 +90,50 @@ public class SpelQueryEngine extends QueryEngine<KeyValueAdapter, SpelCriteria,
 	}
 
 	@Override
-	public long count(@Nullable SpelCriteria criteria, String keyspace) {
-		return filterMatchingRange(IterableConverter.toList(getRequiredAdapter().getAllOf(keyspace)), criteria, -1, -1)
-				.size();
+	public CloseableIterator<?> stream(@Nullable SpelCriteria criteria, @Nullable Comparator<?> sort, long offset,
+			int rows, String keyspace) {
+
+		if (sort != null) {
+			return super.stream(criteria, sort, offset, rows, keyspace);
+		}
+
+		return QueryResultSelector.selectLazily(QueryResultSelector.values(getRequiredAdapter().entries(keyspace)),
+				asPredicate(criteria), offset, rows);
 	}
 
-	@SuppressWarnings({ "unchecked", "rawtypes" })
-	private List<?> sortAndFilterMatchingRange(Iterable<?> source, @Nullable SpelCriteria criteria,
-			@Nullable Comparator sort, long offset, int rows) {
+	@Override
+	public long count(@Nullable SpelCriteria criteria, String keyspace) {
 
-		List<?> tmp = IterableConverter.toList(source);
-		if (sort != null) {
-			tmp.sort(sort);
+		if (criteria == null) {
+			return getRequiredAdapter().count(keyspace);
 		}
 
-		return filterMatchingRange(tmp, criteria, offset, rows);
+		return QueryResultSelector.count(getRequiredAdapter().getAllOf(keyspace), asPredicate(criteria));
+	}
+
+	@Override
+	public boolean exists(@Nullable SpelCriteria criteria, String keyspace) {
+		return QueryResultSelector.anyMatch(getRequiredAdapter().getAllOf(keyspace), asPredicate(criteria));
 	}
 
-	private static <S> List<S> filterMatchingRange(List<S> source, @Nullable SpelCriteria criteria, long offset,
-			int rows) {
+	private List<?> sortAndFilterMatchingRange(Iterable<?> source, @Nullable SpelCriteria criteria,
+			@Nullable Comparator<?> sort, long offset, int rows) {
+		return QueryResultSelector.select(source, asPredicate(criteria), sort, offset, rows);
+	}
 
-		Stream<S> stream = source.stream();
+	private @Nullable Predicate<Object> asPredicate(@Nullable SpelCriteria criteria) {
 
-		if (criteria != null) {
-			stream = stream.filter(it -> evaluateExpression(criteria, it));
-		}
-		if (offset > 0) {
-			stream = stream.skip(offset);
+		if (criteria == null) {
+			return null;
 		}
-		if (rows > 0) {
-			stream = stream.limit(rows);
+
+		if (compilingParser == null) {
+			return it -> evaluateExpression(criteria, it);
 		}
 
-		return stream.collect(Collectors.toList());
+		SpelExpression expression = compilingParser.parseRaw(criteria.getExpression().getExpressionString());
+
+		return new CompiledCriteria(expression, criteria.getContext());
 	}
 
 	@SuppressWarnings("NullAway")
@@ -108,4 +147,39 @@ public class SpelQueryEngine extends QueryEngine<KeyValueAdapter, SpelCriteria,
 					: criteria.getExpression().getValue(criteria.getContext(), Boolean.class);
 		}
 	}
+
+	/**
+	 * {@link Predicate} evaluating a shared, compilable {@link SpelExpression} against a {@link CandidateEvaluationContext}
+	 * reused for all candidates of a single query execution. Expressions referring to the candidate as {@code #it}
+	 * variable are evaluated against the root object of the criteria context right away.
+	 */
+	private static class CompiledCriteria implements Predicate<Object> {
+
+		private final SpelExpression expression;
+		private final CandidateEvaluationContext context;
+		private final boolean candidateAsVariable;
+
+		CompiledCriteria(SpelExpression expression, EvaluationContext context) {
+
+			this.expression = expression;
+			this.context = new CandidateEvaluationContext(context, "it");
+			this.candidateAsVariable = CANDIDATE_VARIABLE.matcher(expression.getExpressionString()).find();
+		}
+
+		@Override
+		public boolean test(Object candidate) {
+
+			context.setCandidate(candidate);
+
+			if (!candidateAsVariable) {
+				try {
+					return Boolean.TRUE.equals(expression.getValue(context, candidate, Boolean.class));
+				} catch (SpelEvaluationException e) {
+					// fall back to evaluating the candidate as variable
+				}
+			}
+
+			return Boolean.TRUE.equals(expression.getValue(context, Boolean.class));
+		}
+	}
 }
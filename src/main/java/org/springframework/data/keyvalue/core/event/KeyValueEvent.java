@@ -15,6 +15,10 @@
  */
 package org.springframework.data.keyvalue.core.event;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
 import org.jspecify.annotations.Nullable;
 import org.springframework.context.ApplicationEvent;
 
@@ -180,6 +184,147 @@ public class KeyValueEvent<T> extends ApplicationEvent {
 		return new AfterDeleteEvent<>(id, keyspace, type, value);
 	}
 
+	/**
+	 * Create new {@link ExpiredEvent}.
+	 *
+	 * @param id
+	 * @param keyspace
+	 * @param type
+	 * @param value
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> ExpiredEvent<T> expired(Object id, String keyspace, Class<? extends T> type, T value) {
+		return new ExpiredEvent<>(id, keyspace, type, value);
+	}
+
+	/**
+	 * Create new {@link EvictedEvent}.
+	 *
+	 * @param id
+	 * @param keyspace
+	 * @param type
+	 * @param value
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> EvictedEvent<T> evicted(Object id, String keyspace, Class<? extends T> type, T value) {
+		return new EvictedEvent<>(id, keyspace, type, value);
+	}
+
+	/**
+	 * Create new {@link BeforeBatchGetEvent}.
+	 *
+	 * @param keys
+	 * @param keyspace
+	 * @param type
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> BeforeBatchGetEvent<T> beforeBatchGet(Collection<?> keys, String keyspace, Class<T> type) {
+		return new BeforeBatchGetEvent<>(keys, keyspace, type);
+	}
+
+	/**
+	 * Create new {@link AfterBatchGetEvent}.
+	 *
+	 * @param keys
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> AfterBatchGetEvent<T> afterBatchGet(Collection<?> keys, String keyspace, Class<T> type,
+			Map<Object, T> values) {
+		return new AfterBatchGetEvent<>(keys, keyspace, type, values);
+	}
+
+	/**
+	 * Create new {@link BeforeBatchInsertEvent}.
+	 *
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> BeforeBatchInsertEvent<T> beforeBatchInsert(String keyspace, Class<? extends T> type,
+			Map<Object, T> values) {
+		return new BeforeBatchInsertEvent<>(keyspace, type, values);
+	}
+
+	/**
+	 * Create new {@link AfterBatchInsertEvent}.
+	 *
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> AfterBatchInsertEvent<T> afterBatchInsert(String keyspace, Class<? extends T> type,
+			Map<Object, T> values) {
+		return new AfterBatchInsertEvent<>(keyspace, type, values);
+	}
+
+	/**
+	 * Create new {@link BeforeBatchUpdateEvent}.
+	 *
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> BeforeBatchUpdateEvent<T> beforeBatchUpdate(String keyspace, Class<? extends T> type,
+			Map<Object, T> values) {
+		return new BeforeBatchUpdateEvent<>(keyspace, type, values);
+	}
+
+	/**
+	 * Create new {@link AfterBatchUpdateEvent}.
+	 *
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> AfterBatchUpdateEvent<T> afterBatchUpdate(String keyspace, Class<? extends T> type,
+			Map<Object, T> values) {
+		return new AfterBatchUpdateEvent<>(keyspace, type, values);
+	}
+
+	/**
+	 * Create new {@link BeforeBatchDeleteEvent}.
+	 *
+	 * @param keys
+	 * @param keyspace
+	 * @param type
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> BeforeBatchDeleteEvent<T> beforeBatchDelete(Collection<?> keys, String keyspace,
+			Class<? extends T> type) {
+		return new BeforeBatchDeleteEvent<>(keys, keyspace, type);
+	}
+
+	/**
+	 * Create new {@link AfterBatchDeleteEvent}.
+	 *
+	 * @param keys
+	 * @param keyspace
+	 * @param type
+	 * @param values
+	 * @return
+	 * @since 4.2
+	 */
+	public static <T> AfterBatchDeleteEvent<T> afterBatchDelete(Collection<?> keys, String keyspace,
+			Class<? extends T> type, Map<Object, T> values) {
+		return new AfterBatchDeleteEvent<>(keys, keyspace, type, values);
+	}
+
 	/**
 	 * @author Christoph Strobl
 	 * @param <T>
@@ -377,6 +522,36 @@ public class KeyValueEvent<T> extends ApplicationEvent {
 		}
 	}
 
+	/**
+	 * {@link KeyValueEvent} after an object has been removed by an adapter because its time to live elapsed.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class ExpiredEvent<T> extends KeyBasedEventWithPayload<T> {
+
+		public ExpiredEvent(Object key, String keyspace, Class<? extends T> type, T payload) {
+			super(key, keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} after an object has been evicted by an adapter to keep a bounded keyspace within its limit.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class EvictedEvent<T> extends KeyBasedEventWithPayload<T> {
+
+		public EvictedEvent(Object key, String keyspace, Class<? extends T> type, T payload) {
+			super(key, keyspace, type, payload);
+		}
+	}
+
 	/**
 	 * {@link KeyValueEvent} before removing all elements in a given {@literal keyspace}.
 	 *
@@ -417,4 +592,192 @@ public class KeyValueEvent<T> extends ApplicationEvent {
 			return (Class<T>) super.getSource();
 		}
 	}
+
+	/**
+	 * {@link KeyValueEvent} referring to multiple elements by their {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	abstract static class BatchEvent<T> extends KeyValueEvent<T> {
+
+		private final Collection<?> keys;
+		private final Class<? extends T> type;
+
+		BatchEvent(Collection<?> keys, String keyspace, Class<? extends T> type) {
+
+			super(type, keyspace);
+			this.keys = Collections.unmodifiableCollection(keys);
+			this.type = type;
+		}
+
+		/**
+		 * Get the keys of the elements the {@link KeyValueEvent} refers to.
+		 *
+		 * @return never {@literal null}.
+		 */
+		public Collection<?> getKeys() {
+			return keys;
+		}
+
+		/**
+		 * Get the type of the elements the {@link KeyValueEvent} refers to.
+		 *
+		 * @return
+		 */
+		public Class<? extends T> getType() {
+			return type;
+		}
+	}
+
+	/**
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	abstract static class BatchEventWithPayload<T> extends BatchEvent<T> {
+
+		private final Map<Object, T> payload;
+
+		BatchEventWithPayload(Collection<?> keys, String keyspace, Class<? extends T> type, Map<Object, T> payload) {
+
+			super(keys, keyspace, type);
+			this.payload = Collections.unmodifiableMap(payload);
+		}
+
+		/**
+		 * Get the values of the elements the {@link KeyValueEvent} refers to keyed by their {@literal key}.
+		 *
+		 * @return never {@literal null}.
+		 */
+		public Map<Object, T> getPayload() {
+			return payload;
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} raised before loading multiple objects by their {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class BeforeBatchGetEvent<T> extends BatchEvent<T> {
+
+		protected BeforeBatchGetEvent(Collection<?> keys, String keyspace, Class<T> type) {
+			super(keys, keyspace, type);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} after loading multiple objects by their {@literal keys}. The payload contains the objects
+	 * found.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class AfterBatchGetEvent<T> extends BatchEventWithPayload<T> {
+
+		protected AfterBatchGetEvent(Collection<?> keys, String keyspace, Class<T> type, Map<Object, T> payload) {
+			super(keys, keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} before inserting multiple objects with their given {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class BeforeBatchInsertEvent<T> extends BatchEventWithPayload<T> {
+
+		public BeforeBatchInsertEvent(String keyspace, Class<? extends T> type, Map<Object, T> payload) {
+			super(payload.keySet(), keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} after inserting multiple objects with their given {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class AfterBatchInsertEvent<T> extends BatchEventWithPayload<T> {
+
+		public AfterBatchInsertEvent(String keyspace, Class<? extends T> type, Map<Object, T> payload) {
+			super(payload.keySet(), keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} before updating multiple objects with their given {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class BeforeBatchUpdateEvent<T> extends BatchEventWithPayload<T> {
+
+		public BeforeBatchUpdateEvent(String keyspace, Class<? extends T> type, Map<Object, T> payload) {
+			super(payload.keySet(), keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} after updating multiple objects with their given {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class AfterBatchUpdateEvent<T> extends BatchEventWithPayload<T> {
+
+		public AfterBatchUpdateEvent(String keyspace, Class<? extends T> type, Map<Object, T> payload) {
+			super(payload.keySet(), keyspace, type, payload);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} before removing multiple objects by their {@literal keys}.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class BeforeBatchDeleteEvent<T> extends BatchEvent<T> {
+
+		public BeforeBatchDeleteEvent(Collection<?> keys, String keyspace, Class<? extends T> type) {
+			super(keys, keyspace, type);
+		}
+	}
+
+	/**
+	 * {@link KeyValueEvent} after removing multiple objects by their {@literal keys}. The payload contains the objects
+	 * actually removed.
+	 *
+	 * @author Christoph Strobl
+	 * @param <T>
+	 * @since 4.2
+	 */
+	@SuppressWarnings("serial")
+	public static class AfterBatchDeleteEvent<T> extends BatchEventWithPayload<T> {
+
+		public AfterBatchDeleteEvent(Collection<?> keys, String keyspace, Class<? extends T> type,
+				Map<Object, T> payload) {
+			super(keys, keyspace, type, payload);
+		}
+	}
 }
@@ -15,15 +15,21 @@
  */
 package org.springframework.data.keyvalue.core.mapping;
 
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.core.TypeInformation;
 import org.springframework.data.expression.ValueExpression;
 import org.springframework.data.expression.ValueExpressionParser;
+import org.springframework.data.keyvalue.annotation.TimeToLive;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.mapping.model.BasicPersistentEntity;
 import org.springframework.expression.Expression;
 import org.springframework.expression.common.LiteralExpression;
 import org.springframework.expression.spel.standard.SpelExpressionParser;
+import org.springframework.util.ClassUtils;
 import org.springframework.util.ObjectUtils;
 import org.springframework.util.StringUtils;
 
@@ -42,6 +48,8 @@ public class BasicKeyValuePersistentEntity<T, P extends KeyValuePersistentProper
 
 	private final @Nullable ValueExpression keyspaceExpression;
 	private final String keyspace;
+	private final @Nullable Duration timeToLive;
+	private @Nullable P timeToLiveProperty;
 
 	/**
 	 * @param information must not be {@literal null}.
@@ -82,6 +90,32 @@ public class BasicKeyValuePersistentEntity<T, P extends KeyValuePersistentProper
 				this.keyspaceExpression = null;
 			}
 		}
+
+		TimeToLive timeToLive = findAnnotation(TimeToLive.class);
+		this.timeToLive = timeToLive != null ? toDuration(timeToLive.value(), timeToLive.unit()) : null;
+	}
+
+	@Override
+	public void addPersistentProperty(P property) {
+
+		super.addPersistentProperty(property);
+
+		if (!property.isTimeToLive()) {
+			return;
+		}
+
+		if (timeToLiveProperty != null) {
+			throw new MappingException(String.format("Attempt to add time to live property %s but already have property %s",
+					property.getField(), timeToLiveProperty.getField()));
+		}
+
+		if (!Duration.class.isAssignableFrom(property.getType())
+				&& !Number.class.isAssignableFrom(ClassUtils.resolvePrimitiveIfNecessary(property.getType()))) {
+			throw new MappingException(
+					String.format("Time to live property %s must be numeric or a Duration", property.getName()));
+		}
+
+		this.timeToLiveProperty = property;
 	}
 
 	/**
@@ -98,6 +132,36 @@ public class BasicKeyValuePersistentEntity<T, P extends KeyValuePersistentProper
 		return expression.isLiteral() ? null : expression;
 	}
 
+	@Override
+	public @Nullable Duration getTimeToLive() {
+		return timeToLive;
+	}
+
+	@Override
+	public @Nullable Duration getTimeToLive(Object bean) {
+
+		if (timeToLiveProperty == null) {
+			return timeToLive;
+		}
+
+		Object value = getPropertyAccessor(bean).getProperty(timeToLiveProperty);
+
+		if (value == null) {
+			return timeToLive;
+		}
+
+		if (value instanceof Duration duration) {
+			return duration.isNegative() || duration.isZero() ? null : duration;
+		}
+
+		TimeToLive annotation = timeToLiveProperty.getRequiredAnnotation(TimeToLive.class);
+		return toDuration(((Number) value).longValue(), annotation.unit());
+	}
+
+	private static @Nullable Duration toDuration(long value, TimeUnit unit) {
+		return value > 0 ? Duration.of(value, unit.toChronoUnit()) : null;
+	}
+
 	@Override
 	public String getKeySpace() {
 		return keyspaceExpression == null //
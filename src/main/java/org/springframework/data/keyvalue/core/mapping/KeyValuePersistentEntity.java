@@ -15,6 +15,8 @@
  */
 package org.springframework.data.keyvalue.core.mapping;
 
+import java.time.Duration;
+
 import org.jspecify.annotations.Nullable;
 
 import org.springframework.data.mapping.PersistentEntity;
@@ -57,4 +59,28 @@ public interface KeyValuePersistentEntity<T, P extends KeyValuePersistentPropert
 		throw new IllegalStateException(String.format("Required keySpace not defined for %s", getType()));
 	}
 
+	/**
+	 * Get the default time to live of objects of this entity as declared through
+	 * {@link org.springframework.data.keyvalue.annotation.TimeToLive @TimeToLive} on the type.
+	 *
+	 * @return the default time to live or {@literal null} if objects do not expire by default.
+	 * @since 4.2
+	 */
+	default @Nullable Duration getTimeToLive() {
+		return null;
+	}
+
+	/**
+	 * Get the time to live of the given {@code bean} considering a
+	 * {@link org.springframework.data.keyvalue.annotation.TimeToLive @TimeToLive} property and falling back to the
+	 * {@link #getTimeToLive() default time to live}.
+	 *
+	 * @param bean must not be {@literal null}.
+	 * @return the time to live or {@literal null} if the object does not expire.
+	 * @since 4.2
+	 */
+	default @Nullable Duration getTimeToLive(Object bean) {
+		return getTimeToLive();
+	}
+
 }
@@ -15,6 +15,8 @@
  */
 package org.springframework.data.keyvalue.core.mapping;
 
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.annotation.TimeToLive;
 import org.springframework.data.mapping.Association;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.PersistentProperty;
@@ -36,6 +38,38 @@ public class KeyValuePersistentProperty<P extends KeyValuePersistentProperty<P>>
 		super(property, owner, simpleTypeHolder);
 	}
 
+	/**
+	 * Returns whether the property is annotated with {@link Indexed} and should be backed by a secondary index.
+	 *
+	 * @return {@literal true} if the property is indexed.
+	 * @since 4.2
+	 */
+	public boolean isIndexed() {
+		return isAnnotationPresent(Indexed.class) && !isCollectionLike() && !isMap();
+	}
+
+	/**
+	 * Returns whether the property is backed by an {@link Indexed#ordered() ordered index} supporting range lookups.
+	 *
+	 * @return {@literal true} if the property is indexed using an ordered index.
+	 * @since 4.2
+	 */
+	public boolean hasOrderedIndex() {
+
+		Indexed indexed = findAnnotation(Indexed.class);
+		return indexed != null && indexed.ordered() && isIndexed();
+	}
+
+	/**
+	 * Returns whether the property is annotated with {@link TimeToLive} and holds the time to live of its owner.
+	 *
+	 * @return {@literal true} if the property holds the time to live.
+	 * @since 4.2
+	 */
+	public boolean isTimeToLive() {
+		return isAnnotationPresent(TimeToLive.class);
+	}
+
 	@Override
 	@SuppressWarnings("unchecked")
 	protected Association<P> createAssociation() {
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core.query;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.util.Assert;
+import org.springframework.util.StringUtils;
+
+/**
+ * Description of an aggregation over the objects matching a {@link KeyValueQuery}. Objects are grouped by the values
+ * of the {@link #groupBy(String...) group by} property paths, counted per group and the numeric values of each
+ * {@link #summarize(String...) summarized} property path are accumulated into count, sum, minimum, maximum and
+ * average.
+ *
+ * <pre class="code">
+ * Aggregation aggregation = Aggregation.groupBy("status").summarize("amount");
+ * </pre>
+ *
+ * Instances are immutable.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see AggregationResults
+ */
+public final class Aggregation {
+
+	private static final Aggregation UNGROUPED = new Aggregation(Collections.emptyList(), Collections.emptyList());
+
+	private final List<String> groupBy;
+	private final List<String> summarized;
+
+	private Aggregation(List<String> groupBy, List<String> summarized) {
+
+		this.groupBy = groupBy;
+		this.summarized = summarized;
+	}
+
+	/**
+	 * Create an {@link Aggregation} accumulating all matching objects into a single group.
+	 *
+	 * @return the ungrouped {@link Aggregation}.
+	 */
+	public static Aggregation ungrouped() {
+		return UNGROUPED;
+	}
+
+	/**
+	 * Create an {@link Aggregation} grouping matching objects by the values of the given property {@code paths}.
+	 *
+	 * @param paths property dot paths, must not be {@literal null} or empty.
+	 * @return the grouping {@link Aggregation}.
+	 */
+	public static Aggregation groupBy(String... paths) {
+
+		Assert.notEmpty(paths, "Group by paths must not be empty");
+
+		return new Aggregation(toPaths(paths, Collections.emptyList()), Collections.emptyList());
+	}
+
+	/**
+	 * Create a new {@link Aggregation} additionally accumulating the numeric values of the given property {@code paths}.
+	 *
+	 * @param paths property dot paths, must not be {@literal null}.
+	 * @return a new {@link Aggregation}.
+	 */
+	public Aggregation summarize(String... paths) {
+
+		Assert.notNull(paths, "Paths must not be null");
+
+		return new Aggregation(groupBy, toPaths(paths, summarized));
+	}
+
+	/**
+	 * @return {@literal true} if matching objects are grouped by property values.
+	 */
+	public boolean isGrouped() {
+		return !groupBy.isEmpty();
+	}
+
+	/**
+	 * @return the property paths to group by. Empty if {@link #isGrouped() not grouped}.
+	 */
+	public List<String> getGroupBy() {
+		return groupBy;
+	}
+
+	/**
+	 * @return the property paths whose values are accumulated.
+	 */
+	public List<String> getSummarized() {
+		return summarized;
+	}
+
+	@Override
+	public String toString() {
+		return String.format("Aggregation: groupBy %s, summarize %s", groupBy, summarized);
+	}
+
+	private static List<String> toPaths(String[] paths, List<String> existing) {
+
+		List<String> result = new ArrayList<>(existing);
+
+		for (String path : paths) {
+
+			Assert.isTrue(StringUtils.hasText(path), () -> String.format("Invalid path in %s", Arrays.toString(paths)));
+
+			if (!result.contains(path)) {
+				result.add(path);
+			}
+		}
+
+		return Collections.unmodifiableList(result);
+	}
+}
@@ -0,0 +1,376 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core.query;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.DoubleSummaryStatistics;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.util.Assert;
+
+/**
+ * Result of an {@link Aggregation} holding one {@link Group} per distinct combination of group by values in the order
+ * the groups were first encountered. An ungrouped {@link Aggregation} results in a single group with an empty key.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class AggregationResults implements Iterable<AggregationResults.Group> {
+
+	private final Map<List<@Nullable Object>, Group> groups;
+
+	/**
+	 * Creates new {@link AggregationResults}.
+	 *
+	 * @param groups must not be {@literal null}.
+	 */
+	public AggregationResults(List<Group> groups) {
+
+		Assert.notNull(groups, "Groups must not be null");
+
+		this.groups = new LinkedHashMap<>((int) (groups.size() / 0.75f) + 1);
+		for (Group group : groups) {
+			this.groups.put(group.getKey(), group);
+		}
+	}
+
+	/**
+	 * @return all groups in the order they were first encountered.
+	 */
+	public List<Group> getGroups() {
+		return List.copyOf(groups.values());
+	}
+
+	/**
+	 * Get the {@link Group} for the given group by values.
+	 *
+	 * @param key the group by values in the order of {@link Aggregation#getGroupBy()}. Empty for the ungrouped result.
+	 * @return the {@link Group} or {@literal null} if no object matched the given values.
+	 */
+	public @Nullable Group getGroup(@Nullable Object... key) {
+		return groups.get(Arrays.asList(key));
+	}
+
+	/**
+	 * @return the number of groups.
+	 */
+	public int size() {
+		return groups.size();
+	}
+
+	@Override
+	public Iterator<Group> iterator() {
+		return Collections.unmodifiableCollection(groups.values()).iterator();
+	}
+
+	@Override
+	public String toString() {
+		return "AggregationResults" + groups.values();
+	}
+
+	/**
+	 * Accumulated values of the objects sharing the same group by values.
+	 */
+	public static class Group {
+
+		private final List<@Nullable Object> key;
+		private final long count;
+		private final Map<String, Statistics> statistics;
+
+		/**
+		 * Creates a new {@link Group}.
+		 *
+		 * @param key the group by values, must not be {@literal null}.
+		 * @param count number of objects in the group.
+		 * @param statistics accumulated values by property path, must not be {@literal null}.
+		 */
+		public Group(List<@Nullable Object> key, long count, Map<String, Statistics> statistics) {
+
+			Assert.notNull(key, "Key must not be null");
+			Assert.notNull(statistics, "Statistics must not be null");
+
+			this.key = Collections.unmodifiableList(key);
+			this.count = count;
+			this.statistics = statistics;
+		}
+
+		/**
+		 * @return the group by values in the order of {@link Aggregation#getGroupBy()}.
+		 */
+		public List<@Nullable Object> getKey() {
+			return key;
+		}
+
+		/**
+		 * @return the number of objects in the group.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * Get the accumulated values of the given summarized property {@code path}. {@literal null} values do not
+		 * contribute to the statistics.
+		 *
+		 * @param path must not be {@literal null}.
+		 * @return the statistics of the property values.
+		 * @throws IllegalArgumentException if the {@code path} was not {@link Aggregation#summarize(String...)
+		 *           summarized}.
+		 */
+		public Statistics getStatistics(String path) {
+
+			Statistics result = statistics.get(path);
+
+			if (result == null) {
+				throw new IllegalArgumentException(String.format("Path '%s' is not summarized", path));
+			}
+
+			return result;
+		}
+
+		/**
+		 * @param path must not be {@literal null}.
+		 * @return the sum of the property values, {@literal 0} if there are none.
+		 * @see Statistics#getSum()
+		 */
+		public Number getSum(String path) {
+			return getStatistics(path).getSum();
+		}
+
+		/**
+		 * @param path must not be {@literal null}.
+		 * @return the smallest property value, {@literal null} if there are none.
+		 */
+		public @Nullable Number getMin(String path) {
+			return getStatistics(path).getMin();
+		}
+
+		/**
+		 * @param path must not be {@literal null}.
+		 * @return the largest property value, {@literal null} if there are none.
+		 */
+		public @Nullable Number getMax(String path) {
+			return getStatistics(path).getMax();
+		}
+
+		/**
+		 * @param path must not be {@literal null}.
+		 * @return the average of the property values, {@literal 0} if there are none.
+		 */
+		public double getAverage(String path) {
+			return getStatistics(path).getAverage();
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Group %s: count %d, %s", key, count, statistics);
+		}
+	}
+
+	/**
+	 * Count, sum, minimum and maximum of numeric property values keeping the numeric type of the values. Sums of
+	 * {@code byte}, {@code short}, {@code int} and {@code long} values are accumulated as {@link Long} and continue as
+	 * {@link BigInteger} on overflow. {@link BigInteger} and {@link BigDecimal} values are summed exactly. Other values
+	 * are summed as {@link Double}. Mixing types widens the sum to the wider of both, with {@link BigDecimal} being the
+	 * widest. Minimum and maximum return the original property value. Instances are not thread-safe.
+	 */
+	public static class Statistics {
+
+		private long count;
+		private Kind kind = Kind.LONG;
+		private long longSum;
+		private BigInteger bigIntegerSum = BigInteger.ZERO;
+		private @Nullable DoubleSummaryStatistics doubleSum;
+		private BigDecimal decimalSum = BigDecimal.ZERO;
+		private @Nullable Number min;
+		private @Nullable Number max;
+
+		/**
+		 * Accumulate the given {@code value}.
+		 *
+		 * @param value must not be {@literal null}.
+		 */
+		public void accept(Number value) {
+
+			Assert.notNull(value, "Value must not be null");
+
+			Kind valueKind = Kind.of(value);
+
+			if (valueKind.compareTo(kind) > 0) {
+				widen(valueKind);
+			}
+
+			switch (kind) {
+				case LONG -> addLong(value.longValue());
+				case BIG_INTEGER -> bigIntegerSum = bigIntegerSum.add(toBigInteger(value));
+				case DOUBLE -> getDoubleSum().accept(value.doubleValue());
+				case BIG_DECIMAL -> decimalSum = decimalSum.add(toBigDecimal(value));
+			}
+
+			if (min == null || compare(value, min) < 0) {
+				min = value;
+			}
+
+			if (max == null || compare(value, max) > 0) {
+				max = value;
+			}
+
+			count++;
+		}
+
+		/**
+		 * @return the number of accumulated values.
+		 */
+		public long getCount() {
+			return count;
+		}
+
+		/**
+		 * @return the sum of the accumulated values as {@link Long}, {@link BigInteger}, {@link Double} or
+		 *         {@link BigDecimal}, {@literal 0L} if there are none.
+		 */
+		public Number getSum() {
+
+			return switch (kind) {
+				case LONG -> longSum;
+				case BIG_INTEGER -> bigIntegerSum;
+				case DOUBLE -> getDoubleSum().getSum();
+				case BIG_DECIMAL -> decimalSum;
+			};
+		}
+
+		/**
+		 * @return the smallest accumulated value, {@literal null} if there are none.
+		 */
+		public @Nullable Number getMin() {
+			return min;
+		}
+
+		/**
+		 * @return the largest accumulated value, {@literal null} if there are none.
+		 */
+		public @Nullable Number getMax() {
+			return max;
+		}
+
+		/**
+		 * @return the arithmetic mean of the accumulated values, {@literal 0} if there are none.
+		 */
+		public double getAverage() {
+			return count > 0 ? getSum().doubleValue() / count : 0;
+		}
+
+		@Override
+		public String toString() {
+			return String.format("Statistics{count=%d, sum=%s, min=%s, average=%f, max=%s}", count, getSum(), min,
+					getAverage(), max);
+		}
+
+		private void addLong(long value) {
+
+			long sum = longSum + value;
+
+			if (((longSum ^ sum) & (value ^ sum)) < 0) {
+
+				widen(Kind.BIG_INTEGER);
+				bigIntegerSum = bigIntegerSum.add(BigInteger.valueOf(value));
+				return;
+			}
+
+			longSum = sum;
+		}
+
+		private void widen(Kind target) {
+
+			Number sum = getSum();
+
+			switch (target) {
+				case BIG_INTEGER -> bigIntegerSum = toBigInteger(sum);
+				case DOUBLE -> getDoubleSum().accept(sum.doubleValue());
+				case BIG_DECIMAL -> decimalSum = toBigDecimal(sum);
+				default -> throw new IllegalStateException("Cannot widen to " + target);
+			}
+
+			kind = target;
+		}
+
+		private DoubleSummaryStatistics getDoubleSum() {
+
+			DoubleSummaryStatistics doubleSum = this.doubleSum;
+
+			if (doubleSum == null) {
+				doubleSum = new DoubleSummaryStatistics();
+				this.doubleSum = doubleSum;
+			}
+
+			return doubleSum;
+		}
+
+		private static int compare(Number left, Number right) {
+
+			Kind kind = Kind.of(left).compareTo(Kind.of(right)) >= 0 ? Kind.of(left) : Kind.of(right);
+
+			return switch (kind) {
+				case LONG -> Long.compare(left.longValue(), right.longValue());
+				case BIG_INTEGER -> toBigInteger(left).compareTo(toBigInteger(right));
+				case DOUBLE -> Double.compare(left.doubleValue(), right.doubleValue());
+				case BIG_DECIMAL -> toBigDecimal(left).compareTo(toBigDecimal(right));
+			};
+		}
+
+		private static BigInteger toBigInteger(Number value) {
+			return value instanceof BigInteger bigInteger ? bigInteger : BigInteger.valueOf(value.longValue());
+		}
+
+		private static BigDecimal toBigDecimal(Number value) {
+
+			return switch (Kind.of(value)) {
+				case LONG -> BigDecimal.valueOf(value.longValue());
+				case BIG_INTEGER -> new BigDecimal((BigInteger) value);
+				case DOUBLE -> BigDecimal.valueOf(value.doubleValue());
+				case BIG_DECIMAL -> (BigDecimal) value;
+			};
+		}
+
+		/**
+		 * Numeric types in the order of widening.
+		 */
+		private enum Kind {
+
+			LONG, BIG_INTEGER, DOUBLE, BIG_DECIMAL;
+
+			static Kind of(Number value) {
+
+				if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte) {
+					return LONG;
+				}
+
+				if (value instanceof BigInteger) {
+					return BIG_INTEGER;
+				}
+
+				return value instanceof BigDecimal ? BIG_DECIMAL : DOUBLE;
+			}
+		}
+	}
+}
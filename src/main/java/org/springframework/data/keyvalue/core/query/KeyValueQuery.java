@@ -31,6 +31,7 @@ public class KeyValueQuery<T> {
 	private Sort sort = Sort.unsorted();
 	private long offset = -1;
 	private int rows = -1;
+	private boolean cacheable;
 	private final @Nullable T criteria;
 
 	/**
@@ -138,6 +139,28 @@ public class KeyValueQuery<T> {
 		this.sort = sort;
 	}
 
+	/**
+	 * Return whether the query opted into caching of its results.
+	 *
+	 * @return {@literal true} if the query opted into caching.
+	 * @since 4.2
+	 * @see org.springframework.data.keyvalue.core.QueryResultCache#isOptIn()
+	 */
+	public boolean isCacheable() {
+		return this.cacheable;
+	}
+
+	/**
+	 * Opt into caching of the query results by a {@link org.springframework.data.keyvalue.core.QueryResultCache} that
+	 * {@link org.springframework.data.keyvalue.core.QueryResultCache#isOptIn() caches opted in queries only}.
+	 *
+	 * @param cacheable {@literal true} to opt into caching.
+	 * @since 4.2
+	 */
+	public void setCacheable(boolean cacheable) {
+		this.cacheable = cacheable;
+	}
+
 	/**
 	 * Add given {@link Sort}.
 	 *
@@ -0,0 +1,62 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opt derived query methods into the {@link org.springframework.data.keyvalue.core.QueryResultCache} of the
+ * {@link org.springframework.data.keyvalue.core.QueryEngine} executing them. Annotating a repository interface opts in
+ * all of its derived query methods, annotating a query method opts in that method only. A method annotation takes
+ * precedence over the annotation of its repository so {@code @CacheableQuery(false)} excludes a single method from
+ * caching.
+ * <p>
+ * Opting in only has an effect if the cache is configured to
+ * {@link org.springframework.data.keyvalue.core.QueryResultCache#isOptIn() cache opted in queries only}. Otherwise all
+ * queries with cacheable criteria are cached.
+ *
+ * <pre class="code">
+ * &#64;CacheableQuery
+ * interface PersonRepository extends CrudRepository&lt;Person, String&gt; {
+ *
+ * 	List&lt;Person&gt; findByLastname(String lastname);
+ *
+ * 	&#64;CacheableQuery(false)
+ * 	List&lt;Person&gt; findByFirstname(String firstname);
+ * }
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see org.springframework.data.map.repository.config.EnableMapRepositories#queryResultCacheOptIn()
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.TYPE, ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface CacheableQuery {
+
+	/**
+	 * Whether to cache results of the annotated query method or of the query methods of the annotated repository.
+	 *
+	 * @return {@literal true} by default.
+	 */
+	boolean value() default true;
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.parser.Part;
+import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.util.Assert;
+
+/**
+ * {@link RepositoryQuery} implementation for derived count projections returning a {@link Map}, counting objects
+ * grouped by the properties named in the method name instead of filtering by them.
+ *
+ * <pre class="code">
+ * interface OrderRepository extends CrudRepository&lt;Order, String&gt; {
+ *
+ * 	Map&lt;Status, Long&gt; countByStatus();
+ *
+ * 	Map&lt;List&lt;Object&gt;, Long&gt; countByStatusAndCustomerRegion();
+ * }
+ * </pre>
+ *
+ * A single property maps its value to the number of objects holding it. Multiple properties map the {@link List} of
+ * values in declaration order. Groups are evaluated in a single pass through
+ * {@link KeyValueOperations#aggregate(Aggregation, Class)}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class GroupedCountRepositoryQuery implements RepositoryQuery {
+
+	private final QueryMethod queryMethod;
+	private final KeyValueOperations keyValueOperations;
+	private final Aggregation aggregation;
+
+	/**
+	 * Creates a new {@link GroupedCountRepositoryQuery} for the given {@link QueryMethod} and {@link PartTree}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param tree the count projection {@link PartTree} naming the properties to group by, must not be {@literal null}.
+	 * @param keyValueOperations must not be {@literal null}.
+	 */
+	public GroupedCountRepositoryQuery(QueryMethod queryMethod, PartTree tree, KeyValueOperations keyValueOperations) {
+
+		Assert.notNull(queryMethod, "Query method must not be null");
+		Assert.notNull(tree, "PartTree must not be null");
+		Assert.notNull(keyValueOperations, "KeyValueOperations must not be null");
+		Assert.isTrue(tree.isCountProjection(), () -> String.format("%s is not a count query", queryMethod.getName()));
+
+		List<String> paths = tree.getParts().stream().map(it -> {
+
+			Assert.isTrue(it.getType() == Part.Type.SIMPLE_PROPERTY,
+					() -> String.format("Cannot group by %s in %s", it, queryMethod.getName()));
+			return it.getProperty().toDotPath();
+		}).toList();
+
+		Assert.isTrue(!paths.isEmpty(), () -> String.format("%s does not name properties to group by",
+				queryMethod.getName()));
+
+		this.queryMethod = queryMethod;
+		this.keyValueOperations = keyValueOperations;
+		this.aggregation = Aggregation.groupBy(paths.toArray(new String[0]));
+	}
+
+	@Override
+	public Map<Object, Long> execute(Object[] parameters) {
+
+		AggregationResults results = keyValueOperations.aggregate(aggregation,
+				queryMethod.getEntityInformation().getJavaType());
+		Map<Object, Long> counts = new LinkedHashMap<>((int) (results.size() / 0.75f) + 1);
+
+		for (AggregationResults.Group group : results) {
+			counts.put(group.getKey().size() == 1 ? group.getKey().get(0) : group.getKey(), group.getCount());
+		}
+
+		return counts;
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return queryMethod;
+	}
+}
@@ -58,6 +58,7 @@ public class KeyValuePartTreeQuery implements RepositoryQuery {
 	private final ValueExpressionDelegate valueExpressionDelegate;
 	private final QueryCreatorFactory<AbstractQueryCreator<KeyValueQuery<?>, ?>> queryCreatorFactory;
 	private final ValueEvaluationContextProvider evaluationContextProvider;
+	private boolean cacheable;
 
 	/**
 	 * Creates a new {@link KeyValuePartTreeQuery} for the given {@link QueryMethod}, {@link EvaluationContextProvider},
@@ -133,6 +134,8 @@ public class KeyValuePartTreeQuery implements RepositoryQuery {
 					: keyValueOperations.count(query, queryMethod.getEntityInformation().getJavaType());
 
 			return new PageImpl(IterableConverter.toList(result), page, count);
+		} else if (queryMethod.isStreamQuery()) {
+			return this.keyValueOperations.stream(query, queryMethod.getEntityInformation().getJavaType());
 		} else if (queryMethod.isCollectionQuery()) {
 			return this.keyValueOperations.find(query, queryMethod.getEntityInformation().getJavaType());
 		} else if (partTree.get().isExistsProjection()) {
@@ -180,6 +183,7 @@ public class KeyValuePartTreeQuery implements RepositoryQuery {
 		}
 
 		query.setSort(sort.isUnsorted() ? instance.getSort() : sort);
+		query.setCacheable(this.cacheable);
 
 		return query;
 	}
@@ -223,6 +227,18 @@ public class KeyValuePartTreeQuery implements RepositoryQuery {
 		return queryMethod;
 	}
 
+	/**
+	 * Configure whether queries created by this {@link KeyValuePartTreeQuery} opt into caching of their results.
+	 *
+	 * @param cacheable {@literal true} to opt into caching.
+	 * @since 4.2
+	 * @see CacheableQuery
+	 * @see KeyValueQuery#setCacheable(boolean)
+	 */
+	public void setCacheable(boolean cacheable) {
+		this.cacheable = cacheable;
+	}
+
 	/**
 	 * Factory class for obtaining {@link AbstractQueryCreator} instances for a given {@link PartTree} and
 	 * {@link ParameterAccessor}.
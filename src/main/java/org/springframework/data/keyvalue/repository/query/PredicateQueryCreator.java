@@ -15,11 +15,17 @@
  */
 package org.springframework.data.keyvalue.repository.query;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.Iterator;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.regex.Pattern;
@@ -28,8 +34,14 @@ import org.jspecify.annotations.Nullable;
 
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.core.PropertyPath;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
 import org.springframework.data.domain.Sort;
-import org.springframework.data.keyvalue.core.SimplePropertyPathAccessor;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.core.CompiledPropertyPathAccessor;
+import org.springframework.data.keyvalue.core.IndexAwarePredicate;
+import org.springframework.data.keyvalue.core.KeyValueIndex;
+import org.springframework.data.keyvalue.core.OrderedKeyValueIndex;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.repository.query.ParameterAccessor;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
@@ -51,8 +63,15 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 
 	private static final Comparator<?> COMPARATOR = Comparator.nullsFirst(Comparator.naturalOrder());
 
+	private final PartTree tree;
+	private final ParameterAccessor parameters;
+
 	public PredicateQueryCreator(PartTree tree, ParameterAccessor parameters) {
+
 		super(tree, parameters);
+
+		this.tree = tree;
+		this.parameters = parameters;
 	}
 
 	@Override
@@ -75,7 +94,7 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 			case BEFORE, LESS_THAN -> builder.isLessThan(iterator.next());
 			case LESS_THAN_EQUAL -> builder.isLessThanEqual(iterator.next());
 			case ENDING_WITH -> builder.endsWith(iterator.next());
-			case BETWEEN -> builder.isGreaterThan(iterator.next()).and(builder.isLessThan(iterator.next()));
+			case BETWEEN -> builder.isBetween(iterator.next(), iterator.next());
 			case REGEX -> builder.matches(iterator.next());
 			case IN -> builder.in(iterator.next());
 			case NOT_IN -> builder.in(iterator.next()).negate();
@@ -97,8 +116,14 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 	}
 
 	@Override
+	@SuppressWarnings("unchecked")
 	protected KeyValueQuery<Predicate<?>> complete(@Nullable Predicate<?> criteria, Sort sort) {
-		return criteria == null ? new KeyValueQuery<>(it -> true, sort) : new KeyValueQuery<>(criteria, sort);
+
+		List<@Nullable Object> arguments = new ArrayList<>();
+		parameters.forEach(arguments::add);
+
+		return new KeyValueQuery<>(new DerivedPredicate(tree, arguments.toArray(),
+				criteria != null ? (Predicate<Object>) criteria : it -> true), sort);
 	}
 
 	static class PredicateBuilder {
@@ -119,21 +144,24 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 		}
 
 		public Predicate<Object> isTrue() {
-			return new ValueComparingPredicate(part.getProperty(), true);
+			return new IndexedValuePredicate(part.getProperty(), true);
 		}
 
 		public Predicate<Object> isFalse() {
-			return new ValueComparingPredicate(part.getProperty(), false);
+			return new IndexedValuePredicate(part.getProperty(), false);
 		}
 
 		@Contract("_ -> new")
 		public Predicate<Object> isEqualTo(@Nullable Object value) {
+
+			if (ObjectUtils.nullSafeEquals(IgnoreCaseType.NEVER, part.shouldIgnoreCase())) {
+				return new IndexedValuePredicate(part.getProperty(), value);
+			}
+
 			return new ValueComparingPredicate(part.getProperty(), o -> {
 
-				if (!ObjectUtils.nullSafeEquals(IgnoreCaseType.NEVER, part.shouldIgnoreCase())) {
-					if (o instanceof String s1 && value instanceof String s2) {
-						return s1.equalsIgnoreCase(s2);
-					}
+				if (o instanceof String s1 && value instanceof String s2) {
+					return s1.equalsIgnoreCase(s2);
 				}
 				return ObjectUtils.nullSafeEquals(o, value);
 
@@ -150,22 +178,57 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 
 		@Contract("_ -> new")
 		public Predicate<Object> isLessThan(@Nullable Object value) {
-			return new ValueComparingPredicate(part.getProperty(), o -> comparator().compare(o, value) < 0);
+			return range(Bound.unbounded(), value, false, o -> comparator().compare(o, value) < 0);
 		}
 
 		@Contract("_ -> new")
 		public Predicate<Object> isLessThanEqual(@Nullable Object value) {
-			return new ValueComparingPredicate(part.getProperty(), o -> comparator().compare(o, value) <= 0);
+			return range(Bound.unbounded(), value, true, o -> comparator().compare(o, value) <= 0);
 		}
 
 		@Contract("_ -> new")
 		public Predicate<Object> isGreaterThan(@Nullable Object value) {
-			return new ValueComparingPredicate(part.getProperty(), o -> comparator().compare(o, value) > 0);
+			return range(value, false, Bound.unbounded(), o -> comparator().compare(o, value) > 0);
 		}
 
 		@Contract("_ -> new")
 		public Predicate<Object> isGreaterThanEqual(@Nullable Object value) {
-			return new ValueComparingPredicate(part.getProperty(), o -> comparator().compare(o, value) >= 0);
+			return range(value, true, Bound.unbounded(), o -> comparator().compare(o, value) >= 0);
+		}
+
+		@Contract("_, _ -> new")
+		public Predicate<Object> isBetween(@Nullable Object lower, @Nullable Object upper) {
+
+			Function<@Nullable Object, Boolean> check = o -> comparator().compare(o, lower) > 0
+					&& comparator().compare(o, upper) < 0;
+
+			if (lower == null || upper == null) {
+				return new ValueComparingPredicate(part.getProperty(), check);
+			}
+
+			return new RangePredicate(part.getProperty(), Range.of(Bound.exclusive(lower), Bound.exclusive(upper)), check);
+		}
+
+		private Predicate<Object> range(Bound<Object> lower, @Nullable Object upper, boolean inclusive,
+				Function<@Nullable Object, Boolean> check) {
+
+			if (upper == null) {
+				return new ValueComparingPredicate(part.getProperty(), check);
+			}
+
+			return new RangePredicate(part.getProperty(),
+					Range.of(lower, inclusive ? Bound.inclusive(upper) : Bound.exclusive(upper)), check);
+		}
+
+		private Predicate<Object> range(@Nullable Object lower, boolean inclusive, Bound<Object> upper,
+				Function<@Nullable Object, Boolean> check) {
+
+			if (lower == null) {
+				return new ValueComparingPredicate(part.getProperty(), check);
+			}
+
+			return new RangePredicate(part.getProperty(),
+					Range.of(inclusive ? Bound.inclusive(lower) : Bound.exclusive(lower), upper), check);
 		}
 
 		@Contract("!null -> new")
@@ -204,7 +267,11 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 
 		@Contract("!null -> new")
 		public Predicate<Object> in(Object value) {
-			return new ValueComparingPredicate(part.getProperty(), o -> {
+
+			List<?> candidates = value instanceof Collection<?> collection ? new ArrayList<>(collection)
+					: ObjectUtils.isArray(value) ? Arrays.asList(ObjectUtils.toObjectArray(value)) : Collections.emptyList();
+
+			Function<@Nullable Object, Boolean> check = o -> {
 
 				if (value instanceof Collection<?> collection) {
 
@@ -218,7 +285,14 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 					return ObjectUtils.containsElement(ObjectUtils.toObjectArray(value), value);
 				}
 				return false;
-			});
+			};
+
+			// indexes hold collection-valued properties as a whole while the check applies subset semantics
+			if (part.getProperty().getLeafProperty().isCollection()) {
+				return new ValueComparingPredicate(part.getProperty(), check);
+			}
+
+			return new IndexedValuePredicate(part.getProperty(), candidates, check);
 		}
 
 		@Contract("_ -> new")
@@ -294,6 +368,7 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 	static class ValueComparingPredicate implements Predicate<Object> {
 
 		private final PropertyPath path;
+		private final CompiledPropertyPathAccessor accessor;
 		private final Function<@Nullable Object, Boolean> check;
 
 		public ValueComparingPredicate(PropertyPath path, @Nullable Object expected) {
@@ -302,13 +377,157 @@ public class PredicateQueryCreator extends AbstractQueryCreator<KeyValueQuery<Pr
 
 		public ValueComparingPredicate(PropertyPath path, Function<@Nullable Object, Boolean> check) {
 			this.path = path;
+			this.accessor = CompiledPropertyPathAccessor.of(path);
 			this.check = check;
 		}
 
 		@Override
 		public boolean test(Object o) {
-			Object value = new SimplePropertyPathAccessor<>(o).getValue(path);
-			return check.apply(value);
+			return check.apply(accessor.getValue(o));
+		}
+
+		PropertyPath getPath() {
+			return path;
+		}
+	}
+
+	/**
+	 * {@link IndexAwarePredicate} completing a derived query. Considered equal to predicates derived from the same
+	 * {@link PartTree} using equal arguments, so that results of repeated queries can be looked up in a
+	 * {@link org.springframework.data.keyvalue.core.QueryResultCache}. Index lookups are delegated to the derived
+	 * predicate if it is {@link IndexAwarePredicate index-aware}.
+	 *
+	 * @since 4.2
+	 */
+	static class DerivedPredicate implements IndexAwarePredicate<Object> {
+
+		private final PartTree tree;
+		private final @Nullable Object[] arguments;
+		private final Predicate<Object> delegate;
+
+		DerivedPredicate(PartTree tree, @Nullable Object[] arguments, Predicate<Object> delegate) {
+
+			this.tree = tree;
+			this.arguments = arguments;
+			this.delegate = delegate;
+		}
+
+		@Override
+		public boolean test(Object o) {
+			return delegate.test(o);
+		}
+
+		@Override
+		public @Nullable Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes) {
+			return delegate instanceof IndexAwarePredicate<?> predicate ? predicate.resolveIds(indexes) : null;
+		}
+
+		@Override
+		public @Nullable Range<?> getRange(String path) {
+			return delegate instanceof IndexAwarePredicate<?> predicate ? predicate.getRange(path) : null;
+		}
+
+		@Override
+		public boolean equals(@Nullable Object o) {
+
+			if (this == o) {
+				return true;
+			}
+
+			if (!(o instanceof DerivedPredicate that)) {
+				return false;
+			}
+
+			return tree == that.tree && Arrays.deepEquals(arguments, that.arguments);
+		}
+
+		@Override
+		public int hashCode() {
+			return 31 * System.identityHashCode(tree) + Arrays.deepHashCode(arguments);
+		}
+	}
+
+	/**
+	 * {@link ValueComparingPredicate} matching a property against one or more expected values that can be resolved
+	 * through a {@link KeyValueIndex} on the property.
+	 *
+	 * @since 4.2
+	 */
+	static class IndexedValuePredicate extends ValueComparingPredicate implements IndexAwarePredicate<Object> {
+
+		private final Collection<?> values;
+
+		IndexedValuePredicate(PropertyPath path, @Nullable Object expected) {
+			super(path, expected);
+			this.values = Collections.singletonList(expected);
+		}
+
+		IndexedValuePredicate(PropertyPath path, Collection<?> values, Function<@Nullable Object, Boolean> check) {
+			super(path, check);
+			this.values = values;
+		}
+
+		@Override
+		public @Nullable Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes) {
+
+			if (getPath().hasNext()) {
+				return null;
+			}
+
+			KeyValueIndex index = indexes.apply(getPath().toDotPath());
+
+			if (index == null) {
+				return null;
+			}
+
+			if (values.size() == 1) {
+				return index.get(values.iterator().next());
+			}
+
+			Set<Object> ids = new HashSet<>();
+			for (Object value : values) {
+				ids.addAll(index.get(value));
+			}
+			return ids;
+		}
+	}
+
+	/**
+	 * {@link ValueComparingPredicate} matching a property against a {@link Range} that can be resolved through an
+	 * {@link OrderedKeyValueIndex} on the property. Objects with a {@literal null} property value are considered less
+	 * than any other value and therefore match ranges without a lower bound.
+	 *
+	 * @since 4.2
+	 */
+	static class RangePredicate extends ValueComparingPredicate implements IndexAwarePredicate<Object> {
+
+		private final Range<Object> range;
+
+		RangePredicate(PropertyPath path, Range<Object> range, Function<@Nullable Object, Boolean> check) {
+			super(path, check);
+			this.range = range;
+		}
+
+		@Override
+		public @Nullable Set<Object> resolveIds(Function<String, @Nullable KeyValueIndex> indexes) {
+
+			if (getPath().hasNext() || !(indexes.apply(getPath().toDotPath()) instanceof OrderedKeyValueIndex index)) {
+				return null;
+			}
+
+			Set<Object> ids = new HashSet<>();
+			index.getRange(range, Direction.ASC).forEach(ids::add);
+
+			if (!range.getLowerBound().isBounded()) {
+				ids.addAll(index.get(null));
+			}
+
+			return ids;
+		}
+
+		@Override
+		public @Nullable Range<?> getRange(String path) {
+			return !getPath().hasNext() && getPath().toDotPath().equals(path) ? range : null;
 		}
 	}
 
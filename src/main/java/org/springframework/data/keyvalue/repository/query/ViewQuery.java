@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Declare a repository query method reading a {@link org.springframework.data.keyvalue.core.MaterializedView}
+ * registered with the {@link org.springframework.data.keyvalue.core.KeyValueOperations} backing the repository. The
+ * method name is not parsed. Reading the view visits only the objects it contains, optionally restricted by a
+ * {@link org.springframework.data.domain.Pageable} parameter.
+ *
+ * <pre class="code">
+ * interface PersonRepository extends CrudRepository&lt;Person, String&gt; {
+ *
+ * 	&#64;ViewQuery("adults")
+ * 	List&lt;Person&gt; findAdults();
+ * }
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+@Documented
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ ElementType.METHOD, ElementType.ANNOTATION_TYPE })
+public @interface ViewQuery {
+
+	/**
+	 * The name of the view to read.
+	 *
+	 * @return the view name.
+	 */
+	String value();
+
+}
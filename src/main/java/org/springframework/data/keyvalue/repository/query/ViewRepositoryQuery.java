@@ -0,0 +1,127 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import java.util.List;
+
+import org.jspecify.annotations.Nullable;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.core.MaterializedView;
+import org.springframework.data.repository.query.ParameterAccessor;
+import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
+import org.springframework.data.repository.query.RepositoryQuery;
+import org.springframework.data.repository.query.ResultProcessor;
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.NumberUtils;
+
+/**
+ * {@link RepositoryQuery} implementation reading a {@link MaterializedView} declared via {@link ViewQuery}. The view is
+ * looked up by name on each execution so views can be registered after the repository has been created.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class ViewRepositoryQuery implements RepositoryQuery {
+
+	private final QueryMethod queryMethod;
+	private final KeyValueOperations keyValueOperations;
+	private final String viewName;
+
+	/**
+	 * Creates a new {@link ViewRepositoryQuery} for the given {@link QueryMethod} and {@link KeyValueOperations}.
+	 *
+	 * @param queryMethod must not be {@literal null}.
+	 * @param viewName must not be {@literal null} or empty.
+	 * @param keyValueOperations must not be {@literal null}.
+	 */
+	public ViewRepositoryQuery(QueryMethod queryMethod, String viewName, KeyValueOperations keyValueOperations) {
+
+		Assert.notNull(queryMethod, "Query method must not be null");
+		Assert.hasText(viewName, "View name must not be null or empty");
+		Assert.notNull(keyValueOperations, "KeyValueOperations must not be null");
+
+		this.queryMethod = queryMethod;
+		this.viewName = viewName;
+		this.keyValueOperations = keyValueOperations;
+	}
+
+	@Override
+	public @Nullable Object execute(Object[] parameters) {
+
+		ParameterAccessor accessor = new ParametersParameterAccessor(queryMethod.getParameters(), parameters);
+		ResultProcessor processor = queryMethod.getResultProcessor().withDynamicProjection(accessor);
+
+		return processor.processResult(doExecute(getRequiredView(), accessor.getPageable()));
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private @Nullable Object doExecute(MaterializedView<?> view, Pageable pageable) {
+
+		long offset = pageable.isPaged() ? pageable.getOffset() : -1;
+		int rows = pageable.isPaged() ? pageable.getPageSize() : -1;
+
+		if (queryMethod.isPageQuery()) {
+			return new PageImpl(view.get(offset, rows), pageable, view.size());
+		} else if (queryMethod.isSliceQuery()) {
+
+			List<?> result = view.get(offset, rows < 0 ? rows : rows + 1);
+			boolean hasNext = rows >= 0 && result.size() > rows;
+
+			return new SliceImpl(hasNext ? result.subList(0, rows) : result, pageable, hasNext);
+		} else if (queryMethod.isStreamQuery()) {
+			return pageable.isPaged() ? view.get(offset, rows).stream() : view.stream();
+		} else if (queryMethod.isCollectionQuery()) {
+			return view.get(offset, rows);
+		} else if (isCountQuery()) {
+			return NumberUtils.convertNumberToTargetClass(view.size(),
+					(Class<Number>) ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType()));
+		} else {
+
+			List<?> result = view.get(offset, 1);
+			return result.isEmpty() ? null : result.get(0);
+		}
+	}
+
+	private boolean isCountQuery() {
+
+		Class<?> returnType = ClassUtils.resolvePrimitiveIfNecessary(queryMethod.getReturnedObjectType());
+		return Number.class.isAssignableFrom(returnType)
+				&& !returnType.isAssignableFrom(queryMethod.getEntityInformation().getJavaType());
+	}
+
+	private MaterializedView<?> getRequiredView() {
+
+		MaterializedView<?> view = keyValueOperations.getView(viewName);
+
+		if (view == null) {
+			throw new InvalidDataAccessApiUsageException(
+					String.format("No view %s registered for query method %s", viewName, queryMethod.getName()));
+		}
+
+		return view;
+	}
+
+	@Override
+	public QueryMethod getQueryMethod() {
+		return queryMethod;
+	}
+}
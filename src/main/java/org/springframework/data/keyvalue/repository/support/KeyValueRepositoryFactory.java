@@ -20,14 +20,20 @@ import static org.springframework.data.repository.core.support.RepositoryComposi
 
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jspecify.annotations.Nullable;
 import org.springframework.beans.BeanUtils;
+import org.springframework.core.annotation.AnnotatedElementUtils;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
 import org.springframework.data.keyvalue.core.KeyValueOperations;
+import org.springframework.data.keyvalue.repository.query.CacheableQuery;
+import org.springframework.data.keyvalue.repository.query.GroupedCountRepositoryQuery;
 import org.springframework.data.keyvalue.repository.query.KeyValuePartTreeQuery;
 import org.springframework.data.keyvalue.repository.query.PredicateQueryCreator;
+import org.springframework.data.keyvalue.repository.query.ViewQuery;
+import org.springframework.data.keyvalue.repository.query.ViewRepositoryQuery;
 import org.springframework.data.mapping.PersistentEntity;
 import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.projection.ProjectionFactory;
@@ -45,6 +51,7 @@ import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.RepositoryQuery;
 import org.springframework.data.repository.query.ValueExpressionDelegate;
 import org.springframework.data.repository.query.parser.AbstractQueryCreator;
+import org.springframework.data.repository.query.parser.PartTree;
 import org.springframework.util.Assert;
 import org.springframework.util.ClassUtils;
 
@@ -220,6 +227,20 @@ public class KeyValueRepositoryFactory extends RepositoryFactorySupport {
 				NamedQueries namedQueries) {
 
 			QueryMethod queryMethod = new QueryMethod(method, metadata, factory);
+			ViewQuery viewQuery = AnnotatedElementUtils.findMergedAnnotation(method, ViewQuery.class);
+
+			if (viewQuery != null) {
+				return new ViewRepositoryQuery(queryMethod, viewQuery.value(), this.keyValueOperations);
+			}
+
+			if (isGroupedCount(method)) {
+
+				PartTree tree = new PartTree(method.getName(), metadata.getDomainType());
+
+				if (tree.isCountProjection()) {
+					return new GroupedCountRepositoryQuery(queryMethod, tree, this.keyValueOperations);
+				}
+			}
 
 			Constructor<? extends KeyValuePartTreeQuery> constructor = (Constructor<? extends KeyValuePartTreeQuery>) ClassUtils
 					.getConstructorIfAvailable(this.repositoryQueryType, QueryMethod.class, ValueExpressionDelegate.class,
@@ -230,8 +251,27 @@ public class KeyValueRepositoryFactory extends RepositoryFactorySupport {
 							"Constructor %s(QueryMethod, EvaluationContextProvider, KeyValueOperations, Class) not available",
 							ClassUtils.getShortName(this.repositoryQueryType)));
 
-			return BeanUtils.instantiateClass(constructor, queryMethod, valueExpressionDelegate, this.keyValueOperations,
-					this.queryCreator);
+			KeyValuePartTreeQuery query = BeanUtils.instantiateClass(constructor, queryMethod, valueExpressionDelegate,
+					this.keyValueOperations, this.queryCreator);
+			query.setCacheable(isCacheable(method, metadata));
+
+			return query;
+		}
+
+		private static boolean isCacheable(Method method, RepositoryMetadata metadata) {
+
+			CacheableQuery cacheableQuery = AnnotatedElementUtils.findMergedAnnotation(method, CacheableQuery.class);
+
+			if (cacheableQuery == null) {
+				cacheableQuery = AnnotatedElementUtils.findMergedAnnotation(metadata.getRepositoryInterface(),
+						CacheableQuery.class);
+			}
+
+			return cacheableQuery != null && cacheableQuery.value();
+		}
+
+		private static boolean isGroupedCount(Method method) {
+			return Map.class.isAssignableFrom(method.getReturnType()) && method.getParameterCount() == 0;
 		}
 	}
 }
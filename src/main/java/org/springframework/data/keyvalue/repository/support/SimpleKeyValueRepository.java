@@ -28,6 +28,7 @@ import org.springframework.data.keyvalue.core.KeyValueOperations;
 import org.springframework.data.keyvalue.repository.KeyValueRepository;
 import org.springframework.data.repository.core.EntityInformation;
 import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
 
 /**
  * Simple {@link KeyValueRepository} implementation.
@@ -82,19 +83,48 @@ public class SimpleKeyValueRepository<T, ID> implements KeyValueRepository<T, ID
 		Assert.notNull(entities, "The given Iterable of entities must not be null");
 
 		List<S> saved = new ArrayList<>();
+		List<S> run = new ArrayList<>();
+		boolean insert = false;
 
 		for (S entity : entities) {
-			saved.add(save(entity));
+
+			Assert.notNull(entity, "Entity must not be null");
+
+			boolean isNew = entityInformation.isNew(entity);
+
+			if (isNew != insert && !run.isEmpty()) {
+				saved.addAll(saveRun(run, insert));
+				run.clear();
+			}
+
+			insert = isNew;
+			run.add(entity);
+		}
+
+		if (!run.isEmpty()) {
+			saved.addAll(saveRun(run, insert));
 		}
 
 		return saved;
 	}
 
+	/**
+	 * Save consecutive new or existing entities through a single batch operation to retain the order of the given
+	 * entities.
+	 */
+	private <S extends T> List<S> saveRun(List<S> run, boolean insert) {
+		return insert ? operations.insertAll(run) : operations.updateAll(run);
+	}
+
 	@Override
 	public Optional<T> findById(ID id) {
 
 		Assert.notNull(id, "The given id must not be null");
 
+		if (isPrimitiveId(id)) {
+			return operations.findById(((Number) id).longValue(), entityInformation.getJavaType());
+		}
+
 		return operations.findById(id, entityInformation.getJavaType());
 	}
 
@@ -113,11 +143,7 @@ public class SimpleKeyValueRepository<T, ID> implements KeyValueRepository<T, ID
 
 		Assert.notNull(ids, "The given Iterable of id's must not be null");
 
-		List<T> result = new ArrayList<>();
-
-		ids.forEach(id -> findById(id).ifPresent(result::add));
-
-		return result;
+		return operations.findAllById(ids, entityInformation.getJavaType());
 	}
 
 	@Override
@@ -146,7 +172,7 @@ public class SimpleKeyValueRepository<T, ID> implements KeyValueRepository<T, ID
 
 		Assert.notNull(ids, "The given Iterable of Ids must not be null");
 
-		ids.forEach(this::deleteById);
+		operations.deleteAllById(ids, entityInformation.getJavaType());
 	}
 
 	@Override
@@ -190,4 +216,13 @@ public class SimpleKeyValueRepository<T, ID> implements KeyValueRepository<T, ID
 		return new PageImpl<>(IterableConverter.toList(content), pageable,
 				this.operations.count(entityInformation.getJavaType()));
 	}
+
+	/**
+	 * Return whether {@code id} is a {@link Long} or {@link Integer} matching the id type of the entity so that it can be
+	 * looked up through {@link KeyValueOperations#findById(long, Class)} without boxing.
+	 */
+	private boolean isPrimitiveId(Object id) {
+		return (id instanceof Long || id instanceof Integer)
+				&& ClassUtils.resolvePrimitiveIfNecessary(entityInformation.getIdType()) == id.getClass();
+	}
 }
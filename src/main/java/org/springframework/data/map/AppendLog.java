@@ -0,0 +1,429 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.CRC32;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Append-only log of put and delete records within a memory-mapped file. The file is mapped in chunks of a fixed
+ * {@code mappingSize} that is recorded in the file header. Records never span chunks.
+ * <p>
+ * Each record consists of its payload length, a CRC32 checksum of the payload and the payload itself holding the
+ * record type, the encoded key and the encoded value. The length is written last so that a partially written record
+ * is either detected as end of the log or fails checksum verification. Replay stops at the first incomplete or corrupt
+ * record and discards everything behind it.
+ * <p>
+ * Only the chunk currently appended to and chunks holding writes not yet forced are kept mapped. Mappings are released
+ * eagerly where the runtime permits so that files can be truncated and replaced, otherwise once they are garbage
+ * collected.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class AppendLog implements Closeable {
+
+	static final byte PUT = 1;
+	static final byte DELETE = 2;
+
+	private static final long MAGIC = 0x5344_4B56_4C4F_4701L;
+	private static final int FILE_HEADER_SIZE = Long.BYTES + Integer.BYTES;
+	private static final int RECORD_HEADER_SIZE = Integer.BYTES * 2;
+	private static final int END_OF_CHUNK = -1;
+	private static final boolean IS_WINDOWS = System.getProperty("os.name", "").toLowerCase().startsWith("windows");
+	private static final @Nullable MethodHandle INVOKE_CLEANER = findCleaner();
+
+	private final FileChannel channel;
+	private int mappingSize;
+	private final FsyncPolicy fsyncPolicy;
+	private final List<MappedByteBuffer> unforced = new ArrayList<>();
+	private final CRC32 checksum = new CRC32();
+
+	private @Nullable MappedByteBuffer current;
+	private int chunk;
+	private int position;
+	private long records;
+	private int unforcedWrites;
+	private boolean dirty;
+
+	private AppendLog(FileChannel channel, int mappingSize, FsyncPolicy fsyncPolicy) {
+
+		this.channel = channel;
+		this.mappingSize = mappingSize;
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * Open the log stored in {@code file} creating it if it does not exist and replay all valid records.
+	 *
+	 * @param file the log file.
+	 * @param mappingSize size of a single mapped chunk for new files. Existing files use the size they were created with.
+	 * @param fsyncPolicy the {@link FsyncPolicy} to apply.
+	 * @param handler callback receiving replayed records.
+	 * @return the opened {@link AppendLog} positioned after the last valid record.
+	 * @throws IOException if the file cannot be read or is not a log file.
+	 */
+	static AppendLog open(Path file, int mappingSize, FsyncPolicy fsyncPolicy, RecordHandler handler)
+			throws IOException {
+
+		FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+				StandardOpenOption.WRITE);
+
+		AppendLog log = new AppendLog(channel, mappingSize, fsyncPolicy);
+
+		try {
+
+			log.replay(handler);
+
+			return log;
+		} catch (IOException | RuntimeException e) {
+
+			try {
+				log.close();
+			} catch (IOException ex) {
+				e.addSuppressed(ex);
+			}
+
+			throw e;
+		}
+	}
+
+	/**
+	 * Move {@code source} over {@code target} atomically and force the directory entry to the storage device so that the
+	 * move survives a crash. Directories cannot be opened for syncing on Windows where the move is durable once
+	 * {@link Files#move(Path, Path, java.nio.file.CopyOption...)} returns.
+	 *
+	 * @param source the file to move.
+	 * @param target the file to replace.
+	 * @throws IOException if the file cannot be moved or the directory cannot be synced.
+	 */
+	static void moveAtomically(Path source, Path target) throws IOException {
+
+		Files.move(source, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+		Path directory = target.toAbsolutePath().getParent();
+
+		if (directory == null || IS_WINDOWS) {
+			return;
+		}
+
+		try (FileChannel channel = FileChannel.open(directory, StandardOpenOption.READ)) {
+			channel.force(true);
+		}
+	}
+
+	/**
+	 * Append a record.
+	 *
+	 * @param type either {@link #PUT} or {@link #DELETE}.
+	 * @param key the encoded key.
+	 * @param value the encoded value, {@literal null} for {@link #DELETE} records.
+	 * @throws IOException if the file cannot be extended.
+	 * @throws IllegalArgumentException if the record exceeds the mapping size.
+	 */
+	void append(byte type, byte[] key, byte @Nullable [] value) throws IOException {
+
+		int length = 1 + Integer.BYTES + key.length + (value != null ? value.length : 0);
+		int required = RECORD_HEADER_SIZE + length;
+
+		if (required > mappingSize - FILE_HEADER_SIZE) {
+			throw new IllegalArgumentException(
+					String.format("Record of %d bytes exceeds the mapping size of %d bytes", required, mappingSize));
+		}
+
+		MappedByteBuffer buffer = current();
+
+		if (position + required > mappingSize) {
+
+			if (position + Integer.BYTES <= mappingSize) {
+
+				buffer.putInt(position, END_OF_CHUNK);
+				dirty = true;
+			}
+
+			MappedByteBuffer next = map(chunk + 1);
+
+			if (dirty) {
+				unforced.add(buffer);
+			} else {
+				unmap(buffer);
+			}
+
+			buffer = current = next;
+			chunk++;
+			position = 0;
+		}
+
+		int offset = position + RECORD_HEADER_SIZE;
+		dirty = true;
+
+		buffer.put(offset, type);
+		buffer.putInt(offset + 1, key.length);
+		buffer.put(offset + 1 + Integer.BYTES, key);
+
+		if (value != null) {
+			buffer.put(offset + 1 + Integer.BYTES + key.length, value);
+		}
+
+		buffer.putInt(position + Integer.BYTES, checksum(buffer, offset, length));
+		buffer.putInt(position, length);
+
+		position += required;
+		records++;
+
+		if (fsyncPolicy.getWrites() > 0 && ++unforcedWrites >= fsyncPolicy.getWrites()) {
+			force();
+		}
+	}
+
+	/**
+	 * Force all pending writes to the storage device.
+	 */
+	void force() {
+
+		for (MappedByteBuffer buffer : unforced) {
+			buffer.force();
+		}
+
+		unforced.forEach(AppendLog::unmap);
+		unforced.clear();
+
+		if (dirty) {
+
+			current().force();
+			dirty = false;
+		}
+
+		unforcedWrites = 0;
+	}
+
+	/**
+	 * @return number of records contained in the log.
+	 */
+	long getRecords() {
+		return records;
+	}
+
+	@Override
+	public void close() throws IOException {
+
+		try {
+			force();
+		} finally {
+
+			unforced.forEach(AppendLog::unmap);
+			unforced.clear();
+
+			if (current != null) {
+
+				unmap(current);
+				current = null;
+			}
+
+			channel.close();
+		}
+	}
+
+	private void replay(RecordHandler handler) throws IOException {
+
+		ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+		channel.read(header, 0);
+		header.flip();
+
+		if (header.remaining() < FILE_HEADER_SIZE || header.getLong(0) == 0) {
+
+			MappedByteBuffer buffer = current = map(0);
+			buffer.putLong(0, MAGIC);
+			buffer.putInt(Long.BYTES, mappingSize);
+			buffer.force();
+			position = FILE_HEADER_SIZE;
+			return;
+		}
+
+		if (header.getLong(0) != MAGIC) {
+			throw new IOException("Not a key-value append log");
+		}
+
+		mappingSize = header.getInt(Long.BYTES);
+
+		if (mappingSize <= FILE_HEADER_SIZE) {
+			throw new IOException("Invalid mapping size " + mappingSize);
+		}
+
+		MappedByteBuffer buffer = current = map(0);
+
+		int pos = FILE_HEADER_SIZE;
+		long chunks = (channel.size() + mappingSize - 1) / mappingSize;
+
+		while (true) {
+
+			int length = pos + RECORD_HEADER_SIZE <= mappingSize ? buffer.getInt(pos) : END_OF_CHUNK;
+
+			if (length == END_OF_CHUNK) {
+
+				if (chunk + 1 >= chunks) {
+					break;
+				}
+
+				current = null;
+				unmap(buffer);
+				buffer = current = map(++chunk);
+				pos = 0;
+				continue;
+			}
+
+			if (length <= 0 || pos + RECORD_HEADER_SIZE + length > mappingSize
+					|| buffer.getInt(pos + Integer.BYTES) != checksum(buffer, pos + RECORD_HEADER_SIZE, length)) {
+				break;
+			}
+
+			apply(buffer, pos + RECORD_HEADER_SIZE, length, handler);
+
+			pos += RECORD_HEADER_SIZE + length;
+			records++;
+		}
+
+		long size = (long) (chunk + 1) * mappingSize;
+
+		if (channel.size() > size) {
+
+			// files cannot be truncated while mapped on some platforms
+			current = null;
+			unmap(buffer);
+			channel.truncate(size);
+			buffer = current = map(chunk);
+		}
+
+		discardTail(buffer, pos);
+		position = pos;
+	}
+
+	private static void apply(ByteBuffer buffer, int offset, int length, RecordHandler handler) {
+
+		byte type = buffer.get(offset);
+		int keyLength = buffer.getInt(offset + 1);
+		int valueOffset = offset + 1 + Integer.BYTES + keyLength;
+
+		byte[] key = new byte[keyLength];
+		buffer.get(offset + 1 + Integer.BYTES, key);
+
+		if (type == DELETE) {
+			handler.delete(key);
+			return;
+		}
+
+		byte[] value = new byte[offset + length - valueOffset];
+		buffer.get(valueOffset, value);
+		handler.put(key, value);
+	}
+
+	/**
+	 * Zero out leftovers of an incomplete record. Bytes that are already zero are not written to avoid allocating
+	 * storage for sparse regions.
+	 */
+	private static void discardTail(MappedByteBuffer buffer, int from) {
+
+		for (int i = from; i < buffer.capacity(); i++) {
+			if (buffer.get(i) != 0) {
+				buffer.put(i, (byte) 0);
+			}
+		}
+	}
+
+	private int checksum(ByteBuffer buffer, int offset, int length) {
+
+		checksum.reset();
+		checksum.update(buffer.slice(offset, length));
+		return (int) checksum.getValue();
+	}
+
+	private MappedByteBuffer current() {
+
+		Assert.state(current != null, "Log is closed");
+
+		return current;
+	}
+
+	private MappedByteBuffer map(int chunk) throws IOException {
+		return channel.map(MapMode.READ_WRITE, (long) chunk * mappingSize, mappingSize);
+	}
+
+	/**
+	 * Release the given mapping. The mapping must not be accessed afterwards.
+	 */
+	private static void unmap(MappedByteBuffer buffer) {
+
+		if (INVOKE_CLEANER == null) {
+			return;
+		}
+
+		try {
+			INVOKE_CLEANER.invokeExact((ByteBuffer) buffer);
+		} catch (Throwable ex) {
+			// released once garbage collected
+		}
+	}
+
+	/**
+	 * Look up {@code Unsafe.invokeCleaner(ByteBuffer)} to release mappings without waiting for garbage collection.
+	 */
+	private static @Nullable MethodHandle findCleaner() {
+
+		try {
+
+			Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+			Field field = unsafeClass.getDeclaredField("theUnsafe");
+			field.setAccessible(true);
+
+			return MethodHandles.lookup()
+					.findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+					.bindTo(field.get(null));
+		} catch (ReflectiveOperationException | RuntimeException ex) {
+			return null;
+		}
+	}
+
+	/**
+	 * Callback for records read during replay.
+	 */
+	interface RecordHandler {
+
+		void put(byte[] key, byte[] value);
+
+		void delete(byte[] key);
+	}
+}
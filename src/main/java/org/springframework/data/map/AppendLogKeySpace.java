@@ -0,0 +1,488 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMap} holding its entries in memory and recording each modification in an {@link AppendLog} before
+ * applying it. Entries are restored by replaying the log when opening the keyspace.
+ * <p>
+ * Reads are served from memory without locking. Writes are serialized to keep the log in modification order.
+ * {@link #compact() Compaction} rewrites the log containing only the current entries and replaces the previous log
+ * atomically. Writes are only held off while copying the entries and while replacing the log.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class AppendLogKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private static final long MIN_RECORDS_TO_COMPACT = 1024;
+
+	private final Map<Object, Object> data = new ConcurrentHashMap<>();
+	private final Path file;
+	private final ValueCodec codec;
+	private final int mappingSize;
+	private final FsyncPolicy fsyncPolicy;
+	private final Object compactionMonitor = new Object();
+
+	private @Nullable AppendLog log;
+	private @Nullable List<Record> tail;
+
+	private AppendLogKeySpace(Path file, ValueCodec codec, int mappingSize, FsyncPolicy fsyncPolicy) {
+
+		this.file = file;
+		this.codec = codec;
+		this.mappingSize = mappingSize;
+		this.fsyncPolicy = fsyncPolicy;
+	}
+
+	/**
+	 * Open the keyspace stored in {@code file} and restore its entries.
+	 *
+	 * @param file the log file.
+	 * @param codec codec for keys and values.
+	 * @param mappingSize size of a single mapped chunk.
+	 * @param fsyncPolicy the {@link FsyncPolicy} to apply.
+	 * @return the opened keyspace.
+	 */
+	static AppendLogKeySpace open(Path file, ValueCodec codec, int mappingSize, FsyncPolicy fsyncPolicy) {
+
+		AppendLogKeySpace keySpace = new AppendLogKeySpace(file, codec, mappingSize, fsyncPolicy);
+		keySpace.log = keySpace.openLog(file, true);
+
+		return keySpace;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		return data.get(key);
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+
+		byte[] encodedKey = encode(key);
+		byte[] encodedValue = encode(value);
+
+		synchronized (this) {
+
+			append(AppendLog.PUT, encodedKey, encodedValue);
+			return data.put(key, value);
+		}
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+
+		byte[] encodedKey = encode(key);
+		byte[] encodedValue = encode(value);
+
+		synchronized (this) {
+
+			Object existing = data.get(key);
+
+			if (existing == null) {
+
+				append(AppendLog.PUT, encodedKey, encodedValue);
+				data.put(key, value);
+			}
+
+			return existing;
+		}
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+
+		byte[] encodedKey = encode(key);
+		byte[] encodedValue = encode(value);
+
+		synchronized (this) {
+
+			if (!data.containsKey(key)) {
+				return null;
+			}
+
+			append(AppendLog.PUT, encodedKey, encodedValue);
+			return data.put(key, value);
+		}
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+
+		byte[] encodedKey = encode(key);
+		byte[] expected = encode(oldValue);
+		byte[] encodedValue = encode(newValue);
+
+		synchronized (this) {
+
+			if (!contentEquals(data.get(key), expected)) {
+				return false;
+			}
+
+			append(AppendLog.PUT, encodedKey, encodedValue);
+			data.put(key, newValue);
+			return true;
+		}
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		if (!data.containsKey(key)) {
+			return null;
+		}
+
+		byte[] encodedKey = encode(key);
+
+		synchronized (this) {
+
+			if (!data.containsKey(key)) {
+				return null;
+			}
+
+			append(AppendLog.DELETE, encodedKey, null);
+			return data.remove(key);
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+
+		if (value == null) {
+			return false;
+		}
+
+		byte[] encodedKey = encode(key);
+		byte[] expected = encode(value);
+
+		synchronized (this) {
+
+			if (!contentEquals(data.get(key), expected)) {
+				return false;
+			}
+
+			append(AppendLog.DELETE, encodedKey, null);
+			data.remove(key);
+			return true;
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+
+		closeLog();
+
+		try {
+			Files.deleteIfExists(file);
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot delete log %s", file), e);
+		}
+
+		data.clear();
+		log = openLog(file, false);
+	}
+
+	@Override
+	public Collection<Object> values() {
+		return Collections.unmodifiableCollection(data.values());
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * Force pending writes to the storage device.
+	 */
+	synchronized void force() {
+
+		if (log != null) {
+			log.force();
+		}
+	}
+
+	/**
+	 * Compact the log if it holds considerably more records than entries.
+	 */
+	void compactIfNecessary() {
+
+		boolean necessary;
+
+		synchronized (this) {
+			necessary = log != null && log.getRecords() > MIN_RECORDS_TO_COMPACT && log.getRecords() > data.size() * 2L;
+		}
+
+		if (necessary) {
+			compact();
+		}
+	}
+
+	/**
+	 * Rewrite the log to contain only the current entries. The entries are copied while holding off writes and written
+	 * to a temporary file without blocking writers. Records appended in the meantime are collected and appended to the
+	 * new log before it is moved over the current log while holding off writes again, so that a crash leaves either the
+	 * previous or the compacted log in place.
+	 */
+	void compact() {
+
+		synchronized (compactionMonitor) {
+
+			AppendLog source;
+			List<Entry<Object, Object>> entries;
+
+			synchronized (this) {
+
+				Assert.state(log != null, "Keyspace is closed");
+
+				source = log;
+				entries = new ArrayList<>(data.entrySet());
+				tail = new ArrayList<>();
+			}
+
+			Path compacted = file.resolveSibling(file.getFileName() + ".compact");
+
+			try {
+
+				Files.deleteIfExists(compacted);
+				AppendLog target = openLog(compacted, false);
+
+				try {
+
+					for (Entry<Object, Object> entry : entries) {
+						target.append(AppendLog.PUT, encode(entry.getKey()), encode(entry.getValue()));
+					}
+
+					target.force();
+
+					if (!replaceLog(source, target, compacted)) {
+
+						target.close();
+						Files.deleteIfExists(compacted);
+					}
+				} catch (IOException | RuntimeException e) {
+
+					target.close();
+					Files.deleteIfExists(compacted);
+					throw e;
+				}
+			} catch (IOException e) {
+				throw new DataAccessResourceFailureException(String.format("Cannot compact log %s", file), e);
+			} finally {
+
+				synchronized (this) {
+					tail = null;
+				}
+			}
+		}
+	}
+
+	/**
+	 * Force pending writes and release the log. The keyspace must not be used afterwards.
+	 */
+	synchronized void close() {
+
+		closeLog();
+		data.clear();
+	}
+
+	private void append(byte type, byte[] key, byte @Nullable [] value) {
+
+		Assert.state(log != null, "Keyspace is closed");
+
+		try {
+			log.append(type, key, value);
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot write to log %s", file), e);
+		}
+
+		if (tail != null) {
+			tail.add(new Record(type, key, value));
+		}
+	}
+
+	/**
+	 * Append the records written since the compaction started to {@code target} and move it over the current log unless
+	 * the log has been replaced meanwhile, e.g. because the keyspace was cleared or closed.
+	 *
+	 * @return {@literal true} if the log was replaced by {@code target}.
+	 */
+	private synchronized boolean replaceLog(AppendLog source, AppendLog target, Path compacted) throws IOException {
+
+		if (log != source || tail == null) {
+			return false;
+		}
+
+		for (Record record : tail) {
+			target.append(record.type(), record.key(), record.value());
+		}
+
+		target.force();
+
+		// the current log must be released before its file can be replaced on some platforms
+		closeLog();
+
+		try {
+			AppendLog.moveAtomically(compacted, file);
+		} catch (IOException | RuntimeException e) {
+
+			log = openLog(file, false);
+			throw e;
+		}
+
+		log = target;
+		return true;
+	}
+
+	/**
+	 * Compare the encoded form of {@code current} with {@code expected} as the conditional operations of the log work on
+	 * the stored representation rather than on {@link Object#equals(Object)}.
+	 */
+	private boolean contentEquals(@Nullable Object current, byte[] expected) {
+		return current != null && Arrays.equals(encode(current), expected);
+	}
+
+	private byte[] encode(Object value) {
+
+		Assert.notNull(value, "Key and value must not be null");
+
+		return codec.encode(value);
+	}
+
+	private AppendLog openLog(Path file, boolean restore) {
+
+		AppendLog.RecordHandler handler = new AppendLog.RecordHandler() {
+
+			@Override
+			public void put(byte[] key, byte[] value) {
+				if (restore) {
+					data.put(codec.decode(key), codec.decode(value));
+				}
+			}
+
+			@Override
+			public void delete(byte[] key) {
+				if (restore) {
+					data.remove(codec.decode(key));
+				}
+			}
+		};
+
+		try {
+			return AppendLog.open(file, mappingSize, fsyncPolicy, handler);
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot open log %s", file), e);
+		}
+	}
+
+	private void closeLog() {
+
+		if (log == null) {
+			return;
+		}
+
+		try {
+			log.close();
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot close log %s", file), e);
+		} finally {
+			log = null;
+		}
+	}
+
+	private record Record(byte type, byte[] key, byte @Nullable [] value) {
+
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+
+			Iterator<Entry<Object, Object>> delegate = data.entrySet().iterator();
+
+			return new Iterator<>() {
+
+				private @Nullable Object lastKey;
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public Entry<Object, Object> next() {
+
+					Entry<Object, Object> next = delegate.next();
+					lastKey = next.getKey();
+
+					return new SimpleImmutableEntry<>(next);
+				}
+
+				@Override
+				public void remove() {
+
+					Assert.state(lastKey != null, "No element to remove");
+
+					AppendLogKeySpace.this.remove(lastKey);
+					lastKey = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+	}
+}
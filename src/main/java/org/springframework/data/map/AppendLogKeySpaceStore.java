@@ -0,0 +1,333 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.util.Assert;
+
+/**
+ * Durable {@link KeySpaceStore} recording every modification of a keyspace in a memory-mapped append log within a
+ * directory. Keyspaces are held in memory and restored from their log when accessed for the first time, so data
+ * survives restarts of the application.
+ * <p>
+ * Writes are forced to the storage device according to the configured {@link FsyncPolicy}. Logs are compacted in the
+ * background once they hold considerably more records than entries. Failures of background tasks are logged and retried
+ * with the next execution. A log is only ever replaced atomically by its compacted version, and replay stops at the
+ * first incomplete record, so a crash never leaves a keyspace in an inconsistent state.
+ * <p>
+ * The store can be used with {@link MapKeyValueAdapter#MapKeyValueAdapter(KeySpaceStore)} or registered as bean and
+ * referenced through {@link org.springframework.data.map.repository.config.EnableMapRepositories#keySpaceStoreRef()}:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * AppendLogKeySpaceStore keySpaceStore() {
+ * 	return AppendLogKeySpaceStore.builder(Path.of("data")).fsyncPolicy(FsyncPolicy.grouped(100)).build();
+ * }
+ * </pre>
+ *
+ * Keys and values are encoded using a {@link ValueCodec}. The store must be {@link #close() closed} to release its
+ * files and background thread.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class AppendLogKeySpaceStore implements KeySpaceStore, DisposableBean, Closeable {
+
+	private static final Log logger = LogFactory.getLog(AppendLogKeySpaceStore.class);
+
+	private static final String LOG_FILE_SUFFIX = ".log";
+
+	private final Path directory;
+	private final ValueCodec codec;
+	private final FsyncPolicy fsyncPolicy;
+	private final int mappingSize;
+	private final Map<String, AppendLogKeySpace> keyspaces = new ConcurrentHashMap<>();
+	private final @Nullable ScheduledExecutorService scheduler;
+
+	private volatile boolean closed;
+
+	private AppendLogKeySpaceStore(Builder builder) {
+
+		this.directory = builder.directory;
+		this.codec = builder.codec;
+		this.fsyncPolicy = builder.fsyncPolicy;
+		this.mappingSize = builder.mappingSize;
+
+		try {
+			Files.createDirectories(directory);
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot create directory %s", directory), e);
+		}
+
+		Duration flushInterval = fsyncPolicy.getInterval();
+		Duration compactionInterval = builder.compactionInterval;
+
+		if (flushInterval == null && compactionInterval.isZero()) {
+			this.scheduler = null;
+			return;
+		}
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("append-log-store-");
+		threadFactory.setDaemon(true);
+		this.scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+
+		if (flushInterval != null) {
+			scheduler.scheduleWithFixedDelay(() -> forEachKeySpace(AppendLogKeySpace::force, "force"),
+					flushInterval.toMillis(), flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+
+		if (!compactionInterval.isZero()) {
+			scheduler.scheduleWithFixedDelay(() -> forEachKeySpace(AppendLogKeySpace::compactIfNecessary, "compact"),
+					compactionInterval.toMillis(), compactionInterval.toMillis(), TimeUnit.MILLISECONDS);
+		}
+	}
+
+	/**
+	 * Create a new {@link AppendLogKeySpaceStore} storing its logs in {@code directory} using default settings.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @return the new {@link AppendLogKeySpaceStore}.
+	 */
+	public static AppendLogKeySpaceStore create(Path directory) {
+		return builder(directory).build();
+	}
+
+	/**
+	 * Create a new {@link Builder} to configure an {@link AppendLogKeySpaceStore} storing its logs in
+	 * {@code directory}.
+	 *
+	 * @param directory must not be {@literal null}.
+	 * @return a new {@link Builder}.
+	 */
+	public static Builder builder(Path directory) {
+		return new Builder(directory);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.state(!closed, "Store is closed");
+
+		return keyspaces.computeIfAbsent(keyspace,
+				it -> AppendLogKeySpace.open(getLogFile(it), codec, mappingSize, fsyncPolicy));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	@Override
+	public boolean isPersistent() {
+		return true;
+	}
+
+	/**
+	 * Clear all keyspaces and delete their logs including logs of keyspaces not accessed yet.
+	 */
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+
+		Set<Path> opened = keyspaces.keySet().stream().map(this::getLogFile).collect(Collectors.toSet());
+
+		try (DirectoryStream<Path> logs = Files.newDirectoryStream(directory, "*" + LOG_FILE_SUFFIX)) {
+
+			for (Path log : logs) {
+				if (!opened.contains(log)) {
+					Files.deleteIfExists(log);
+				}
+			}
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot clear directory %s", directory), e);
+		}
+	}
+
+	/**
+	 * Force pending writes of all keyspaces to the storage device.
+	 */
+	public void flush() {
+		keyspaces.values().forEach(AppendLogKeySpace::force);
+	}
+
+	/**
+	 * Compact the logs of all keyspaces accessed so far.
+	 */
+	public void compact() {
+		keyspaces.values().forEach(AppendLogKeySpace::compact);
+	}
+
+	/**
+	 * Force pending writes and release all files and the background thread. The store must not be used afterwards.
+	 */
+	@Override
+	public void close() {
+
+		if (closed) {
+			return;
+		}
+
+		closed = true;
+
+		if (scheduler != null) {
+			scheduler.shutdownNow();
+		}
+
+		keyspaces.values().forEach(AppendLogKeySpace::close);
+		keyspaces.clear();
+	}
+
+	@Override
+	public void destroy() {
+		close();
+	}
+
+	/**
+	 * Apply {@code action} to each keyspace from a background task. Failures are logged per keyspace as an exception
+	 * escaping the task would cancel all of its subsequent executions.
+	 */
+	private void forEachKeySpace(Consumer<AppendLogKeySpace> action, String description) {
+
+		keyspaces.forEach((name, keySpace) -> {
+
+			try {
+				action.accept(keySpace);
+			} catch (RuntimeException ex) {
+
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to %s log of keyspace '%s'".formatted(description, name), ex);
+				}
+			}
+		});
+	}
+
+	private Path getLogFile(String keyspace) {
+		return directory.resolve(URLEncoder.encode(keyspace, StandardCharsets.UTF_8) + LOG_FILE_SUFFIX);
+	}
+
+	/**
+	 * Builder for {@link AppendLogKeySpaceStore}.
+	 */
+	public static class Builder {
+
+		private final Path directory;
+		private ValueCodec codec = ValueCodec.serializing();
+		private FsyncPolicy fsyncPolicy = FsyncPolicy.periodic(Duration.ofSeconds(1));
+		private int mappingSize = 64 * 1024 * 1024;
+		private Duration compactionInterval = Duration.ofMinutes(1);
+
+		private Builder(Path directory) {
+
+			Assert.notNull(directory, "Directory must not be null");
+
+			this.directory = directory;
+		}
+
+		/**
+		 * Configure the {@link ValueCodec} used to encode keys and values. Defaults to
+		 * {@link ValueCodec#serializing() Java serialization}.
+		 *
+		 * @param codec must not be {@literal null}.
+		 * @return {@literal this} {@link Builder}.
+		 */
+		public Builder codec(ValueCodec codec) {
+
+			Assert.notNull(codec, "ValueCodec must not be null");
+
+			this.codec = codec;
+			return this;
+		}
+
+		/**
+		 * Configure the {@link FsyncPolicy}. Defaults to forcing writes every second.
+		 *
+		 * @param fsyncPolicy must not be {@literal null}.
+		 * @return {@literal this} {@link Builder}.
+		 */
+		public Builder fsyncPolicy(FsyncPolicy fsyncPolicy) {
+
+			Assert.notNull(fsyncPolicy, "FsyncPolicy must not be null");
+
+			this.fsyncPolicy = fsyncPolicy;
+			return this;
+		}
+
+		/**
+		 * Configure the size of a single memory-mapped chunk of new log files. A single record must fit into one chunk.
+		 * Defaults to 64 MiB.
+		 *
+		 * @param mappingSize size in bytes, must be greater than {@literal 1024}.
+		 * @return {@literal this} {@link Builder}.
+		 */
+		public Builder mappingSize(int mappingSize) {
+
+			Assert.isTrue(mappingSize > 1024, "Mapping size must be greater than 1024");
+
+			this.mappingSize = mappingSize;
+			return this;
+		}
+
+		/**
+		 * Configure the interval in which logs are checked for compaction. {@link Duration#ZERO} disables background
+		 * compaction. Defaults to one minute.
+		 *
+		 * @param compactionInterval must not be {@literal null} or negative.
+		 * @return {@literal this} {@link Builder}.
+		 */
+		public Builder compactionInterval(Duration compactionInterval) {
+
+			Assert.notNull(compactionInterval, "Compaction interval must not be null");
+			Assert.isTrue(!compactionInterval.isNegative(), "Compaction interval must not be negative");
+
+			this.compactionInterval = compactionInterval;
+			return this;
+		}
+
+		/**
+		 * Create the {@link AppendLogKeySpaceStore}.
+		 *
+		 * @return the new {@link AppendLogKeySpaceStore}.
+		 */
+		public AppendLogKeySpaceStore build() {
+			return new AppendLogKeySpaceStore(this);
+		}
+	}
+}
@@ -0,0 +1,671 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMap} limited to a {@link KeySpaceBound} evicting entries using the W-TinyLFU policy.
+ * <p>
+ * New entries enter a small admission window (1% of the bound). Entries leaving the window compete with the least
+ * recently used entry of the probation segment of the main space and are only admitted if they were accessed more
+ * frequently according to a {@link FrequencySketch}. Probation entries accessed again are promoted to the protected
+ * segment (80% of the main space).
+ * <p>
+ * Reads are lock-free: they mark the entry as accessed and sample the access into the {@link FrequencySketch} without
+ * reordering any segment. Recency is approximated by giving accessed entries a second chance when they reach the head
+ * of the probation segment. Writes are serialized per keyspace and notify the {@link EvictionListener} about evicted
+ * entries after releasing the lock.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class BoundedKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private static final int MAX_PROMOTIONS = 64;
+
+	private final ConcurrentHashMap<Object, Node> data = new ConcurrentHashMap<>();
+	private final EvictionListener listener;
+
+	private final AccessOrder window = new AccessOrder();
+	private final AccessOrder probation = new AccessOrder();
+	private final AccessOrder protectedSegment = new AccessOrder();
+
+	private KeySpaceBound bound = KeySpaceBound.UNBOUNDED;
+	private volatile @Nullable FrequencySketch sketch;
+
+	private long windowMaximum;
+	private long protectedMaximum;
+	private long weightedSize;
+	private long windowWeight;
+	private long protectedWeight;
+
+	BoundedKeySpace(KeySpaceBound bound, EvictionListener listener) {
+
+		this.listener = listener;
+		setBound(bound);
+	}
+
+	/**
+	 * Apply a new {@link KeySpaceBound} evicting entries exceeding the new bound.
+	 *
+	 * @param bound the new bound.
+	 */
+	void setBound(KeySpaceBound bound) {
+
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			this.bound = bound;
+
+			long maximum = bound.getMaximum();
+			this.windowMaximum = Math.max(1, maximum / 100);
+			this.protectedMaximum = (maximum - windowMaximum) / 10 * 8;
+			this.sketch = maximum == Long.MAX_VALUE ? null
+					: new FrequencySketch(bound.isWeighted() ? Math.max(data.size(), 1024) : maximum);
+
+			weightedSize = 0;
+			windowWeight = 0;
+			protectedWeight = 0;
+
+			for (Node node : data.values()) {
+
+				node.weight = bound.weigh(node.value);
+				weightedSize += node.weight;
+
+				if (node.segment == Segment.WINDOW) {
+					windowWeight += node.weight;
+				} else if (node.segment == Segment.PROTECTED) {
+					protectedWeight += node.weight;
+				}
+			}
+
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+	}
+
+	/**
+	 * @return the total weight of all entries.
+	 */
+	synchronized long getWeightedSize() {
+		return weightedSize;
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return data.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		Node node = data.get(key);
+
+		if (node == null) {
+			return null;
+		}
+
+		if (!node.accessed) {
+			node.accessed = true;
+		}
+
+		FrequencySketch sketch = this.sketch;
+
+		if (sketch != null) {
+			sketch.increment(key);
+		}
+
+		return node.value;
+	}
+
+	/**
+	 * Get the value associated with {@code key} without recording an access.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the value or {@literal null} if absent.
+	 */
+	@Nullable
+	Object peek(Object key) {
+
+		Node node = data.get(key);
+		return node != null ? node.value : null;
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		Object previous;
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+
+			if (node != null) {
+				previous = update(node, value);
+			} else {
+				previous = null;
+				insert(key, value);
+			}
+
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return previous;
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+		Assert.notNull(value, "Value must not be null");
+
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+
+			if (node != null) {
+				return node.value;
+			}
+
+			insert(key, value);
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return null;
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		Object previous;
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+
+			if (node == null) {
+				return null;
+			}
+
+			previous = update(node, value);
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return previous;
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+
+		Assert.notNull(newValue, "Value must not be null");
+
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+
+			if (node == null || !Objects.equals(node.value, oldValue)) {
+				return false;
+			}
+
+			update(node, newValue);
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return true;
+	}
+
+	@Override
+	public @Nullable Object compute(Object key,
+			BiFunction<? super Object, ? super @Nullable Object, ? extends @Nullable Object> remappingFunction) {
+
+		Object value;
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+			value = remappingFunction.apply(key, node != null ? node.value : null);
+
+			if (value == null) {
+
+				if (node != null) {
+					remove(node);
+				}
+
+				return null;
+			}
+
+			if (node != null) {
+				update(node, value);
+			} else {
+				insert(key, value);
+			}
+
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return value;
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+
+		Object value;
+		List<Node> evicted;
+
+		synchronized (this) {
+
+			Node node = data.get(key);
+
+			if (node == null) {
+				return null;
+			}
+
+			value = remappingFunction.apply(key, node.value);
+
+			if (value == null) {
+
+				remove(node);
+				return null;
+			}
+
+			update(node, value);
+			evicted = evict();
+		}
+
+		notifyEvicted(evicted);
+
+		return value;
+	}
+
+	@Override
+	public synchronized @Nullable Object remove(Object key) {
+
+		Node node = data.get(key);
+
+		if (node == null) {
+			return null;
+		}
+
+		remove(node);
+		return node.value;
+	}
+
+	@Override
+	public synchronized boolean remove(Object key, Object value) {
+
+		Node node = data.get(key);
+
+		if (node == null || !Objects.equals(node.value, value)) {
+			return false;
+		}
+
+		remove(node);
+		return true;
+	}
+
+	@Override
+	public synchronized void clear() {
+
+		data.clear();
+		window.clear();
+		probation.clear();
+		protectedSegment.clear();
+
+		weightedSize = 0;
+		windowWeight = 0;
+		protectedWeight = 0;
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	private void insert(Object key, Object value) {
+
+		Node node = new Node(key, value, bound.weigh(value));
+
+		data.put(key, node);
+		window.addLast(node);
+
+		weightedSize += node.weight;
+		windowWeight += node.weight;
+
+		recordWrite(key);
+	}
+
+	private Object update(Node node, Object value) {
+
+		Object previous = node.value;
+		int weight = bound.weigh(value);
+		int delta = weight - node.weight;
+
+		node.value = value;
+		node.weight = weight;
+		node.accessed = true;
+		weightedSize += delta;
+
+		if (node.segment == Segment.WINDOW) {
+			windowWeight += delta;
+		} else if (node.segment == Segment.PROTECTED) {
+			protectedWeight += delta;
+		}
+
+		recordWrite(node.key);
+
+		return previous;
+	}
+
+	private void remove(Node node) {
+
+		data.remove(node.key, node);
+		weightedSize -= node.weight;
+
+		switch (node.segment) {
+			case WINDOW -> {
+				window.remove(node);
+				windowWeight -= node.weight;
+			}
+			case PROBATION -> probation.remove(node);
+			case PROTECTED -> {
+				protectedSegment.remove(node);
+				protectedWeight -= node.weight;
+			}
+		}
+	}
+
+	private void recordWrite(Object key) {
+
+		FrequencySketch sketch = this.sketch;
+
+		if (sketch != null) {
+			sketch.increment(key);
+		}
+	}
+
+	private List<Node> evict() {
+
+		FrequencySketch sketch = this.sketch;
+
+		if (sketch == null || weightedSize <= bound.getMaximum() && windowWeight <= windowMaximum) {
+			return List.of();
+		}
+
+		sketch.resetIfNecessary();
+
+		while (windowWeight > windowMaximum && window.first != null) {
+
+			Node node = window.first;
+
+			window.remove(node);
+			windowWeight -= node.weight;
+
+			node.segment = Segment.PROBATION;
+			probation.addLast(node);
+		}
+
+		List<Node> evicted = new ArrayList<>();
+		int promotions = 0;
+
+		while (weightedSize > bound.getMaximum()) {
+
+			Node victim = probation.first;
+
+			if (victim == null) {
+
+				victim = protectedSegment.first != null ? protectedSegment.first : window.first;
+
+				if (victim == null) {
+					break;
+				}
+			} else if (victim.accessed && victim != probation.last && promotions++ < MAX_PROMOTIONS) {
+
+				promote(victim);
+				continue;
+			} else {
+
+				Node candidate = probation.last;
+
+				if (candidate != null && candidate != victim
+						&& sketch.frequency(candidate.key) <= sketch.frequency(victim.key)) {
+					victim = candidate;
+				}
+			}
+
+			remove(victim);
+			evicted.add(victim);
+		}
+
+		return evicted;
+	}
+
+	private void promote(Node node) {
+
+		probation.remove(node);
+		node.accessed = false;
+		node.segment = Segment.PROTECTED;
+		protectedSegment.addLast(node);
+		protectedWeight += node.weight;
+
+		while (protectedWeight > protectedMaximum && protectedSegment.first != null) {
+
+			Node demoted = protectedSegment.first;
+
+			protectedSegment.remove(demoted);
+			protectedWeight -= demoted.weight;
+
+			demoted.accessed = false;
+			demoted.segment = Segment.PROBATION;
+			probation.addFirst(demoted);
+		}
+	}
+
+	private void notifyEvicted(List<Node> evicted) {
+
+		for (Node node : evicted) {
+			listener.evicted(node.key, node.value);
+		}
+	}
+
+	/**
+	 * Callback notified about entries evicted to satisfy the {@link KeySpaceBound}.
+	 */
+	interface EvictionListener {
+
+		/**
+		 * Called after an entry has been evicted.
+		 *
+		 * @param key the key of the evicted entry.
+		 * @param value the value of the evicted entry.
+		 */
+		void evicted(Object key, Object value);
+	}
+
+	private enum Segment {
+		WINDOW, PROBATION, PROTECTED
+	}
+
+	private static final class Node {
+
+		final Object key;
+		volatile Object value;
+		volatile boolean accessed;
+		int weight;
+		Segment segment = Segment.WINDOW;
+		@Nullable Node previous;
+		@Nullable Node next;
+
+		Node(Object key, Object value, int weight) {
+
+			this.key = key;
+			this.value = value;
+			this.weight = weight;
+		}
+	}
+
+	/**
+	 * Intrusive doubly linked list of {@link Node nodes} ordered from least to most recently inserted.
+	 */
+	private static final class AccessOrder {
+
+		@Nullable Node first;
+		@Nullable Node last;
+
+		void addFirst(Node node) {
+
+			node.previous = null;
+			node.next = first;
+
+			if (first != null) {
+				first.previous = node;
+			} else {
+				last = node;
+			}
+
+			first = node;
+		}
+
+		void addLast(Node node) {
+
+			node.next = null;
+			node.previous = last;
+
+			if (last != null) {
+				last.next = node;
+			} else {
+				first = node;
+			}
+
+			last = node;
+		}
+
+		void remove(Node node) {
+
+			if (node.previous != null) {
+				node.previous.next = node.next;
+			} else {
+				first = node.next;
+			}
+
+			if (node.next != null) {
+				node.next.previous = node.previous;
+			} else {
+				last = node.previous;
+			}
+
+			node.previous = null;
+			node.next = null;
+		}
+
+		void clear() {
+
+			first = null;
+			last = null;
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+
+			Iterator<Node> delegate = data.values().iterator();
+
+			return new Iterator<>() {
+
+				private @Nullable Object lastKey;
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public Entry<Object, Object> next() {
+
+					Node next = delegate.next();
+					lastKey = next.key;
+
+					return new SimpleImmutableEntry<>(next.key, next.value);
+				}
+
+				@Override
+				public void remove() {
+
+					Assert.state(lastKey != null, "No element to remove");
+
+					BoundedKeySpace.this.remove(lastKey);
+					lastKey = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+	}
+
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} holding keyspaces limited by a {@link KeySpaceBound}. Keyspaces exceeding their bound evict
+ * entries using a frequency-aware W-TinyLFU policy, which makes the store suitable for look-aside caches.
+ * <p>
+ * Bounds can be configured per store, applying to all keyspaces without a dedicated bound, per keyspace, or through
+ * {@link org.springframework.data.keyvalue.annotation.KeySpace#maximumSize()} on the stored type. Bounds configured on
+ * the store take precedence over annotated ones. Keyspaces without any bound are not limited.
+ *
+ * <pre class="code">
+ * BoundedKeySpaceStore store = BoundedKeySpaceStore.create(KeySpaceBound.entries(10_000));
+ * store.setBound("documents", KeySpaceBound.bytes(64 * 1024 * 1024, Document::estimateSize));
+ *
+ * KeyValueTemplate template = new KeyValueTemplate(new MapKeyValueAdapter(store));
+ * </pre>
+ *
+ * {@link MapKeyValueAdapter} keeps indexes and expiration deadlines of evicted entries consistent and publishes a
+ * {@link org.springframework.data.keyvalue.core.event.KeyValueEvent.EvictedEvent} for each evicted entry.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class BoundedKeySpaceStore implements KeySpaceStore {
+
+	private final @Nullable KeySpaceBound defaultBound;
+	private final Map<String, KeySpaceBound> bounds = new ConcurrentHashMap<>();
+	private final Map<String, BoundedKeySpace> keyspaces = new ConcurrentHashMap<>();
+
+	private volatile EvictionListener evictionListener = (keyspace, key, value) -> {};
+
+	private BoundedKeySpaceStore(@Nullable KeySpaceBound defaultBound) {
+		this.defaultBound = defaultBound;
+	}
+
+	/**
+	 * Create a new {@link BoundedKeySpaceStore} limiting only keyspaces with a dedicated bound.
+	 *
+	 * @return a new and empty {@link BoundedKeySpaceStore}.
+	 */
+	public static BoundedKeySpaceStore create() {
+		return new BoundedKeySpaceStore(null);
+	}
+
+	/**
+	 * Create a new {@link BoundedKeySpaceStore} limiting each keyspace without a dedicated bound to {@code defaultBound}.
+	 *
+	 * @param defaultBound must not be {@literal null}.
+	 * @return a new and empty {@link BoundedKeySpaceStore}.
+	 */
+	public static BoundedKeySpaceStore create(KeySpaceBound defaultBound) {
+
+		Assert.notNull(defaultBound, "Default bound must not be null");
+
+		return new BoundedKeySpaceStore(defaultBound);
+	}
+
+	/**
+	 * Limit the given {@code keyspace} to {@code bound}. Applying a bound to an existing keyspace evicts entries exceeding
+	 * the new bound.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param bound must not be {@literal null}.
+	 */
+	public void setBound(String keyspace, KeySpaceBound bound) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.notNull(bound, "Bound must not be null");
+
+		bounds.put(keyspace, bound);
+
+		BoundedKeySpace keySpace = keyspaces.get(keyspace);
+
+		if (keySpace != null) {
+			keySpace.setBound(bound);
+		}
+	}
+
+	/**
+	 * Limit the given {@code keyspace} to {@code bound} unless a bound has been {@link #setBound(String, KeySpaceBound)
+	 * configured} explicitly.
+	 *
+	 * @param keyspace the keyspace.
+	 * @param bound the bound.
+	 */
+	void setBoundIfAbsent(String keyspace, KeySpaceBound bound) {
+
+		if (bounds.putIfAbsent(keyspace, bound) == null) {
+
+			BoundedKeySpace keySpace = keyspaces.get(keyspace);
+
+			if (keySpace != null) {
+				keySpace.setBound(bound);
+			}
+		}
+	}
+
+	/**
+	 * Return the total weight of the given {@code keyspace}, that is the number of entries or their estimated size in
+	 * bytes depending on the {@link KeySpaceBound}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the total weight of the keyspace, {@code 0} if the keyspace does not exist.
+	 */
+	public long getWeightedSize(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		BoundedKeySpace keySpace = keyspaces.get(keyspace);
+		return keySpace != null ? keySpace.getWeightedSize() : 0;
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return keyspaces.computeIfAbsent(keyspace, it -> new BoundedKeySpace(getBound(it),
+				(key, value) -> evictionListener.evicted(it, key, value)));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+	}
+
+	/**
+	 * Register the callback notified about evicted entries.
+	 *
+	 * @param evictionListener the callback.
+	 */
+	void setEvictionListener(EvictionListener evictionListener) {
+		this.evictionListener = evictionListener;
+	}
+
+	private KeySpaceBound getBound(String keyspace) {
+
+		KeySpaceBound bound = bounds.get(keyspace);
+
+		if (bound != null) {
+			return bound;
+		}
+
+		return defaultBound != null ? defaultBound : KeySpaceBound.UNBOUNDED;
+	}
+
+	/**
+	 * Callback notified about entries evicted from a keyspace.
+	 */
+	interface EvictionListener {
+
+		/**
+		 * Called after an entry has been evicted.
+		 *
+		 * @param keyspace the keyspace.
+		 * @param key the key of the evicted entry.
+		 * @param value the value of the evicted entry.
+		 */
+		void evicted(String keyspace, Object key, Object value);
+	}
+
+}
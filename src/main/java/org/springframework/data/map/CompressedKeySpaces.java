@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.annotation.KeySpace;
+
+/**
+ * Registry of the {@link CompressingKeySpace compressing views} over keyspaces of a {@link KeySpaceStore}. Views are
+ * registered for keyspaces of entities declaring {@link KeySpace#compressed()} when written to and for keyspaces found
+ * to hold compressed values when opened. Each view stores its compression dictionaries in the
+ * {@link CompressingKeySpace#getDictionaryKeySpace(String) dictionary keyspace} of the same store.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class CompressedKeySpaces {
+
+	private final KeySpaceStore store;
+	private final ValueCodec codec;
+	private final Map<String, CompressingKeySpace> keySpaces = new ConcurrentHashMap<>();
+
+	CompressedKeySpaces(KeySpaceStore store, ValueCodec codec) {
+
+		this.store = store;
+		this.codec = codec;
+	}
+
+	/**
+	 * Create a new {@link CompressedKeySpaces} using the given {@code codec} for the keyspaces registered with this
+	 * instance.
+	 *
+	 * @param codec the codec encoding values before compression.
+	 * @return a new {@link CompressedKeySpaces}.
+	 */
+	CompressedKeySpaces withCodec(ValueCodec codec) {
+
+		CompressedKeySpaces compressedKeySpaces = new CompressedKeySpaces(store, codec);
+		keySpaces.keySet().forEach(compressedKeySpaces::getOrCreate);
+
+		return compressedKeySpaces;
+	}
+
+	/**
+	 * Get the compressing view registered for {@code keyspace}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @return the view or {@literal null} if the keyspace is not compressed.
+	 */
+	@Nullable
+	CompressingKeySpace get(String keyspace) {
+		return keySpaces.isEmpty() ? null : keySpaces.get(keyspace);
+	}
+
+	/**
+	 * Get the compressing view of {@code keyspace}, registering it if necessary.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @return the view.
+	 */
+	CompressingKeySpace getOrCreate(String keyspace) {
+
+		CompressingKeySpace compressed = keySpaces.get(keyspace);
+
+		if (compressed != null) {
+			return compressed;
+		}
+
+		return keySpaces.computeIfAbsent(keyspace, it -> new CompressingKeySpace(store.getKeySpace(it),
+				store.getKeySpace(CompressingKeySpace.getDictionaryKeySpace(it)), codec));
+	}
+
+	/**
+	 * Return the map to access a keyspace opened from a persistent store through, registering a compressing view if the
+	 * keyspace holds compressed values.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param keySpaceMap the map as held by the store.
+	 * @return the compressing view or {@code keySpaceMap} if the keyspace holds no compressed values.
+	 */
+	Map<Object, Object> open(String keyspace, Map<Object, Object> keySpaceMap) {
+		return CompressingKeySpace.containsCompressed(keySpaceMap) ? getOrCreate(keyspace) : keySpaceMap;
+	}
+
+	/**
+	 * Decompress a value as held by the store.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param stored the stored value.
+	 * @return the decompressed value.
+	 */
+	Object decompress(String keyspace, Object stored) {
+
+		CompressingKeySpace compressed = get(keyspace);
+		Object value = compressed != null ? compressed.decompress(stored) : stored;
+
+		return value != null ? value : stored;
+	}
+
+	/**
+	 * @param keyspace name of the keyspace.
+	 * @return the {@link CompressionStatistics} of the keyspace, {@link CompressionStatistics#NONE} if not compressed.
+	 */
+	CompressionStatistics getStatistics(String keyspace) {
+
+		CompressingKeySpace compressed = get(keyspace);
+		return compressed != null ? compressed.getStatistics() : CompressionStatistics.NONE;
+	}
+
+	/**
+	 * Drop all registered views.
+	 */
+	void clear() {
+		keySpaces.clear();
+	}
+}
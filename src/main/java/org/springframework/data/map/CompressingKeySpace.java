@@ -0,0 +1,538 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Serializable;
+import java.time.Duration;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMap} view over a keyspace held by any {@link KeySpaceStore} storing values compressed. Values are
+ * encoded using a {@link ValueCodec} and compressed using {@link Deflater} when written. Values are decompressed when
+ * read, so keyspace entries never accessed are never decompressed.
+ * <p>
+ * Compression uses a preset dictionary built from the first {@link #SAMPLE_COUNT} values written to the keyspace,
+ * allowing content shared across values, such as common strings, to be referenced instead of being stored repeatedly.
+ * Values encoding to less than {@link #MIN_COMPRESSIBLE_SIZE} bytes or not getting smaller when compressed are stored
+ * as-is.
+ * <p>
+ * Compressed values reference their dictionary by id. Dictionaries are stored in a separate map, typically the
+ * {@link #getDictionaryKeySpace(String) dictionary keyspace} of the same {@link KeySpaceStore}, so that they outlive
+ * the values referencing them when the store is persistent. A dictionary is stored before the first value referencing
+ * it and never changes once stored. Conditional operations compare decompressed values and are atomic if the backing map supports atomic
+ * {@link Map#computeIfPresent(Object, BiFunction)}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class CompressingKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	/**
+	 * Minimum size of an encoded value in bytes to be compressed.
+	 */
+	static final int MIN_COMPRESSIBLE_SIZE = 128;
+
+	/**
+	 * Number of values sampled to build the compression dictionary.
+	 */
+	static final int SAMPLE_COUNT = 16;
+
+	/**
+	 * Maximum dictionary size matching the {@link Deflater} window size.
+	 */
+	static final int MAX_DICTIONARY_SIZE = 32 * 1024;
+
+	/**
+	 * Id referenced by values compressed without dictionary.
+	 */
+	static final int NO_DICTIONARY = 0;
+
+	private static final String DICTIONARY_KEYSPACE_SUFFIX = "#dictionaries";
+
+	private final Map<Object, Object> delegate;
+	private final Map<Object, Object> dictionaries;
+	private final ValueCodec codec;
+	private final List<byte[]> samples = new ArrayList<>(SAMPLE_COUNT);
+	private final Map<Integer, byte[]> resolvedDictionaries = new ConcurrentHashMap<>();
+	private volatile @Nullable Dictionary dictionary;
+
+	private final LongAdder compressedValues = new LongAdder();
+	private final LongAdder uncompressedBytes = new LongAdder();
+	private final LongAdder compressedBytes = new LongAdder();
+	private final LongAdder compressionNanos = new LongAdder();
+	private final LongAdder decompressedValues = new LongAdder();
+	private final LongAdder decompressionNanos = new LongAdder();
+
+	/**
+	 * Create a new {@link CompressingKeySpace} continuing to use the latest dictionary held by {@code dictionaries}.
+	 *
+	 * @param delegate the map holding the compressed values.
+	 * @param dictionaries the map holding the dictionaries by id.
+	 * @param codec the codec encoding values before compression.
+	 */
+	CompressingKeySpace(Map<Object, Object> delegate, Map<Object, Object> dictionaries, ValueCodec codec) {
+
+		this.delegate = delegate;
+		this.dictionaries = dictionaries;
+		this.codec = codec;
+
+		Dictionary latest = null;
+
+		for (Entry<Object, Object> entry : dictionaries.entrySet()) {
+
+			if (entry.getKey() instanceof Integer id && entry.getValue() instanceof byte[] bytes
+					&& (latest == null || latest.id() < id)) {
+				latest = new Dictionary(id, bytes);
+			}
+		}
+
+		this.dictionary = latest;
+	}
+
+	/**
+	 * Return the name of the keyspace holding the dictionaries of {@code keyspace}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the dictionary keyspace name.
+	 */
+	static String getDictionaryKeySpace(String keyspace) {
+		return keyspace + DICTIONARY_KEYSPACE_SUFFIX;
+	}
+
+	/**
+	 * @param keyspace must not be {@literal null}.
+	 * @return {@literal true} if {@code keyspace} holds dictionaries of another keyspace.
+	 */
+	static boolean isDictionaryKeySpace(String keyspace) {
+		return keyspace.endsWith(DICTIONARY_KEYSPACE_SUFFIX);
+	}
+
+	/**
+	 * Return whether {@code keySpaceMap} holds values compressed by a {@link CompressingKeySpace}, e.g. because they were
+	 * written before a persistent store was reopened.
+	 *
+	 * @param keySpaceMap the map as held by the store.
+	 * @return {@literal true} if at least one value is compressed.
+	 */
+	static boolean containsCompressed(Map<Object, Object> keySpaceMap) {
+
+		for (Object value : keySpaceMap.values()) {
+			if (value instanceof Compressed) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		return decompress(delegate.get(key));
+	}
+
+	/**
+	 * Get the value associated with {@code key} without recording an access in a {@link BoundedKeySpace}.
+	 *
+	 * @param key must not be {@literal null}.
+	 * @return the decompressed value or {@literal null} if absent.
+	 */
+	@Nullable
+	Object peek(Object key) {
+		return decompress(delegate instanceof BoundedKeySpace bounded ? bounded.peek(key) : delegate.get(key));
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return delegate.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return delegate.size();
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+		return decompress(delegate.put(key, compress(value)));
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+		return decompress(delegate.putIfAbsent(key, compress(value)));
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+		return decompress(delegate.replace(key, compress(value)));
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+
+		boolean[] replaced = new boolean[1];
+
+		delegate.computeIfPresent(key, (it, stored) -> {
+
+			replaced[0] = Objects.equals(decompress(stored), oldValue);
+			return replaced[0] ? compress(newValue) : stored;
+		});
+
+		return replaced[0];
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+		return decompress(delegate.remove(key));
+	}
+
+	@Override
+	public boolean remove(Object key, @Nullable Object value) {
+
+		if (value == null) {
+			return false;
+		}
+
+		boolean[] removed = new boolean[1];
+
+		delegate.computeIfPresent(key, (it, stored) -> {
+
+			removed[0] = Objects.equals(decompress(stored), value);
+			return removed[0] ? null : stored;
+		});
+
+		return removed[0];
+	}
+
+	@Override
+	public @Nullable Object compute(Object key,
+			BiFunction<? super Object, ? super @Nullable Object, ? extends @Nullable Object> remappingFunction) {
+		return decompress(
+				delegate.compute(key, (it, stored) -> compressNullable(remappingFunction.apply(it, decompress(stored)))));
+	}
+
+	@Override
+	public @Nullable Object computeIfAbsent(Object key,
+			Function<? super Object, ? extends @Nullable Object> mappingFunction) {
+		return decompress(delegate.computeIfAbsent(key, it -> compressNullable(mappingFunction.apply(it))));
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+		return decompress(delegate.computeIfPresent(key,
+				(it, stored) -> compressNullable(remappingFunction.apply(it, decompress(stored)))));
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super Object, ? super Object> action) {
+		delegate.forEach((key, stored) -> action.accept(key, decompress(stored)));
+	}
+
+	@Override
+	public void clear() {
+		delegate.clear();
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return delegate.keySet();
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * @return the current {@link CompressionStatistics}.
+	 */
+	CompressionStatistics getStatistics() {
+
+		return new CompressionStatistics(compressedValues.sum(), uncompressedBytes.sum(), compressedBytes.sum(),
+				Duration.ofNanos(compressionNanos.sum()), decompressedValues.sum(),
+				Duration.ofNanos(decompressionNanos.sum()));
+	}
+
+	/**
+	 * Decompress a value as held by the backing map.
+	 *
+	 * @param stored the stored value, can be {@literal null}.
+	 * @return the decompressed value.
+	 */
+	@Nullable Object decompress(@Nullable Object stored) {
+
+		if (!(stored instanceof Compressed compressed)) {
+			return stored;
+		}
+
+		long start = System.nanoTime();
+		Object value = codec.decode(inflate(compressed));
+
+		decompressionNanos.add(System.nanoTime() - start);
+		decompressedValues.increment();
+
+		return value;
+	}
+
+	private Object compress(Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		long start = System.nanoTime();
+		byte[] bytes = codec.encode(value);
+
+		if (bytes.length < MIN_COMPRESSIBLE_SIZE) {
+			return value;
+		}
+
+		Dictionary dictionary = sample(bytes);
+		byte[] compressed = deflate(bytes, dictionary != null ? dictionary.bytes() : null);
+
+		if (compressed == null) {
+			return value;
+		}
+
+		compressionNanos.add(System.nanoTime() - start);
+		compressedValues.increment();
+		uncompressedBytes.add(bytes.length);
+		compressedBytes.add(compressed.length);
+
+		return new Compressed(compressed, bytes.length, dictionary != null ? dictionary.id() : NO_DICTIONARY);
+	}
+
+	private @Nullable Object compressNullable(@Nullable Object value) {
+		return value != null ? compress(value) : null;
+	}
+
+	/**
+	 * Collect the given encoded value as sample until the dictionary is built.
+	 *
+	 * @return the current dictionary, {@literal null} if not yet built.
+	 */
+	private @Nullable Dictionary sample(byte[] bytes) {
+
+		Dictionary current = dictionary;
+
+		if (current != null) {
+			return current;
+		}
+
+		synchronized (samples) {
+
+			if (dictionary == null) {
+
+				samples.add(bytes);
+
+				if (samples.size() == SAMPLE_COUNT) {
+					dictionary = storeDictionary(buildDictionary(samples));
+					samples.clear();
+				}
+			}
+
+			return dictionary;
+		}
+	}
+
+	/**
+	 * Store a new dictionary under the next free id. Uses the dictionary already stored under that id if another
+	 * {@link CompressingKeySpace} over the same maps stored one first.
+	 */
+	private Dictionary storeDictionary(byte[] bytes) {
+
+		int id = NO_DICTIONARY + 1;
+
+		for (Object key : dictionaries.keySet()) {
+			if (key instanceof Integer existing && existing >= id) {
+				id = existing + 1;
+			}
+		}
+
+		Object existing = dictionaries.putIfAbsent(id, bytes);
+		byte[] stored = existing instanceof byte[] existingBytes ? existingBytes : bytes;
+
+		resolvedDictionaries.put(id, stored);
+		return new Dictionary(id, stored);
+	}
+
+	/**
+	 * Resolve the dictionary stored under {@code id}.
+	 *
+	 * @throws IllegalStateException if the dictionary is missing.
+	 */
+	private byte[] getDictionary(int id) {
+
+		byte[] resolved = resolvedDictionaries.get(id);
+
+		if (resolved != null) {
+			return resolved;
+		}
+
+		if (!(dictionaries.get(id) instanceof byte[] bytes)) {
+			throw new IllegalStateException("Compression dictionary %d is missing".formatted(id));
+		}
+
+		resolvedDictionaries.put(id, bytes);
+		return bytes;
+	}
+
+	/**
+	 * Build a dictionary from an equally sized leading slice of each sample. Leading bytes of encoded entities hold the
+	 * values of the first declared properties, which are most likely to be shared across values.
+	 */
+	private static byte[] buildDictionary(List<byte[]> samples) {
+
+		int slice = MAX_DICTIONARY_SIZE / samples.size();
+		ByteArrayOutputStream dictionary = new ByteArrayOutputStream(MAX_DICTIONARY_SIZE);
+
+		for (byte[] sample : samples) {
+			dictionary.write(sample, 0, Math.min(slice, sample.length));
+		}
+
+		return dictionary.toByteArray();
+	}
+
+	private static byte @Nullable [] deflate(byte[] bytes, byte @Nullable [] dictionary) {
+
+		Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+		try {
+
+			if (dictionary != null) {
+				deflater.setDictionary(dictionary);
+			}
+
+			deflater.setInput(bytes);
+			deflater.finish();
+
+			byte[] buffer = new byte[bytes.length - 1];
+			int length = deflater.deflate(buffer);
+
+			return deflater.finished() ? Arrays.copyOf(buffer, length) : null;
+		} finally {
+			deflater.end();
+		}
+	}
+
+	private byte[] inflate(Compressed compressed) {
+
+		Inflater inflater = new Inflater();
+
+		try {
+
+			inflater.setInput(compressed.bytes());
+
+			byte[] bytes = new byte[compressed.length()];
+			int offset = 0;
+
+			while (offset < bytes.length) {
+
+				int read = inflater.inflate(bytes, offset, bytes.length - offset);
+
+				if (read == 0) {
+
+					if (!inflater.needsDictionary() || compressed.dictionary() == NO_DICTIONARY) {
+						throw new IllegalStateException("Compressed value is truncated");
+					}
+
+					inflater.setDictionary(getDictionary(compressed.dictionary()));
+				}
+
+				offset += read;
+			}
+
+			return bytes;
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("Compressed value is corrupt", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	/**
+	 * Compressed representation of a value.
+	 *
+	 * @param bytes the compressed bytes.
+	 * @param length length of the encoded value before compression.
+	 * @param dictionary id of the dictionary used for compression, {@link #NO_DICTIONARY} if compressed without
+	 *          dictionary.
+	 */
+	record Compressed(byte[] bytes, int length, int dictionary) implements Serializable {
+
+	}
+
+	/**
+	 * Dictionary used for compression along with the id it is stored under.
+	 */
+	private record Dictionary(int id, byte[] bytes) {
+
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+
+			Iterator<Entry<Object, Object>> iterator = delegate.entrySet().iterator();
+
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return iterator.hasNext();
+				}
+
+				@Override
+				public Entry<Object, Object> next() {
+
+					Entry<Object, Object> next = iterator.next();
+					return new SimpleImmutableEntry<>(next.getKey(), decompress(next.getValue()));
+				}
+
+				@Override
+				public void remove() {
+					iterator.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return delegate.size();
+		}
+	}
+}
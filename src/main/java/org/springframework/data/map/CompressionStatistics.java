@@ -0,0 +1,49 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.time.Duration;
+
+/**
+ * Counters of a keyspace storing compressed values. Counters are cumulative and cover all values written since the
+ * keyspace was first compressed.
+ *
+ * @param compressedValues number of values stored compressed.
+ * @param uncompressedBytes encoded size of compressed values before compression.
+ * @param compressedBytes size of compressed values.
+ * @param compressionTime time spent encoding and compressing values.
+ * @param decompressedValues number of values decompressed on read.
+ * @param decompressionTime time spent decompressing and decoding values.
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see org.springframework.data.keyvalue.annotation.KeySpace#compressed()
+ */
+public record CompressionStatistics(long compressedValues, long uncompressedBytes, long compressedBytes,
+		Duration compressionTime, long decompressedValues, Duration decompressionTime) {
+
+	/**
+	 * Statistics of a keyspace that does not store compressed values.
+	 */
+	public static final CompressionStatistics NONE = new CompressionStatistics(0, 0, 0, Duration.ZERO, 0,
+			Duration.ZERO);
+
+	/**
+	 * @return the ratio of uncompressed to compressed bytes, {@code 1.0} if no value has been compressed.
+	 */
+	public double compressionRatio() {
+		return compressedBytes > 0 ? (double) uncompressedBytes / compressedBytes : 1.0;
+	}
+}
@@ -0,0 +1,230 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMap} isolating stored values from callers. Values are captured as encoded snapshot when written and
+ * each read decodes a private copy, so modifying an object after writing it or modifying a returned object does not
+ * change the stored value.
+ * <p>
+ * Values of immutable types cannot be modified by callers and are stored and returned as-is without encoding or
+ * copying. Conditional operations such as {@link #replace(Object, Object, Object)} compare snapshots by their encoded
+ * representation.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class CopyOnReadKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private final ValueCodec codec;
+	private final Predicate<Class<?>> immutableTypes;
+	private final ConcurrentHashMap<Object, Object> data;
+
+	CopyOnReadKeySpace(ValueCodec codec, Predicate<Class<?>> immutableTypes, int initialCapacity) {
+
+		this.codec = codec;
+		this.immutableTypes = immutableTypes;
+		this.data = new ConcurrentHashMap<>(initialCapacity);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		return thaw(data.get(key));
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return data.containsKey(key);
+	}
+
+	@Override
+	public int size() {
+		return data.size();
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+		return thaw(data.put(key, freeze(value)));
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+		return thaw(data.putIfAbsent(key, freeze(value)));
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+		return thaw(data.replace(key, freeze(value)));
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+		return data.replace(key, freeze(oldValue), freeze(newValue));
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+		return thaw(data.remove(key));
+	}
+
+	@Override
+	public boolean remove(Object key, @Nullable Object value) {
+		return value != null && data.remove(key, freeze(value));
+	}
+
+	@Override
+	public @Nullable Object compute(Object key,
+			BiFunction<? super Object, ? super @Nullable Object, ? extends @Nullable Object> remappingFunction) {
+		return thaw(data.compute(key, (it, stored) -> freezeNullable(remappingFunction.apply(it, thaw(stored)))));
+	}
+
+	@Override
+	public @Nullable Object computeIfAbsent(Object key,
+			Function<? super Object, ? extends @Nullable Object> mappingFunction) {
+		return thaw(data.computeIfAbsent(key, it -> freezeNullable(mappingFunction.apply(it))));
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+		return thaw(data.computeIfPresent(key, (it, stored) -> freezeNullable(remappingFunction.apply(it, thaw(stored)))));
+	}
+
+	@Override
+	public @Nullable Object merge(Object key, Object value,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return thaw(data.merge(key, freeze(value),
+				(stored, given) -> freezeNullable(remappingFunction.apply(thaw(stored), value))));
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super Object, ? super Object> action) {
+		data.forEach((key, stored) -> action.accept(key, thaw(stored)));
+	}
+
+	@Override
+	public void clear() {
+		data.clear();
+	}
+
+	@Override
+	public Set<Object> keySet() {
+		return data.keySet();
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * @return {@literal true} if the value stored for {@code key} is held without encoding.
+	 */
+	boolean isShared(Object key) {
+
+		Object stored = data.get(key);
+		return stored != null && !(stored instanceof Snapshot);
+	}
+
+	private Object freeze(Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return immutableTypes.test(value.getClass()) ? value : new Snapshot(codec.encode(value));
+	}
+
+	private @Nullable Object freezeNullable(@Nullable Object value) {
+		return value != null ? freeze(value) : null;
+	}
+
+	private @Nullable Object thaw(@Nullable Object stored) {
+		return stored instanceof Snapshot snapshot ? codec.decode(snapshot.bytes()) : stored;
+	}
+
+	/**
+	 * Encoded representation of a value that is not immutable.
+	 */
+	private record Snapshot(byte[] bytes) {
+
+		@Override
+		public boolean equals(@Nullable Object obj) {
+			return obj instanceof Snapshot other && Arrays.equals(bytes, other.bytes);
+		}
+
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(bytes);
+		}
+
+		@Override
+		public String toString() {
+			return "Snapshot[" + bytes.length + " bytes]";
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+
+			Iterator<Entry<Object, Object>> delegate = data.entrySet().iterator();
+
+			return new Iterator<>() {
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public Entry<Object, Object> next() {
+
+					Entry<Object, Object> next = delegate.next();
+					return new SimpleImmutableEntry<>(next.getKey(), thaw(next.getValue()));
+				}
+
+				@Override
+				public void remove() {
+					delegate.remove();
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return data.size();
+		}
+	}
+}
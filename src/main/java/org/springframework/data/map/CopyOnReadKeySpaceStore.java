@@ -0,0 +1,120 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} isolating stored objects from the objects handed to and returned by the
+ * {@link MapKeyValueAdapter}. Objects are stored as immutable snapshot encoded using a {@link ValueCodec} and each read
+ * decodes a private copy. Modifying an object after saving it, or modifying a loaded object without saving it, does
+ * therefore never change the stored state, which removes the need for defensive copies in application code.
+ * <p>
+ * Objects of immutable types are stored and returned as-is. {@link MapKeyValueAdapter} considers records and types
+ * annotated with {@link org.springframework.data.annotation.Immutable @Immutable} immutable if all of their persistent
+ * properties are of immutable types, such as {@link String}, primitives and their wrappers, enums, {@code java.time}
+ * types or other immutable entities.
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * KeySpaceStore keySpaceStore() {
+ * 	return CopyOnReadKeySpaceStore.create(ValueCodec.serializing());
+ * }
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class CopyOnReadKeySpaceStore implements KeySpaceStore {
+
+	private final ValueCodec codec;
+	private final Map<String, CopyOnReadKeySpace> keyspaces = new ConcurrentHashMap<>();
+	private volatile Predicate<Class<?>> immutableTypes = type -> false;
+
+	private CopyOnReadKeySpaceStore(ValueCodec codec) {
+		this.codec = codec;
+	}
+
+	/**
+	 * Create a new {@link CopyOnReadKeySpaceStore} using {@link ValueCodec#serializing() Java serialization}.
+	 *
+	 * @return a new and empty {@link CopyOnReadKeySpaceStore}.
+	 */
+	public static CopyOnReadKeySpaceStore create() {
+		return create(ValueCodec.serializing());
+	}
+
+	/**
+	 * Create a new {@link CopyOnReadKeySpaceStore} using the given {@link ValueCodec}.
+	 *
+	 * @param codec must not be {@literal null}.
+	 * @return a new and empty {@link CopyOnReadKeySpaceStore}.
+	 */
+	public static CopyOnReadKeySpaceStore create(ValueCodec codec) {
+
+		Assert.notNull(codec, "ValueCodec must not be null");
+
+		return new CopyOnReadKeySpaceStore(codec);
+	}
+
+	/**
+	 * Configure the {@link Predicate} deciding whether objects of a given type are immutable and can be stored without
+	 * creating a snapshot.
+	 *
+	 * @param immutableTypes the predicate.
+	 */
+	void setImmutableTypes(Predicate<Class<?>> immutableTypes) {
+		this.immutableTypes = immutableTypes;
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+		return getKeySpace(keyspace, MapKeySpaceStore.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		CopyOnReadKeySpace keySpace = keyspaces.get(keyspace);
+
+		if (keySpace != null) {
+			return keySpace;
+		}
+
+		return keyspaces.computeIfAbsent(keyspace,
+				it -> new CopyOnReadKeySpace(codec, type -> immutableTypes.test(type), Math.max(expectedSize, 1)));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+	}
+
+}
@@ -0,0 +1,53 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import org.springframework.data.keyvalue.core.EntityCodec;
+import org.springframework.util.Assert;
+
+/**
+ * {@link ValueCodec} delegating to an {@link EntityCodec}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class EntityValueCodec implements ValueCodec {
+
+	private final EntityCodec codec;
+
+	EntityValueCodec(EntityCodec codec) {
+
+		Assert.notNull(codec, "EntityCodec must not be null");
+
+		this.codec = codec;
+	}
+
+	@Override
+	public byte[] encode(Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return codec.encode(value);
+	}
+
+	@Override
+	public Object decode(byte[] bytes) {
+
+		Assert.notNull(bytes, "Bytes must not be null");
+
+		return codec.decode(bytes);
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.scheduling.support.TaskUtils;
+
+/**
+ * Background thread periodically invoking a task removing expired objects. The thread is started on first
+ * {@link #start()} so that adapters not storing objects subject to expiration never create it. Exceptions thrown by
+ * the task are logged and do not cancel subsequent invocations.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class ExpirationScheduler {
+
+	private final Runnable task;
+	private final long interval;
+	private volatile @Nullable ScheduledExecutorService executor;
+
+	/**
+	 * @param task the task to invoke.
+	 * @param interval delay between the end of an invocation and the start of the next one in milliseconds.
+	 */
+	ExpirationScheduler(Runnable task, long interval) {
+
+		this.task = task;
+		this.interval = interval;
+	}
+
+	/**
+	 * Start invoking the task unless already started.
+	 */
+	void start() {
+
+		if (executor != null) {
+			return;
+		}
+
+		synchronized (this) {
+
+			if (executor == null) {
+
+				CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("map-keyvalue-expiration-");
+				threadFactory.setDaemon(true);
+
+				ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(threadFactory);
+				scheduler.scheduleWithFixedDelay(TaskUtils.decorateTaskWithErrorHandler(task, null, true), interval, interval,
+						TimeUnit.MILLISECONDS);
+
+				executor = scheduler;
+			}
+		}
+	}
+
+	/**
+	 * Stop invoking the task. A subsequent {@link #start()} starts a new thread.
+	 */
+	synchronized void shutdown() {
+
+		ScheduledExecutorService scheduler = executor;
+
+		if (scheduler != null) {
+
+			scheduler.shutdownNow();
+			executor = null;
+		}
+	}
+}
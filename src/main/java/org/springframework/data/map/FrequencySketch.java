@@ -0,0 +1,132 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+/**
+ * Count-min sketch estimating the access frequency of keys using four 4-bit counters per key. Counters are halved once
+ * the number of recorded accesses reaches ten times the table size so that the sketch reflects recent popularity.
+ * <p>
+ * Increments are not synchronized and may get lost under contention, which merely lowers the sampled frequency of a
+ * key. {@link #resetIfNecessary() Aging} is expected to be triggered by a single thread at a time.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class FrequencySketch {
+
+	private static final long[] SEEDS = { 0xc3a5c85c97cb3127L, 0xb492b66fbe98f273L, 0x9ae16a3b2f90404fL,
+			0xcbf29ce484222325L };
+	private static final long RESET_MASK = 0x7777777777777777L;
+
+	private final long[] table;
+	private final int tableMask;
+	private final int sampleSize;
+
+	private int size;
+
+	/**
+	 * @param expectedEntries number of entries expected to be tracked.
+	 */
+	FrequencySketch(long expectedEntries) {
+
+		int capacity = (int) Math.min(Math.max(expectedEntries, 16), 1 << 22);
+		int tableSize = Integer.highestOneBit(capacity - 1) << 1;
+
+		this.table = new long[tableSize];
+		this.tableMask = tableSize - 1;
+		this.sampleSize = 10 * tableSize;
+	}
+
+	/**
+	 * Record an access to the given key.
+	 *
+	 * @param key the key.
+	 */
+	void increment(Object key) {
+
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		boolean added = false;
+
+		for (int i = 0; i < 4; i++) {
+
+			int index = indexOf(hash, i);
+			int offset = (start + i) << 2;
+			long mask = 0xfL << offset;
+
+			if ((table[index] & mask) != mask) {
+				table[index] += 1L << offset;
+				added = true;
+			}
+		}
+
+		if (added) {
+			size++;
+		}
+	}
+
+	/**
+	 * Return the estimated access frequency of the given key.
+	 *
+	 * @param key the key.
+	 * @return the estimated frequency between {@code 0} and {@code 15}.
+	 */
+	int frequency(Object key) {
+
+		int hash = spread(key.hashCode());
+		int start = (hash & 3) << 2;
+		int frequency = Integer.MAX_VALUE;
+
+		for (int i = 0; i < 4; i++) {
+
+			int count = (int) ((table[indexOf(hash, i)] >>> ((start + i) << 2)) & 0xfL);
+			frequency = Math.min(frequency, count);
+		}
+
+		return frequency;
+	}
+
+	/**
+	 * Halve all counters once enough accesses were recorded.
+	 */
+	void resetIfNecessary() {
+
+		if (size < sampleSize) {
+			return;
+		}
+
+		for (int i = 0; i < table.length; i++) {
+			table[i] = (table[i] >>> 1) & RESET_MASK;
+		}
+
+		size = size >>> 1;
+	}
+
+	private int indexOf(int hash, int i) {
+
+		long value = (hash + SEEDS[i]) * SEEDS[i];
+		value += value >>> 32;
+		return ((int) value) & tableMask;
+	}
+
+	private static int spread(int hash) {
+
+		int value = ((hash >>> 16) ^ hash) * 0x45d9f3b;
+		value = ((value >>> 16) ^ value) * 0x45d9f3b;
+		return (value >>> 16) ^ value;
+	}
+
+}
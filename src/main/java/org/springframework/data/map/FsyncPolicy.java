@@ -0,0 +1,104 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.time.Duration;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * Policy defining when writes to a durable {@link KeySpaceStore} are forced to the storage device.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ * @see AppendLogKeySpaceStore
+ */
+public final class FsyncPolicy {
+
+	private final int writes;
+	private final @Nullable Duration interval;
+
+	private FsyncPolicy(int writes, @Nullable Duration interval) {
+
+		this.writes = writes;
+		this.interval = interval;
+	}
+
+	/**
+	 * Force each write to the storage device before returning. Offers the strongest durability guarantees at the cost of
+	 * write throughput.
+	 *
+	 * @return the {@link FsyncPolicy}.
+	 */
+	public static FsyncPolicy always() {
+		return new FsyncPolicy(1, null);
+	}
+
+	/**
+	 * Force writes to the storage device once the given number of {@code writes} has been accumulated. Up to
+	 * {@code writes - 1} writes may be lost on power failure.
+	 *
+	 * @param writes number of writes to group, must be greater than zero.
+	 * @return the {@link FsyncPolicy}.
+	 */
+	public static FsyncPolicy grouped(int writes) {
+
+		Assert.isTrue(writes > 0, "Number of writes must be greater than zero");
+
+		return new FsyncPolicy(writes, null);
+	}
+
+	/**
+	 * Force writes to the storage device periodically. Writes of the last {@code interval} may be lost on power failure.
+	 *
+	 * @param interval must not be {@literal null} and must be positive.
+	 * @return the {@link FsyncPolicy}.
+	 */
+	public static FsyncPolicy periodic(Duration interval) {
+
+		Assert.notNull(interval, "Interval must not be null");
+		Assert.isTrue(!interval.isNegative() && !interval.isZero(), "Interval must be positive");
+
+		return new FsyncPolicy(0, interval);
+	}
+
+	/**
+	 * @return number of writes after which to force, {@literal 0} if writes are not forced on write.
+	 */
+	int getWrites() {
+		return writes;
+	}
+
+	/**
+	 * @return the interval in which to force writes, {@literal null} if writes are not forced periodically.
+	 */
+	@Nullable
+	Duration getInterval() {
+		return interval;
+	}
+
+	@Override
+	public String toString() {
+
+		if (interval != null) {
+			return "FsyncPolicy periodic " + interval;
+		}
+
+		return writes == 1 ? "FsyncPolicy always" : "FsyncPolicy grouped " + writes;
+	}
+}
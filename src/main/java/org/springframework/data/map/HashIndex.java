@@ -0,0 +1,192 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.core.KeyValueIndex;
+
+/**
+ * {@link KeyValueIndex} backed by a {@link ConcurrentHashMap} mapping property values to the set of ids holding the
+ * value. Ids of objects with a {@literal null} value are kept separately.
+ * <p>
+ * The index records the values each id is associated with so that stale associations are removed based on the recorded
+ * value rather than on the previously stored object which may have been modified in place.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class HashIndex implements KeyValueIndex {
+
+	/**
+	 * Marker for an id that is no longer present or whose object does not declare the indexed property.
+	 */
+	static final Object ABSENT = new Object();
+
+	private static final Object NULL_VALUE = new Object();
+
+	private final Map<Object, Set<Object>> entries;
+	private final Set<Object> nullValues = ConcurrentHashMap.newKeySet();
+	private final Map<Object, Object> recorded = new ConcurrentHashMap<>();
+
+	HashIndex() {
+		this(new ConcurrentHashMap<>());
+	}
+
+	/**
+	 * @param entries the concurrent map to use for storing non-{@literal null} values.
+	 */
+	HashIndex(Map<Object, Set<Object>> entries) {
+		this.entries = entries;
+	}
+
+	/**
+	 * Associate the given {@code id} with {@code value} in addition to the values it is already associated with.
+	 *
+	 * @param value can be {@literal null}.
+	 * @param id must not be {@literal null}.
+	 */
+	void add(@Nullable Object value, Object id) {
+
+		Object key = value != null ? value : NULL_VALUE;
+
+		recorded.compute(id, (it, values) -> {
+
+			associate(value, id);
+
+			if (values == null || values.equals(key)) {
+				return key;
+			}
+
+			if (values instanceof RecordedValues recordedValues) {
+				return recordedValues.add(key);
+			}
+
+			return new RecordedValues(values).add(key);
+		});
+	}
+
+	/**
+	 * Reconcile the associations of {@code id} with its current value. Associations with any other recorded value are
+	 * removed. The {@code current} value is obtained while holding the lock for {@code id} so that concurrent updates of
+	 * the same id converge to the value read last.
+	 *
+	 * @param id must not be {@literal null}.
+	 * @param current supplies the current value or {@link #ABSENT} to remove all associations of {@code id}.
+	 */
+	void update(Object id, Supplier<@Nullable Object> current) {
+
+		recorded.compute(id, (it, values) -> {
+
+			Object value = current.get();
+			Object key = value == ABSENT ? ABSENT : value != null ? value : NULL_VALUE;
+
+			if (values instanceof RecordedValues recordedValues) {
+				for (Object previous : recordedValues.values) {
+					dissociateUnless(previous, key, id);
+				}
+			} else if (values != null) {
+				dissociateUnless(values, key, id);
+			}
+
+			if (value == ABSENT) {
+				return null;
+			}
+
+			associate(value, id);
+			return key;
+		});
+	}
+
+	@Override
+	public Set<Object> get(@Nullable Object value) {
+
+		Set<Object> ids = value != null ? entries.get(value) : nullValues;
+		return ids != null ? Collections.unmodifiableSet(ids) : Collections.emptySet();
+	}
+
+	/**
+	 * Remove all entries.
+	 */
+	void clear() {
+
+		entries.clear();
+		nullValues.clear();
+		recorded.clear();
+	}
+
+	private void associate(@Nullable Object value, Object id) {
+
+		if (value == null) {
+			nullValues.add(id);
+			return;
+		}
+
+		entries.compute(value, (key, ids) -> {
+
+			Set<Object> idsToUse = ids != null ? ids : ConcurrentHashMap.newKeySet();
+			idsToUse.add(id);
+			return idsToUse;
+		});
+	}
+
+	private void dissociateUnless(Object recordedKey, Object currentKey, Object id) {
+
+		if (recordedKey.equals(currentKey)) {
+			return;
+		}
+
+		if (recordedKey == NULL_VALUE) {
+			nullValues.remove(id);
+			return;
+		}
+
+		entries.computeIfPresent(recordedKey, (key, ids) -> {
+
+			ids.remove(id);
+			return ids.isEmpty() ? null : ids;
+		});
+	}
+
+	/**
+	 * Values an id is associated with while concurrent updates are in flight.
+	 */
+	private static class RecordedValues {
+
+		private final List<Object> values = new ArrayList<>(2);
+
+		RecordedValues(Object value) {
+			values.add(value);
+		}
+
+		RecordedValues add(Object value) {
+
+			if (!values.contains(value)) {
+				values.add(value);
+			}
+
+			return this;
+		}
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.function.ToIntFunction;
+
+import org.springframework.util.Assert;
+
+/**
+ * Upper bound of a keyspace held by a {@link BoundedKeySpaceStore}, either limiting the number of entries or the
+ * estimated size of the stored values.
+ *
+ * <pre class="code">
+ * KeySpaceBound entries = KeySpaceBound.entries(10_000);
+ * KeySpaceBound bytes = KeySpaceBound.bytes(64 * 1024 * 1024, value -> ((Document) value).getContent().length);
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public final class KeySpaceBound {
+
+	static final KeySpaceBound UNBOUNDED = new KeySpaceBound(Long.MAX_VALUE, it -> 1, false);
+
+	private final long maximum;
+	private final ToIntFunction<Object> weigher;
+	private final boolean weighted;
+
+	private KeySpaceBound(long maximum, ToIntFunction<Object> weigher, boolean weighted) {
+
+		this.maximum = maximum;
+		this.weigher = weigher;
+		this.weighted = weighted;
+	}
+
+	/**
+	 * Create a {@link KeySpaceBound} limiting the number of entries.
+	 *
+	 * @param maximumEntries maximum number of entries, must be greater than zero.
+	 * @return a new {@link KeySpaceBound}.
+	 */
+	public static KeySpaceBound entries(long maximumEntries) {
+
+		Assert.isTrue(maximumEntries > 0, "Maximum number of entries must be greater than zero");
+
+		return new KeySpaceBound(maximumEntries, it -> 1, false);
+	}
+
+	/**
+	 * Create a {@link KeySpaceBound} limiting the estimated size of the stored values.
+	 *
+	 * @param maximumBytes maximum number of bytes, must be greater than zero.
+	 * @param sizeEstimator function estimating the size of a value in bytes, must not be {@literal null}.
+	 * @return a new {@link KeySpaceBound}.
+	 */
+	public static KeySpaceBound bytes(long maximumBytes, ToIntFunction<Object> sizeEstimator) {
+
+		Assert.isTrue(maximumBytes > 0, "Maximum number of bytes must be greater than zero");
+		Assert.notNull(sizeEstimator, "Size estimator must not be null");
+
+		return new KeySpaceBound(maximumBytes, sizeEstimator, true);
+	}
+
+	/**
+	 * @return the maximum total weight of a keyspace.
+	 */
+	public long getMaximum() {
+		return maximum;
+	}
+
+	/**
+	 * Return the weight of the given value counting against the {@link #getMaximum() maximum}.
+	 *
+	 * @param value the value.
+	 * @return the weight of the value, never negative.
+	 */
+	int weigh(Object value) {
+		return Math.max(0, weigher.applyAsInt(value));
+	}
+
+	/**
+	 * @return {@literal true} if weights are estimated value sizes rather than entry counts.
+	 */
+	boolean isWeighted() {
+		return weighted;
+	}
+
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import org.apache.commons.logging.Log;
+import org.apache.commons.logging.LogFactory;
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.annotation.TimeToLive;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of expiration deadlines per keyspace. Deadlines are derived from the {@link TimeToLive time to live} of the
+ * stored objects as detected through the {@link MappingContext} and scheduled on a {@link TimingWheel}.
+ * <p>
+ * The registered deadline is authoritative: objects whose deadline has passed are considered absent even if the
+ * {@link TimingWheel} did not yet hand them to {@link #expire(ExpirationHandler)}. Deadlines are registered before an
+ * object gets written so that a concurrently expiring object never removes a newer object written under the same id.
+ * <p>
+ * At most one deadline per id is scheduled on the {@link TimingWheel}. Registering a deadline that is not earlier than
+ * the scheduled one does not schedule it again. Instead, the scheduled deadline re-checks the registered deadline when
+ * it becomes due and schedules it if it has not yet passed. Rewriting objects therefore does not grow the
+ * {@link TimingWheel} beyond the number of ids.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class KeySpaceExpiration {
+
+	static final long TICK = 100;
+
+	private static final Log logger = LogFactory.getLog(KeySpaceExpiration.class);
+
+	private final MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext;
+	private final Map<Class<?>, Optional<KeyValuePersistentEntity<?, ?>>> entities = new ConcurrentHashMap<>();
+	private final Map<String, Map<Object, Long>> deadlines = new ConcurrentHashMap<>();
+	private final Map<String, Map<Object, Long>> scheduled = new ConcurrentHashMap<>();
+	private final Map<String, Boolean> openedKeySpaces = new ConcurrentHashMap<>();
+	private final Clock clock;
+	private final TimingWheel<Deadline> wheel;
+
+	KeySpaceExpiration(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext,
+			Clock clock) {
+
+		this.mappingContext = mappingContext;
+		this.clock = clock;
+		this.wheel = new TimingWheel<>(TICK, clock.millis());
+	}
+
+	/**
+	 * Register the deadline of {@code item} about to be stored under {@code id} or remove an existing deadline if the
+	 * {@code item} does not expire.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param id the id of the item.
+	 * @param item the item to be stored.
+	 * @return {@literal true} if a deadline was registered.
+	 */
+	boolean register(String keyspace, Object id, Object item) {
+
+		Duration timeToLive = getTimeToLive(item);
+
+		if (timeToLive == null) {
+			unregister(keyspace, id);
+			return false;
+		}
+
+		long deadline = clock.millis() + timeToLive.toMillis();
+
+		deadlines.computeIfAbsent(keyspace, it -> new ConcurrentHashMap<>()).put(id, deadline);
+		schedule(keyspace, id, deadline);
+
+		return true;
+	}
+
+	/**
+	 * Remove the deadline registered for {@code id}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param id the id of the item.
+	 */
+	void unregister(String keyspace, Object id) {
+
+		Map<Object, Long> keySpaceDeadlines = deadlines.get(keyspace);
+
+		if (keySpaceDeadlines != null) {
+			keySpaceDeadlines.remove(id);
+		}
+	}
+
+	/**
+	 * Remove the deadline registered for {@code id} if it matches the given {@code deadline}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param id the id of the item.
+	 * @param deadline the deadline to remove.
+	 */
+	void unregister(String keyspace, Object id, long deadline) {
+
+		Map<Object, Long> keySpaceDeadlines = deadlines.get(keyspace);
+
+		if (keySpaceDeadlines != null) {
+			keySpaceDeadlines.remove(id, deadline);
+		}
+	}
+
+	/**
+	 * Return whether the item stored under {@code id} is expired.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param id the id of the item.
+	 * @return {@literal true} if the deadline of the item has passed.
+	 */
+	boolean isExpired(String keyspace, Object id) {
+		return getExpiredDeadline(keyspace, id) != null;
+	}
+
+	/**
+	 * Return the deadline of the item stored under {@code id} if it has passed.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param id the id of the item.
+	 * @return the passed deadline or {@literal null} if the item is not expired.
+	 */
+	@Nullable
+	Long getExpiredDeadline(String keyspace, Object id) {
+
+		Map<Object, Long> keySpaceDeadlines = deadlines.get(keyspace);
+
+		if (keySpaceDeadlines == null) {
+			return null;
+		}
+
+		Long deadline = keySpaceDeadlines.get(id);
+		return deadline != null && deadline <= clock.millis() ? deadline : null;
+	}
+
+	/**
+	 * Return whether items of {@code keyspace} have deadlines registered.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @return {@literal true} if the keyspace contains expiring items.
+	 */
+	boolean hasDeadlines(String keyspace) {
+
+		Map<Object, Long> keySpaceDeadlines = deadlines.get(keyspace);
+		return keySpaceDeadlines != null && !keySpaceDeadlines.isEmpty();
+	}
+
+	/**
+	 * Return whether any deadlines are scheduled.
+	 *
+	 * @return {@literal true} if deadlines are scheduled.
+	 */
+	boolean hasScheduledDeadlines() {
+		return getScheduledCount() > 0;
+	}
+
+	/**
+	 * Return the number of deadlines scheduled on the {@link TimingWheel}.
+	 *
+	 * @return the number of scheduled deadlines.
+	 */
+	long getScheduledCount() {
+		return wheel.size();
+	}
+
+	/**
+	 * Filter out entries of expired items.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param entries the entries of the keyspace.
+	 * @return the entries of items that are not expired.
+	 */
+	<E extends Map.Entry<Object, ?>> Stream<E> unexpired(String keyspace, Stream<E> entries) {
+		return hasDeadlines(keyspace) ? entries.filter(it -> !isExpired(keyspace, it.getKey())) : entries;
+	}
+
+	/**
+	 * Run the given {@code registration} registering the deadlines of items already held by {@code keyspace}, e.g.
+	 * because they were loaded from a persistent store, unless the keyspace has been opened before. Concurrent callers
+	 * wait for the registration to complete.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param registration registers the deadlines of the items held by the keyspace.
+	 */
+	void open(String keyspace, Runnable registration) {
+
+		if (!openedKeySpaces.containsKey(keyspace)) {
+			openedKeySpaces.computeIfAbsent(keyspace, it -> {
+
+				registration.run();
+				return Boolean.TRUE;
+			});
+		}
+	}
+
+	/**
+	 * Mark {@code keyspace} as opened after the deadlines of the items it holds have been registered.
+	 *
+	 * @param keyspace name of the keyspace.
+	 */
+	void opened(String keyspace) {
+		openedKeySpaces.put(keyspace, Boolean.TRUE);
+	}
+
+	/**
+	 * Remove all deadlines of {@code keyspace}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 */
+	void clear(String keyspace) {
+		deadlines.remove(keyspace);
+	}
+
+	/**
+	 * Remove all deadlines.
+	 */
+	void clear() {
+		deadlines.clear();
+	}
+
+	/**
+	 * Hand items whose deadline has passed to the given {@link ExpirationHandler}. The handler is expected to remove
+	 * the item if {@link #isExpired(String, Object) still expired} and to {@link #unregister(String, Object, long)
+	 * unregister} the deadline. Exceptions thrown by the handler are logged so that they do not prevent the remaining
+	 * items from expiring.
+	 *
+	 * @param handler the handler removing expired items.
+	 */
+	synchronized void expire(ExpirationHandler handler) {
+
+		long now = clock.millis();
+
+		wheel.advance(now, it -> {
+
+			Map<Object, Long> keySpaceScheduled = scheduled.get(it.keyspace());
+
+			if (keySpaceScheduled == null || !keySpaceScheduled.remove(it.id(), it.deadline())) {
+				return;
+			}
+
+			Map<Object, Long> keySpaceDeadlines = deadlines.get(it.keyspace());
+			Long deadline = keySpaceDeadlines != null ? keySpaceDeadlines.get(it.id()) : null;
+
+			if (deadline == null) {
+				return;
+			}
+
+			if (deadline > now) {
+				schedule(it.keyspace(), it.id(), deadline);
+				return;
+			}
+
+			try {
+				handler.expire(it.keyspace(), it.id(), deadline);
+			} catch (RuntimeException ex) {
+
+				if (logger.isWarnEnabled()) {
+					logger.warn("Failed to expire object with id '%s' in keyspace '%s'".formatted(it.id(), it.keyspace()), ex);
+				}
+			}
+		});
+	}
+
+	private void schedule(String keyspace, Object id, long deadline) {
+
+		scheduled.computeIfAbsent(keyspace, it -> new ConcurrentHashMap<>()).compute(id, (key, current) -> {
+
+			if (current != null && current <= deadline) {
+				return current;
+			}
+
+			wheel.schedule(new Deadline(keyspace, key, deadline), deadline);
+			return deadline;
+		});
+	}
+
+	private @Nullable Duration getTimeToLive(Object item) {
+
+		Optional<KeyValuePersistentEntity<?, ?>> entity = entities.computeIfAbsent(ClassUtils.getUserClass(item),
+				it -> {
+
+					KeyValuePersistentEntity<?, ?> candidate = mappingContext.getPersistentEntity(it);
+
+					if (candidate == null || candidate.getTimeToLive() == null
+							&& candidate.getPersistentProperty(TimeToLive.class) == null) {
+						return Optional.empty();
+					}
+
+					return Optional.of(candidate);
+				});
+
+		return entity.isPresent() ? entity.get().getTimeToLive(item) : null;
+	}
+
+	/**
+	 * Callback removing expired items.
+	 */
+	interface ExpirationHandler {
+
+		/**
+		 * Remove the expired item stored under {@code id}.
+		 *
+		 * @param keyspace name of the keyspace.
+		 * @param id the id of the item.
+		 * @param deadline the deadline of the item.
+		 */
+		void expire(String keyspace, Object id, long deadline);
+	}
+
+	private record Deadline(String keyspace, Object id, long deadline) {
+
+	}
+
+}
@@ -0,0 +1,242 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.core.KeyValueIndex;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.mapping.PersistentPropertyAccessor;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Registry of {@link HashIndex secondary indexes} and {@link SortedIndex ordered indexes} per keyspace. Detects {@link Indexed indexed} properties through the
+ * {@link MappingContext} and keeps the indexes up to date with the values written to a keyspace.
+ * <p>
+ * Indexes are created lazily when the first object declaring an indexed property gets written to a keyspace and are
+ * populated with the objects already present in that keyspace. Index updates add new associations before the keyspace
+ * map is modified and remove stale associations afterwards so that an index never misses an id but may temporarily
+ * report ids of objects that no longer match. Stale associations are determined from the values recorded by each index
+ * and the object currently stored.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class KeySpaceIndexes {
+
+	private final MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext;
+	private final Map<Class<?>, List<KeyValuePersistentProperty<?>>> indexedProperties = new ConcurrentHashMap<>();
+	private final Map<String, Map<String, HashIndex>> indexes = new ConcurrentHashMap<>();
+
+	KeySpaceIndexes(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Index the given {@code item} before it gets stored within {@code keySpace}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param keySpace the keyspace map, used to populate newly created indexes.
+	 * @param id the id of the item.
+	 * @param item the item to index.
+	 */
+	void add(String keyspace, Map<Object, Object> keySpace, Object id, Object item) {
+
+		List<KeyValuePersistentProperty<?>> properties = getIndexedProperties(item.getClass());
+
+		if (properties.isEmpty()) {
+			return;
+		}
+
+		PersistentPropertyAccessor<?> accessor = getPropertyAccessor(item);
+
+		for (KeyValuePersistentProperty<?> property : properties) {
+			getOrCreateIndex(keyspace, keySpace, property).add(accessor.getProperty(property), id);
+		}
+	}
+
+	/**
+	 * Remove stale index entries of the object stored with the given {@code id} after the keyspace map has been modified.
+	 * Index entries are reconciled with the object currently stored in {@code keySpace} rather than with the previously
+	 * stored object as stored objects may have been modified in place.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param keySpace the keyspace map holding the current object.
+	 * @param id the id of the object.
+	 */
+	void update(String keyspace, Map<Object, Object> keySpace, Object id) {
+
+		Map<String, HashIndex> keySpaceIndexes = indexes.get(keyspace);
+
+		if (keySpaceIndexes == null) {
+			return;
+		}
+
+		for (Map.Entry<String, HashIndex> entry : keySpaceIndexes.entrySet()) {
+			entry.getValue().update(id, () -> getIndexedValue(peek(keySpace, id), entry.getKey()));
+		}
+	}
+
+	/**
+	 * Write {@code item} to {@code keySpace} using the given {@code write} operation, indexing the item before the write
+	 * and removing stale index entries afterwards.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param keySpace the keyspace map written to.
+	 * @param id the id of the item.
+	 * @param item the item to write.
+	 * @param write the operation modifying the keyspace map.
+	 * @return the result of the write operation.
+	 */
+	<T> T write(String keyspace, Map<Object, Object> keySpace, Object id, Object item, Supplier<T> write) {
+
+		add(keyspace, keySpace, id, item);
+
+		try {
+			return write.get();
+		} finally {
+			update(keyspace, keySpace, id);
+		}
+	}
+
+	/**
+	 * Get the index for the given property {@code path} within {@code keyspace}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 * @param path property dot path.
+	 * @return {@literal null} if no index exists.
+	 */
+	@Nullable
+	KeyValueIndex getIndex(String keyspace, String path) {
+
+		Map<String, HashIndex> keySpaceIndexes = indexes.get(keyspace);
+		return keySpaceIndexes != null ? keySpaceIndexes.get(path) : null;
+	}
+
+	/**
+	 * Drop all indexes of the given {@code keyspace}.
+	 *
+	 * @param keyspace name of the keyspace.
+	 */
+	void clear(String keyspace) {
+
+		Map<String, HashIndex> keySpaceIndexes = indexes.remove(keyspace);
+
+		if (keySpaceIndexes != null) {
+			keySpaceIndexes.values().forEach(HashIndex::clear);
+		}
+	}
+
+	/**
+	 * Drop all indexes.
+	 */
+	void clear() {
+
+		indexes.values().forEach(it -> it.values().forEach(HashIndex::clear));
+		indexes.clear();
+	}
+
+	private HashIndex getOrCreateIndex(String keyspace, Map<Object, Object> keySpace,
+			KeyValuePersistentProperty<?> property) {
+
+		Map<String, HashIndex> keySpaceIndexes = indexes.computeIfAbsent(keyspace, it -> new ConcurrentHashMap<>());
+		HashIndex index = keySpaceIndexes.get(property.getName());
+
+		if (index != null) {
+			return index;
+		}
+
+		return keySpaceIndexes.computeIfAbsent(property.getName(), it -> {
+
+			HashIndex newIndex = property.hasOrderedIndex() ? new SortedIndex() : new HashIndex();
+
+			for (Map.Entry<Object, Object> entry : keySpace.entrySet()) {
+
+				Object value = entry.getValue();
+				KeyValuePersistentProperty<?> indexed = value != null ? getIndexedProperty(value.getClass(), property.getName())
+						: null;
+
+				if (indexed != null) {
+					newIndex.add(getPropertyAccessor(value).getProperty(indexed), entry.getKey());
+				}
+			}
+
+			return newIndex;
+		});
+	}
+
+	private List<KeyValuePersistentProperty<?>> getIndexedProperties(Class<?> type) {
+
+		return indexedProperties.computeIfAbsent(ClassUtils.getUserClass(type), it -> {
+
+			KeyValuePersistentEntity<?, ?> entity = mappingContext.getPersistentEntity(it);
+
+			if (entity == null) {
+				return List.of();
+			}
+
+			List<KeyValuePersistentProperty<?>> properties = new ArrayList<>();
+			for (KeyValuePersistentProperty<?> property : entity) {
+				if (property.isIndexed()) {
+					properties.add(property);
+				}
+			}
+
+			return properties.isEmpty() ? List.of() : List.copyOf(properties);
+		});
+	}
+
+	private @Nullable KeyValuePersistentProperty<?> getIndexedProperty(Class<?> type, String name) {
+
+		for (KeyValuePersistentProperty<?> property : getIndexedProperties(type)) {
+			if (property.getName().equals(name)) {
+				return property;
+			}
+		}
+
+		return null;
+	}
+
+	private @Nullable Object getIndexedValue(@Nullable Object item, String name) {
+
+		KeyValuePersistentProperty<?> property = item != null ? getIndexedProperty(item.getClass(), name) : null;
+		return property != null ? getPropertyAccessor(item).getProperty(property) : HashIndex.ABSENT;
+	}
+
+	private static @Nullable Object peek(Map<Object, Object> keySpace, Object id) {
+
+		if (keySpace instanceof BoundedKeySpace bounded) {
+			return bounded.peek(id);
+		}
+
+		return keySpace instanceof CompressingKeySpace compressed ? compressed.peek(id) : keySpace.get(id);
+	}
+
+	private PersistentPropertyAccessor<?> getPropertyAccessor(Object item) {
+		return mappingContext.getRequiredPersistentEntity(ClassUtils.getUserClass(item)).getPropertyAccessor(item);
+	}
+
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-keyspace modification counters. Clearing all keyspaces increments a shared count contributing to the
+ * modification count of every keyspace.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class KeySpaceModifications {
+
+	private final Map<String, AtomicLong> counts = new ConcurrentHashMap<>();
+	private final AtomicLong clearCount = new AtomicLong();
+
+	/**
+	 * Record a modification of {@code keyspace}.
+	 *
+	 * @param keyspace the modified keyspace.
+	 */
+	void modified(String keyspace) {
+
+		AtomicLong count = counts.get(keyspace);
+
+		if (count == null) {
+			count = counts.computeIfAbsent(keyspace, it -> new AtomicLong());
+		}
+
+		count.incrementAndGet();
+	}
+
+	/**
+	 * Record the removal of all keyspaces.
+	 */
+	void cleared() {
+		clearCount.incrementAndGet();
+	}
+
+	/**
+	 * Return the number of modifications of {@code keyspace}.
+	 *
+	 * @param keyspace the keyspace.
+	 * @return the modification count.
+	 */
+	long get(String keyspace) {
+
+		AtomicLong count = counts.get(keyspace);
+		return clearCount.get() + (count != null ? count.get() : 0);
+	}
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.lang.reflect.Modifier;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.util.Currency;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.annotation.Immutable;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.mapping.context.MappingContext;
+import org.springframework.util.ClassUtils;
+
+/**
+ * Resolves and caches the {@link KeySpaceSettings} of stored types from their {@link KeyValuePersistentEntity} as
+ * detected through the {@link MappingContext}.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class KeySpaceSettingsResolver {
+
+	private static final Set<Class<?>> IMMUTABLE_TYPES = Set.of(String.class, Boolean.class, Character.class,
+			Byte.class, Short.class, Integer.class, Long.class, Float.class, Double.class, BigInteger.class,
+			BigDecimal.class, UUID.class, Locale.class, Currency.class, URI.class, Class.class);
+
+	private final MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext;
+	private final Map<Class<?>, KeySpaceSettings> settings = new ConcurrentHashMap<>();
+
+	KeySpaceSettingsResolver(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext) {
+		this.mappingContext = mappingContext;
+	}
+
+	/**
+	 * Resolve the {@link KeySpaceSettings} of the given {@code type}.
+	 *
+	 * @param type the stored type.
+	 * @return the settings, never {@literal null}.
+	 */
+	KeySpaceSettings resolve(Class<?> type) {
+
+		return settings.computeIfAbsent(ClassUtils.getUserClass(type), it -> {
+
+			boolean immutable = isImmutable(it, new HashSet<>());
+			KeyValuePersistentEntity<?, ?> entity = mappingContext.getPersistentEntity(it);
+
+			if (entity == null) {
+				return immutable ? KeySpaceSettings.IMMUTABLE : KeySpaceSettings.NONE;
+			}
+
+			KeySpace keySpace = entity.findAnnotation(KeySpace.class);
+			KeyValuePersistentProperty<?> idProperty = entity.getIdProperty();
+
+			return new KeySpaceSettings(
+					keySpace != null && keySpace.maximumSize() > 0 ? KeySpaceBound.entries(keySpace.maximumSize())
+							: KeySpaceBound.UNBOUNDED,
+					idProperty != null ? idProperty.getType() : null, immutable, keySpace != null && keySpace.compressed());
+		});
+	}
+
+	/**
+	 * Determine whether instances of the given {@code type} cannot be modified after creation. Records and types
+	 * annotated with {@link Immutable} are considered immutable if all of their persistent properties are of immutable
+	 * types as well.
+	 *
+	 * @param type the type to inspect.
+	 * @param visited types already inspected to break cycles.
+	 * @return {@literal true} if the type is immutable.
+	 */
+	private boolean isImmutable(Class<?> type, Set<Class<?>> visited) {
+
+		if (type.isPrimitive() || type.isEnum() || IMMUTABLE_TYPES.contains(type)
+				|| ("java.time".equals(type.getPackageName()) && Modifier.isFinal(type.getModifiers()))) {
+			return true;
+		}
+
+		if (!type.isRecord() && !type.isAnnotationPresent(Immutable.class)) {
+			return false;
+		}
+
+		if (!visited.add(type)) {
+			return true;
+		}
+
+		KeyValuePersistentEntity<?, ?> entity = mappingContext.getPersistentEntity(type);
+
+		if (entity == null) {
+			return false;
+		}
+
+		for (KeyValuePersistentProperty<?> property : entity) {
+			if (!isImmutable(property.getType(), visited)) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	/**
+	 * Settings derived from the {@link KeyValuePersistentEntity} of a stored type.
+	 *
+	 * @param bound the {@link KeySpace#maximumSize() declared bound}.
+	 * @param idType the type of the id property, {@literal null} if the entity does not declare an id.
+	 * @param immutable whether instances of the type cannot be modified after creation.
+	 * @param compressed whether the {@link KeySpace#compressed() keyspace stores compressed values}.
+	 */
+	record KeySpaceSettings(KeySpaceBound bound, @Nullable Class<?> idType, boolean immutable, boolean compressed) {
+
+		static final KeySpaceSettings NONE = new KeySpaceSettings(KeySpaceBound.UNBOUNDED, null, false, false);
+		static final KeySpaceSettings IMMUTABLE = new KeySpaceSettings(KeySpaceBound.UNBOUNDED, null, true, false);
+
+		/**
+		 * Apply the declared bound and primitive key type to {@code keyspace} if supported by the {@code store} and not
+		 * configured otherwise.
+		 *
+		 * @param store the store holding the keyspace.
+		 * @param keyspace name of the keyspace.
+		 */
+		void applyTo(KeySpaceStore store, String keyspace) {
+
+			if (store instanceof BoundedKeySpaceStore boundedStore) {
+
+				if (bound != KeySpaceBound.UNBOUNDED) {
+					boundedStore.setBoundIfAbsent(keyspace, bound);
+				}
+			} else if (store instanceof PrimitiveKeySpaceStore primitiveStore) {
+
+				if (idType != null && LongKeySpace.isPrimitiveKeyType(idType)) {
+					primitiveStore.setKeyTypeIfAbsent(keyspace, idType);
+				}
+			}
+		}
+
+		/**
+		 * Convert a primitive {@code id} into the id type of the entity.
+		 *
+		 * @param id the primitive id.
+		 * @return the {@link Integer} or {@link Long} id.
+		 */
+		Object toId(long id) {
+			return idType == Integer.class || idType == int.class ? Integer.valueOf(Math.toIntExact(id)) : Long.valueOf(id);
+		}
+	}
+}
@@ -0,0 +1,510 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.io.Closeable;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+
+/**
+ * Binary snapshot file holding the entries of multiple keyspaces. A snapshot file consists of a header listing all
+ * sections followed by one section per keyspace:
+ *
+ * <pre class="code">
+ * [magic:long][sections:int]
+ * ([nameLength:int][name:UTF-8][entries:int][offset:long][length:long])*
+ * ([keyLength:int][key][valueLength:int][value])*
+ * </pre>
+ *
+ * Sections are written to part files in parallel and assembled once all keyspaces are written. The snapshot file is
+ * moved into place atomically so that an interrupted snapshot never replaces a previous one. Sections are read in
+ * parallel using positional reads on a shared channel.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+final class KeySpaceSnapshot {
+
+	static final long MAGIC = 0x5344_4B56_534E_4150L;
+	static final int BUFFER_SIZE = 1 << 20;
+
+	private KeySpaceSnapshot() {}
+
+	/**
+	 * Create a {@link Writer} for a snapshot to be stored in {@code file}.
+	 *
+	 * @param file the snapshot file.
+	 * @param codec codec to encode keys and values.
+	 * @param parallelism number of keyspaces to encode in parallel.
+	 * @return a new {@link Writer}.
+	 */
+	static Writer writer(Path file, ValueCodec codec, int parallelism) {
+		return new Writer(file, codec, parallelism);
+	}
+
+	/**
+	 * Read the snapshot stored in {@code file}. Target maps are obtained on the calling thread before sections are
+	 * loaded in parallel, each section into its own map.
+	 *
+	 * @param file the snapshot file.
+	 * @param codec codec to decode keys and values.
+	 * @param parallelism number of keyspaces to decode in parallel.
+	 * @param target function obtaining the map to load a keyspace into given the keyspace name and number of entries.
+	 * @return the names of the restored keyspaces.
+	 * @throws IOException if the file cannot be read or is not a snapshot file.
+	 */
+	static List<String> read(Path file, ValueCodec codec, int parallelism,
+			BiFunction<String, Integer, Map<Object, Object>> target) throws IOException {
+
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+
+			List<Section> sections = readSections(channel, file);
+			List<Callable<Void>> tasks = new ArrayList<>(sections.size());
+			List<String> keyspaces = new ArrayList<>(sections.size());
+
+			for (Section section : sections) {
+
+				Map<Object, Object> map = target.apply(section.keyspace(), section.entries());
+
+				keyspaces.add(section.keyspace());
+				tasks.add(() -> {
+					readSection(channel, section, codec, map);
+					return null;
+				});
+			}
+
+			ExecutorService executor = createExecutor(Math.min(parallelism, tasks.size()));
+
+			try {
+				await(executor.invokeAll(tasks));
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while reading snapshot " + file);
+			} finally {
+				executor.shutdownNow();
+			}
+
+			return keyspaces;
+		}
+	}
+
+	private static List<Section> readSections(FileChannel channel, Path file) throws IOException {
+
+		long size = channel.size();
+		Input input = new Input(channel, 0, size, ByteBuffer.allocate(8192));
+
+		if (size < Long.BYTES + Integer.BYTES || input.readLong() != MAGIC) {
+			throw new IOException(String.format("%s is not a keyspace snapshot", file));
+		}
+
+		int count = input.readInt();
+		List<Section> sections = new ArrayList<>(count);
+
+		for (int i = 0; i < count; i++) {
+
+			String keyspace = new String(input.readBytes(input.readInt()), StandardCharsets.UTF_8);
+			Section section = new Section(keyspace, input.readInt(), input.readLong(), input.readLong());
+
+			if (section.entries() < 0 || section.offset() < 0 || section.length() < 0
+					|| section.offset() + section.length() > size) {
+				throw new IOException(String.format("Snapshot %s is corrupted at keyspace '%s'", file, keyspace));
+			}
+
+			sections.add(section);
+		}
+
+		return sections;
+	}
+
+	private static void readSection(FileChannel channel, Section section, ValueCodec codec, Map<Object, Object> target)
+			throws IOException {
+
+		Input input = new Input(channel, section.offset(), section.offset() + section.length(),
+				ByteBuffer.allocateDirect((int) Math.min(BUFFER_SIZE, Math.max(section.length(), Integer.BYTES))));
+
+		for (int i = 0; i < section.entries(); i++) {
+
+			Object key = codec.decode(input.readBytes(input.readInt()));
+			Object value = codec.decode(input.readBytes(input.readInt()));
+
+			target.put(key, value);
+		}
+	}
+
+	private static ExecutorService createExecutor(int threads) {
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("keyspace-snapshot-");
+		threadFactory.setDaemon(true);
+
+		return Executors.newFixedThreadPool(Math.max(1, threads), threadFactory);
+	}
+
+	private static <T> List<T> await(List<Future<T>> futures) throws IOException, InterruptedException {
+
+		List<T> results = new ArrayList<>(futures.size());
+
+		for (Future<T> future : futures) {
+			try {
+				results.add(future.get());
+			} catch (ExecutionException e) {
+
+				if (e.getCause() instanceof IOException ioe) {
+					throw ioe;
+				}
+
+				if (e.getCause() instanceof RuntimeException re) {
+					throw re;
+				}
+
+				throw new IOException(e.getCause());
+			}
+		}
+
+		return results;
+	}
+
+	/**
+	 * Writes keyspace sections in parallel and assembles them into the snapshot file on {@link #commit()}.
+	 */
+	static final class Writer implements Closeable {
+
+		private final Path file;
+		private final ValueCodec codec;
+		private final ExecutorService executor;
+		private final List<Future<Part>> pending = new ArrayList<>();
+		private final Queue<Path> parts = new ConcurrentLinkedQueue<>();
+
+		private Writer(Path file, ValueCodec codec, int parallelism) {
+
+			this.file = file.toAbsolutePath();
+			this.codec = codec;
+			this.executor = createExecutor(parallelism);
+		}
+
+		/**
+		 * Schedule writing the entries of {@code keySpace} as section of {@code keyspace}. References to the entries are
+		 * copied on the calling thread, so the map may be modified once this method returns while the entries are encoded
+		 * in the background.
+		 *
+		 * @param keyspace name of the keyspace.
+		 * @param keySpace the keyspace map.
+		 */
+		void write(String keyspace, Map<Object, Object> keySpace) {
+
+			Object[] keys = new Object[keySpace.size()];
+			Object[] values = new Object[keys.length];
+			int count = 0;
+
+			for (Map.Entry<Object, Object> entry : keySpace.entrySet()) {
+
+				if (count == keys.length) {
+					keys = Arrays.copyOf(keys, count * 2 + 1);
+					values = Arrays.copyOf(values, keys.length);
+				}
+
+				keys[count] = entry.getKey();
+				values[count++] = entry.getValue();
+			}
+
+			schedule(keyspace, keys, values, count);
+		}
+
+		private void schedule(String keyspace, Object[] keys, Object[] values, int count) {
+			pending.add(executor.submit(() -> writePart(keyspace, keys, values, count)));
+		}
+
+		/**
+		 * Wait for all scheduled sections to be encoded and written to their part files.
+		 *
+		 * @throws IOException if writing a section fails.
+		 */
+		void flush() throws IOException {
+			awaitParts();
+		}
+
+		private List<Part> awaitParts() throws IOException {
+
+			try {
+				return await(pending);
+			} catch (InterruptedException e) {
+
+				Thread.currentThread().interrupt();
+				throw new InterruptedIOException("Interrupted while writing snapshot " + file);
+			}
+		}
+
+		/**
+		 * Wait for all sections to be written, assemble the snapshot and move it into place.
+		 *
+		 * @throws IOException if writing the snapshot fails.
+		 */
+		void commit() throws IOException {
+
+			List<Part> written = awaitParts();
+
+			Path assembled = file.resolveSibling(file.getFileName() + ".tmp");
+			parts.add(assembled);
+
+			try (FileChannel channel = FileChannel.open(assembled, StandardOpenOption.CREATE,
+					StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE)) {
+
+				ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+				List<byte[]> names = new ArrayList<>(written.size());
+				long offset = Long.BYTES + Integer.BYTES;
+
+				for (Part part : written) {
+
+					byte[] name = part.keyspace().getBytes(StandardCharsets.UTF_8);
+					names.add(name);
+					offset += Integer.BYTES + name.length + Integer.BYTES + Long.BYTES + Long.BYTES;
+				}
+
+				buffer.putLong(MAGIC).putInt(written.size());
+
+				for (int i = 0; i < written.size(); i++) {
+
+					Part part = written.get(i);
+
+					writeBytes(channel, buffer, names.get(i));
+					ensureRemaining(channel, buffer, Integer.BYTES + Long.BYTES + Long.BYTES);
+					buffer.putInt(part.entries()).putLong(offset).putLong(part.length());
+					offset += part.length();
+				}
+
+				drain(channel, buffer);
+
+				for (Part part : written) {
+					try (FileChannel source = FileChannel.open(part.file(), StandardOpenOption.READ)) {
+
+						long position = 0;
+						while (position < part.length()) {
+							position += source.transferTo(position, part.length() - position, channel);
+						}
+					}
+				}
+
+				channel.force(true);
+			}
+
+			AppendLog.moveAtomically(assembled, file);
+		}
+
+		/**
+		 * Stop pending writes and remove intermediate files.
+		 */
+		@Override
+		public void close() throws IOException {
+
+			executor.shutdownNow();
+
+			try {
+				executor.awaitTermination(Long.MAX_VALUE, TimeUnit.NANOSECONDS);
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+			}
+
+			for (Path part : parts) {
+				Files.deleteIfExists(part);
+			}
+		}
+
+		private Part writePart(String keyspace, Object[] keys, Object[] values, int count) throws IOException {
+
+			Path part = Files.createTempFile(file.getParent(), file.getFileName() + ".", ".part");
+			parts.add(part);
+
+			try (FileChannel channel = FileChannel.open(part, StandardOpenOption.WRITE)) {
+
+				ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+				for (int i = 0; i < count; i++) {
+
+					writeBytes(channel, buffer, codec.encode(keys[i]));
+					writeBytes(channel, buffer, codec.encode(values[i]));
+				}
+
+				drain(channel, buffer);
+
+				return new Part(keyspace, count, part, channel.size());
+			}
+		}
+
+		private static void writeBytes(FileChannel channel, ByteBuffer buffer, byte[] bytes) throws IOException {
+
+			ensureRemaining(channel, buffer, Integer.BYTES);
+			buffer.putInt(bytes.length);
+
+			if (bytes.length > buffer.remaining()) {
+
+				drain(channel, buffer);
+
+				if (bytes.length > buffer.capacity()) {
+
+					ByteBuffer wrapped = ByteBuffer.wrap(bytes);
+					while (wrapped.hasRemaining()) {
+						channel.write(wrapped);
+					}
+					return;
+				}
+			}
+
+			buffer.put(bytes);
+		}
+
+		private static void ensureRemaining(FileChannel channel, ByteBuffer buffer, int bytes) throws IOException {
+
+			if (buffer.remaining() < bytes) {
+				drain(channel, buffer);
+			}
+		}
+
+		private static void drain(FileChannel channel, ByteBuffer buffer) throws IOException {
+
+			buffer.flip();
+
+			while (buffer.hasRemaining()) {
+				channel.write(buffer);
+			}
+
+			buffer.clear();
+		}
+
+		private record Part(String keyspace, int entries, Path file, long length) {
+
+		}
+
+	}
+
+	/**
+	 * Positional reader for a region of a {@link FileChannel}.
+	 */
+	private static final class Input {
+
+		private final FileChannel channel;
+		private final long limit;
+
+		private ByteBuffer buffer;
+		private long position;
+
+		Input(FileChannel channel, long position, long limit, ByteBuffer buffer) {
+
+			this.channel = channel;
+			this.position = position;
+			this.limit = limit;
+			this.buffer = buffer.flip();
+		}
+
+		int readInt() throws IOException {
+
+			require(Integer.BYTES);
+			return buffer.getInt();
+		}
+
+		long readLong() throws IOException {
+
+			require(Long.BYTES);
+			return buffer.getLong();
+		}
+
+		byte[] readBytes(int length) throws IOException {
+
+			if (length < 0) {
+				throw new IOException("Negative length " + length);
+			}
+
+			byte[] bytes = new byte[length];
+
+			if (length > buffer.capacity()) {
+
+				int buffered = buffer.remaining();
+				buffer.get(bytes, 0, buffered);
+
+				ByteBuffer target = ByteBuffer.wrap(bytes, buffered, length - buffered);
+				fill(target);
+
+				if (target.hasRemaining()) {
+					throw new EOFException("Unexpected end of snapshot section");
+				}
+
+				return bytes;
+			}
+
+			require(length);
+			buffer.get(bytes);
+
+			return bytes;
+		}
+
+		private void require(int bytes) throws IOException {
+
+			if (buffer.remaining() >= bytes) {
+				return;
+			}
+
+			buffer.compact();
+			buffer.limit((int) Math.min(buffer.capacity(), buffer.position() + (limit - position)));
+			fill(buffer);
+			buffer.flip();
+
+			if (buffer.remaining() < bytes) {
+				throw new EOFException("Unexpected end of snapshot section");
+			}
+		}
+
+		private void fill(ByteBuffer target) throws IOException {
+
+			while (target.hasRemaining() && position < limit) {
+
+				int read = channel.read(target, position);
+
+				if (read < 0) {
+					throw new EOFException("Unexpected end of snapshot file");
+				}
+
+				position += read;
+			}
+		}
+
+	}
+
+	private record Section(String keyspace, int entries, long offset, long length) {
+
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.map;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 /**
@@ -56,12 +57,48 @@ public interface KeySpaceStore {
 	 */
 	Map<Object, Object> getKeySpace(String keyspace);
 
+	/**
+	 * Return the map associated with given keyspace hinting the number of entries expected to be stored in the keyspace.
+	 * Implementations can use the hint to pre-size a keyspace map that does not exist yet. Existing keyspace maps are
+	 * returned as-is.
+	 *
+	 * @param keyspace name of the keyspace to obtain the map for, must not be {@literal null}.
+	 * @param expectedSize number of entries expected to be stored in the keyspace.
+	 * @return the map associated with the given keyspace, never {@literal null}.
+	 * @since 4.2
+	 */
+	default Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+		return getKeySpace(keyspace);
+	}
+
+	/**
+	 * Return the names of the keyspaces held by this store.
+	 *
+	 * @return the names of the keyspaces held by this store, never {@literal null}.
+	 * @throws UnsupportedOperationException if the store cannot enumerate its keyspaces.
+	 * @since 4.2
+	 */
+	default Set<String> getKeySpaces() {
+		throw new UnsupportedOperationException("%s cannot enumerate its keyspaces".formatted(getClass().getName()));
+	}
+
 	/**
 	 * Clear all keyspaces. Access to {@link #getKeySpace(String)} will return an empty map for each keyspace after this
 	 * method call. It is not required to clear each keyspace individually but it makes sense to do so to free up memory.
 	 */
 	void clear();
 
+	/**
+	 * Return whether the data held by this store outlives the application. Persistent stores are not cleared when the
+	 * owning {@link MapKeyValueAdapter} is destroyed.
+	 *
+	 * @return {@literal true} if the store is persistent. {@literal false} by default.
+	 * @since 4.2
+	 */
+	default boolean isPersistent() {
+		return false;
+	}
+
 	/**
 	 * Create a new {@link KeySpaceStore} using {@link ConcurrentHashMap} as backing map type for each keyspace map.
 	 *
@@ -0,0 +1,612 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiFunction;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+import org.springframework.util.ClassUtils;
+
+/**
+ * {@link ConcurrentMap} storing {@link Long} or {@link Integer} keys unboxed in an open-addressing table using linear
+ * probing. Keys of any other type are held in a {@link ConcurrentHashMap} so the map accepts arbitrary keys.
+ * <p>
+ * The primitive key type is either configured up front, set from the id property of the stored entity or determined by
+ * the first {@link Long} or {@link Integer} key and does not change afterwards. Keys of the primitive key type are boxed only when iterating the map.
+ * <p>
+ * Reads are lock-free. Writes are serialized and publish values with release semantics after writing the key so that
+ * readers observing a value also observe its key. Removed entries leave a tombstone keeping their key so that slots
+ * never change their key until the table is rebuilt. Rebuilding publishes a new table and leaves the previous one
+ * unmodified for concurrent readers. Iterators are weakly consistent.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class LongKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private static final VarHandle VALUES = MethodHandles.arrayElementVarHandle(Object[].class);
+	private static final Object TOMBSTONE = new Object();
+	private static final long PHI = 0x9E3779B97F4A7C15L;
+	private static final int MINIMUM_CAPACITY = 16;
+	private static final int MAXIMUM_CAPACITY = 1 << 30;
+
+	private final ConcurrentHashMap<Object, Object> others = new ConcurrentHashMap<>();
+	private final int initialCapacity;
+
+	private volatile @Nullable Class<?> keyType;
+	private volatile Table table;
+	private volatile int size;
+	private int tombstones;
+
+	/**
+	 * @param keyType the primitive key type, either {@code long}, {@code int} or their wrapper types. {@literal null} to
+	 *          determine the key type from the first {@link Long} or {@link Integer} key.
+	 * @param initialCapacity number of entries expected to be stored.
+	 */
+	LongKeySpace(@Nullable Class<?> keyType, int initialCapacity) {
+
+		Class<?> resolvedType = keyType != null ? ClassUtils.resolvePrimitiveIfNecessary(keyType) : null;
+
+		Assert.isTrue(resolvedType == null || resolvedType == Long.class || resolvedType == Integer.class,
+				() -> "Key type must be long or int but was %s".formatted(keyType));
+
+		this.keyType = resolvedType;
+		this.initialCapacity = initialCapacity;
+		this.table = new Table(capacityFor(initialCapacity));
+	}
+
+	/**
+	 * Return whether the given type can be stored unboxed.
+	 *
+	 * @param type the key type.
+	 * @return {@literal true} for {@code long}, {@code int} and their wrapper types.
+	 */
+	static boolean isPrimitiveKeyType(Class<?> type) {
+
+		Class<?> resolvedType = ClassUtils.resolvePrimitiveIfNecessary(type);
+		return resolvedType == Long.class || resolvedType == Integer.class;
+	}
+
+	/**
+	 * @return the primitive key type or {@literal null} if not determined yet.
+	 */
+	@Nullable
+	Class<?> getKeyType() {
+		return keyType;
+	}
+
+	/**
+	 * Set the primitive key type unless already determined.
+	 *
+	 * @param keyType {@code long}, {@code int} or their wrapper types.
+	 */
+	synchronized void setKeyTypeIfAbsent(Class<?> keyType) {
+
+		Assert.isTrue(isPrimitiveKeyType(keyType), () -> "Key type must be long or int but was %s".formatted(keyType));
+
+		if (this.keyType == null) {
+			this.keyType = ClassUtils.resolvePrimitiveIfNecessary(keyType);
+		}
+	}
+
+	/**
+	 * Return the value stored for the given primitive {@code key}.
+	 *
+	 * @param key the key.
+	 * @return the value or {@literal null} if none stored.
+	 */
+	@Nullable
+	Object get(long key) {
+
+		Table table = this.table;
+		long[] keys = table.keys;
+		Object[] values = table.values;
+
+		for (int i = table.index(key), probes = 0; probes < values.length; i = (i + 1) & table.mask, probes++) {
+
+			Object value = VALUES.getAcquire(values, i);
+
+			if (value == null) {
+				return null;
+			}
+
+			if (keys[i] == key) {
+				return value != TOMBSTONE ? value : null;
+			}
+		}
+
+		return null;
+	}
+
+	/**
+	 * Return whether a value is stored for the given primitive {@code key}.
+	 *
+	 * @param key the key.
+	 * @return {@literal true} if a value is stored.
+	 */
+	boolean containsKey(long key) {
+		return get(key) != null;
+	}
+
+	/**
+	 * Store the {@code value} for the given primitive {@code key}. Requires the key type to be determined.
+	 *
+	 * @param key the key.
+	 * @param value the value.
+	 * @return the previous value or {@literal null} if none stored.
+	 * @throws IllegalStateException if the key type is not determined yet.
+	 * @throws IllegalArgumentException if the key type is {@code int} and {@code key} is out of its range.
+	 */
+	synchronized @Nullable Object put(long key, Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+		Assert.state(keyType != null, "Key type not determined; configure it before storing primitive keys");
+		Assert.isTrue(keyType == Long.class || key == (int) key,
+				() -> "Key %d exceeds the range of the int key type".formatted(key));
+
+		return doPut(key, value, false);
+	}
+
+	/**
+	 * Remove the value stored for the given primitive {@code key}.
+	 *
+	 * @param key the key.
+	 * @return the removed value or {@literal null} if none stored.
+	 */
+	synchronized @Nullable Object remove(long key) {
+		return doRemove(key, null);
+	}
+
+	@Override
+	public int size() {
+		return size + others.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return size == 0 && others.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return get(key) != null;
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+
+		if (isPrimitiveKey(key)) {
+			return get(((Number) key).longValue());
+		}
+
+		return others.get(key);
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		if (!isPrimitiveKey(key, true)) {
+			return others.put(key, value);
+		}
+
+		synchronized (this) {
+			return doPut(((Number) key).longValue(), value, false);
+		}
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		if (!isPrimitiveKey(key, true)) {
+			return others.putIfAbsent(key, value);
+		}
+
+		synchronized (this) {
+			return doPut(((Number) key).longValue(), value, true);
+		}
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		if (!isPrimitiveKey(key)) {
+			return others.replace(key, value);
+		}
+
+		synchronized (this) {
+
+			long primitiveKey = ((Number) key).longValue();
+			return get(primitiveKey) != null ? doPut(primitiveKey, value, false) : null;
+		}
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+
+		Assert.notNull(newValue, "Value must not be null");
+
+		if (!isPrimitiveKey(key)) {
+			return others.replace(key, oldValue, newValue);
+		}
+
+		synchronized (this) {
+
+			long primitiveKey = ((Number) key).longValue();
+
+			if (!Objects.equals(get(primitiveKey), oldValue)) {
+				return false;
+			}
+
+			doPut(primitiveKey, newValue, false);
+			return true;
+		}
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		if (!isPrimitiveKey(key)) {
+			return others.remove(key);
+		}
+
+		synchronized (this) {
+			return doRemove(((Number) key).longValue(), null);
+		}
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+
+		if (value == null) {
+			return false;
+		}
+
+		if (!isPrimitiveKey(key)) {
+			return others.remove(key, value);
+		}
+
+		synchronized (this) {
+			return doRemove(((Number) key).longValue(), value) != null;
+		}
+	}
+
+	@Override
+	public @Nullable Object compute(Object key,
+			BiFunction<? super Object, ? super @Nullable Object, ? extends @Nullable Object> remappingFunction) {
+
+		if (!isPrimitiveKey(key, true)) {
+			return others.compute(key, remappingFunction);
+		}
+
+		synchronized (this) {
+
+			long primitiveKey = ((Number) key).longValue();
+			Object value = remappingFunction.apply(key, get(primitiveKey));
+
+			if (value == null) {
+				doRemove(primitiveKey, null);
+			} else {
+				doPut(primitiveKey, value, false);
+			}
+
+			return value;
+		}
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+
+		if (!isPrimitiveKey(key)) {
+			return others.computeIfPresent(key, remappingFunction);
+		}
+
+		synchronized (this) {
+
+			long primitiveKey = ((Number) key).longValue();
+			Object current = get(primitiveKey);
+
+			if (current == null) {
+				return null;
+			}
+
+			Object value = remappingFunction.apply(key, current);
+
+			if (value == null) {
+				doRemove(primitiveKey, null);
+			} else {
+				doPut(primitiveKey, value, false);
+			}
+
+			return value;
+		}
+	}
+
+	@Override
+	public void clear() {
+
+		synchronized (this) {
+
+			table = new Table(capacityFor(initialCapacity));
+			size = 0;
+			tombstones = 0;
+		}
+
+		others.clear();
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	private boolean isPrimitiveKey(Object key) {
+
+		Class<?> keyType = this.keyType;
+		return keyType != null && key.getClass() == keyType;
+	}
+
+	private boolean isPrimitiveKey(Object key, boolean determineKeyType) {
+
+		if (keyType == null && determineKeyType && (key instanceof Long || key instanceof Integer)) {
+
+			synchronized (this) {
+
+				if (keyType == null) {
+					keyType = key.getClass();
+				}
+			}
+		}
+
+		return isPrimitiveKey(key);
+	}
+
+	private Object box(long key) {
+		return keyType == Integer.class ? Integer.valueOf((int) key) : Long.valueOf(key);
+	}
+
+	private @Nullable Object doPut(long key, Object value, boolean onlyIfAbsent) {
+
+		if (size + tombstones >= table.threshold) {
+			rebuild(size + 1);
+		}
+
+		Table table = this.table;
+
+		for (int i = table.index(key);; i = (i + 1) & table.mask) {
+
+			Object current = table.values[i];
+
+			if (current == null) {
+
+				table.keys[i] = key;
+				VALUES.setRelease(table.values, i, value);
+				size++;
+
+				return null;
+			}
+
+			if (table.keys[i] == key) {
+
+				if (current == TOMBSTONE) {
+
+					VALUES.setRelease(table.values, i, value);
+					tombstones--;
+					size++;
+
+					return null;
+				}
+
+				if (!onlyIfAbsent) {
+					VALUES.setRelease(table.values, i, value);
+				}
+
+				return current;
+			}
+		}
+	}
+
+	private @Nullable Object doRemove(long key, @Nullable Object expected) {
+
+		Table table = this.table;
+
+		for (int i = table.index(key), probes = 0; probes < table.values.length; i = (i + 1) & table.mask, probes++) {
+
+			Object current = table.values[i];
+
+			if (current == null) {
+				return null;
+			}
+
+			if (table.keys[i] == key) {
+
+				if (current == TOMBSTONE || expected != null && !Objects.equals(current, expected)) {
+					return null;
+				}
+
+				VALUES.setRelease(table.values, i, TOMBSTONE);
+				tombstones++;
+				size--;
+
+				return current;
+			}
+		}
+
+		return null;
+	}
+
+	private void rebuild(int expectedSize) {
+
+		Table current = this.table;
+		Table rebuilt = new Table(capacityFor(Math.max(expectedSize, initialCapacity)));
+
+		for (int i = 0; i < current.values.length; i++) {
+
+			Object value = current.values[i];
+
+			if (value != null && value != TOMBSTONE) {
+				rebuilt.insert(current.keys[i], value);
+			}
+		}
+
+		this.tombstones = 0;
+		this.table = rebuilt;
+	}
+
+	private static int capacityFor(int expectedSize) {
+
+		long capacity = Math.max(MINIMUM_CAPACITY, (long) expectedSize * 2);
+		return (int) Math.min(MAXIMUM_CAPACITY, Long.highestOneBit(capacity - 1) << 1);
+	}
+
+	/**
+	 * Open-addressing table with a load factor of {@code 2/3}.
+	 */
+	private static final class Table {
+
+		final long[] keys;
+		final Object[] values;
+		final int mask;
+		final int shift;
+		final int threshold;
+
+		Table(int capacity) {
+
+			this.keys = new long[capacity];
+			this.values = new Object[capacity];
+			this.mask = capacity - 1;
+			this.shift = 64 - Integer.numberOfTrailingZeros(capacity);
+			this.threshold = capacity / 3 * 2;
+		}
+
+		int index(long key) {
+			return (int) ((key * PHI) >>> shift);
+		}
+
+		void insert(long key, Object value) {
+
+			int i = index(key);
+
+			while (values[i] != null) {
+				i = (i + 1) & mask;
+			}
+
+			keys[i] = key;
+			values[i] = value;
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+			return new EntryIterator();
+		}
+
+		@Override
+		public int size() {
+			return LongKeySpace.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return LongKeySpace.this.isEmpty();
+		}
+
+		@Override
+		public void clear() {
+			LongKeySpace.this.clear();
+		}
+	}
+
+	private class EntryIterator implements Iterator<Entry<Object, Object>> {
+
+		private final Table table = LongKeySpace.this.table;
+		private final Iterator<Entry<Object, Object>> others = LongKeySpace.this.others.entrySet().iterator();
+
+		private int index = -1;
+		private @Nullable Entry<Object, Object> next;
+		private @Nullable Object lastKey;
+
+		EntryIterator() {
+			advance();
+		}
+
+		@Override
+		public boolean hasNext() {
+			return next != null;
+		}
+
+		@Override
+		public Entry<Object, Object> next() {
+
+			Entry<Object, Object> current = next;
+
+			if (current == null) {
+				throw new NoSuchElementException();
+			}
+
+			lastKey = current.getKey();
+			advance();
+
+			return current;
+		}
+
+		@Override
+		public void remove() {
+
+			Assert.state(lastKey != null, "No element to remove");
+
+			LongKeySpace.this.remove(lastKey);
+			lastKey = null;
+		}
+
+		private void advance() {
+
+			while (++index < table.values.length) {
+
+				Object value = VALUES.getAcquire(table.values, index);
+
+				if (value != null && value != TOMBSTONE) {
+
+					next = new SimpleImmutableEntry<>(box(table.keys[index]), value);
+					return;
+				}
+			}
+
+			next = others.hasNext() ? others.next() : null;
+		}
+	}
+
+}
@@ -16,6 +16,7 @@
 package org.springframework.data.map;
 
 import java.util.Map;
+import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.springframework.core.CollectionFactory;
@@ -79,6 +80,18 @@ record MapKeySpaceStore(Map<String, Map<Object, Object>> store, Class<? extends
 		return store.computeIfAbsent(keyspace, k -> CollectionFactory.createMap(keySpaceMapType, initialCapacity));
 	}
 
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+
+		int capacity = Math.max(initialCapacity, (int) Math.min(Integer.MAX_VALUE, (long) (expectedSize / 0.75f) + 1));
+		return store.computeIfAbsent(keyspace, k -> CollectionFactory.createMap(keySpaceMapType, capacity));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return store.keySet();
+	}
+
 	@Override
 	public void clear() {
 
@@ -15,25 +15,72 @@
  */
 package org.springframework.data.map;
 
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NavigableMap;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
 import org.jspecify.annotations.Nullable;
 
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.annotation.TimeToLive;
 import org.springframework.data.keyvalue.core.AbstractKeyValueAdapter;
 import org.springframework.data.keyvalue.core.ForwardingCloseableIterator;
 import org.springframework.data.keyvalue.core.KeyValueAdapter;
+import org.springframework.data.keyvalue.core.KeyValueIndex;
+import org.springframework.data.keyvalue.core.MappingEntityCodec;
 import org.springframework.data.keyvalue.core.PredicateQueryEngine;
 import org.springframework.data.keyvalue.core.QueryEngine;
+import org.springframework.data.keyvalue.core.QueryResultCache;
 import org.springframework.data.keyvalue.core.SortAccessor;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentEntity;
+import org.springframework.data.keyvalue.core.mapping.KeyValuePersistentProperty;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.map.KeySpaceSettingsResolver.KeySpaceSettings;
+import org.springframework.data.mapping.context.MappingContext;
 import org.springframework.data.util.CloseableIterator;
 import org.springframework.util.Assert;
 
 /**
  * {@link KeyValueAdapter} implementation for {@link Map}.
+ * <p>
+ * Maintains {@link KeyValueIndex secondary indexes} for properties annotated with {@link Indexed} that are detected
+ * through the configured {@link MappingContext}.
+ * <p>
+ * Objects declaring a {@link TimeToLive time to live} are never returned once their time to live elapsed. They are
+ * removed by a background thread driven through a hierarchical timing wheel that publishes a
+ * {@link KeyValueEvent.ExpiredEvent} for each removed object. Deadlines are held in memory only. Objects restored from
+ * a {@link KeySpaceStore#isPersistent() persistent store} or a {@link #restore(Path) snapshot} get their time to live
+ * applied again, counting from the time their keyspace is opened or restored.
+ * <p>
+ * Keyspaces held by a {@link BoundedKeySpaceStore} evict objects exceeding their {@link KeySpaceBound}, either
+ * configured on the store or through {@link KeySpace#maximumSize()}, removing evicted objects from indexes and
+ * publishing a {@link KeyValueEvent.EvictedEvent} for each of them.
+ * <p>
+ * Keyspaces held by a {@link CopyOnReadKeySpaceStore} store snapshots of mutable objects and share objects of
+ * immutable types, detected from their {@link KeyValuePersistentEntity}, without copying them.
+ * <p>
+ * Keyspaces of entities declaring {@link KeySpace#compressed()} store values compressed on top of any
+ * {@link KeySpaceStore}. Values are encoded using a {@link MappingEntityCodec} and decompressed when read.
+ * <p>
+ * Each keyspace maintains a {@link #getModificationCount(String) modification count} allowing a
+ * {@link QueryResultCache} to reuse query results until the keyspace is modified. Results of keyspaces holding objects
+ * subject to expiration are not cached.
  *
  * @author Christoph Strobl
  * @author Derek Cochran
@@ -42,6 +89,18 @@ import org.springframework.util.Assert;
 public class MapKeyValueAdapter extends AbstractKeyValueAdapter {
 
 	private final KeySpaceStore store;
+	private final WriteGate gate = new WriteGate();
+	private final ExpirationScheduler expirationScheduler = new ExpirationScheduler(this::expireEntries,
+			KeySpaceExpiration.TICK);
+	private MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext =
+			new KeyValueMappingContext<>();
+	private KeySpaceIndexes indexes = new KeySpaceIndexes(mappingContext);
+	private Clock clock = Clock.systemUTC();
+	private KeySpaceExpiration expiration = new KeySpaceExpiration(mappingContext, clock);
+	private KeySpaceSettingsResolver keySpaceSettings = new KeySpaceSettingsResolver(mappingContext);
+	private CompressedKeySpaces compressedKeySpaces;
+	private final KeySpaceModifications modifications = new KeySpaceModifications();
+	private volatile Consumer<KeyValueEvent<?>> eventListener = event -> {};
 
 	/**
 	 * Create new {@link MapKeyValueAdapter} using {@link ConcurrentHashMap} as backing store type.
@@ -136,6 +195,58 @@ public class MapKeyValueAdapter extends AbstractKeyValueAdapter {
 
 		Assert.notNull(store, "KeyspaceStore must not be null");
 		this.store = store;
+		this.compressedKeySpaces = new CompressedKeySpaces(store, ValueCodec.of(new MappingEntityCodec(mappingContext)));
+
+		if (store instanceof BoundedKeySpaceStore boundedStore) {
+			boundedStore.setEvictionListener(this::evicted);
+		} else if (store instanceof CopyOnReadKeySpaceStore copyOnReadStore) {
+			copyOnReadStore.setImmutableTypes(type -> keySpaceSettings.resolve(type).immutable());
+		}
+	}
+
+	/**
+	 * Configure the {@link MappingContext} used to detect {@link Indexed indexed} properties. Defaults to a
+	 * {@link KeyValueMappingContext}. Changing the {@link MappingContext} drops existing indexes and should happen before
+	 * the adapter is used.
+	 *
+	 * @param mappingContext must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setMappingContext(
+			MappingContext<? extends KeyValuePersistentEntity<?, ?>, ? extends KeyValuePersistentProperty<?>> mappingContext) {
+
+		Assert.notNull(mappingContext, "MappingContext must not be null");
+
+		this.indexes.clear();
+		this.mappingContext = mappingContext;
+		this.indexes = new KeySpaceIndexes(mappingContext);
+		this.expiration = new KeySpaceExpiration(mappingContext, clock);
+		this.keySpaceSettings = new KeySpaceSettingsResolver(mappingContext);
+		this.compressedKeySpaces = compressedKeySpaces.withCodec(ValueCodec.of(new MappingEntityCodec(mappingContext)));
+	}
+
+	/**
+	 * Configure the {@link Clock} used to compute and check expiration deadlines of objects declaring a
+	 * {@link TimeToLive time to live}. Defaults to {@link Clock#systemUTC()}. Changing the {@link Clock} drops existing
+	 * deadlines and should happen before the adapter is used.
+	 *
+	 * @param clock must not be {@literal null}.
+	 * @since 4.2
+	 */
+	public void setClock(Clock clock) {
+
+		Assert.notNull(clock, "Clock must not be null");
+
+		this.clock = clock;
+		this.expiration = new KeySpaceExpiration(mappingContext, clock);
+	}
+
+	@Override
+	public void setEventListener(Consumer<KeyValueEvent<?>> listener) {
+
+		Assert.notNull(listener, "Event listener must not be null");
+
+		this.eventListener = listener;
 	}
 
 	@Override
@@ -144,56 +255,675 @@ public class MapKeyValueAdapter extends AbstractKeyValueAdapter {
 		Assert.notNull(id, "Cannot add item with null id");
 		Assert.notNull(keyspace, "Cannot add item for null collection");
 
-		return getKeySpaceMap(keyspace).put(id, item);
+		int stripe = gate.enter();
+
+		try {
+
+			prepareKeySpace(keyspace, item);
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+			boolean expired = expiration.isExpired(keyspace, id);
+
+			register(keyspace, id, item);
+			Object previous = indexes.write(keyspace, keySpaceMap, id, item, () -> keySpaceMap.put(id, item));
+
+			return expired ? null : previous;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object id, Object item, String keyspace) {
+
+		Assert.notNull(id, "Cannot add item with null id");
+		Assert.notNull(item, "Cannot add null item");
+
+		int stripe = gate.enter();
+
+		try {
+
+			prepareKeySpace(keyspace, item);
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+			removeIfExpired(keyspace, keySpaceMap, id);
+			Object existing = indexes.write(keyspace, keySpaceMap, id, item, () -> keySpaceMap.putIfAbsent(id, item));
+
+			if (existing == null) {
+				register(keyspace, id, item);
+			}
+
+			return existing;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public @Nullable Object replace(Object id, Object item, String keyspace) {
+
+		Assert.notNull(id, "Cannot replace item with null id");
+		Assert.notNull(item, "Cannot replace with null item");
+
+		int stripe = gate.enter();
+
+		try {
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+			removeIfExpired(keyspace, keySpaceMap, id);
+			register(keyspace, id, item);
+			Object previous = indexes.write(keyspace, keySpaceMap, id, item, () -> keySpaceMap.replace(id, item));
+
+			if (previous == null) {
+				expiration.unregister(keyspace, id);
+			}
+
+			return previous;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public boolean replace(Object id, Object expected, Object item, String keyspace) {
+
+		Assert.notNull(id, "Cannot replace item with null id");
+		Assert.notNull(expected, "Expected item must not be null");
+		Assert.notNull(item, "Cannot replace with null item");
+
+		int stripe = gate.enter();
+
+		try {
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+			removeIfExpired(keyspace, keySpaceMap, id);
+			boolean replaced = indexes.write(keyspace, keySpaceMap, id, item,
+					() -> keySpaceMap.replace(id, expected, item));
+
+			if (replaced) {
+				register(keyspace, id, item);
+			}
+
+			return replaced;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public @Nullable Object compute(Object id, BiFunction<Object, @Nullable Object, @Nullable Object> remappingFunction,
+			String keyspace) {
+
+		Assert.notNull(id, "Cannot compute item with null id");
+		Assert.notNull(remappingFunction, "Remapping function must not be null");
+
+		int stripe = gate.enter();
+
+		try {
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+			Object computed = keySpaceMap.compute(id, (key, existing) -> {
+
+				Object value = remappingFunction.apply(key,
+						existing != null && expiration.isExpired(keyspace, key) ? null : existing);
+
+				if (value != null) {
+					register(keyspace, key, value);
+					indexes.add(keyspace, keySpaceMap, key, value);
+				} else {
+					expiration.unregister(keyspace, key);
+				}
+
+				return value;
+			});
+
+			indexes.update(keyspace, keySpaceMap, id);
+
+			return computed;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public void putAll(Map<?, ?> items, String keyspace) {
+
+		Assert.notNull(items, "Items must not be null");
+		Assert.notNull(keyspace, "Cannot add items for null collection");
+
+		int stripe = gate.enter();
+
+		try {
+
+			for (Object item : items.values()) {
+
+				if (item != null) {
+					prepareKeySpace(keyspace, item);
+					break;
+				}
+			}
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+			for (Entry<?, ?> entry : items.entrySet()) {
+
+				Object id = entry.getKey();
+				Object item = entry.getValue();
+
+				Assert.notNull(id, "Cannot add item with null id");
+
+				register(keyspace, id, item);
+				indexes.write(keyspace, keySpaceMap, id, item, () -> keySpaceMap.put(id, item));
+			}
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
 	}
 
 	@Override
 	public boolean contains(Object id, String keyspace) {
-		return get(id, keyspace) != null;
+
+		Assert.notNull(id, "Cannot check item with null id");
+
+		return getKeySpaceMap(keyspace).containsKey(id) && !expiration.isExpired(keyspace, id);
 	}
 
 	@Override
 	public long count(String keyspace) {
-		return getKeySpaceMap(keyspace).size();
+
+		Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+		if (!expiration.hasDeadlines(keyspace)) {
+			return keySpaceMap.size();
+		}
+
+		return keySpaceMap.keySet().stream().filter(id -> !expiration.isExpired(keyspace, id)).count();
 	}
 
 	@Override
 	public @Nullable Object get(Object id, String keyspace) {
 
 		Assert.notNull(id, "Cannot get item with null id");
-		return getKeySpaceMap(keyspace).get(id);
+
+		Object value = getKeySpaceMap(keyspace).get(id);
+		return value != null && expiration.isExpired(keyspace, id) ? null : value;
+	}
+
+	@Override
+	public <T> @Nullable T get(long id, String keyspace, Class<T> type) {
+
+		if (!(getKeySpaceMap(keyspace) instanceof LongKeySpace keySpace)) {
+			return get(toId(id, type), keyspace, type);
+		}
+
+		if (keySpace.getKeyType() == null) {
+			keySpaceSettings.resolve(type).applyTo(store, keyspace);
+		}
+
+		Object value = keySpace.get(id);
+
+		if (value != null && expiration.hasDeadlines(keyspace) && expiration.isExpired(keyspace, toId(id, type))) {
+			return null;
+		}
+
+		return type.cast(value);
+	}
+
+	@Override
+	public Map<Object, Object> getAll(Collection<?> ids, String keyspace) {
+
+		Assert.notNull(ids, "Ids must not be null");
+
+		Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+		Map<Object, Object> result = new LinkedHashMap<>(ids.size());
+
+		for (Object id : ids) {
+
+			Assert.notNull(id, "Cannot get item with null id");
+
+			Object value = keySpaceMap.get(id);
+			if (value != null && !expiration.isExpired(keyspace, id)) {
+				result.put(id, value);
+			}
+		}
+
+		return result;
 	}
 
 	@Override
 	public @Nullable Object delete(Object id, String keyspace) {
 
 		Assert.notNull(id, "Cannot delete item with null id");
-		return getKeySpaceMap(keyspace).remove(id);
+
+		int stripe = gate.enter();
+
+		try {
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+			boolean expired = expiration.isExpired(keyspace, id);
+			Object removed = keySpaceMap.remove(id);
+			expiration.unregister(keyspace, id);
+			indexes.update(keyspace, keySpaceMap, id);
+
+			return expired ? null : removed;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public Map<Object, Object> deleteAll(Collection<?> ids, String keyspace) {
+
+		Assert.notNull(ids, "Ids must not be null");
+
+		int stripe = gate.enter();
+
+		try {
+
+			Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+			Map<Object, Object> result = new LinkedHashMap<>(ids.size());
+
+			for (Object id : ids) {
+
+				Assert.notNull(id, "Cannot delete item with null id");
+
+				boolean expired = expiration.isExpired(keyspace, id);
+				Object removed = keySpaceMap.remove(id);
+				expiration.unregister(keyspace, id);
+
+				if (removed != null) {
+
+					indexes.update(keyspace, keySpaceMap, id);
+
+					if (!expired) {
+						result.put(id, removed);
+					}
+				}
+			}
+
+			return result;
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
 	}
 
 	@Override
 	public Collection<Object> getAllOf(String keyspace) {
-		return getKeySpaceMap(keyspace).values();
+
+		Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+		if (!expiration.hasDeadlines(keyspace)) {
+			return keySpaceMap.values();
+		}
+
+		return expiration.unexpired(keyspace, keySpaceMap.entrySet().stream()).map(Entry::getValue).toList();
 	}
 
 	@Override
 	public CloseableIterator<Entry<Object, Object>> entries(String keyspace) {
-		return new ForwardingCloseableIterator<>(getKeySpaceMap(keyspace).entrySet().iterator());
+
+		Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+
+		if (!expiration.hasDeadlines(keyspace)) {
+			return new ForwardingCloseableIterator<>(keySpaceMap.entrySet().iterator());
+		}
+
+		return unexpired(keyspace, keySpaceMap.entrySet().stream());
+	}
+
+	@Override
+	public CloseableIterator<Entry<Object, Object>> entries(String keyspace, @Nullable Object fromKey,
+			@Nullable Object toKey) {
+
+		if (!(getKeySpaceMap(keyspace) instanceof NavigableMap<Object, Object> sorted)) {
+			return super.entries(keyspace, fromKey, toKey);
+		}
+
+		NavigableMap<Object, Object> range;
+
+		if (fromKey != null) {
+			range = toKey != null ? sorted.subMap(fromKey, true, toKey, false) : sorted.tailMap(fromKey, true);
+		} else {
+			range = toKey != null ? sorted.headMap(toKey, false) : sorted;
+		}
+
+		return unexpired(keyspace, range.entrySet().stream());
+	}
+
+	@Override
+	public CloseableIterator<Entry<Object, Object>> entriesWithPrefix(String keyspace, String prefix) {
+
+		Assert.notNull(prefix, "Prefix must not be null");
+
+		if (!(getKeySpaceMap(keyspace) instanceof NavigableMap<Object, Object> sorted) || sorted.comparator() != null) {
+			return super.entriesWithPrefix(keyspace, prefix);
+		}
+
+		return unexpired(keyspace, sorted.tailMap(prefix, true).entrySet().stream()
+				.takeWhile(it -> it.getKey() instanceof String key && key.startsWith(prefix)));
 	}
 
 	@Override
 	public void deleteAllOf(String keyspace) {
-		getKeySpaceMap(keyspace).clear();
+
+		int stripe = gate.enter();
+
+		try {
+
+			indexes.clear(keyspace);
+			expiration.clear(keyspace);
+			getKeySpaceMap(keyspace).clear();
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
 	}
 
 	@Override
 	public void clear() {
-		store.clear();
+
+		int stripe = gate.enter();
+
+		try {
+
+			indexes.clear();
+			expiration.clear();
+			store.clear();
+			compressedKeySpaces.clear();
+		} finally {
+			modifications.cleared();
+			gate.exit(stripe);
+		}
+	}
+
+	@Override
+	public @Nullable KeyValueIndex getIndex(String keyspace, String path) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.notNull(path, "Path must not be null");
+
+		return indexes.getIndex(keyspace, path);
+	}
+
+	/**
+	 * Return the number of modifications of {@code keyspace}. The count is incremented after each write, delete,
+	 * eviction and expiration of objects of the keyspace as well as when the keyspace is cleared or restored.
+	 * <p>
+	 * Objects reaching their deadline are no longer visible before they are removed, which does not change the count.
+	 * Keyspaces holding objects subject to expiration therefore report a negative value, so their query results are not
+	 * cached.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the modification count or a negative value if the keyspace holds objects subject to expiration.
+	 * @since 4.2
+	 */
+	@Override
+	public long getModificationCount(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		if (expiration.hasDeadlines(keyspace)) {
+			return -1;
+		}
+
+		return modifications.get(keyspace);
+	}
+
+	/**
+	 * Configure a {@link QueryResultCache} caching query results of the {@link QueryEngine} used by this adapter.
+	 * Cached results are invalidated by any modification of their keyspace.
+	 *
+	 * @param resultCache can be {@literal null} to disable caching.
+	 * @see QueryEngine#setResultCache(QueryResultCache)
+	 * @since 4.2
+	 */
+	public void setQueryResultCache(@Nullable QueryResultCache resultCache) {
+		getQueryEngine().setResultCache(resultCache);
+	}
+
+	/**
+	 * Return the {@link CompressionStatistics} of the given {@code keyspace}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the statistics, {@link CompressionStatistics#NONE} if the keyspace does not store compressed values.
+	 * @since 4.2
+	 */
+	public CompressionStatistics getCompressionStatistics(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return compressedKeySpaces.getStatistics(keyspace);
+	}
+
+	/**
+	 * Write the entries of all keyspaces to {@code file} using {@link ValueCodec#serializing() Java serialization}.
+	 *
+	 * @param file the snapshot file, must not be {@literal null}.
+	 * @see #snapshot(Path, ValueCodec)
+	 * @since 4.2
+	 */
+	public void snapshot(Path file) {
+		snapshot(file, ValueCodec.serializing());
+	}
+
+	/**
+	 * Write the entries of all keyspaces to {@code file}. The snapshot captures a single point in time across all
+	 * keyspaces: writers are held off while references to the entries are copied and encoded into intermediate part
+	 * files. Keyspaces are encoded in parallel. Writers resume before the parts are assembled and forced to the storage
+	 * device, and the snapshot replaces an existing file only once written completely.
+	 * <p>
+	 * Objects modified in place without being written through this adapter are captured in their state at the time of
+	 * encoding. Objects of compressed keyspaces are written decompressed.
+	 * <p>
+	 * Requires a {@link KeySpaceStore} that is able to {@link KeySpaceStore#getKeySpaces() enumerate} its keyspaces.
+	 *
+	 * @param file the snapshot file, must not be {@literal null}.
+	 * @param codec codec used to encode keys and values, must not be {@literal null}.
+	 * @throws DataAccessResourceFailureException if the snapshot cannot be written.
+	 * @since 4.2
+	 */
+	public synchronized void snapshot(Path file, ValueCodec codec) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(codec, "ValueCodec must not be null");
+
+		List<String> keyspaces = new ArrayList<>(store.getKeySpaces());
+		keyspaces.removeIf(CompressingKeySpace::isDictionaryKeySpace);
+		int parallelism = Math.max(1, Math.min(keyspaces.size(), Runtime.getRuntime().availableProcessors()));
+
+		try (KeySpaceSnapshot.Writer writer = KeySpaceSnapshot.writer(file, codec, parallelism)) {
+
+			gate.close();
+
+			try {
+
+				for (String keyspace : keyspaces) {
+					writer.write(keyspace, getKeySpaceMap(keyspace));
+				}
+
+				writer.flush();
+			} finally {
+				gate.open();
+			}
+
+			writer.commit();
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot write snapshot %s", file), e);
+		}
+	}
+
+	/**
+	 * Load the keyspaces stored in a snapshot {@code file} written using {@link ValueCodec#serializing() Java
+	 * serialization}.
+	 *
+	 * @param file the snapshot file, must not be {@literal null}.
+	 * @see #restore(Path, ValueCodec)
+	 * @since 4.2
+	 */
+	public void restore(Path file) {
+		restore(file, ValueCodec.serializing());
+	}
+
+	/**
+	 * Load the keyspaces stored in a snapshot {@code file} replacing the contents of each keyspace contained in the
+	 * snapshot. Keyspaces not contained in the snapshot remain untouched. Keyspace maps are pre-sized and loaded in
+	 * parallel while {@link KeyValueIndex indexes} of restored keyspaces are rebuilt on next modification. Restoring is
+	 * not coordinated with concurrent writes to the restored keyspaces.
+	 *
+	 * @param file the snapshot file, must not be {@literal null}.
+	 * @param codec codec used to decode keys and values, must not be {@literal null}.
+	 * @throws DataAccessResourceFailureException if the snapshot cannot be read.
+	 * @since 4.2
+	 */
+	public synchronized void restore(Path file, ValueCodec codec) {
+
+		Assert.notNull(file, "File must not be null");
+		Assert.notNull(codec, "ValueCodec must not be null");
+
+		try {
+
+			List<String> keyspaces = KeySpaceSnapshot.read(file, codec, Runtime.getRuntime().availableProcessors(),
+					(keyspace, entries) -> {
+
+						deleteAllOf(keyspace);
+						Map<Object, Object> restored = store.getKeySpace(keyspace, entries);
+						modifications.modified(keyspace);
+
+						return restored;
+					});
+
+			for (String keyspace : keyspaces) {
+
+				expiration.opened(keyspace);
+				registerDeadlines(keyspace, getKeySpaceMap(keyspace));
+			}
+		} catch (IOException e) {
+			throw new DataAccessResourceFailureException(String.format("Cannot read snapshot %s", file), e);
+		}
+	}
+
+	@Override
+	public boolean isPersistent() {
+		return store.isPersistent();
 	}
 
 	@Override
 	public void destroy() throws Exception {
-		clear();
+
+		expirationScheduler.shutdown();
+
+		if (!isPersistent()) {
+			clear();
+			return;
+		}
+
+		indexes.clear();
+
+		if (store instanceof DisposableBean disposableStore) {
+			disposableStore.destroy();
+		}
+	}
+
+	/**
+	 * Remove objects whose time to live elapsed and publish a {@link KeyValueEvent#expired expired event} for each of
+	 * them. Invoked periodically once objects declaring a {@link TimeToLive time to live} are stored.
+	 */
+	void expireEntries() {
+		expiration.expire(this::expire);
+	}
+
+	private void expire(String keyspace, Object id, long deadline) {
+
+		int stripe = gate.enter();
+
+		try {
+
+			removeIfExpired(keyspace, getKeySpaceMap(keyspace), id);
+			expiration.unregister(keyspace, id, deadline);
+		} finally {
+			modifications.modified(keyspace);
+			gate.exit(stripe);
+		}
+	}
+
+	private CloseableIterator<Entry<Object, Object>> unexpired(String keyspace, Stream<Entry<Object, Object>> entries) {
+		return new ForwardingCloseableIterator<>(expiration.unexpired(keyspace, entries).iterator());
+	}
+
+	private void removeIfExpired(String keyspace, Map<Object, Object> keySpaceMap, Object id) {
+
+		if (!expiration.isExpired(keyspace, id)) {
+			return;
+		}
+
+		Object[] expired = new Object[1];
+
+		keySpaceMap.computeIfPresent(id, (key, value) -> {
+
+			Long deadline = expiration.getExpiredDeadline(keyspace, key);
+
+			if (deadline == null) {
+				return value;
+			}
+
+			expiration.unregister(keyspace, key, deadline);
+			expired[0] = value;
+			return null;
+		});
+
+		if (expired[0] != null) {
+
+			indexes.update(keyspace, keySpaceMap, id);
+			eventListener.accept(KeyValueEvent.expired(id, keyspace, expired[0].getClass(), expired[0]));
+		}
+	}
+
+	private void evicted(String keyspace, Object id, Object stored) {
+
+		Object value = compressedKeySpaces.decompress(keyspace, stored);
+
+		Map<Object, Object> keySpaceMap = getKeySpaceMap(keyspace);
+		indexes.update(keyspace, keySpaceMap, id);
+
+		if (!keySpaceMap.containsKey(id)) {
+			expiration.unregister(keyspace, id);
+		}
+
+		modifications.modified(keyspace);
+		eventListener.accept(KeyValueEvent.evicted(id, keyspace, value.getClass(), value));
+	}
+
+	private void prepareKeySpace(String keyspace, Object item) {
+
+		KeySpaceSettings settings = keySpaceSettings.resolve(item.getClass());
+
+		if (settings.compressed()) {
+			compressedKeySpaces.getOrCreate(keyspace);
+		}
+
+		settings.applyTo(store, keyspace);
+	}
+
+	private Object toId(long id, Class<?> type) {
+		return keySpaceSettings.resolve(type).toId(id);
+	}
+
+	private void register(String keyspace, Object id, Object item) {
+
+		if (expiration.register(keyspace, id, item)) {
+			expirationScheduler.start();
+		}
 	}
 
 	/**
@@ -205,7 +935,36 @@ public class MapKeyValueAdapter extends AbstractKeyValueAdapter {
 	protected Map<Object, Object> getKeySpaceMap(String keyspace) {
 
 		Assert.notNull(keyspace, "Collection must not be null for lookup");
-		return store.getKeySpace(keyspace);
+
+		CompressingKeySpace compressed = compressedKeySpaces.get(keyspace);
+
+		if (compressed != null) {
+			return compressed;
+		}
+
+		Map<Object, Object> keySpaceMap = store.getKeySpace(keyspace);
+
+		if (store.isPersistent()) {
+
+			expiration.open(keyspace,
+					() -> registerDeadlines(keyspace, compressedKeySpaces.open(keyspace, keySpaceMap)));
+
+			compressed = compressedKeySpaces.get(keyspace);
+			return compressed != null ? compressed : keySpaceMap;
+		}
+
+		return keySpaceMap;
+	}
+
+	/**
+	 * Register the deadlines of objects that have been stored without this adapter tracking them, e.g. because they were
+	 * restored from a persistent store. Their time to live counts from now on.
+	 */
+	private void registerDeadlines(String keyspace, Map<Object, Object> keySpaceMap) {
+
+		for (Entry<Object, Object> entry : keySpaceMap.entrySet()) {
+			register(keyspace, entry.getKey(), entry.getValue());
+		}
 	}
 
 }
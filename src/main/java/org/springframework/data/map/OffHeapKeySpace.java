@@ -0,0 +1,378 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.nio.ByteBuffer;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link ConcurrentMap} keeping encoded values in direct {@link ByteBuffer} slabs outside of the Java heap while keys
+ * and value locations remain in an on-heap {@link ConcurrentHashMap}.
+ * <p>
+ * Values are appended to the current slab using a bump pointer. Slabs are never written to at positions that have been
+ * handed out before, so readers can decode values without locking even if the value is concurrently replaced. Space
+ * freed by updates and removals is reclaimed by copying live values into new slabs once more than half of the
+ * allocated memory is garbage. Writes are serialized per keyspace.
+ * <p>
+ * Each read decodes a new value instance. Conditional operations such as {@link #replace(Object, Object, Object)}
+ * compare values by their encoded representation.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class OffHeapKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private final ValueCodec codec;
+	private final int slabSize;
+	private final Map<Object, Slot> index = new ConcurrentHashMap<>();
+
+	private final List<ByteBuffer> slabs = new ArrayList<>();
+	private @Nullable ByteBuffer current;
+	private int position;
+
+	private volatile long allocatedBytes;
+	private volatile long usedBytes;
+	private long garbageBytes;
+
+	OffHeapKeySpace(ValueCodec codec, int slabSize) {
+
+		Assert.notNull(codec, "ValueCodec must not be null");
+		Assert.isTrue(slabSize > 0, "Slab size must be greater than zero");
+
+		this.codec = codec;
+		this.slabSize = slabSize;
+	}
+
+	@Override
+	public int size() {
+		return index.size();
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return index.isEmpty();
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return index.containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		return decode(index.get(key));
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		byte[] bytes = encode(value);
+		Slot previous;
+
+		synchronized (this) {
+
+			previous = index.put(key, allocate(bytes));
+			release(previous);
+		}
+
+		return decode(previous);
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		byte[] bytes = encode(value);
+		Slot existing;
+
+		synchronized (this) {
+
+			existing = index.get(key);
+
+			if (existing == null) {
+				index.put(key, allocate(bytes));
+			}
+		}
+
+		return decode(existing);
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		byte[] bytes = encode(value);
+		Slot previous;
+
+		synchronized (this) {
+
+			if (!index.containsKey(key)) {
+				return null;
+			}
+
+			previous = index.put(key, allocate(bytes));
+			release(previous);
+		}
+
+		return decode(previous);
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+
+		Assert.notNull(key, "Key must not be null");
+
+		byte[] expected = encode(oldValue);
+		byte[] bytes = encode(newValue);
+
+		synchronized (this) {
+
+			Slot slot = index.get(key);
+
+			if (slot == null || !slot.contentEquals(expected)) {
+				return false;
+			}
+
+			index.put(key, allocate(bytes));
+			release(slot);
+			return true;
+		}
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+
+		Slot removed;
+
+		synchronized (this) {
+
+			removed = index.remove(key);
+			release(removed);
+		}
+
+		return decode(removed);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+
+		if (value == null) {
+			return false;
+		}
+
+		byte[] expected = encode(value);
+
+		synchronized (this) {
+
+			Slot slot = index.get(key);
+
+			if (slot == null || !slot.contentEquals(expected)) {
+				return false;
+			}
+
+			index.remove(key);
+			release(slot);
+			return true;
+		}
+	}
+
+	@Override
+	public synchronized void clear() {
+
+		index.clear();
+		slabs.clear();
+		current = null;
+		position = 0;
+		allocatedBytes = 0;
+		usedBytes = 0;
+		garbageBytes = 0;
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	/**
+	 * @return number of bytes occupied by live values.
+	 */
+	long getUsedBytes() {
+		return usedBytes;
+	}
+
+	/**
+	 * @return number of bytes allocated off-heap.
+	 */
+	long getAllocatedBytes() {
+		return allocatedBytes;
+	}
+
+	private byte[] encode(Object value) {
+
+		Assert.notNull(value, "Value must not be null");
+
+		return codec.encode(value);
+	}
+
+	private @Nullable Object decode(@Nullable Slot slot) {
+		return slot != null ? codec.decode(slot.read()) : null;
+	}
+
+	// guarded by this
+	private Slot allocate(byte[] bytes) {
+
+		ByteBuffer slab;
+		int offset;
+
+		if (bytes.length > slabSize) {
+
+			slab = newSlab(bytes.length);
+			offset = 0;
+		} else {
+
+			if (current == null || slabSize - position < bytes.length) {
+				current = newSlab(slabSize);
+				position = 0;
+			}
+
+			slab = current;
+			offset = position;
+			position += bytes.length;
+		}
+
+		slab.put(offset, bytes);
+		usedBytes += bytes.length;
+
+		return new Slot(slab, offset, bytes.length);
+	}
+
+	private ByteBuffer newSlab(int capacity) {
+
+		ByteBuffer slab = ByteBuffer.allocateDirect(capacity);
+		slabs.add(slab);
+		allocatedBytes += capacity;
+
+		return slab;
+	}
+
+	// guarded by this
+	private void release(@Nullable Slot slot) {
+
+		if (slot == null) {
+			return;
+		}
+
+		usedBytes -= slot.length();
+		garbageBytes += slot.length();
+
+		if (garbageBytes > slabSize && garbageBytes * 2 > allocatedBytes) {
+			compact();
+		}
+	}
+
+	/**
+	 * Copy all live values into new slabs. Previous slabs are left untouched for concurrent readers and get reclaimed
+	 * once no longer referenced.
+	 */
+	private void compact() {
+
+		slabs.clear();
+		current = null;
+		position = 0;
+		allocatedBytes = 0;
+		usedBytes = 0;
+		garbageBytes = 0;
+
+		for (Entry<Object, Slot> entry : index.entrySet()) {
+			entry.setValue(allocate(entry.getValue().read()));
+		}
+	}
+
+	/**
+	 * Location of an encoded value.
+	 */
+	private record Slot(ByteBuffer slab, int offset, int length) {
+
+		byte[] read() {
+
+			byte[] bytes = new byte[length];
+			slab.get(offset, bytes);
+			return bytes;
+		}
+
+		boolean contentEquals(byte[] bytes) {
+			return ByteBuffer.wrap(bytes).equals(slab.slice(offset, length));
+		}
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+
+			Iterator<Entry<Object, Slot>> delegate = index.entrySet().iterator();
+
+			return new Iterator<>() {
+
+				private @Nullable Object lastKey;
+
+				@Override
+				public boolean hasNext() {
+					return delegate.hasNext();
+				}
+
+				@Override
+				public Entry<Object, Object> next() {
+
+					Entry<Object, Slot> next = delegate.next();
+					lastKey = next.getKey();
+
+					return new SimpleImmutableEntry<>(next.getKey(), codec.decode(next.getValue().read()));
+				}
+
+				@Override
+				public void remove() {
+
+					Assert.state(lastKey != null, "No element to remove");
+
+					OffHeapKeySpace.this.remove(lastKey);
+					lastKey = null;
+				}
+			};
+		}
+
+		@Override
+		public int size() {
+			return index.size();
+		}
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} keeping values outside of the Java heap to reduce garbage collection pressure for large
+ * keyspaces. Values are encoded using a {@link ValueCodec} and stored in direct {@link ByteBuffer} slabs while keys and
+ * value locations are held in an on-heap index.
+ * <p>
+ * Reading a value decodes a new instance on each access. Modifying a returned object does therefore not change the
+ * stored value unless it is written back. Conditional writes compare values by their encoded representation.
+ * <p>
+ * The store can be used with {@link MapKeyValueAdapter#MapKeyValueAdapter(KeySpaceStore)} or registered as bean and
+ * referenced through {@link org.springframework.data.map.repository.config.EnableMapRepositories#keySpaceStoreRef()}:
+ *
+ * <pre class="code">
+ * &#64;Bean
+ * KeySpaceStore keySpaceStore() {
+ * 	return OffHeapKeySpaceStore.create(ValueCodec.serializing());
+ * }
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class OffHeapKeySpaceStore implements KeySpaceStore {
+
+	/**
+	 * Default size of a single off-heap slab in bytes.
+	 */
+	public static final int DEFAULT_SLAB_SIZE = 1024 * 1024;
+
+	private final ValueCodec codec;
+	private final int slabSize;
+	private final Map<String, OffHeapKeySpace> keyspaces = new ConcurrentHashMap<>();
+
+	private OffHeapKeySpaceStore(ValueCodec codec, int slabSize) {
+
+		Assert.notNull(codec, "ValueCodec must not be null");
+		Assert.isTrue(slabSize > 0, "Slab size must be greater than zero");
+
+		this.codec = codec;
+		this.slabSize = slabSize;
+	}
+
+	/**
+	 * Create a new {@link OffHeapKeySpaceStore} using {@link ValueCodec#serializing() Java serialization}.
+	 *
+	 * @return a new and empty {@link OffHeapKeySpaceStore}.
+	 */
+	public static OffHeapKeySpaceStore create() {
+		return create(ValueCodec.serializing());
+	}
+
+	/**
+	 * Create a new {@link OffHeapKeySpaceStore} using the given {@link ValueCodec}.
+	 *
+	 * @param codec must not be {@literal null}.
+	 * @return a new and empty {@link OffHeapKeySpaceStore}.
+	 */
+	public static OffHeapKeySpaceStore create(ValueCodec codec) {
+		return create(codec, DEFAULT_SLAB_SIZE);
+	}
+
+	/**
+	 * Create a new {@link OffHeapKeySpaceStore} using the given {@link ValueCodec} and slab size. Values larger than
+	 * {@code slabSize} get a dedicated slab.
+	 *
+	 * @param codec must not be {@literal null}.
+	 * @param slabSize size of a single off-heap slab in bytes, must be greater than zero.
+	 * @return a new and empty {@link OffHeapKeySpaceStore}.
+	 */
+	public static OffHeapKeySpaceStore create(ValueCodec codec, int slabSize) {
+		return new OffHeapKeySpaceStore(codec, slabSize);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return keyspaces.computeIfAbsent(keyspace, it -> new OffHeapKeySpace(codec, slabSize));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	/**
+	 * Obtain the memory usage of the given {@code keyspace}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @return the {@link Usage} of the keyspace. {@link Usage#EMPTY} if the keyspace does not exist.
+	 */
+	public Usage getUsage(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		OffHeapKeySpace keySpace = keyspaces.get(keyspace);
+
+		if (keySpace == null) {
+			return Usage.EMPTY;
+		}
+
+		return new Usage(keySpace.size(), keySpace.getUsedBytes(), keySpace.getAllocatedBytes());
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+	}
+
+	/**
+	 * Memory usage of a keyspace.
+	 *
+	 * @param entries number of entries.
+	 * @param usedBytes number of bytes occupied by encoded values.
+	 * @param allocatedBytes number of bytes allocated off-heap including space not yet reclaimed.
+	 */
+	public record Usage(long entries, long usedBytes, long allocatedBytes) {
+
+		/**
+		 * {@link Usage} of an empty keyspace.
+		 */
+		public static final Usage EMPTY = new Usage(0, 0, 0);
+	}
+}
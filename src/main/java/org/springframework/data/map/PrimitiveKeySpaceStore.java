@@ -0,0 +1,122 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} keeping {@code long} and {@code int} identifiers unboxed. Each keyspace stores keys of its
+ * primitive key type in an open-addressing table avoiding a boxed key and a map node per entry. Keys of other types are
+ * stored in a regular {@link ConcurrentHashMap} within the same keyspace.
+ * <p>
+ * The primitive key type of a keyspace is configured explicitly, detected by {@link MapKeyValueAdapter} from the id
+ * property of the stored entity, or determined by the first {@link Long} or {@link Integer} key stored in the keyspace.
+ * {@link MapKeyValueAdapter#get(long, String, Class)} reads values without boxing the identifier.
+ *
+ * <pre class="code">
+ * KeyValueTemplate template = new KeyValueTemplate(new MapKeyValueAdapter(PrimitiveKeySpaceStore.create()));
+ *
+ * Optional&lt;Person&gt; person = template.findById(42L, Person.class);
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class PrimitiveKeySpaceStore implements KeySpaceStore {
+
+	private final Map<String, Class<?>> keyTypes = new ConcurrentHashMap<>();
+	private final Map<String, LongKeySpace> keyspaces = new ConcurrentHashMap<>();
+
+	private PrimitiveKeySpaceStore() {}
+
+	/**
+	 * Create a new {@link PrimitiveKeySpaceStore}.
+	 *
+	 * @return a new and empty {@link PrimitiveKeySpaceStore}.
+	 */
+	public static PrimitiveKeySpaceStore create() {
+		return new PrimitiveKeySpaceStore();
+	}
+
+	/**
+	 * Configure the primitive key type of the given {@code keyspace}. The key type applies when the keyspace is created
+	 * and does not change an existing keyspace.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param keyType {@code long}, {@code int} or their wrapper types.
+	 */
+	public void setKeyType(String keyspace, Class<?> keyType) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.isTrue(LongKeySpace.isPrimitiveKeyType(keyType),
+				() -> "Key type must be long or int but was %s".formatted(keyType));
+
+		keyTypes.put(keyspace, keyType);
+	}
+
+	/**
+	 * Configure the primitive key type of the given {@code keyspace} unless configured explicitly. Applies to an existing
+	 * keyspace whose key type has not been determined yet.
+	 *
+	 * @param keyspace the keyspace.
+	 * @param keyType {@code long}, {@code int} or their wrapper types.
+	 */
+	void setKeyTypeIfAbsent(String keyspace, Class<?> keyType) {
+
+		Class<?> configured = keyTypes.computeIfAbsent(keyspace, it -> keyType);
+		LongKeySpace keySpace = keyspaces.get(keyspace);
+
+		if (keySpace != null && keySpace.getKeyType() == null) {
+			keySpace.setKeyTypeIfAbsent(configured);
+		}
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+		return getKeySpace(keyspace, MapKeySpaceStore.DEFAULT_INITIAL_CAPACITY);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		LongKeySpace keySpace = keyspaces.get(keyspace);
+
+		if (keySpace != null) {
+			return keySpace;
+		}
+
+		return keyspaces.computeIfAbsent(keyspace, it -> new LongKeySpace(keyTypes.get(it), expectedSize));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+	}
+
+}
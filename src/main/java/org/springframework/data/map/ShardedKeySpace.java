@@ -0,0 +1,267 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * {@link ConcurrentMap} splitting its entries across independently sized {@link ConcurrentHashMap shards} selected by
+ * key hash. Each shard resizes on its own so that concurrent writers rarely stall on a resize of the whole keyspace.
+ * <p>
+ * Shards are selected by the upper bits of a multiplicative hash leaving the lower bits used by
+ * {@link ConcurrentHashMap} for bin selection evenly distributed within each shard. Whole-map views iterate the shards
+ * in sequence without copying. Like {@link ConcurrentHashMap}, {@link #size()} is an estimate while the map is
+ * concurrently modified.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class ShardedKeySpace extends AbstractMap<Object, Object> implements ConcurrentMap<Object, Object> {
+
+	private final ConcurrentHashMap<Object, Object>[] shards;
+	private final int shift;
+
+	/**
+	 * @param shards number of shards, must be a power of two.
+	 * @param initialCapacity expected number of entries across all shards.
+	 */
+	@SuppressWarnings("unchecked")
+	ShardedKeySpace(int shards, int initialCapacity) {
+
+		this.shards = new ConcurrentHashMap[shards];
+		this.shift = 32 - Integer.numberOfTrailingZeros(shards);
+
+		int shardCapacity = (int) Math.ceil((double) initialCapacity / shards);
+
+		for (int i = 0; i < shards; i++) {
+			this.shards[i] = new ConcurrentHashMap<>(shardCapacity);
+		}
+	}
+
+	/**
+	 * @return the number of shards.
+	 */
+	int getShardCount() {
+		return shards.length;
+	}
+
+	@Override
+	public int size() {
+
+		long size = 0;
+
+		for (ConcurrentHashMap<Object, Object> shard : shards) {
+			size += shard.mappingCount();
+		}
+
+		return (int) Math.min(Integer.MAX_VALUE, size);
+	}
+
+	@Override
+	public boolean isEmpty() {
+
+		for (ConcurrentHashMap<Object, Object> shard : shards) {
+			if (!shard.isEmpty()) {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	@Override
+	public boolean containsKey(Object key) {
+		return shard(key).containsKey(key);
+	}
+
+	@Override
+	public @Nullable Object get(Object key) {
+		return shard(key).get(key);
+	}
+
+	@Override
+	public @Nullable Object put(Object key, Object value) {
+		return shard(key).put(key, value);
+	}
+
+	@Override
+	public @Nullable Object putIfAbsent(Object key, Object value) {
+		return shard(key).putIfAbsent(key, value);
+	}
+
+	@Override
+	public @Nullable Object replace(Object key, Object value) {
+		return shard(key).replace(key, value);
+	}
+
+	@Override
+	public boolean replace(Object key, Object oldValue, Object newValue) {
+		return shard(key).replace(key, oldValue, newValue);
+	}
+
+	@Override
+	public @Nullable Object remove(Object key) {
+		return shard(key).remove(key);
+	}
+
+	@Override
+	public boolean remove(Object key, Object value) {
+		return shard(key).remove(key, value);
+	}
+
+	@Override
+	public @Nullable Object compute(Object key,
+			BiFunction<? super Object, ? super @Nullable Object, ? extends @Nullable Object> remappingFunction) {
+		return shard(key).compute(key, remappingFunction);
+	}
+
+	@Override
+	public @Nullable Object computeIfPresent(Object key,
+			BiFunction<? super Object, ? super Object, ? extends @Nullable Object> remappingFunction) {
+		return shard(key).computeIfPresent(key, remappingFunction);
+	}
+
+	@Override
+	public Object computeIfAbsent(Object key, Function<? super Object, ? extends Object> mappingFunction) {
+		return shard(key).computeIfAbsent(key, mappingFunction);
+	}
+
+	@Override
+	public void forEach(BiConsumer<? super Object, ? super Object> action) {
+
+		for (ConcurrentHashMap<Object, Object> shard : shards) {
+			shard.forEach(action);
+		}
+	}
+
+	@Override
+	public void clear() {
+
+		for (ConcurrentHashMap<Object, Object> shard : shards) {
+			shard.clear();
+		}
+	}
+
+	@Override
+	public Set<Entry<Object, Object>> entrySet() {
+		return new EntrySet();
+	}
+
+	private ConcurrentHashMap<Object, Object> shard(Object key) {
+
+		if (shards.length == 1) {
+			return shards[0];
+		}
+
+		return shards[(key.hashCode() * 0x9E3779B9) >>> shift];
+	}
+
+	private class EntrySet extends AbstractSet<Entry<Object, Object>> {
+
+		@Override
+		public Iterator<Entry<Object, Object>> iterator() {
+			return new ShardIterator();
+		}
+
+		@Override
+		public Spliterator<Entry<Object, Object>> spliterator() {
+			return Stream.of(shards).flatMap(it -> it.entrySet().stream()).spliterator();
+		}
+
+		@Override
+		public boolean contains(Object o) {
+			return o instanceof Entry<?, ?> entry && shard(entry.getKey()).entrySet().contains(entry);
+		}
+
+		@Override
+		public boolean remove(Object o) {
+			return o instanceof Entry<?, ?> entry && shard(entry.getKey()).entrySet().remove(entry);
+		}
+
+		@Override
+		public int size() {
+			return ShardedKeySpace.this.size();
+		}
+
+		@Override
+		public boolean isEmpty() {
+			return ShardedKeySpace.this.isEmpty();
+		}
+
+		@Override
+		public void clear() {
+			ShardedKeySpace.this.clear();
+		}
+	}
+
+	private class ShardIterator implements Iterator<Entry<Object, Object>> {
+
+		private int shard = 0;
+		private Iterator<Entry<Object, Object>> current = shards[0].entrySet().iterator();
+		private @Nullable Iterator<Entry<Object, Object>> lastReturned;
+
+		@Override
+		public boolean hasNext() {
+
+			while (!current.hasNext()) {
+
+				if (++shard >= shards.length) {
+					return false;
+				}
+
+				current = shards[shard].entrySet().iterator();
+			}
+
+			return true;
+		}
+
+		@Override
+		public Entry<Object, Object> next() {
+
+			if (!hasNext()) {
+				throw new NoSuchElementException();
+			}
+
+			lastReturned = current;
+			return current.next();
+		}
+
+		@Override
+		public void remove() {
+
+			if (lastReturned == null) {
+				throw new IllegalStateException();
+			}
+
+			lastReturned.remove();
+			lastReturned = null;
+		}
+	}
+
+}
@@ -0,0 +1,150 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} splitting each keyspace into independently sized {@link ConcurrentHashMap shards} selected by
+ * key hash. Sharding keeps resizes local to a single shard and spreads contention of write-heavy keyspaces across
+ * multiple maps while whole-keyspace reads iterate the shards without copying.
+ * <p>
+ * The number of shards and the initial capacity of a keyspace derive from its {@link Hints}, configured per store or
+ * per keyspace before the keyspace is first accessed:
+ *
+ * <pre class="code">
+ * ShardedKeySpaceStore store = ShardedKeySpaceStore.create();
+ * store.setHints("events", new ShardedKeySpaceStore.Hints(10_000_000, 64));
+ *
+ * KeyValueTemplate template = new KeyValueTemplate(new MapKeyValueAdapter(store));
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class ShardedKeySpaceStore implements KeySpaceStore {
+
+	static final int MAX_SHARDS = 1 << 10;
+
+	private final Hints defaultHints;
+	private final Map<String, Hints> hints = new ConcurrentHashMap<>();
+	private final Map<String, ShardedKeySpace> keyspaces = new ConcurrentHashMap<>();
+
+	private ShardedKeySpaceStore(Hints defaultHints) {
+		this.defaultHints = defaultHints;
+	}
+
+	/**
+	 * Create a new {@link ShardedKeySpaceStore} using one shard per available processor for each keyspace.
+	 *
+	 * @return a new and empty {@link ShardedKeySpaceStore}.
+	 */
+	public static ShardedKeySpaceStore create() {
+		return create(
+				new Hints(MapKeySpaceStore.DEFAULT_INITIAL_CAPACITY, Runtime.getRuntime().availableProcessors()));
+	}
+
+	/**
+	 * Create a new {@link ShardedKeySpaceStore} applying {@code defaultHints} to each keyspace without dedicated
+	 * {@link Hints}.
+	 *
+	 * @param defaultHints must not be {@literal null}.
+	 * @return a new and empty {@link ShardedKeySpaceStore}.
+	 */
+	public static ShardedKeySpaceStore create(Hints defaultHints) {
+
+		Assert.notNull(defaultHints, "Default hints must not be null");
+
+		return new ShardedKeySpaceStore(defaultHints);
+	}
+
+	/**
+	 * Configure the {@link Hints} for the given {@code keyspace}. Hints apply when the keyspace is created and do not
+	 * change an existing keyspace.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param hints must not be {@literal null}.
+	 */
+	public void setHints(String keyspace, Hints hints) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.notNull(hints, "Hints must not be null");
+
+		this.hints.put(keyspace, hints);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return keyspaces.computeIfAbsent(keyspace, it -> createKeySpace(getHints(it), 0));
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return keyspaces.computeIfAbsent(keyspace, it -> createKeySpace(getHints(it), expectedSize));
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+		return keyspaces.keySet();
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+	}
+
+	private Hints getHints(String keyspace) {
+		return hints.getOrDefault(keyspace, defaultHints);
+	}
+
+	private static ShardedKeySpace createKeySpace(Hints hints, int expectedSize) {
+
+		int concurrencyLevel = Math.min(MAX_SHARDS, hints.concurrencyLevel());
+		int shards = concurrencyLevel == 1 ? 1 : Integer.highestOneBit(concurrencyLevel - 1) << 1;
+
+		return new ShardedKeySpace(shards, Math.max(hints.initialCapacity(), expectedSize));
+	}
+
+	/**
+	 * Sizing hints for a keyspace.
+	 *
+	 * @param initialCapacity number of entries expected to be stored in the keyspace, distributed evenly across all
+	 *          shards.
+	 * @param concurrencyLevel estimated number of concurrently writing threads, rounded up to the next power of two to
+	 *          determine the number of shards.
+	 */
+	public record Hints(int initialCapacity, int concurrencyLevel) {
+
+		public Hints {
+
+			Assert.isTrue(initialCapacity >= 0, "Initial capacity must not be negative");
+			Assert.isTrue(concurrencyLevel > 0, "Concurrency level must be greater than zero");
+		}
+	}
+
+}
@@ -0,0 +1,115 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.AbstractMap;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Range.Bound;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.core.OrderedKeyValueIndex;
+
+/**
+ * {@link OrderedKeyValueIndex} backed by a {@link ConcurrentSkipListMap} mapping property values in their natural order
+ * to the set of ids holding the value. Range lookups are served as lazy sub-map traversals.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class SortedIndex extends HashIndex implements OrderedKeyValueIndex {
+
+	private static final Comparator<Object> NATURAL_ORDER = SortedIndex::compare;
+
+	private final ConcurrentSkipListMap<Object, Set<Object>> entries;
+
+	SortedIndex() {
+		this(new ConcurrentSkipListMap<>(NATURAL_ORDER));
+	}
+
+	private SortedIndex(ConcurrentSkipListMap<Object, Set<Object>> entries) {
+
+		super(entries);
+		this.entries = entries;
+	}
+
+	@Override
+	public Iterable<Object> getRange(Range<?> range, Direction direction) {
+
+		NavigableMap<Object, Set<Object>> subMap = subMap(range);
+
+		if (direction.isDescending()) {
+			subMap = subMap.descendingMap();
+		}
+
+		NavigableMap<Object, Set<Object>> mapToUse = subMap;
+		return () -> mapToUse.values().stream().flatMap(Set::stream).iterator();
+	}
+
+	@Override
+	public Iterable<Map.Entry<Object, Object>> getRangeEntries(Range<?> range, Direction direction) {
+
+		NavigableMap<Object, Set<Object>> subMap = subMap(range);
+
+		if (direction.isDescending()) {
+			subMap = subMap.descendingMap();
+		}
+
+		NavigableMap<Object, Set<Object>> mapToUse = subMap;
+		return () -> mapToUse.entrySet().stream().flatMap(entry -> entry.getValue().stream()
+				.map(id -> (Map.Entry<Object, Object>) new AbstractMap.SimpleImmutableEntry<>(entry.getKey(), id)))
+				.iterator();
+	}
+
+	private NavigableMap<Object, Set<Object>> subMap(Range<?> range) {
+
+		Bound<?> lower = range.getLowerBound();
+		Bound<?> upper = range.getUpperBound();
+
+		if (lower.isBounded() && upper.isBounded()) {
+
+			Object from = lower.getValue().get();
+			Object to = upper.getValue().get();
+			int comparison = compare(from, to);
+
+			if (comparison > 0 || (comparison == 0 && !(lower.isInclusive() && upper.isInclusive()))) {
+				return Collections.emptyNavigableMap();
+			}
+
+			return entries.subMap(from, lower.isInclusive(), to, upper.isInclusive());
+		}
+
+		if (lower.isBounded()) {
+			return entries.tailMap(lower.getValue().get(), lower.isInclusive());
+		}
+
+		if (upper.isBounded()) {
+			return entries.headMap(upper.getValue().get(), upper.isInclusive());
+		}
+
+		return entries;
+	}
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static int compare(Object left, Object right) {
+		return ((Comparable) left).compareTo(right);
+	}
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+import org.springframework.util.Assert;
+
+/**
+ * {@link KeySpaceStore} keeping selected keyspaces ordered by key in a {@link ConcurrentSkipListMap}. Sorted keyspaces
+ * allow {@link MapKeyValueAdapter#entries(String, Object, Object) range} and
+ * {@link MapKeyValueAdapter#entriesWithPrefix(String, String) prefix} scans visiting only the matching keys. All other
+ * keyspaces are held by a delegate {@link KeySpaceStore}.
+ * <p>
+ * Keyspaces need to be declared sorted before they are first accessed:
+ *
+ * <pre class="code">
+ * SortedKeySpaceStore store = SortedKeySpaceStore.create();
+ * store.setSorted("readings");
+ *
+ * KeyValueTemplate template = new KeyValueTemplate(new MapKeyValueAdapter(store));
+ * </pre>
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public class SortedKeySpaceStore implements KeySpaceStore {
+
+	@SuppressWarnings({ "unchecked", "rawtypes" })
+	private static final Comparator<Object> NATURAL_ORDER = (Comparator) Comparator.naturalOrder();
+
+	private final KeySpaceStore delegate;
+	private final Map<String, Comparator<Object>> comparators = new ConcurrentHashMap<>();
+	private final Map<String, ConcurrentSkipListMap<Object, Object>> keyspaces = new ConcurrentHashMap<>();
+
+	private SortedKeySpaceStore(KeySpaceStore delegate) {
+		this.delegate = delegate;
+	}
+
+	/**
+	 * Create a new {@link SortedKeySpaceStore} holding keyspaces that are not sorted in a {@link ConcurrentHashMap}.
+	 *
+	 * @return a new and empty {@link SortedKeySpaceStore}.
+	 */
+	public static SortedKeySpaceStore create() {
+		return create(KeySpaceStore.create());
+	}
+
+	/**
+	 * Create a new {@link SortedKeySpaceStore} holding keyspaces that are not sorted in the given {@code delegate}.
+	 *
+	 * @param delegate must not be {@literal null}.
+	 * @return a new {@link SortedKeySpaceStore}.
+	 */
+	public static SortedKeySpaceStore create(KeySpaceStore delegate) {
+
+		Assert.notNull(delegate, "Delegate KeySpaceStore must not be null");
+
+		return new SortedKeySpaceStore(delegate);
+	}
+
+	/**
+	 * Keep the given {@code keyspace} sorted by the natural ordering of its keys.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 */
+	public void setSorted(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		comparators.put(keyspace, NATURAL_ORDER);
+	}
+
+	/**
+	 * Keep the given {@code keyspace} sorted by the given {@code comparator}.
+	 *
+	 * @param keyspace must not be {@literal null}.
+	 * @param comparator must not be {@literal null}.
+	 */
+	@SuppressWarnings("unchecked")
+	public void setSorted(String keyspace, Comparator<?> comparator) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+		Assert.notNull(comparator, "Comparator must not be null");
+
+		comparators.put(keyspace, (Comparator<Object>) comparator);
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		Comparator<Object> comparator = comparators.get(keyspace);
+
+		if (comparator == null) {
+			return delegate.getKeySpace(keyspace);
+		}
+
+		return keyspaces.computeIfAbsent(keyspace,
+				it -> comparator == NATURAL_ORDER ? new ConcurrentSkipListMap<>() : new ConcurrentSkipListMap<>(comparator));
+	}
+
+	@Override
+	public Map<Object, Object> getKeySpace(String keyspace, int expectedSize) {
+
+		Assert.notNull(keyspace, "Keyspace must not be null");
+
+		return comparators.containsKey(keyspace) ? getKeySpace(keyspace) : delegate.getKeySpace(keyspace, expectedSize);
+	}
+
+	@Override
+	public Set<String> getKeySpaces() {
+
+		Set<String> names = new LinkedHashSet<>(delegate.getKeySpaces());
+		names.addAll(keyspaces.keySet());
+
+		return names;
+	}
+
+	@Override
+	public void clear() {
+
+		keyspaces.values().forEach(Map::clear);
+		keyspaces.clear();
+		delegate.clear();
+	}
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel scheduling items for their deadline. Each level consists of {@value #SLOTS} slots with each
+ * slot of a level spanning a full rotation of the level below. Items are placed on the lowest level able to hold their
+ * deadline and cascade down to lower levels as time advances, which makes scheduling and expiring an item constant
+ * time regardless of the number of scheduled items.
+ * <p>
+ * Items can be {@link #schedule(Object, long) scheduled} concurrently. {@link #advance(long, Consumer) Advancing} the
+ * wheel must be done by a single thread at a time. Items are never cancelled but are expected to be checked for
+ * staleness when they become due.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class TimingWheel<T> {
+
+	private static final int SLOT_BITS = 6;
+	private static final int SLOTS = 1 << SLOT_BITS;
+	private static final int LEVELS = 4;
+
+	private final long tick;
+	private final Queue<Timeout<T>> pending = new ConcurrentLinkedQueue<>();
+	private final ArrayDeque<Timeout<T>>[][] wheels;
+
+	private long currentTick;
+	private long scheduled;
+
+	/**
+	 * @param tick duration of a tick in milliseconds.
+	 * @param now current time in milliseconds.
+	 */
+	@SuppressWarnings("unchecked")
+	TimingWheel(long tick, long now) {
+
+		this.tick = tick;
+		this.currentTick = now / tick;
+		this.wheels = new ArrayDeque[LEVELS][SLOTS];
+
+		for (ArrayDeque<Timeout<T>>[] wheel : wheels) {
+			for (int i = 0; i < SLOTS; i++) {
+				wheel[i] = new ArrayDeque<>();
+			}
+		}
+	}
+
+	/**
+	 * Schedule {@code item} to become due at {@code deadline}.
+	 *
+	 * @param item the item.
+	 * @param deadline deadline in milliseconds.
+	 */
+	void schedule(T item, long deadline) {
+		pending.add(new Timeout<>(item, (deadline + tick - 1) / tick));
+	}
+
+	/**
+	 * Advance the wheel to {@code now} handing all items that became due to {@code action}.
+	 *
+	 * @param now current time in milliseconds.
+	 * @param action callback receiving due items.
+	 */
+	void advance(long now, Consumer<T> action) {
+
+		long targetTick = now / tick;
+
+		for (Timeout<T> timeout = pending.poll(); timeout != null; timeout = pending.poll()) {
+			place(timeout, action);
+		}
+
+		if (scheduled == 0) {
+			currentTick = Math.max(currentTick, targetTick);
+			return;
+		}
+
+		while (currentTick < targetTick) {
+
+			currentTick++;
+
+			for (int level = LEVELS - 1; level > 0; level--) {
+				if ((currentTick & ((1L << (SLOT_BITS * level)) - 1)) == 0) {
+					cascade(wheels[level][slot(currentTick, level)], action);
+				}
+			}
+
+			ArrayDeque<Timeout<T>> due = wheels[0][slot(currentTick, 0)];
+
+			for (Timeout<T> timeout = due.poll(); timeout != null; timeout = due.poll()) {
+
+				scheduled--;
+				action.accept(timeout.item());
+			}
+
+			if (scheduled == 0) {
+				currentTick = targetTick;
+			}
+		}
+	}
+
+	/**
+	 * Return the number of items scheduled and not yet due.
+	 *
+	 * @return the number of scheduled items.
+	 */
+	long size() {
+		return scheduled + pending.size();
+	}
+
+	private void cascade(ArrayDeque<Timeout<T>> slot, Consumer<T> action) {
+
+		int count = slot.size();
+
+		for (int i = 0; i < count; i++) {
+
+			scheduled--;
+			place(slot.poll(), action);
+		}
+	}
+
+	private void place(Timeout<T> timeout, Consumer<T> action) {
+
+		long deadline = timeout.deadline();
+
+		if (deadline <= currentTick) {
+			action.accept(timeout.item());
+			return;
+		}
+
+		scheduled++;
+
+		for (int level = 0; level < LEVELS; level++) {
+
+			int shift = SLOT_BITS * (level + 1);
+
+			if ((deadline >>> shift) == (currentTick >>> shift)) {
+				wheels[level][slot(deadline, level)].add(timeout);
+				return;
+			}
+		}
+
+		// beyond the range of the wheel: park in the top level slot reached last and re-place on cascade
+		wheels[LEVELS - 1][(slot(currentTick, LEVELS - 1) + SLOTS - 1) & (SLOTS - 1)].add(timeout);
+	}
+
+	private static int slot(long tick, int level) {
+		return (int) (tick >>> (SLOT_BITS * level)) & (SLOTS - 1);
+	}
+
+	private record Timeout<T>(T item, long deadline) {
+
+	}
+
+}
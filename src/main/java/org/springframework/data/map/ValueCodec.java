@@ -0,0 +1,90 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import org.jspecify.annotations.Nullable;
+
+import org.springframework.data.keyvalue.core.EntityCodec;
+import org.springframework.data.keyvalue.core.MappingEntityCodec;
+
+/**
+ * Strategy to convert values into their binary representation and back. Used by {@link KeySpaceStore} implementations
+ * that keep serialized values instead of object references, for example {@link OffHeapKeySpaceStore}. An
+ * {@link EntityCodec} can be used through {@link #of(EntityCodec)}.
+ * <p>
+ * Implementations must be thread-safe. Decoding the result of {@link #encode(Object)} must yield an object equivalent
+ * to the encoded one.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+public interface ValueCodec {
+
+	/**
+	 * Encode the given {@code value}.
+	 *
+	 * @param value must not be {@literal null}.
+	 * @return the binary representation of {@code value}, never {@literal null}.
+	 */
+	byte[] encode(Object value);
+
+	/**
+	 * Decode the given binary representation.
+	 *
+	 * @param bytes must not be {@literal null}.
+	 * @return the decoded value, never {@literal null}.
+	 */
+	Object decode(byte[] bytes);
+
+	/**
+	 * Create a {@link ValueCodec} using Java serialization. Values must implement {@link java.io.Serializable}.
+	 *
+	 * @return a new {@link ValueCodec} using the default {@link ClassLoader}.
+	 */
+	static ValueCodec serializing() {
+		return new SerializingValueCodec(null);
+	}
+
+	/**
+	 * Create a {@link ValueCodec} using Java serialization resolving classes through the given {@link ClassLoader}.
+	 * Values must implement {@link java.io.Serializable}.
+	 *
+	 * @param classLoader can be {@literal null} to use the default {@link ClassLoader}.
+	 * @return a new {@link ValueCodec}.
+	 */
+	static ValueCodec serializing(@Nullable ClassLoader classLoader) {
+		return new SerializingValueCodec(classLoader);
+	}
+
+	/**
+	 * Create a {@link ValueCodec} using a {@link MappingEntityCodec} with a default mapping context.
+	 *
+	 * @return a new {@link ValueCodec}.
+	 */
+	static ValueCodec mapping() {
+		return of(new MappingEntityCodec());
+	}
+
+	/**
+	 * Create a {@link ValueCodec} delegating to the given {@link EntityCodec}.
+	 *
+	 * @param codec must not be {@literal null}.
+	 * @return a new {@link ValueCodec}.
+	 */
+	static ValueCodec of(EntityCodec codec) {
+		return new EntityValueCodec(codec);
+	}
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Gate that lets a single thread briefly hold off writers. Writers {@link #enter() enter} and {@link #exit(int) exit}
+ * the gate around each modification while a thread {@link #close() closing} the gate waits for writers in flight to
+ * finish and blocks new writers until the gate is {@link #open() opened} again.
+ * <p>
+ * Writers are tracked on striped counters to avoid contention between writer threads while the gate is open.
+ *
+ * @author Christoph Strobl
+ * @since 4.2
+ */
+class WriteGate {
+
+	private static final int PADDING = 16;
+
+	private final int stripes;
+	private final AtomicLongArray writers;
+	private final Object monitor = new Object();
+
+	private volatile boolean closed;
+
+	WriteGate() {
+
+		this.stripes = Integer.highestOneBit(Math.max(1, Runtime.getRuntime().availableProcessors()) * 2 - 1) << 1;
+		this.writers = new AtomicLongArray(stripes * PADDING);
+	}
+
+	/**
+	 * Enter the gate, waiting for the gate to be opened if necessary.
+	 *
+	 * @return the stripe to pass on to {@link #exit(int)}.
+	 */
+	int enter() {
+
+		int stripe = stripe();
+
+		while (true) {
+
+			writers.incrementAndGet(stripe);
+
+			if (!closed) {
+				return stripe;
+			}
+
+			writers.decrementAndGet(stripe);
+			awaitOpen();
+		}
+	}
+
+	/**
+	 * Exit the gate.
+	 *
+	 * @param stripe the stripe obtained from {@link #enter()}.
+	 */
+	void exit(int stripe) {
+		writers.decrementAndGet(stripe);
+	}
+
+	/**
+	 * Close the gate and wait for writers in flight to exit. Must be followed by {@link #open()}.
+	 */
+	void close() {
+
+		synchronized (monitor) {
+			closed = true;
+		}
+
+		for (int i = 0; i < writers.length(); i += PADDING) {
+			while (writers.get(i) != 0) {
+				Thread.onSpinWait();
+			}
+		}
+	}
+
+	/**
+	 * Open the gate and release waiting writers.
+	 */
+	void open() {
+
+		synchronized (monitor) {
+			closed = false;
+			monitor.notifyAll();
+		}
+	}
+
+	private void awaitOpen() {
+
+		boolean interrupted = false;
+
+		synchronized (monitor) {
+			while (closed) {
+				try {
+					monitor.wait();
+				} catch (InterruptedException ex) {
+					interrupted = true;
+				}
+			}
+		}
+
+		if (interrupted) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private int stripe() {
+
+		long id = Thread.currentThread().getId();
+		int hash = (int) (id ^ (id >>> 32)) * 0x9E3779B9;
+		return ((hash >>> 16) & (stripes - 1)) * PADDING;
+	}
+
+}
@@ -193,4 +193,26 @@ public @interface EnableMapRepositories {
 	 */
 	Class<? extends SortAccessor> sortAccessor() default SortAccessor.class;
 
+	/**
+	 * Configures the maximum number of query results to cache. Results of derived queries and counts are cached until
+	 * the keyspace they were read from is modified. Caching is disabled by default. Will be ignored in case an explicit
+	 * bean for the {@link KeyValueTemplate} is available in the {@link ApplicationContext}.
+	 *
+	 * @return the maximum number of cached query results, {@code 0} to disable caching.
+	 * @since 4.2
+	 * @see org.springframework.data.keyvalue.core.QueryResultCache
+	 */
+	int queryResultCacheSize() default 0;
+
+	/**
+	 * Configures whether the query result cache holds only results of queries that opted into caching. If enabled, only
+	 * derived queries of repositories or query methods annotated with
+	 * {@link org.springframework.data.keyvalue.repository.query.CacheableQuery @CacheableQuery} are cached. Otherwise
+	 * results of all derived queries are cached. Has no effect unless a {@link #queryResultCacheSize()} is configured.
+	 *
+	 * @return {@literal true} to cache only queries that opted in.
+	 * @since 4.2
+	 */
+	boolean queryResultCacheOptIn() default false;
+
 }
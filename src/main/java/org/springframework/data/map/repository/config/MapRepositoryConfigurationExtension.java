@@ -30,6 +30,7 @@ import org.springframework.data.config.ParsingUtils;
 import org.springframework.data.keyvalue.core.KeyValueTemplate;
 import org.springframework.data.keyvalue.core.QueryEngine;
 import org.springframework.data.keyvalue.core.QueryEngineFactory;
+import org.springframework.data.keyvalue.core.QueryResultCache;
 import org.springframework.data.keyvalue.core.SortAccessor;
 import org.springframework.data.keyvalue.repository.config.KeyValueRepositoryConfigurationExtension;
 import org.springframework.data.map.KeySpaceStore;
@@ -68,6 +69,7 @@ public class MapRepositoryConfigurationExtension extends KeyValueRepositoryConfi
 
 		BeanDefinitionBuilder adapterBuilder = BeanDefinitionBuilder.rootBeanDefinition(MapKeyValueAdapter.class);
 		adapterBuilder.addConstructorArgValue(getKeySpaceStore(configurationSource));
+		adapterBuilder.addPropertyReference("mappingContext", getMappingContextBeanRef());
 
 		SortAccessor<?> sortAccessor = getSortAccessor(configurationSource);
 		QueryEngine<?, ?, ?> queryEngine = getQueryEngine(sortAccessor, configurationSource);
@@ -78,6 +80,12 @@ public class MapRepositoryConfigurationExtension extends KeyValueRepositoryConfi
 			adapterBuilder.addConstructorArgValue(sortAccessor);
 		}
 
+		boolean queryResultCacheOptIn = configurationSource.getAttribute("queryResultCacheOptIn", Boolean.class)
+				.orElse(false);
+		configurationSource.getAttribute("queryResultCacheSize", Integer.class).filter(size -> size > 0)
+				.ifPresent(size -> adapterBuilder.addPropertyValue("queryResultCache",
+						new QueryResultCache(size, queryResultCacheOptIn)));
+
 		BeanDefinitionBuilder builder = BeanDefinitionBuilder.rootBeanDefinition(KeyValueTemplate.class);
 		builder
 				.addConstructorArgValue(ParsingUtils.getSourceBeanDefinition(adapterBuilder, configurationSource.getSource()));
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.query.Aggregation;
+import org.springframework.data.keyvalue.core.query.AggregationResults;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.map.MapKeyValueAdapter;
+
+/**
+ * Unit tests for {@link Aggregator} and {@link KeyValueTemplate#aggregate(KeyValueQuery, Aggregation, Class)}.
+ *
+ * @author Christoph Strobl
+ */
+class AggregatorUnitTests {
+
+	private KeyValueTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		template = new KeyValueTemplate(new MapKeyValueAdapter());
+
+		template.insert(new Order("1", "open", "eu", 10));
+		template.insert(new Order("2", "open", "us", 30));
+		template.insert(new Order("3", "closed", "eu", 5));
+		template.insert(new Order("4", "open", "eu", null));
+		template.insert(new Order("5", null, "us", 7));
+	}
+
+	@Test
+	void shouldAccumulateGroups() {
+
+		AggregationResults results = template.aggregate(Aggregation.groupBy("status").summarize("amount"), Order.class);
+
+		assertThat(results.size()).isEqualTo(3);
+
+		AggregationResults.Group open = results.getGroup("open");
+
+		assertThat(open.getKey()).containsExactly("open");
+		assertThat(open.getCount()).isEqualTo(3);
+		assertThat(open.getStatistics("amount").getCount()).isEqualTo(2);
+		assertThat(open.getSum("amount")).isEqualTo(40L);
+		assertThat(open.getMin("amount")).isEqualTo(10);
+		assertThat(open.getMax("amount")).isEqualTo(30);
+		assertThat(open.getAverage("amount")).isEqualTo(20);
+
+		assertThat(results.getGroup("closed").getCount()).isOne();
+		assertThat(results.getGroup((Object) null).getCount()).isOne();
+		assertThat(results.getGroup("unknown")).isNull();
+	}
+
+	@Test
+	void shouldGroupByMultiplePaths() {
+
+		AggregationResults results = template.aggregate(Aggregation.groupBy("status", "region"), Order.class);
+
+		assertThat(results.size()).isEqualTo(4);
+		assertThat(results.getGroup("open", "eu").getCount()).isEqualTo(2);
+		assertThat(results.getGroup("open", "us").getKey()).isEqualTo(Arrays.asList("open", "us"));
+	}
+
+	@Test
+	void shouldAggregateMatchingObjectsOnly() {
+
+		KeyValueQuery<Predicate<Order>> query = new KeyValueQuery<>(it -> "eu".equals(it.region()));
+
+		AggregationResults results = template.aggregate(query, Aggregation.ungrouped().summarize("amount"), Order.class);
+		AggregationResults.Group total = results.getGroup();
+
+		assertThat(results.size()).isOne();
+		assertThat(total.getKey()).isEmpty();
+		assertThat(total.getCount()).isEqualTo(3);
+		assertThat(total.getSum("amount")).isEqualTo(15L);
+	}
+
+	@Test
+	void shouldReturnEmptyUngroupedResult() {
+
+		template.delete(Order.class);
+
+		AggregationResults.Group total = template.aggregate(Aggregation.ungrouped().summarize("amount"), Order.class)
+				.getGroup();
+
+		assertThat(total.getCount()).isZero();
+		assertThat(total.getSum("amount")).isEqualTo(0L);
+		assertThat(total.getMin("amount")).isNull();
+		assertThat(template.aggregate(Aggregation.groupBy("status"), Order.class).getGroups()).isEmpty();
+	}
+
+	@Test
+	void shouldRejectNonNumericValues() {
+
+		assertThatIllegalArgumentException()
+				.isThrownBy(() -> template.aggregate(Aggregation.ungrouped().summarize("region"), Order.class));
+	}
+
+	@Test
+	void shouldRejectPathsNotSummarized() {
+
+		AggregationResults.Group total = template.aggregate(Aggregation.ungrouped(), Order.class).getGroup();
+
+		assertThat(total.getCount()).isEqualTo(5);
+		assertThatIllegalArgumentException().isThrownBy(() -> total.getSum("amount"));
+	}
+
+	@Test
+	void shouldAccumulateIterator() {
+
+		List<Order> orders = List.of(new Order("1", "open", "eu", 1), new Order("2", "open", "eu", 2));
+
+		AggregationResults results = Aggregator.aggregate(orders.iterator(),
+				Aggregation.groupBy("region").summarize("amount", "amount"));
+
+		assertThat(results.getGroup("eu").getAverage("amount")).isEqualTo(1.5);
+	}
+
+	@Test
+	void shouldKeepNumericTypeOfValues() {
+
+		List<Payment> payments = List.of(new Payment("1", Long.MAX_VALUE, new BigDecimal("0.10"), 0.5),
+				new Payment("2", 1, new BigDecimal("0.20"), 0.25));
+
+		AggregationResults.Group total = Aggregator
+				.aggregate(payments.iterator(), Aggregation.ungrouped().summarize("units", "price", "rate")).getGroup();
+
+		assertThat(total.getSum("units")).isEqualTo(BigInteger.valueOf(Long.MAX_VALUE).add(BigInteger.ONE));
+		assertThat(total.getMin("units")).isEqualTo(1L);
+		assertThat(total.getMax("units")).isEqualTo(Long.MAX_VALUE);
+		assertThat(total.getSum("price")).isEqualTo(new BigDecimal("0.30"));
+		assertThat(total.getMax("price")).isEqualTo(new BigDecimal("0.20"));
+		assertThat(total.getSum("rate")).isEqualTo(0.75);
+	}
+
+	@Test
+	void shouldWidenSumOfMixedTypes() {
+
+		AggregationResults.Statistics statistics = new AggregationResults.Statistics();
+
+		statistics.accept(1);
+		statistics.accept(2L);
+		statistics.accept(new BigDecimal("0.5"));
+
+		assertThat(statistics.getSum()).isEqualTo(new BigDecimal("3.5"));
+		assertThat(statistics.getMin()).isEqualTo(new BigDecimal("0.5"));
+		assertThat(statistics.getMax()).isEqualTo(2L);
+		assertThat(statistics.getAverage()).isCloseTo(1.1666, within(0.001));
+	}
+
+	record Order(@Id String id, String status, String region, Integer amount) {
+	}
+
+	record Payment(@Id String id, long units, BigDecimal price, double rate) {
+	}
+
+}
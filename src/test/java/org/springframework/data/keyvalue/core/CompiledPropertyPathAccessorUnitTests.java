@@ -0,0 +1,116 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+import org.springframework.beans.NotReadablePropertyException;
+import org.springframework.data.core.PropertyPath;
+
+/**
+ * Unit tests for {@link CompiledPropertyPathAccessor}.
+ *
+ * @author Christoph Strobl
+ */
+class CompiledPropertyPathAccessorUnitTests {
+
+	@Test
+	void readsPropertyUsingGetter() {
+
+		CompiledPropertyPathAccessor accessor = CompiledPropertyPathAccessor.of(PropertyPath.from("name", Person.class));
+
+		assertThat(accessor.getValue(new Person("bob", 30, null))).isEqualTo("BOB");
+	}
+
+	@Test
+	void fallsBackToFieldAccess() {
+
+		CompiledPropertyPathAccessor accessor = CompiledPropertyPathAccessor.of(PropertyPath.from("age", Person.class));
+
+		assertThat(accessor.getValue(new Person("bob", 30, null))).isEqualTo(30);
+	}
+
+	@Test
+	void readsNestedProperty() {
+
+		CompiledPropertyPathAccessor accessor = CompiledPropertyPathAccessor
+				.of(PropertyPath.from("address.city", Person.class));
+
+		assertThat(accessor.getValue(new Person("bob", 30, new Address("gotham")))).isEqualTo("gotham");
+		assertThat(accessor.getValue(new Person("bob", 30, new ExtendedAddress("metropolis")))).isEqualTo("metropolis");
+	}
+
+	@Test
+	void returnsNullForNullIntermediateValue() {
+
+		CompiledPropertyPathAccessor accessor = CompiledPropertyPathAccessor
+				.of(PropertyPath.from("address.city", Person.class));
+
+		assertThat(accessor.getValue(new Person("bob", 30, null))).isNull();
+		assertThat(accessor.getValue(null)).isNull();
+	}
+
+	@Test
+	void cachesAccessorPerPath() {
+
+		PropertyPath path = PropertyPath.from("address.city", Person.class);
+
+		assertThat(CompiledPropertyPathAccessor.of(path)).isSameAs(CompiledPropertyPathAccessor.of(path));
+	}
+
+	@Test
+	void rejectsUnreadableProperty() {
+
+		CompiledPropertyPathAccessor accessor = CompiledPropertyPathAccessor.of(PropertyPath.from("name", Person.class));
+
+		assertThatExceptionOfType(NotReadablePropertyException.class).isThrownBy(() -> accessor.getValue(new Object()));
+	}
+
+	static class Person {
+
+		String name;
+		int age;
+		Address address;
+
+		Person(String name, int age, Address address) {
+			this.name = name;
+			this.age = age;
+			this.address = address;
+		}
+
+		public String getName() {
+			return name.toUpperCase();
+		}
+	}
+
+	static class Address {
+
+		private final String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+	}
+
+	static class ExtendedAddress extends Address {
+
+		ExtendedAddress(String city) {
+			super(city);
+		}
+	}
+}
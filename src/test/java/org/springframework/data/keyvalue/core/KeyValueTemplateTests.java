@@ -22,19 +22,32 @@ import java.lang.annotation.ElementType;
 import java.lang.annotation.Retention;
 import java.lang.annotation.RetentionPolicy;
 import java.lang.annotation.Target;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.annotation.AliasFor;
 import org.springframework.dao.DuplicateKeyException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.data.annotation.Id;
 import org.springframework.data.annotation.Persistent;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.keyvalue.annotation.KeySpace;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.map.MapKeyValueAdapter;
+import org.springframework.util.ObjectUtils;
 
 /**
  * @author Christoph Strobl
@@ -87,6 +100,44 @@ class KeyValueTemplateTests {
 		assertThatExceptionOfType(DuplicateKeyException.class).isThrownBy(() -> operations.insert("1", FOO_TWO));
 	}
 
+	@Test
+	void concurrentInsertsOfSameIdShouldSucceedOnlyOnce() throws Exception {
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+
+				Foo foo = new Foo("foo-" + i);
+				results.add(executor.submit(() -> {
+
+					start.await();
+					try {
+						operations.insert("1", foo);
+						return true;
+					} catch (DuplicateKeyException e) {
+						return false;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			int inserted = 0;
+			for (Future<Boolean> result : results) {
+				inserted += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+			}
+
+			assertThat(inserted).isOne();
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test // DATACMNS-525
 	void insertShouldWorkCorrectlyWhenObjectsOfDifferentTypesWithSameIdAreInserted() {
 
@@ -114,6 +165,147 @@ class KeyValueTemplateTests {
 		assertThat(operations.findById("one", ClassWithStringId.class)).contains(source);
 	}
 
+	@Test
+	void insertAllShouldGenerateIdsAndStoreObjects() {
+
+		ClassWithStringId one = new ClassWithStringId();
+		ClassWithStringId two = new ClassWithStringId();
+		two.id = "two";
+
+		assertThat(operations.insertAll(Arrays.asList(one, two))).containsExactly(one, two);
+
+		assertThat(one.id).isNotNull();
+		assertThat(operations.findAllById(Arrays.asList(one.id, "two"), ClassWithStringId.class)).containsExactly(one,
+				two);
+	}
+
+	@Test
+	void insertAllShouldRejectExistingAndDuplicateIds() {
+
+		ClassWithStringId existing = new ClassWithStringId();
+		existing.id = "one";
+		operations.insert(existing);
+
+		ClassWithStringId other = new ClassWithStringId();
+		other.id = "one";
+		ClassWithStringId duplicate = new ClassWithStringId();
+		duplicate.id = "two";
+
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> operations.insertAll(Collections.singletonList(other)));
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> operations.insertAll(Arrays.asList(duplicate, duplicate)));
+		assertThat(operations.count(ClassWithStringId.class)).isEqualTo(1);
+	}
+
+	@Test
+	void insertAllShouldRollBackObjectsOfFailedBatch() {
+
+		ClassWithStringId existing = new ClassWithStringId();
+		existing.id = "two";
+		operations.insert(existing);
+
+		ClassWithStringId one = new ClassWithStringId();
+		one.id = "one";
+		ClassWithStringId two = new ClassWithStringId();
+		two.id = "two";
+
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> operations.insertAll(Arrays.asList(one, two)));
+		assertThat(operations.findById("one", ClassWithStringId.class)).isEmpty();
+		assertThat(operations.findById("two", ClassWithStringId.class)).containsSame(existing);
+	}
+
+	@Test
+	void concurrentInsertAllOfSameIdsShouldNotMixBatches() throws Exception {
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+
+				ClassWithStringId one = new ClassWithStringId();
+				one.id = "one";
+				one.value = "batch-" + i;
+				ClassWithStringId two = new ClassWithStringId();
+				two.id = "two";
+				two.value = "batch-" + i;
+				List<ClassWithStringId> batch = i % 2 == 0 ? Arrays.asList(one, two) : Arrays.asList(two, one);
+
+				results.add(executor.submit(() -> {
+
+					start.await();
+					try {
+						operations.insertAll(batch);
+						return true;
+					} catch (DuplicateKeyException e) {
+						return false;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			int inserted = 0;
+			for (Future<Boolean> result : results) {
+				inserted += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+			}
+
+			assertThat(inserted).isLessThanOrEqualTo(1);
+			assertThat(operations.count(ClassWithStringId.class)).isEqualTo(inserted * 2L);
+
+			if (inserted == 1) {
+				assertThat(operations.findById("one", ClassWithStringId.class).get().value)
+						.isEqualTo(operations.findById("two", ClassWithStringId.class).get().value);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void updateAllShouldReplaceExistingObjects() {
+
+		ClassWithStringId source = new ClassWithStringId();
+		source.id = "one";
+		operations.insert(source);
+
+		ClassWithStringId replacement = new ClassWithStringId();
+		replacement.id = "one";
+		replacement.value = "updated";
+
+		operations.updateAll(Collections.singletonList(replacement));
+
+		assertThat(operations.findById("one", ClassWithStringId.class)).contains(replacement);
+	}
+
+	@Test
+	void findAllByIdShouldReturnMatchesInIdOrder() {
+
+		operations.insert("1", FOO_ONE);
+		operations.insert("2", FOO_TWO);
+		operations.insert("3", BAR_ONE);
+
+		assertThat(operations.findAllById(Arrays.asList("2", "4", "1", "3"), Foo.class)).containsExactly(FOO_TWO,
+				FOO_ONE);
+	}
+
+	@Test
+	void deleteAllByIdShouldRemoveObjects() {
+
+		operations.insert("1", FOO_ONE);
+		operations.insert("2", FOO_TWO);
+		operations.insert("3", FOO_THREE);
+
+		operations.deleteAllById(Arrays.asList("1", "3", "4"), Foo.class);
+
+		assertThat(operations.findAll(Foo.class)).containsExactly(FOO_TWO);
+	}
+
 	@Test // DATACMNS-525
 	void findByIdShouldReturnObjectWithMatchingIdAndType() {
 
@@ -146,6 +338,35 @@ class KeyValueTemplateTests {
 		assertThat(result.get(0)).isEqualTo(FOO_TWO);
 	}
 
+	@Test
+	void streamShouldExecuteQueryLazily() {
+
+		operations.insert("1", FOO_ONE);
+		operations.insert("2", FOO_TWO);
+		operations.insert("3", FOO_THREE);
+		operations.insert("4", BAR_ONE);
+
+		try (Stream<Foo> result = operations.stream(STRING_QUERY, Foo.class)) {
+			assertThat(result).containsExactly(FOO_TWO);
+		}
+
+		try (Stream<Foo> result = operations.stream(new KeyValueQuery<>().skip(1).limit(1), Foo.class)) {
+			assertThat(result).hasSize(1).isSubsetOf(FOO_ONE, FOO_TWO, FOO_THREE);
+		}
+	}
+
+	@Test
+	void streamShouldApplySort() {
+
+		operations.insert("1", FOO_ONE);
+		operations.insert("2", FOO_TWO);
+		operations.insert("3", FOO_THREE);
+
+		try (Stream<Foo> result = operations.stream(new KeyValueQuery<>(Sort.by("foo")).limit(2), Foo.class)) {
+			assertThat(result).containsExactly(FOO_ONE, FOO_THREE);
+		}
+	}
+
 	@Test // DATACMNS-525
 	void readShouldReturnEmptyCollectionIfOffsetOutOfRange() {
 
@@ -173,6 +394,183 @@ class KeyValueTemplateTests {
 		assertThat(operations.findById("1", Foo.class)).contains(FOO_ONE);
 	}
 
+	@Test
+	void insertShouldInitializeVersion() {
+
+		VersionedEntity versioned = new VersionedEntity("one", null);
+		PrimitiveVersionedEntity primitive = new PrimitiveVersionedEntity();
+		primitive.id = "one";
+
+		operations.insert(versioned);
+		operations.insert(primitive);
+
+		assertThat(versioned.version).isZero();
+		assertThat(primitive.version).isOne();
+	}
+
+	@Test
+	void updateShouldIncrementVersion() {
+
+		operations.insert(new VersionedEntity("one", null));
+
+		VersionedEntity update = new VersionedEntity("one", 0L);
+		update.value = "updated";
+		operations.update(update);
+
+		assertThat(update.version).isOne();
+		assertThat(operations.findById("one", VersionedEntity.class)).hasValueSatisfying(it -> {
+			assertThat(it.version).isOne();
+			assertThat(it.value).isEqualTo("updated");
+		});
+	}
+
+	@Test
+	void updateWithStaleVersionShouldFail() {
+
+		operations.insert(new VersionedEntity("one", null));
+		operations.update(new VersionedEntity("one", 0L));
+
+		VersionedEntity stale = new VersionedEntity("one", 0L);
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() -> operations.update(stale));
+		assertThat(stale.version).isZero();
+		assertThat(operations.findById("one", VersionedEntity.class)).hasValueSatisfying(it -> {
+			assertThat(it.version).isOne();
+		});
+	}
+
+	@Test
+	void updateOfMissingVersionedObjectShouldFail() {
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> operations.update(new VersionedEntity("one", 0L)));
+		assertThatExceptionOfType(OptimisticLockingFailureException.class)
+				.isThrownBy(() -> operations.updateAll(List.of(new VersionedEntity("one", 0L))));
+	}
+
+	@Test
+	void updateOfMissingVersionedObjectWithInitialVersionShouldInsert() {
+
+		VersionedEntity versioned = new VersionedEntity("one", null);
+		PrimitiveVersionedEntity primitive = new PrimitiveVersionedEntity();
+		primitive.id = "two";
+
+		operations.update(versioned);
+		operations.updateAll(List.of(primitive));
+
+		assertThat(versioned.version).isZero();
+		assertThat(primitive.version).isOne();
+		assertThat(operations.findById("one", VersionedEntity.class)).hasValueSatisfying(it -> {
+			assertThat(it.version).isZero();
+		});
+		assertThat(operations.findById("two", PrimitiveVersionedEntity.class)).isPresent();
+	}
+
+	@Test
+	void failedInsertShouldLeaveVersionUntouched() {
+
+		operations.insert(new VersionedEntity("one", null));
+
+		VersionedEntity duplicate = new VersionedEntity("one", null);
+		VersionedEntity other = new VersionedEntity("two", null);
+
+		assertThatExceptionOfType(DuplicateKeyException.class).isThrownBy(() -> operations.insert(duplicate));
+		assertThatExceptionOfType(DuplicateKeyException.class)
+				.isThrownBy(() -> operations.insertAll(List.of(other, duplicate)));
+
+		assertThat(duplicate.version).isNull();
+		assertThat(other.version).isNull();
+		assertThat(operations.findById("two", VersionedEntity.class)).isEmpty();
+	}
+
+	@Test
+	void concurrentUpdatesOfSameVersionShouldSucceedOnlyOnce() throws Exception {
+
+		operations.insert(new VersionedEntity("one", null));
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+
+				VersionedEntity update = new VersionedEntity("one", 0L);
+				results.add(executor.submit(() -> {
+
+					start.await();
+					try {
+						operations.update(update);
+						return true;
+					} catch (OptimisticLockingFailureException e) {
+						return false;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			int updated = 0;
+			for (Future<Boolean> result : results) {
+				updated += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+			}
+
+			assertThat(updated).isOne();
+			assertThat(operations.findById("one", VersionedEntity.class)).hasValueSatisfying(it -> {
+				assertThat(it.version).isOne();
+			});
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	void concurrentUpdatesOfEntityWithIdBasedEqualsShouldNotLoseUpdates() throws Exception {
+
+		operations.insert(new IdEqualsVersionedEntity("one", null, "initial"));
+
+		int threads = 8;
+		ExecutorService executor = Executors.newFixedThreadPool(threads);
+		CountDownLatch start = new CountDownLatch(1);
+		List<Future<Boolean>> results = new ArrayList<>();
+
+		try {
+
+			for (int i = 0; i < threads; i++) {
+
+				IdEqualsVersionedEntity update = new IdEqualsVersionedEntity("one", 0L, "update-" + i);
+				results.add(executor.submit(() -> {
+
+					start.await();
+					try {
+						operations.update(update);
+						return true;
+					} catch (OptimisticLockingFailureException e) {
+						assertThat(update.version).isZero();
+						return false;
+					}
+				}));
+			}
+
+			start.countDown();
+
+			int updated = 0;
+			for (Future<Boolean> result : results) {
+				updated += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+			}
+
+			assertThat(updated).isOne();
+			assertThat(operations.findById("one", IdEqualsVersionedEntity.class)).hasValueSatisfying(it -> {
+				assertThat(it.version).isOne();
+				assertThat(it.value).startsWith("update-");
+			});
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
 	@Test // DATACMNS-525
 	void deleteShouldRemoveObjectCorrectly() {
 
@@ -248,6 +646,48 @@ class KeyValueTemplateTests {
 		}
 	}
 
+	static class VersionedEntity {
+
+		@Id String id;
+		@Version Long version;
+		String value;
+
+		VersionedEntity(String id, Long version) {
+			this.id = id;
+			this.version = version;
+		}
+	}
+
+	static class IdEqualsVersionedEntity {
+
+		@Id String id;
+		@Version Long version;
+		String value;
+
+		IdEqualsVersionedEntity(String id, Long version, String value) {
+
+			this.id = id;
+			this.version = version;
+			this.value = value;
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			return o instanceof IdEqualsVersionedEntity that && ObjectUtils.nullSafeEquals(id, that.id);
+		}
+
+		@Override
+		public int hashCode() {
+			return ObjectUtils.nullSafeHashCode(id);
+		}
+	}
+
+	static class PrimitiveVersionedEntity {
+
+		@Id String id;
+		@Version long version;
+	}
+
 	static class ClassWithStringId implements Serializable {
 
 		private static final long serialVersionUID = -7481030649267602830L;
@@ -27,6 +27,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
@@ -38,11 +39,14 @@ import org.springframework.data.annotation.Id;
 import org.springframework.data.keyvalue.SubclassOfTypeWithCustomComposedKeySpaceAnnotation;
 import org.springframework.data.keyvalue.TypeWithCustomComposedKeySpaceAnnotationUsingAliasFor;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterBatchGetEvent;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterBatchInsertEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterDeleteEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterDropKeySpaceEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterGetEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterInsertEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.AfterUpdateEvent;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent.BeforeBatchInsertEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.BeforeDeleteEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.BeforeGetEvent;
 import org.springframework.data.keyvalue.core.event.KeyValueEvent.BeforeInsertEvent;
@@ -88,11 +92,12 @@ class KeyValueTemplateUnitTests {
 	}
 
 	@Test // DATACMNS-525
-	void insertShouldLookUpValuesBeforeInserting() {
+	void insertShouldUsePutIfAbsent() {
 
 		template.insert("1", FOO_ONE);
 
-		verify(adapterMock, times(1)).contains("1", Foo.class.getName());
+		verify(adapterMock, times(1)).putIfAbsent("1", FOO_ONE, Foo.class.getName());
+		verify(adapterMock, never()).contains(any(), anyString());
 	}
 
 	@Test // DATACMNS-525
@@ -100,7 +105,7 @@ class KeyValueTemplateUnitTests {
 
 		template.insert("1", FOO_ONE);
 
-		verify(adapterMock, times(1)).put("1", FOO_ONE, Foo.class.getName());
+		verify(adapterMock, times(1)).putIfAbsent("1", FOO_ONE, Foo.class.getName());
 	}
 
 	@Test // DATACMNS-225
@@ -115,7 +120,7 @@ class KeyValueTemplateUnitTests {
 	@Test // DATACMNS-525
 	void insertShouldThrowExceptionWhenObectWithIdAlreadyExists() {
 
-		when(adapterMock.contains(anyString(), anyString())).thenReturn(true);
+		when(adapterMock.putIfAbsent(anyString(), any(), anyString())).thenReturn(FOO_TWO);
 
 		assertThatExceptionOfType(DuplicateKeyException.class).isThrownBy(() -> template.insert("1", FOO_ONE));
 	}
@@ -160,7 +165,7 @@ class KeyValueTemplateUnitTests {
 
 		template.insert(source);
 
-		verify(adapterMock, times(1)).put("one", source, ClassWithStringId.class.getName());
+		verify(adapterMock, times(1)).putIfAbsent("one", source, ClassWithStringId.class.getName());
 	}
 
 	@Test // DATACMNS-525
@@ -307,7 +312,7 @@ class KeyValueTemplateUnitTests {
 
 		template.insert("1", ALIASED_USING_ALIAS_FOR);
 
-		verify(adapterMock, times(1)).put("1", ALIASED_USING_ALIAS_FOR, "aliased");
+		verify(adapterMock, times(1)).putIfAbsent("1", ALIASED_USING_ALIAS_FOR, "aliased");
 	}
 
 	@Test // DATACMNS-525
@@ -315,7 +320,7 @@ class KeyValueTemplateUnitTests {
 
 		template.insert("1", SUBCLASS_OF_ALIASED_USING_ALIAS_FOR);
 
-		verify(adapterMock, times(1)).put("1", SUBCLASS_OF_ALIASED_USING_ALIAS_FOR, "aliased");
+		verify(adapterMock, times(1)).putIfAbsent("1", SUBCLASS_OF_ALIASED_USING_ALIAS_FOR, "aliased");
 	}
 
 	@SuppressWarnings({ "rawtypes", "unchecked" })
@@ -538,6 +543,41 @@ class KeyValueTemplateUnitTests {
 		assertThat(captor.getValue().getPayload()).isEqualTo(FOO_ONE);
 	}
 
+	@Test
+	@SuppressWarnings({ "rawtypes" })
+	void shouldPublishGetEventsAroundPrimitiveLookup() {
+
+		setEventsToPublish(BeforeGetEvent.class, AfterGetEvent.class);
+
+		ClassWithIntId source = new ClassWithIntId();
+		source.id = 1;
+		when(adapterMock.get(eq(1L), eq(ClassWithIntId.class.getName()), eq(ClassWithIntId.class))).thenReturn(source);
+
+		assertThat(template.findById(1L, ClassWithIntId.class)).contains(source);
+
+		ArgumentCaptor<KeyValueEvent> captor = ArgumentCaptor.forClass(KeyValueEvent.class);
+
+		verify(publisherMock, times(2)).publishEvent(captor.capture());
+		verify(adapterMock, never()).get(any(), anyString(), any());
+
+		assertThat(captor.getAllValues().get(0)).isInstanceOf(BeforeGetEvent.class);
+		assertThat(((BeforeGetEvent) captor.getAllValues().get(0)).getKey()).isEqualTo(1);
+		assertThat(captor.getAllValues().get(1)).isInstanceOf(AfterGetEvent.class);
+		assertThat(((AfterGetEvent) captor.getAllValues().get(1)).getPayload()).isEqualTo(source);
+	}
+
+	@Test
+	void defaultPrimitiveLookupShouldUseIdentifierType() {
+
+		ClassWithIntId source = new ClassWithIntId();
+		when(adapterMock.get(anyLong(), anyString(), any())).thenCallRealMethod();
+		when(adapterMock.get(eq((Object) 1), eq(ClassWithIntId.class.getName()), eq(ClassWithIntId.class))).thenReturn(source);
+		when(adapterMock.get(eq(1L), eq(Foo.class.getName()), eq(Foo.class))).thenReturn(FOO_ONE);
+
+		assertThat(template.findById(1L, ClassWithIntId.class)).contains(source);
+		assertThat(template.findById(1L, Foo.class)).contains(FOO_ONE);
+	}
+
 	@Test // DATAKV-91, DATAKV-104, DATAKV-187
 	@SuppressWarnings({ "rawtypes" })
 	void shouldPublishDropKeyspaceEventCorrectly() {
@@ -559,7 +599,119 @@ class KeyValueTemplateUnitTests {
 
 		template.insert("1", ALIASED_USING_ALIAS_FOR);
 
-		verify(adapterMock, times(1)).put("1", ALIASED_USING_ALIAS_FOR, "aliased");
+		verify(adapterMock, times(1)).putIfAbsent("1", ALIASED_USING_ALIAS_FOR, "aliased");
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes", "unchecked" })
+	void insertAllShouldPutEachItemAndPublishSingleEventPair() {
+
+		setEventsToPublish(BeforeBatchInsertEvent.class, AfterBatchInsertEvent.class);
+
+		ClassWithStringId one = new ClassWithStringId();
+		one.id = "1";
+		ClassWithStringId two = new ClassWithStringId();
+		two.id = "2";
+
+		template.insertAll(Arrays.asList(one, two));
+
+		InOrder inOrder = inOrder(adapterMock);
+		inOrder.verify(adapterMock).putIfAbsent("1", one, ClassWithStringId.class.getName());
+		inOrder.verify(adapterMock).putIfAbsent("2", two, ClassWithStringId.class.getName());
+		verify(adapterMock, never()).put(any(), any(), anyString());
+
+		ArgumentCaptor<KeyValueEvent> captor = ArgumentCaptor.forClass(KeyValueEvent.class);
+		verify(publisherMock, times(2)).publishEvent(captor.capture());
+
+		assertThat(captor.getAllValues()).hasExactlyElementsOfTypes(BeforeBatchInsertEvent.class,
+				AfterBatchInsertEvent.class);
+		AfterBatchInsertEvent<?> after = (AfterBatchInsertEvent<?>) captor.getAllValues().get(1);
+		assertThat(after.getKeyspace()).isEqualTo(ClassWithStringId.class.getName());
+		assertThat(after.getKeys()).containsExactly("1", "2");
+		assertThat(after.getPayload()).containsValues(one, two);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes" })
+	void insertAllShouldPublishEventsPerObject() {
+
+		setEventsToPublish(BeforeInsertEvent.class, AfterInsertEvent.class);
+
+		ClassWithStringId one = new ClassWithStringId();
+		one.id = "1";
+		ClassWithStringId two = new ClassWithStringId();
+		two.id = "2";
+
+		template.insertAll(Arrays.asList(one, two));
+
+		ArgumentCaptor<KeyValueEvent> captor = ArgumentCaptor.forClass(KeyValueEvent.class);
+		verify(publisherMock, times(4)).publishEvent(captor.capture());
+
+		assertThat(captor.getAllValues()).hasExactlyElementsOfTypes(BeforeInsertEvent.class, BeforeInsertEvent.class,
+				AfterInsertEvent.class, AfterInsertEvent.class);
+		assertThat(captor.getAllValues()).extracting(KeyValueEvent::getSource)
+				.containsExactly("1", "2", "1", "2");
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes" })
+	void updateAllShouldPublishAfterUpdateEventsWithPreviousValues() {
+
+		setEventsToPublish(AfterUpdateEvent.class);
+
+		ClassWithStringId previous = new ClassWithStringId();
+		ClassWithStringId one = new ClassWithStringId();
+		one.id = "1";
+
+		when(adapterMock.put("1", one, ClassWithStringId.class.getName())).thenReturn(previous);
+
+		template.updateAll(Collections.singletonList(one));
+
+		ArgumentCaptor<AfterUpdateEvent> captor = ArgumentCaptor.forClass(AfterUpdateEvent.class);
+		verify(publisherMock, times(1)).publishEvent(captor.capture());
+		verify(adapterMock, never()).putAll(any(), anyString());
+
+		assertThat(captor.getValue().getKey()).isEqualTo("1");
+		assertThat(captor.getValue().getPayload()).isEqualTo(one);
+		assertThat(captor.getValue().before()).isEqualTo(previous);
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes" })
+	void deleteAllByIdShouldPublishEventsPerObject() {
+
+		setEventsToPublish(BeforeDeleteEvent.class, AfterDeleteEvent.class);
+		when(adapterMock.deleteAll(eq(Arrays.asList("1", "2")), eq(Foo.class.getName())))
+				.thenReturn(Collections.singletonMap("1", FOO_ONE));
+
+		template.deleteAllById(Arrays.asList("1", "2"), Foo.class);
+
+		ArgumentCaptor<KeyValueEvent> captor = ArgumentCaptor.forClass(KeyValueEvent.class);
+		verify(publisherMock, times(4)).publishEvent(captor.capture());
+
+		assertThat(captor.getAllValues()).hasExactlyElementsOfTypes(BeforeDeleteEvent.class, BeforeDeleteEvent.class,
+				AfterDeleteEvent.class, AfterDeleteEvent.class);
+		assertThat(((AfterDeleteEvent) captor.getAllValues().get(2)).getPayload()).isEqualTo(FOO_ONE);
+		assertThat(((AfterDeleteEvent) captor.getAllValues().get(3)).getPayload()).isNull();
+	}
+
+	@Test
+	@SuppressWarnings({ "rawtypes" })
+	void findAllByIdShouldPublishAfterBatchGetEvent() {
+
+		setEventsToPublish(AfterBatchGetEvent.class);
+		when(adapterMock.getAll(eq(Arrays.asList("1", "2")), eq(Foo.class.getName())))
+				.thenReturn(Collections.singletonMap("2", FOO_TWO));
+
+		assertThat(template.findAllById(Arrays.asList("1", "2"), Foo.class)).containsExactly(FOO_TWO);
+
+		ArgumentCaptor<AfterBatchGetEvent> captor = ArgumentCaptor.forClass(AfterBatchGetEvent.class);
+
+		verify(publisherMock, times(1)).publishEvent(captor.capture());
+		verifyNoMoreInteractions(publisherMock);
+
+		assertThat(captor.getValue().getKeys()).containsExactly("1", "2");
+		assertThat(captor.getValue().getPayload()).containsExactly(entry("2", FOO_TWO));
 	}
 
 	@SafeVarargs
@@ -623,4 +775,9 @@ class KeyValueTemplateUnitTests {
 			this.value = value;
 		}
 	}
+
+	static class ClassWithIntId {
+
+		@Id int id;
+	}
 }
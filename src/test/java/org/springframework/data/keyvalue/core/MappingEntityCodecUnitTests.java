@@ -0,0 +1,125 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.serializer.support.SerializingConverter;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.map.MapKeyValueAdapter;
+import org.springframework.data.map.OffHeapKeySpaceStore;
+import org.springframework.data.map.ValueCodec;
+
+/**
+ * Unit tests for {@link MappingEntityCodec}.
+ *
+ * @author Christoph Strobl
+ */
+class MappingEntityCodecUnitTests {
+
+	private final MappingEntityCodec codec = new MappingEntityCodec();
+
+	@Test
+	void shouldRoundTripEntityWithNestedValues() {
+
+		Person person = new Person("1", "rand", 20, new Address("two rivers", 42), List.of("mat", "perrin"),
+				Map.of("sword", 1L), Set.of(Role.HERO), Role.DRAGON, LocalDate.of(978, 1, 1),
+				Instant.ofEpochSecond(1, 2), new BigDecimal("12.50"), UUID.randomUUID(), null);
+
+		assertThat(codec.decode(codec.encode(person, Person.class), Person.class)).isEqualTo(person);
+		assertThat(codec.decode(codec.encode(person))).isEqualTo(person);
+	}
+
+	@Test
+	void shouldRoundTripMutableEntity() {
+
+		Item item = new Item();
+		item.id = "1";
+		item.count = -7;
+		item.tags = List.of("a", "b");
+
+		Item decoded = codec.decode(codec.encode(item, Item.class), Item.class);
+
+		assertThat(decoded.id).isEqualTo("1");
+		assertThat(decoded.count).isEqualTo(-7);
+		assertThat(decoded.tags).containsExactly("a", "b");
+	}
+
+	@Test
+	void shouldWriteTypeOfPolymorphicValues() {
+
+		Holder holder = new Holder("1", new Address("caemlyn", 1));
+
+		assertThat(codec.decode(codec.encode(holder, Holder.class), Holder.class)).isEqualTo(holder);
+	}
+
+	@Test
+	void shouldBeMoreCompactThanJavaSerialization() {
+
+		Address address = new Address("two rivers", 42);
+
+		assertThat(codec.encode(address, Address.class)).hasSizeLessThan(new SerializingConverter().convert(address).length);
+	}
+
+	@Test
+	void shouldRejectNonSerializableValuesOfUnknownTypes() {
+		assertThatIllegalArgumentException().isThrownBy(() -> codec.encode(new Holder("1", new Object())));
+	}
+
+	@Test
+	void shouldBeUsableThroughValueCodec() {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(OffHeapKeySpaceStore.create(ValueCodec.of(codec)));
+		Address address = new Address("tar valon", 7);
+
+		adapter.put("1", address, "addresses");
+
+		assertThat(adapter.get("1", "addresses")).isEqualTo(address);
+	}
+
+	enum Role {
+		HERO, DRAGON
+	}
+
+	record Address(String city, int zip) implements Serializable {
+	}
+
+	record Person(@Id String id, String name, int age, Address address, List<String> friends, Map<String, Long> items,
+			Set<Role> roles, Role role, LocalDate birthday, Instant created, BigDecimal balance, UUID uuid,
+			String nickname) {
+	}
+
+	record Holder(@Id String id, Object value) {
+	}
+
+	static class Item {
+
+		@Id String id;
+		int count;
+		List<String> tags;
+	}
+
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.map.MapKeyValueAdapter;
+
+/**
+ * Unit tests for {@link MaterializedView}.
+ *
+ * @author Christoph Strobl
+ */
+class MaterializedViewUnitTests {
+
+	private static final Person BOB = new Person("1", "bob", 30);
+	private static final Person ALICE = new Person("2", "alice", 25);
+	private static final Person TOM = new Person("3", "tom", 12);
+
+	private KeyValueTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		template = new KeyValueTemplate(new MapKeyValueAdapter());
+
+		template.insert(BOB);
+		template.insert(ALICE);
+		template.insert(TOM);
+	}
+
+	@Test
+	void shouldPopulateViewOnRegistration() {
+
+		MaterializedView<Person> view = template.registerView("adults", Person.class, it -> it.age() >= 18,
+				Person::age);
+
+		assertThat(view.getKeySpace()).isEqualTo(Person.class.getName());
+		assertThat(view.getAll()).containsExactly(ALICE, BOB);
+		assertThat(template.getView("adults")).isSameAs(view);
+	}
+
+	@Test
+	void shouldMaintainViewOnInsertUpdateAndDelete() {
+
+		MaterializedView<Person> view = template.registerView("adults", Person.class, it -> it.age() >= 18,
+				Person::age);
+		Person mike = new Person("4", "mike", 40);
+
+		template.insert(mike);
+		assertThat(view.getAll()).containsExactly(ALICE, BOB, mike);
+
+		Person olderTom = new Person(TOM.id(), TOM.firstname(), 35);
+		template.update(olderTom);
+		assertThat(view.getAll()).containsExactly(ALICE, BOB, olderTom, mike);
+
+		Person youngerBob = new Person(BOB.id(), BOB.firstname(), 10);
+		template.update(youngerBob);
+		assertThat(view.getAll()).containsExactly(ALICE, olderTom, mike);
+
+		template.delete(ALICE);
+		assertThat(view.getAll()).containsExactly(olderTom, mike);
+		assertThat(view.contains(ALICE.id())).isFalse();
+	}
+
+	@Test
+	void shouldMaintainViewOnBatchOperations() {
+
+		MaterializedView<Person> view = template.registerView("adults", Person.class, it -> it.age() >= 18);
+		Person mike = new Person("4", "mike", 40);
+		Person olderTom = new Person(TOM.id(), TOM.firstname(), 35);
+
+		template.insertAll(Arrays.asList(mike));
+		template.updateAll(Arrays.asList(olderTom));
+
+		assertThat(view.getAll()).containsExactly(BOB, ALICE, mike, olderTom);
+
+		template.delete(Person.class);
+
+		assertThat(view.size()).isZero();
+	}
+
+	@Test
+	void shouldKeepEntryOrderWhenUpdatedInPlace() {
+
+		MaterializedView<Person> view = template.registerView("all", Person.class, it -> true);
+		Person renamedBob = new Person(BOB.id(), "robert", BOB.age());
+
+		template.update(renamedBob);
+
+		assertThat(view.getAll()).containsExactly(renamedBob, ALICE, TOM);
+	}
+
+	@Test
+	void shouldReadRange() {
+
+		MaterializedView<Person> view = template.registerView("byAge", Person.class, it -> true, Person::age,
+				Comparator.reverseOrder());
+
+		assertThat(view.get(1, 1)).containsExactly(ALICE);
+		assertThat(view.get(2, 10)).containsExactly(TOM);
+		assertThat(view.get(-1, 2)).containsExactly(BOB, ALICE);
+		assertThat(view.stream()).containsExactly(BOB, ALICE, TOM);
+	}
+
+	@Test
+	void shouldOrderBySortKeyExtractedWhenObjectEnteredView() {
+
+		Task first = new Task("1", 1);
+		Task second = new Task("2", 2);
+		Task third = new Task("3", 3);
+		template.insertAll(Arrays.asList(first, second, third));
+
+		MaterializedView<Task> view = template.registerView("tasks", Task.class, it -> true, Task::getPriority);
+
+		second.priority = 10;
+		assertThat(view.getAll()).containsExactly(first, second, third);
+
+		template.delete(second);
+		assertThat(view.getAll()).containsExactly(first, third);
+
+		first.priority = 5;
+		template.update(first);
+		assertThat(view.getAll()).containsExactly(third, first);
+	}
+
+	@Test
+	void shouldRejectDuplicateViewNames() {
+
+		template.registerView("all", Person.class, it -> true);
+
+		assertThatIllegalArgumentException().isThrownBy(() -> template.registerView("all", Person.class, it -> true));
+	}
+
+	@Test
+	void shouldNotMaintainUnregisteredView() {
+
+		MaterializedView<Person> view = template.registerView("all", Person.class, it -> true);
+
+		assertThat(template.unregisterView("all")).isTrue();
+		template.delete(BOB);
+
+		assertThat(template.getView("all")).isNull();
+		assertThat(view.getAll()).contains(BOB);
+	}
+
+	@Test
+	void shouldNotExposePartiallyAppliedUpdates() throws Exception {
+
+		MaterializedView<Person> view = template.registerView("adults", Person.class, it -> it.age() >= 18,
+				Person::age);
+		AtomicBoolean running = new AtomicBoolean(true);
+
+		Thread writer = new Thread(() -> {
+			for (int i = 0; running.get(); i++) {
+				template.update(new Person(BOB.id(), BOB.firstname(), 18 + i % 20));
+			}
+		});
+		writer.start();
+
+		try {
+			for (int i = 0; i < 10_000; i++) {
+				assertThat(view.getAll()).hasSize(2);
+			}
+		} finally {
+
+			running.set(false);
+			writer.join();
+		}
+	}
+
+	record Person(@Id String id, String firstname, int age) {
+	}
+
+	static class Task {
+
+		@Id String id;
+		int priority;
+
+		Task(String id, int priority) {
+
+			this.id = id;
+			this.priority = priority;
+		}
+
+		int getPriority() {
+			return priority;
+		}
+	}
+
+}
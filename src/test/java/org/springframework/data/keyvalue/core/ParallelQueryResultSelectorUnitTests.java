@@ -0,0 +1,111 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link ParallelQueryResultSelector}.
+ *
+ * @author Christoph Strobl
+ */
+class ParallelQueryResultSelectorUnitTests {
+
+	private static final ForkJoinPool POOL = ParallelQueryResultSelector.createPool();
+	private static final Comparator<Item> BY_GROUP = Comparator.comparingInt(Item::group);
+
+	@AfterAll
+	static void shutdown() {
+		POOL.shutdown();
+	}
+
+	@Test
+	void shouldSelectLikeSequentialSelectionFromConcurrentHashMap() {
+
+		Random random = new Random(42);
+		Map<Integer, Item> items = new ConcurrentHashMap<>();
+
+		for (int i = 0; i < 50_000; i++) {
+			items.put(i, new Item(i, random.nextInt(50)));
+		}
+
+		assertSameSelection(items.values());
+	}
+
+	@Test
+	void shouldSelectLikeSequentialSelectionFromList() {
+
+		Random random = new Random(42);
+		List<Item> items = new ArrayList<>();
+
+		for (int i = 0; i < 50_000; i++) {
+			items.add(new Item(i, random.nextInt(50)));
+		}
+
+		assertSameSelection(items);
+	}
+
+	@Test
+	void shouldCountAndMatchInParallel() {
+
+		List<Item> items = new ArrayList<>();
+
+		for (int i = 0; i < 50_000; i++) {
+			items.add(new Item(i, i % 10));
+		}
+
+		Predicate<Item> lastItem = it -> it.id() == 49_999;
+		Predicate<Item> noItem = it -> false;
+
+		assertThat(ParallelQueryResultSelector.count(POOL, items, (Predicate<Item>) it -> it.group() == 3))
+				.isEqualTo(5_000);
+		assertThat(ParallelQueryResultSelector.count(POOL, items, null)).isEqualTo(50_000);
+		assertThat(ParallelQueryResultSelector.anyMatch(POOL, items, lastItem)).isTrue();
+		assertThat(ParallelQueryResultSelector.anyMatch(POOL, items, noItem)).isFalse();
+	}
+
+	private static void assertSameSelection(Collection<Item> items) {
+
+		Predicate<Item> filter = it -> it.group() % 3 == 0;
+
+		for (Comparator<Item> sort : Arrays.asList(null, BY_GROUP)) {
+			for (long offset : new long[] { -1, 0, 17, 5_000 }) {
+				for (int rows : new int[] { -1, 1, 100, 20_000 }) {
+					assertThat(ParallelQueryResultSelector.select(POOL, items, filter, sort, offset, rows))
+							.containsExactlyElementsOf(QueryResultSelector.select(items, filter, sort, offset, rows));
+				}
+			}
+		}
+	}
+
+	record Item(int id, int group) {
+	}
+
+}
@@ -19,10 +19,15 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.lang.reflect.Method;
-import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -33,6 +38,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Direction;
 import org.springframework.data.keyvalue.repository.query.PredicateQueryCreator;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
@@ -83,15 +90,112 @@ public class PredicateQueryEngineUnitTests {
 		assertThat(engine.count(createQueryForMethodWithArgs("findByFirstname", "bob"), anyString())).isEqualTo(1L);
 	}
 
-	private static Predicate<?> createQueryForMethodWithArgs(String methodName, Object... args) throws Exception {
+	@Test
+	void countsWithoutCriteriaUsingAdapter() {
 
-		List<Class<?>> types = new ArrayList<>(args.length);
+		doReturn(2L).when(adapter).count("persons");
 
-		for (Object arg : args) {
-			types.add(arg.getClass());
-		}
+		assertThat(engine.count((Predicate<?>) null, "persons")).isEqualTo(2L);
+		verify(adapter, never()).getAllOf(anyString());
+	}
+
+	@Test
+	void evaluatesLargeKeySpacesInParallel() {
+
+		List<Person> persons = IntStream.range(0, 5000).mapToObj(i -> new Person("p" + i, i % 100)).toList();
+		Predicate<Person> criteria = it -> it.age < 10;
+		Comparator<Person> sort = Comparator.comparingInt(it -> it.age);
+
+		doReturn(persons).when(adapter).getAllOf("persons");
+		engine.setParallelThreshold(1000);
+
+		assertThat(engine.execute(criteria, sort, 5, 10, "persons"))
+				.isEqualTo(QueryResultSelector.select(persons, criteria, sort, 5, 10));
+		assertThat(engine.count(criteria, "persons")).isEqualTo(500L);
+		assertThat(engine.exists(criteria, "persons")).isTrue();
+		verify(adapter, never()).count("persons");
+	}
+
+	@Test
+	void existsStopsAtFirstMatch() throws Exception {
+
+		AtomicInteger visited = new AtomicInteger();
+		Iterable<Person> source = () -> Stream.of(BOB_WITH_FIRSTNAME, MIKE_WITHOUT_FIRSTNAME)
+				.peek(it -> visited.incrementAndGet()).iterator();
+		doReturn(source).when(adapter).getAllOf("persons");
+
+		assertThat(engine.exists(createQueryForMethodWithArgs("findByFirstname", "bob"), "persons")).isTrue();
+		assertThat(visited).hasValue(1);
+	}
+
+	@Test
+	void existsReturnsFalseWithoutMatch() throws Exception {
+
+		doReturn(people).when(adapter).getAllOf("persons");
+
+		assertThat(engine.exists(createQueryForMethodWithArgs("findByFirstname", "alice"), "persons")).isFalse();
+	}
+
+	@Test
+	void resolvesCandidatesUsingIndex() throws Exception {
+
+		KeyValueIndex index = mock(KeyValueIndex.class);
+		doReturn(index).when(adapter).getIndex("persons", "firstname");
+		doReturn(Set.of("1")).when(index).get("bob");
+		doReturn(BOB_WITH_FIRSTNAME).when(adapter).get("1", "persons");
+
+		Collection<?> result = engine.execute(createQueryForMethodWithArgs("findByFirstname", "bob"), null, -1, -1,
+				"persons");
+
+		assertThat(result).containsExactly(BOB_WITH_FIRSTNAME);
+		verify(adapter, never()).getAllOf(anyString());
+	}
+
+	@Test
+	void fallsBackToScanWhenPropertyNotIndexed() throws Exception {
+
+		doReturn(people).when(adapter).getAllOf("persons");
+
+		assertThat(engine.count(createQueryForMethodWithArgs("findByFirstname", "bob"), "persons")).isEqualTo(1L);
+	}
+
+	@Test
+	void resolvesCandidatesOfInQueryUsingIndex() throws Exception {
+
+		KeyValueIndex index = mock(KeyValueIndex.class);
+		doReturn(index).when(adapter).getIndex("persons", "firstname");
+		doReturn(Set.of("1")).when(index).get("bob");
+		doReturn(Set.of()).when(index).get("alice");
+		doReturn(BOB_WITH_FIRSTNAME).when(adapter).get("1", "persons");
+
+		Collection<?> result = engine.execute(
+				createQueryForMethodWithArgs("findByFirstnameIn", List.of("bob", "alice")), null, -1, -1, "persons");
+
+		assertThat(result).containsExactly(BOB_WITH_FIRSTNAME);
+		verify(adapter, never()).getAllOf(anyString());
+	}
 
-		Method method = PersonRepository.class.getMethod(methodName, types.toArray(new Class<?>[types.size()]));
+	@Test
+	void skipsStaleAndDuplicateEntriesOfOrderedIndex() {
+
+		OrderedKeyValueIndex index = mock(OrderedKeyValueIndex.class);
+		doReturn(index).when(adapter).getIndex("persons", "age");
+		doReturn(List.of(entry(25, "2"), entry(28, "1"), entry(30, "1"), entry(30, "1"))).when(index)
+				.getRangeEntries(Range.unbounded(), Direction.ASC);
+		doReturn(BOB_WITH_FIRSTNAME).when(adapter).get("1", "persons");
+		doReturn(MIKE_WITHOUT_FIRSTNAME).when(adapter).get("2", "persons");
+
+		Collection<?> result = engine.execute(null, new PropertyPathComparator<>("age"), -1, 10, "persons");
+
+		assertThat(result).containsExactly(MIKE_WITHOUT_FIRSTNAME, BOB_WITH_FIRSTNAME);
+		verify(adapter, never()).getAllOf(anyString());
+	}
+
+	private static Predicate<?> createQueryForMethodWithArgs(String methodName, Object... args) throws Exception {
+
+		Method method = Arrays.stream(PersonRepository.class.getMethods())
+				.filter(it -> it.getName().equals(methodName) && it.getParameterCount() == args.length).findFirst()
+				.orElseThrow();
 		RepositoryMetadata metadata = mock(RepositoryMetadata.class);
 		doReturn(method.getReturnType()).when(metadata).getReturnedDomainClass(method);
 		doReturn(TypeInformation.fromReturnTypeOf(method)).when(metadata).getReturnType(method);
@@ -104,8 +208,14 @@ public class PredicateQueryEngineUnitTests {
 		return creator.createQuery().getCriteria();
 	}
 
+	private static Map.Entry<Object, Object> entry(Object value, Object id) {
+		return Map.entry(value, id);
+	}
+
 	interface PersonRepository {
 		Person findByFirstname(String firstname);
+
+		Person findByFirstnameIn(List<String> firstnames);
 	}
 
 	public static class Person {
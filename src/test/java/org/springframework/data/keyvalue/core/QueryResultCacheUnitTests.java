@@ -0,0 +1,207 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.keyvalue.repository.query.CacheableQuery;
+import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+import org.springframework.data.map.MapKeyValueAdapter;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit tests for {@link QueryResultCache}.
+ *
+ * @author Christoph Strobl
+ */
+class QueryResultCacheUnitTests {
+
+	private static final Person BOB = new Person("1", "bob", 30);
+	private static final Person ALICE = new Person("2", "alice", 25);
+
+	private MapKeyValueAdapter adapter;
+	private KeyValueTemplate template;
+	private QueryResultCache cache;
+
+	@BeforeEach
+	void setUp() {
+
+		cache = new QueryResultCache(2);
+		adapter = new MapKeyValueAdapter();
+		adapter.setQueryResultCache(cache);
+		template = new KeyValueTemplate(adapter);
+
+		template.insert(BOB);
+		template.insert(ALICE);
+	}
+
+	@Test
+	void shouldReturnCachedResultWhileKeySpaceIsUnmodified() {
+
+		KeyValueQuery<Predicate<?>> query = new KeyValueQuery<>(new OlderThan(20), Sort.by("age"));
+
+		assertThat(template.find(query, Person.class)).containsExactly(ALICE, BOB);
+		assertThat(template.find(query, Person.class)).containsExactly(ALICE, BOB);
+		assertThat(template.count(query, Person.class)).isEqualTo(2);
+		assertThat(template.count(query, Person.class)).isEqualTo(2);
+
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(2, 2, 0, 2));
+	}
+
+	@Test
+	void shouldInvalidateCachedResultsOnModification() {
+
+		KeyValueQuery<Predicate<?>> query = new KeyValueQuery<>(new OlderThan(26));
+		Person mike = new Person("3", "mike", 40);
+
+		assertThat(template.find(query, Person.class)).containsExactly(BOB);
+
+		template.insert(mike);
+		assertThat(template.find(query, Person.class)).containsExactlyInAnyOrder(BOB, mike);
+
+		template.delete(BOB);
+		assertThat(template.find(query, Person.class)).containsExactly(mike);
+
+		template.delete(Person.class);
+		assertThat(template.find(query, Person.class)).isEmpty();
+
+		assertThat(cache.getStatistics().hits()).isZero();
+		assertThat(cache.getStatistics().misses()).isEqualTo(4);
+	}
+
+	@Test
+	void shouldKeyResultsByOffsetAndRows() {
+
+		assertThat(template.find(new KeyValueQuery<>(new OlderThan(0), Sort.by("age")).skip(1).limit(1), Person.class))
+				.containsExactly(BOB);
+		assertThat(template.find(new KeyValueQuery<>(new OlderThan(0), Sort.by("age")).limit(1), Person.class))
+				.containsExactly(ALICE);
+
+		assertThat(cache.getStatistics().hits()).isZero();
+	}
+
+	@Test
+	void shouldEvictLeastRecentlyUsedResults() {
+
+		for (int age : new int[] { 10, 20, 30, 10 }) {
+			template.find(new KeyValueQuery<>(new OlderThan(age)), Person.class);
+		}
+
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(0, 4, 2, 2));
+	}
+
+	@Test
+	void shouldNotCacheCriteriaWithoutValueEquality() {
+
+		Predicate<Person> criteria = it -> it.age() > 20;
+		KeyValueQuery<Predicate<?>> query = new KeyValueQuery<>(criteria);
+
+		template.find(query, Person.class);
+		template.find(query, Person.class);
+
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(0, 0, 0, 0));
+	}
+
+	@Test
+	void shouldReturnUnmodifiableResults() {
+
+		Iterable<?> result = adapter.find(new KeyValueQuery<>(new OlderThan(0)), Person.class.getName());
+
+		assertThat(result).hasSize(2);
+		assertThatExceptionOfType(UnsupportedOperationException.class)
+				.isThrownBy(() -> result.iterator().remove());
+	}
+
+	@Test
+	void shouldCacheOnlyOptedInQueriesInOptInMode() {
+
+		cache = new QueryResultCache(2, true);
+		adapter.setQueryResultCache(cache);
+
+		KeyValueQuery<Predicate<?>> query = new KeyValueQuery<>(new OlderThan(20));
+
+		template.find(query, Person.class);
+		template.find(query, Person.class);
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(0, 0, 0, 0));
+
+		query.setCacheable(true);
+
+		template.find(query, Person.class);
+		template.find(query, Person.class);
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(1, 1, 0, 1));
+	}
+
+	@Test
+	void shouldCacheQueriesOfAnnotatedRepositoriesAndMethodsInOptInMode() {
+
+		cache = new QueryResultCache(4, true);
+		adapter.setQueryResultCache(cache);
+
+		KeyValueRepositoryFactory factory = new KeyValueRepositoryFactory(template);
+		PersonRepository people = factory.getRepository(PersonRepository.class);
+		CachedPersonRepository cachedPeople = factory.getRepository(CachedPersonRepository.class);
+
+		people.findByFirstname("bob");
+		people.findByFirstname("bob");
+		cachedPeople.findByAge(30);
+		cachedPeople.findByAge(30);
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(0, 0, 0, 0));
+
+		assertThat(people.findByAge(30)).containsExactly(BOB);
+		assertThat(people.findByAge(30)).containsExactly(BOB);
+		assertThat(cachedPeople.findByFirstname("alice")).containsExactly(ALICE);
+		assertThat(cachedPeople.findByFirstname("alice")).containsExactly(ALICE);
+		assertThat(cache.getStatistics()).isEqualTo(new QueryResultCacheStatistics(2, 2, 0, 2));
+	}
+
+	interface PersonRepository extends CrudRepository<Person, String> {
+
+		List<Person> findByFirstname(String firstname);
+
+		@CacheableQuery
+		List<Person> findByAge(int age);
+	}
+
+	@CacheableQuery
+	interface CachedPersonRepository extends CrudRepository<Person, String> {
+
+		List<Person> findByFirstname(String firstname);
+
+		@CacheableQuery(false)
+		List<Person> findByAge(int age);
+	}
+
+	record OlderThan(int age) implements Predicate<Person> {
+
+		@Override
+		public boolean test(Person person) {
+			return person.age() > age;
+		}
+	}
+
+	record Person(@Id String id, String firstname, int age) {
+	}
+
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.core;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit tests for {@link QueryResultSelector}.
+ *
+ * @author Christoph Strobl
+ */
+class QueryResultSelectorUnitTests {
+
+	private static final List<Integer> NUMBERS = List.of(7, 3, 9, 1, 8, 2, 6, 4, 5, 0);
+
+	@Test
+	void selectsTopKInSortOrder() {
+
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.naturalOrder(), -1, 3))
+				.containsExactly(0, 1, 2);
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.reverseOrder(), -1, 3))
+				.containsExactly(9, 8, 7);
+	}
+
+	@Test
+	void appliesOffsetAfterSorting() {
+
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.naturalOrder(), 4, 3))
+				.containsExactly(4, 5, 6);
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.naturalOrder(), 8, 5))
+				.containsExactly(8, 9);
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.naturalOrder(), 20, 5)).isEmpty();
+	}
+
+	@Test
+	void filtersBeforeSelecting() {
+
+		Predicate<Integer> even = it -> it % 2 == 0;
+
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, even, Comparator.reverseOrder(), 1, 2))
+				.containsExactly(6, 4);
+	}
+
+	@Test
+	void retainsEncounterOrderForEqualElements() {
+
+		List<String> source = List.of("b1", "a1", "b2", "a2", "a3", "b3");
+		Comparator<String> byFirstChar = Comparator.comparing(it -> it.charAt(0));
+
+		assertThat(QueryResultSelector.<String> select(source, null, byFirstChar, 1, 3)).containsExactly("a2", "a3", "b1");
+	}
+
+	@Test
+	void selectsSameResultAsFullSort() {
+
+		List<Integer> source = IntStream.range(0, 500).map(it -> (it * 7919) % 101).boxed().collect(Collectors.toList());
+		Comparator<Integer> sort = Comparator.reverseOrder();
+
+		List<Integer> expected = new ArrayList<>(source);
+		expected.sort(sort);
+
+		assertThat(QueryResultSelector.<Integer> select(source, null, sort, 37, 50))
+				.containsExactlyElementsOf(expected.subList(37, 87));
+	}
+
+	@Test
+	void sortsAllMatchesWhenUnlimited() {
+
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, Comparator.naturalOrder(), 7, -1))
+				.containsExactly(7, 8, 9);
+	}
+
+	@Test
+	void retainsEncounterOrderWhenUnsorted() {
+
+		assertThat(QueryResultSelector.<Integer> select(NUMBERS, null, null, 2, 3)).containsExactly(9, 1, 8);
+	}
+}
@@ -18,6 +18,9 @@ package org.springframework.data.keyvalue.core;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.Test;
 
@@ -118,6 +121,18 @@ class SpelPropertyComparatorUnitTests {
 		assertThat(comparator.compare(WRAPPER_ONE, new WrapperType("two", null))).isGreaterThanOrEqualTo(1);
 	}
 
+	@Test
+	void shouldCompareConcurrently() {
+
+		Comparator<SomeType> comparator = new SpelPropertyComparator<>("integerProperty", PARSER);
+		List<SomeType> values = IntStream.range(0, 10_000).map(i -> 10_000 - i)
+				.mapToObj(i -> new SomeType(null, i, i)).collect(Collectors.toList());
+
+		List<SomeType> sorted = values.parallelStream().sorted(comparator).toList();
+
+		assertThat(sorted).extracting(SomeType::getIntegerProperty).isSorted();
+	}
+
 	public static class WrapperType {
 
 		private String stringPropertyWrapper;
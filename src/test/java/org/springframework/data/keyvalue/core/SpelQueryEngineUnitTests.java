@@ -23,21 +23,30 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import org.springframework.data.annotation.Id;
 import org.springframework.data.core.TypeInformation;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
 import org.springframework.data.keyvalue.repository.query.SpelQueryCreator;
 import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.core.RepositoryMetadata;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
 import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.parser.PartTree;
+import org.springframework.expression.spel.SpelCompilerMode;
 import org.springframework.expression.spel.support.SimpleEvaluationContext;
 
 /**
@@ -85,6 +94,70 @@ public class SpelQueryEngineUnitTests {
 		assertThat(engine.count(createQueryForMethodWithArgs("findByFirstname", "bob"), anyString())).isEqualTo(1L);
 	}
 
+	@Test
+	void countsWithoutCriteriaUsingAdapter() {
+
+		doReturn(2L).when(adapter).count("persons");
+
+		assertThat(engine.count((SpelCriteria) null, "persons")).isEqualTo(2L);
+		verify(adapter, never()).getAllOf(anyString());
+	}
+
+	@Test
+	void existsStopsAtFirstMatch() throws Exception {
+
+		AtomicInteger visited = new AtomicInteger();
+		Iterable<Person> source = () -> Stream.of(BOB_WITH_FIRSTNAME, MIKE_WITHOUT_FIRSTNAME)
+				.peek(it -> visited.incrementAndGet()).iterator();
+		doReturn(source).when(adapter).getAllOf("persons");
+
+		assertThat(engine.exists(createQueryForMethodWithArgs("findByFirstname", "bob"), "persons")).isTrue();
+		assertThat(visited).hasValue(1);
+	}
+
+	@Test
+	void existsReturnsFalseWithoutMatch() throws Exception {
+
+		doReturn(people).when(adapter).getAllOf("persons");
+
+		assertThat(engine.exists(createQueryForMethodWithArgs("findByFirstname", "alice"), "persons")).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SpelCompilerMode.class, names = { "IMMEDIATE", "MIXED" })
+	void evaluatesDerivedCriteriaInCompiledMode(SpelCompilerMode compilerMode) throws Exception {
+
+		SpelQueryEngine engine = new SpelQueryEngine(compilerMode);
+		engine.registerAdapter(adapter);
+		doReturn(manyPeople()).when(adapter).getAllOf("persons");
+
+		SpelCriteria criteria = createQueryForMethodWithArgs("findByFirstname", "bob");
+
+		assertThat(engine.count(criteria, "persons")).isEqualTo(100L);
+		assertThat(engine.count(criteria, "persons")).isEqualTo(100L);
+		assertThat(engine.exists(createQueryForMethodWithArgs("findByFirstname", "alice"), "persons")).isFalse();
+	}
+
+	@ParameterizedTest
+	@EnumSource(value = SpelCompilerMode.class, names = { "IMMEDIATE", "MIXED" })
+	void evaluatesCriteriaAndSortInCompiledMode(SpelCompilerMode compilerMode) {
+
+		SpelQueryEngine engine = new SpelQueryEngine(compilerMode);
+		engine.registerAdapter(adapter);
+		doReturn(manyPeople()).when(adapter).getAllOf("persons");
+
+		KeyValueQuery<String> query = new KeyValueQuery<>("firstname == 'bob'");
+		query.setSort(Sort.by(Direction.DESC, "age"));
+		query.setRows(2);
+
+		assertThat(engine.execute(query, "persons")).extracting("age").containsExactly(297, 294);
+		assertThat(engine.execute(query, "persons")).extracting("age").containsExactly(297, 294);
+	}
+
+	private static List<Person> manyPeople() {
+		return IntStream.range(0, 300).mapToObj(it -> new Person(it % 3 == 0 ? "bob" : null, it)).toList();
+	}
+
 	private static SpelCriteria createQueryForMethodWithArgs(String methodName, Object... args) throws Exception {
 
 		List<Class<?>> types = new ArrayList<>(args.length);
@@ -126,5 +199,9 @@ public class SpelQueryEngineUnitTests {
 		public String getFirstname() {
 			return firstname;
 		}
+
+		public int getAge() {
+			return age;
+		}
 	}
 }
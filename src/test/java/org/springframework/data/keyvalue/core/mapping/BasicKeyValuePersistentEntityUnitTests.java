@@ -17,13 +17,17 @@ package org.springframework.data.keyvalue.core.mapping;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.time.Duration;
 import java.util.Collections;
 import java.util.LinkedHashMap;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.annotation.TimeToLive;
 import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.mapping.MappingException;
 import org.springframework.data.spel.ExtensionAwareEvaluationContextProvider;
 import org.springframework.data.spel.spi.EvaluationContextExtension;
 import org.springframework.mock.env.MockEnvironment;
@@ -85,6 +89,44 @@ class BasicKeyValuePersistentEntityUnitTests {
 		assertThat(persistentEntity.getKeySpace()).isEqualTo(NoKeyspaceEntity.class.getName());
 	}
 
+	@Test
+	void shouldResolveTypeLevelTimeToLive() {
+
+		KeyValuePersistentEntity<?, ?> persistentEntity = mappingContext.getPersistentEntity(ExpiringEntity.class);
+
+		assertThat(persistentEntity.getTimeToLive()).isEqualTo(Duration.ofMinutes(5));
+		assertThat(persistentEntity.getTimeToLive(new ExpiringEntity())).isEqualTo(Duration.ofMinutes(5));
+		assertThat(mappingContext.getPersistentEntity(NoKeyspaceEntity.class).getTimeToLive()).isNull();
+	}
+
+	@Test
+	void shouldResolveTimeToLiveFromProperty() {
+
+		KeyValuePersistentEntity<?, ?> persistentEntity = mappingContext.getPersistentEntity(ExpiringEntity.class);
+
+		ExpiringEntity entity = new ExpiringEntity();
+		entity.ttl = 30L;
+		assertThat(persistentEntity.getTimeToLive(entity)).isEqualTo(Duration.ofSeconds(30));
+
+		entity.ttl = 0L;
+		assertThat(persistentEntity.getTimeToLive(entity)).isNull();
+	}
+
+	@Test
+	void shouldRejectNonNumericTimeToLiveProperty() {
+		assertThatExceptionOfType(MappingException.class)
+				.isThrownBy(() -> mappingContext.getPersistentEntity(InvalidTimeToLiveEntity.class));
+	}
+
+	@TimeToLive(value = 5, unit = TimeUnit.MINUTES)
+	private static class ExpiringEntity {
+		@TimeToLive Long ttl;
+	}
+
+	private static class InvalidTimeToLiveEntity {
+		@TimeToLive String ttl;
+	}
+
 	@KeySpace("#{myProperty}_${my.property}")
 	private static class ExpressionEntity {}
 
@@ -20,11 +20,14 @@ import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.annotation.Id;
@@ -93,8 +96,27 @@ class SimpleKeyValueRepositoryUnitTests {
 		Foo two = new Foo("two");
 
 		repo.saveAll(Arrays.asList(one, two));
-		verify(opsMock, times(1)).insert(eq(one));
-		verify(opsMock, times(1)).insert(eq(two));
+		verify(opsMock, times(1)).insertAll(eq(Arrays.asList(one, two)));
+		verify(opsMock, never()).updateAll(any());
+	}
+
+	@Test
+	void multipleSaveRetainsOrderOfNewAndExistingEntities() {
+
+		Foo one = new Foo("one");
+		Foo two = new Foo("two");
+		two.id = "2";
+		Foo three = new Foo("three");
+
+		when(opsMock.insertAll(any())).thenAnswer(invocation -> invocation.getArgument(0, List.class));
+		when(opsMock.updateAll(any())).thenAnswer(invocation -> invocation.getArgument(0, List.class));
+
+		assertThat(repo.saveAll(Arrays.asList(one, two, three))).containsExactly(one, two, three);
+
+		InOrder inOrder = inOrder(opsMock);
+		inOrder.verify(opsMock).insertAll(eq(Collections.singletonList(one)));
+		inOrder.verify(opsMock).updateAll(eq(Collections.singletonList(two)));
+		inOrder.verify(opsMock).insertAll(eq(Collections.singletonList(three)));
 	}
 
 	@Test // DATACMNS-525
@@ -121,8 +143,7 @@ class SimpleKeyValueRepositoryUnitTests {
 
 		repo.deleteAllById(Arrays.asList("one", "two"));
 
-		verify(opsMock, times(1)).delete(eq("one"), eq(Foo.class));
-		verify(opsMock, times(1)).delete(eq("two"), eq(Foo.class));
+		verify(opsMock, times(1)).deleteAllById(eq(Arrays.asList("one", "two")), eq(Foo.class));
 	}
 
 	@Test // DATACMNS-525
@@ -137,10 +158,10 @@ class SimpleKeyValueRepositoryUnitTests {
 	@SuppressWarnings("unchecked")
 	void findAllIds() {
 
-		when(opsMock.findById(any(), any(Class.class))).thenReturn(Optional.empty());
+		when(opsMock.findAllById(any(), any(Class.class))).thenReturn(Collections.emptyList());
 		repo.findAllById(Arrays.asList("one", "two", "three"));
 
-		verify(opsMock, times(3)).findById(anyString(), eq(Foo.class));
+		verify(opsMock, times(1)).findAllById(eq(Arrays.asList("one", "two", "three")), eq(Foo.class));
 	}
 
 	@Test // DATAKV-186
@@ -159,6 +180,19 @@ class SimpleKeyValueRepositoryUnitTests {
 		assertThat(repo.existsById("one")).isTrue();
 	}
 
+	@Test
+	void findByIdShouldUsePrimitiveLookupForNumericId() {
+
+		EntityInformation<WithNumericId, Integer> ei = getEntityInformationFor(WithNumericId.class);
+		SimpleKeyValueRepository<WithNumericId, Integer> temp = new SimpleKeyValueRepository<>(ei, opsMock);
+
+		WithNumericId source = new WithNumericId();
+		when(opsMock.findById(eq(1L), eq(WithNumericId.class))).thenReturn(Optional.of(source));
+
+		assertThat(temp.findById(1)).contains(source);
+		verify(opsMock, never()).findById(any(), any(Class.class));
+	}
+
 	@Test // DATACMNS-525
 	void findAllWithPageableShouldDelegateToOperationsCorrectlyWhenPageableDoesNotContainSort() {
 
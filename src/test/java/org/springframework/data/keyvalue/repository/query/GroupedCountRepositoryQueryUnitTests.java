@@ -0,0 +1,88 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+import org.springframework.data.map.MapKeyValueAdapter;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit tests for {@link GroupedCountRepositoryQuery}.
+ *
+ * @author Christoph Strobl
+ */
+class GroupedCountRepositoryQueryUnitTests {
+
+	private OrderRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		repository = new KeyValueRepositoryFactory(new KeyValueTemplate(new MapKeyValueAdapter()))
+				.getRepository(OrderRepository.class);
+
+		repository.saveAll(List.of(new Order("1", Status.OPEN, "eu"), new Order("2", Status.OPEN, "us"),
+				new Order("3", Status.CLOSED, "eu")));
+	}
+
+	@Test
+	void shouldCountByProperty() {
+
+		assertThat(repository.countByStatus()).containsOnly(entry(Status.OPEN, 2L), entry(Status.CLOSED, 1L));
+	}
+
+	@Test
+	void shouldCountByMultipleProperties() {
+
+		assertThat(repository.countByStatusAndRegion()).hasSize(3)
+				.containsEntry(Arrays.asList(Status.OPEN, "eu"), 1L)
+				.containsEntry(Arrays.asList(Status.CLOSED, "eu"), 1L);
+	}
+
+	@Test
+	void shouldStillDeriveFilteringCount() {
+
+		assertThat(repository.countByStatus(Status.OPEN)).isEqualTo(2);
+	}
+
+	interface OrderRepository extends CrudRepository<Order, String> {
+
+		Map<Status, Long> countByStatus();
+
+		Map<List<Object>, Long> countByStatusAndRegion();
+
+		long countByStatus(Status status);
+	}
+
+	enum Status {
+		OPEN, CLOSED
+	}
+
+	record Order(@Id String id, Status status, String region) {
+	}
+
+}
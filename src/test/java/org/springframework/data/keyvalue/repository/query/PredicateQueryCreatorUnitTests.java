@@ -16,13 +16,18 @@
 package org.springframework.data.keyvalue.repository.query;
 
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
 
+import java.lang.reflect.Method;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.core.TypeInformation;
 import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
 import org.springframework.data.repository.query.ParametersParameterAccessor;
+import org.springframework.data.repository.query.QueryMethod;
 import org.springframework.data.repository.query.parser.PartTree;
 
 /**
@@ -36,6 +41,30 @@ class PredicateQueryCreatorUnitTests extends AbstractQueryCreatorTestBase<Predic
 		assertThat(evaluate("findByFirstnameIgnoreCase", "RobB").against(ROBB)).isTrue();
 	}
 
+	@Test
+	void derivesEqualCriteriaFromSamePartTreeAndArguments() throws Exception {
+
+		Method method = PersonRepository.class.getMethod("findByFirstname", String.class);
+		PartTree tree = new PartTree(method.getName(), Person.class);
+
+		assertThat(criteria(method, tree, "bob")).isEqualTo(criteria(method, tree, "bob"))
+				.hasSameHashCodeAs(criteria(method, tree, "bob"));
+		assertThat(criteria(method, tree, "bob")).isNotEqualTo(criteria(method, tree, "alice"));
+		assertThat(criteria(method, tree, "bob"))
+				.isNotEqualTo(criteria(method, new PartTree(method.getName(), Person.class), "bob"));
+	}
+
+	private Predicate<?> criteria(Method method, PartTree tree, Object... args) {
+
+		doReturn(Person.class).when(metadataMock).getReturnedDomainClass(method);
+		doReturn(TypeInformation.of(Person.class)).when(metadataMock).getDomainTypeInformation();
+		doReturn(TypeInformation.of(Person.class)).when(metadataMock).getReturnType(method);
+
+		return queryCreator(tree, new ParametersParameterAccessor(
+				new QueryMethod(method, metadataMock, new SpelAwareProxyProjectionFactory()).getParameters(), args))
+				.createQuery().getCriteria();
+	}
+
 	@Override
 	protected PredicateQueryCreator queryCreator(PartTree partTree, ParametersParameterAccessor accessor) {
 		return new PredicateQueryCreator(partTree, accessor);
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.keyvalue.repository.query;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+import org.springframework.data.map.MapKeyValueAdapter;
+import org.springframework.data.repository.CrudRepository;
+
+/**
+ * Unit tests for {@link ViewRepositoryQuery}.
+ *
+ * @author Christoph Strobl
+ */
+class ViewRepositoryQueryUnitTests {
+
+	private static final Person BOB = new Person("1", "bob", 30);
+	private static final Person ALICE = new Person("2", "alice", 25);
+	private static final Person TOM = new Person("3", "tom", 12);
+	private static final Person MIKE = new Person("4", "mike", 40);
+
+	private KeyValueTemplate template;
+	private PersonRepository repository;
+
+	@BeforeEach
+	void setUp() {
+
+		template = new KeyValueTemplate(new MapKeyValueAdapter());
+		repository = new KeyValueRepositoryFactory(template).getRepository(PersonRepository.class);
+
+		repository.saveAll(List.of(BOB, ALICE, TOM, MIKE));
+		template.registerView("adults", Person.class, it -> it.age() >= 18, Person::age);
+	}
+
+	@Test
+	void shouldReadView() {
+
+		assertThat(repository.findAdults()).containsExactly(ALICE, BOB, MIKE);
+		assertThat(repository.findFirstAdult()).isEqualTo(ALICE);
+		assertThat(repository.countAdults()).isEqualTo(3);
+		assertThat(repository.countAdultsAsInteger()).isEqualTo(3);
+
+		try (Stream<Person> stream = repository.streamAdults()) {
+			assertThat(stream).containsExactly(ALICE, BOB, MIKE);
+		}
+	}
+
+	@Test
+	void shouldReflectModifications() {
+
+		repository.deleteById(ALICE.id());
+		repository.save(new Person(TOM.id(), TOM.firstname(), 18));
+
+		assertThat(repository.findAdults()).extracting(Person::firstname).containsExactly("tom", "bob", "mike");
+	}
+
+	@Test
+	void shouldReadPagesAndSlices() {
+
+		Page<Person> page = repository.findAdults(PageRequest.of(1, 2));
+
+		assertThat(page.getContent()).containsExactly(MIKE);
+		assertThat(page.getTotalElements()).isEqualTo(3);
+
+		Slice<Person> slice = repository.sliceAdults(PageRequest.of(0, 2));
+
+		assertThat(slice.getContent()).containsExactly(ALICE, BOB);
+		assertThat(slice.hasNext()).isTrue();
+	}
+
+	@Test
+	void shouldRejectUnknownView() {
+
+		template.unregisterView("adults");
+
+		assertThatExceptionOfType(InvalidDataAccessApiUsageException.class).isThrownBy(repository::findAdults);
+	}
+
+	interface PersonRepository extends CrudRepository<Person, String> {
+
+		@ViewQuery("adults")
+		List<Person> findAdults();
+
+		@ViewQuery("adults")
+		Page<Person> findAdults(Pageable pageable);
+
+		@ViewQuery("adults")
+		Slice<Person> sliceAdults(Pageable pageable);
+
+		@ViewQuery("adults")
+		Stream<Person> streamAdults();
+
+		@ViewQuery("adults")
+		Person findFirstAdult();
+
+		@ViewQuery("adults")
+		long countAdults();
+
+		@ViewQuery("adults")
+		Integer countAdultsAsInteger();
+	}
+
+	record Person(@Id String id, String firstname, int age) {
+	}
+
+}
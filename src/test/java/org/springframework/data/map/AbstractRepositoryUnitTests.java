@@ -19,6 +19,7 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -205,6 +206,20 @@ public abstract class AbstractRepositoryUnitTests<T extends AbstractRepositoryUn
 		assertThat(result).contains(CERSEI, JAIME, personWithNullAsFirstname);
 	}
 
+	@Test
+	void streamsQueryResult() {
+
+		repository.saveAll(LENNISTERS);
+
+		try (Stream<Person> result = repository.streamByAge(19)) {
+			assertThat(result).containsOnly(CERSEI, JAIME);
+		}
+
+		try (Stream<Person> result = repository.streamByAgeGreaterThanOrderByAgeAsc(10)) {
+			assertThat(result).startsWith(TYRION).hasSize(3);
+		}
+	}
+
 	protected KeyValueRepositoryFactory createKeyValueRepositoryFactory(KeyValueOperations operations) {
 		return new KeyValueRepositoryFactory(operations);
 	}
@@ -232,6 +247,10 @@ public abstract class AbstractRepositoryUnitTests<T extends AbstractRepositoryUn
 		<T> List<T> findByAgeGreaterThan(int age, Sort sort, Class<T> projectionType);
 
 		List<Person> findByFirstnameIn(List<String> firstname);
+
+		Stream<Person> streamByAge(int age);
+
+		Stream<Person> streamByAgeGreaterThanOrderByAgeAsc(int age);
 	}
 
 	interface PersonSummary {
@@ -0,0 +1,309 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.Serializable;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+
+/**
+ * Unit tests for {@link AppendLogKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class AppendLogKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "keyspace";
+
+	@TempDir Path directory;
+
+	private AppendLogKeySpaceStore store;
+
+	@AfterEach
+	void tearDown() {
+
+		if (store != null) {
+			store.close();
+		}
+	}
+
+	@Test
+	void shouldRestoreKeySpaceAfterReopen() {
+
+		store = open(FsyncPolicy.always());
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+		keySpace.put("1", "one");
+		keySpace.put("2", "two");
+		keySpace.put("1", "uno");
+		keySpace.remove("2");
+		store.close();
+
+		store = open(FsyncPolicy.always());
+
+		assertThat(store.getKeySpace(KEYSPACE)).containsExactly(entry("1", "uno"));
+	}
+
+	@Test
+	void shouldRestoreKeySpacesUsingGroupedAndPeriodicFsync() {
+
+		store = open(FsyncPolicy.grouped(10));
+
+		for (int i = 0; i < 25; i++) {
+			store.getKeySpace(KEYSPACE).put(i, "value-" + i);
+		}
+		store.close();
+
+		store = open(FsyncPolicy.periodic(Duration.ofMillis(10)));
+
+		assertThat(store.getKeySpace(KEYSPACE)).hasSize(25).containsEntry(24, "value-24");
+	}
+
+	@Test
+	void compactionShouldRetainCurrentEntries() throws Exception {
+
+		store = open(FsyncPolicy.grouped(100));
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 5000; i++) {
+			keySpace.put(i % 10, "value-" + i);
+		}
+
+		Path log = directory.resolve(KEYSPACE + ".log");
+		long sizeBefore = Files.size(log);
+
+		store.compact();
+		keySpace.put("after", "compaction");
+		store.close();
+
+		assertThat(Files.size(log)).isLessThan(sizeBefore);
+
+		store = open(FsyncPolicy.always());
+
+		assertThat(store.getKeySpace(KEYSPACE)).hasSize(11).containsEntry(9, "value-4999").containsEntry("after",
+				"compaction");
+	}
+
+	@Test
+	void backgroundCompactionShouldContinueAfterFailure() throws Exception {
+
+		AtomicBoolean failing = new AtomicBoolean(true);
+		AtomicInteger failures = new AtomicInteger();
+
+		store = AppendLogKeySpaceStore.builder(directory).fsyncPolicy(FsyncPolicy.always()).mappingSize(4096)
+				.compactionInterval(Duration.ofMillis(10)).codec(intercepting(() -> {
+
+					if (failing.get() && Thread.currentThread().getName().startsWith("append-log-store-")) {
+						failures.incrementAndGet();
+						throw new IllegalStateException("Encoding failed");
+					}
+				})).build();
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 2000; i++) {
+			keySpace.put("key", i);
+		}
+
+		Path log = directory.resolve(KEYSPACE + ".log");
+		long sizeBefore = Files.size(log);
+
+		await(() -> failures.get() > 1);
+		failing.set(false);
+
+		await(() -> size(log) < sizeBefore);
+
+		assertThat(keySpace).containsExactly(entry("key", 1999));
+	}
+
+	@Test
+	void compactionShouldNotBlockWrites() throws Exception {
+
+		CountDownLatch compacting = new CountDownLatch(1);
+		CountDownLatch written = new CountDownLatch(1);
+
+		store = AppendLogKeySpaceStore.builder(directory).fsyncPolicy(FsyncPolicy.always()).mappingSize(64 * 1024)
+				.compactionInterval(Duration.ZERO).codec(intercepting(() -> {
+
+					if (Thread.currentThread().getName().equals("compaction")) {
+
+						compacting.countDown();
+
+						try {
+							written.await(5, TimeUnit.SECONDS);
+						} catch (InterruptedException e) {
+							Thread.currentThread().interrupt();
+						}
+					}
+				})).build();
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 100; i++) {
+			keySpace.put(i % 10, "value-" + i);
+		}
+
+		Thread compaction = new Thread(store::compact, "compaction");
+		compaction.start();
+
+		assertThat(compacting.await(5, TimeUnit.SECONDS)).isTrue();
+
+		keySpace.put("during", "compaction");
+		keySpace.remove(0);
+		written.countDown();
+
+		compaction.join(TimeUnit.SECONDS.toMillis(5));
+		store.close();
+
+		store = open(FsyncPolicy.always());
+
+		assertThat(store.getKeySpace(KEYSPACE)).hasSize(10).containsEntry("during", "compaction")
+				.containsEntry(9, "value-99").doesNotContainKey(0);
+	}
+
+	@Test
+	void conditionalWritesShouldCompareStoredRepresentation() {
+
+		store = open(FsyncPolicy.always());
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+		keySpace.put("1", new Person("1", "walter"));
+		keySpace.put("2", new Person("2", "jesse"));
+
+		assertThat(keySpace.replace("1", new Person("1", "skyler"), new Person("1", "heisenberg"))).isFalse();
+		assertThat(keySpace.replace("1", new Person("1", "walter"), new Person("1", "heisenberg"))).isTrue();
+		assertThat(keySpace.remove("2", new Person("2", "skyler"))).isFalse();
+		assertThat(keySpace.remove("2", new Person("2", "jesse"))).isTrue();
+		store.close();
+
+		store = open(FsyncPolicy.always());
+
+		assertThat(store.getKeySpace(KEYSPACE)).containsOnlyKeys("1");
+		assertThat(store.getKeySpace(KEYSPACE).get("1")).extracting("name").isEqualTo("heisenberg");
+	}
+
+	@Test
+	void clearShouldDeleteAllKeySpaces() {
+
+		store = open(FsyncPolicy.always());
+		store.getKeySpace(KEYSPACE).put("1", "one");
+		store.getKeySpace("other").put("1", "one");
+		store.close();
+
+		store = open(FsyncPolicy.always());
+		store.getKeySpace(KEYSPACE);
+		store.clear();
+		store.close();
+
+		store = open(FsyncPolicy.always());
+
+		assertThat(store.getKeySpace(KEYSPACE)).isEmpty();
+		assertThat(store.getKeySpace("other")).isEmpty();
+	}
+
+	@Test
+	void shouldRetainDataWhenTemplateIsDestroyed() throws Exception {
+
+		store = open(FsyncPolicy.always());
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+		KeyValueTemplate template = new KeyValueTemplate(adapter);
+
+		template.insert(new Person("1", "walter"));
+		template.destroy();
+		adapter.destroy();
+
+		assertThat(adapter.isPersistent()).isTrue();
+
+		store = open(FsyncPolicy.always());
+		template = new KeyValueTemplate(new MapKeyValueAdapter(store));
+
+		assertThat(template.findById("1", Person.class)).hasValueSatisfying(it -> assertThat(it.name).isEqualTo("walter"));
+	}
+
+	private static ValueCodec intercepting(Runnable interceptor) {
+
+		ValueCodec serializing = ValueCodec.serializing();
+
+		return new ValueCodec() {
+
+			@Override
+			public byte[] encode(Object value) {
+
+				interceptor.run();
+				return serializing.encode(value);
+			}
+
+			@Override
+			public Object decode(byte[] bytes) {
+				return serializing.decode(bytes);
+			}
+		};
+	}
+
+	private static void await(BooleanSupplier condition) throws InterruptedException {
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+
+		while (!condition.getAsBoolean()) {
+
+			assertThat(System.nanoTime()).describedAs("Condition not met in time").isLessThan(deadline);
+			Thread.sleep(10);
+		}
+	}
+
+	private static long size(Path file) {
+
+		try {
+			return Files.size(file);
+		} catch (IOException e) {
+			throw new UncheckedIOException(e);
+		}
+	}
+
+	private AppendLogKeySpaceStore open(FsyncPolicy fsyncPolicy) {
+		return AppendLogKeySpaceStore.builder(directory).fsyncPolicy(fsyncPolicy).mappingSize(64 * 1024)
+				.compactionInterval(Duration.ZERO).build();
+	}
+
+	static class Person implements Serializable {
+
+		@Id String id;
+		String name;
+
+		Person(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+}
@@ -0,0 +1,212 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent.EvictedEvent;
+
+/**
+ * Unit tests for {@link BoundedKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class BoundedKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "items";
+
+	@Test
+	void shouldLimitNumberOfEntries() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create(KeySpaceBound.entries(100));
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 1_000; i++) {
+
+			keySpace.put(i, "value-" + i);
+			assertThat(keySpace).hasSizeLessThanOrEqualTo(100);
+		}
+
+		assertThat(keySpace).hasSize(100);
+		assertThat(store.getWeightedSize(KEYSPACE)).isEqualTo(100);
+	}
+
+	@Test
+	void shouldLimitEstimatedSize() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create();
+		store.setBound(KEYSPACE, KeySpaceBound.bytes(1_000, value -> ((String) value).length()));
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 500; i++) {
+			keySpace.put(i, "0123456789");
+		}
+
+		assertThat(store.getWeightedSize(KEYSPACE)).isLessThanOrEqualTo(1_000);
+		assertThat(keySpace).hasSize(100);
+	}
+
+	@Test
+	void shouldNotLimitKeySpacesWithoutBound() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create();
+		store.setBound("other", KeySpaceBound.entries(10));
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 1_000; i++) {
+			keySpace.put(i, i);
+		}
+
+		assertThat(keySpace).hasSize(1_000);
+	}
+
+	@Test
+	void shouldEvictEntriesWhenApplyingBoundToExistingKeySpace() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create();
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 100; i++) {
+			keySpace.put(i, i);
+		}
+
+		store.setBound(KEYSPACE, KeySpaceBound.entries(10));
+
+		assertThat(keySpace).hasSize(10);
+	}
+
+	@Test
+	void shouldRetainFrequentlyAccessedEntriesDuringScan() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create(KeySpaceBound.entries(100));
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 10; i++) {
+			keySpace.put("hot-" + i, i);
+		}
+
+		for (int round = 0; round < 5; round++) {
+			for (int i = 0; i < 10; i++) {
+				keySpace.get("hot-" + i);
+			}
+		}
+
+		for (int i = 0; i < 10_000; i++) {
+			keySpace.put("scan-" + i, i);
+		}
+
+		for (int i = 0; i < 10; i++) {
+			assertThat(keySpace).containsKey("hot-" + i);
+		}
+	}
+
+	@Test
+	void adapterShouldRemoveEvictedEntriesFromIndexes() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create(KeySpaceBound.entries(10));
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+
+		for (int i = 0; i < 100; i++) {
+			adapter.put(i, new Item(i, "value"), KEYSPACE);
+		}
+
+		assertThat(adapter.count(KEYSPACE)).isEqualTo(10);
+		assertThat(adapter.getIndex(KEYSPACE, "value").get("value"))
+				.containsExactlyInAnyOrderElementsOf(adapter.getKeySpaceMap(KEYSPACE).keySet());
+	}
+
+	@Test
+	void shouldApplyMaximumSizeDeclaredOnKeySpace() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create();
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+
+		for (int i = 0; i < 100; i++) {
+			adapter.put(i, new BoundedItem(i), "bounded");
+		}
+
+		assertThat(adapter.count("bounded")).isEqualTo(5);
+	}
+
+	@Test
+	void explicitBoundShouldTakePrecedenceOverMaximumSizeDeclaredOnKeySpace() {
+
+		BoundedKeySpaceStore store = BoundedKeySpaceStore.create();
+		store.setBound("bounded", KeySpaceBound.entries(20));
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+
+		for (int i = 0; i < 100; i++) {
+			adapter.put(i, new BoundedItem(i), "bounded");
+		}
+
+		assertThat(adapter.count("bounded")).isEqualTo(20);
+	}
+
+	@Test
+	void templateShouldPublishEvictedEvents() {
+
+		List<Object> events = new ArrayList<>();
+
+		KeyValueTemplate template = new KeyValueTemplate(
+				new MapKeyValueAdapter(BoundedKeySpaceStore.create(KeySpaceBound.entries(1))));
+		template.setApplicationEventPublisher(events::add);
+
+		template.insert(new Item(1, "one"));
+		template.insert(new Item(2, "two"));
+
+		assertThat(events).filteredOn(EvictedEvent.class::isInstance).hasSize(1).first()
+				.isInstanceOfSatisfying(EvictedEvent.class, it -> {
+
+					assertThat(it.getKeyspace()).isEqualTo(Item.class.getName());
+					assertThat(it.getPayload()).isInstanceOf(Item.class);
+				});
+	}
+
+	static class Item {
+
+		@Id Integer id;
+		@Indexed String value;
+
+		Item(Integer id, String value) {
+
+			this.id = id;
+			this.value = value;
+		}
+	}
+
+	@KeySpace(value = "bounded", maximumSize = 5)
+	static class BoundedItem {
+
+		@Id Integer id;
+
+		BoundedItem(Integer id) {
+			this.id = id;
+		}
+	}
+
+}
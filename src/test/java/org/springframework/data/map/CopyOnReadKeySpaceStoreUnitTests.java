@@ -0,0 +1,136 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+
+/**
+ * Unit tests for {@link CopyOnReadKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class CopyOnReadKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "keyspace";
+
+	private CopyOnReadKeySpaceStore store;
+	private MapKeyValueAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+
+		store = CopyOnReadKeySpaceStore.create();
+		adapter = new MapKeyValueAdapter(store);
+	}
+
+	@Test
+	void shouldIsolateStoredObjectsFromCallers() {
+
+		Person person = new Person("1", "rand");
+		adapter.put("1", person, KEYSPACE);
+
+		person.name = "mat";
+
+		Person loaded = (Person) adapter.get("1", KEYSPACE);
+		loaded.name = "perrin";
+
+		assertThat(adapter.get("1", KEYSPACE, Person.class).name).isEqualTo("rand");
+		assertThat(adapter.get("1", KEYSPACE)).isNotSameAs(adapter.get("1", KEYSPACE));
+		assertThat(isShared("1")).isFalse();
+	}
+
+	@Test
+	void shouldShareDeeplyImmutableRecords() {
+
+		Event event = new Event("1", new Location("two rivers", 3), LocalDate.of(998, 1, 1));
+		adapter.put("1", event, KEYSPACE);
+
+		assertThat(adapter.get("1", KEYSPACE)).isSameAs(event);
+		assertThat(isShared("1")).isTrue();
+	}
+
+	@Test
+	void shouldCopyRecordsWithMutableProperties() {
+
+		List<String> members = new ArrayList<>(List.of("rand"));
+		adapter.put("1", new Party("1", members), KEYSPACE);
+
+		members.add("mat");
+
+		assertThat(adapter.get("1", KEYSPACE, Party.class).members()).containsExactly("rand");
+		assertThat(isShared("1")).isFalse();
+	}
+
+	@Test
+	void shouldCompareSnapshotsForConditionalWrites() {
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+		keySpace.put("1", new Person("1", "rand"));
+
+		assertThat(keySpace.replace("1", new Person("1", "mat"), new Person("1", "perrin"))).isFalse();
+		assertThat(keySpace.replace("1", new Person("1", "rand"), new Person("1", "perrin"))).isTrue();
+		assertThat(keySpace.remove("1", new Person("1", "perrin"))).isTrue();
+		assertThat(keySpace).isEmpty();
+	}
+
+	@Test
+	void templateShouldQueryStoredSnapshots() {
+
+		KeyValueTemplate template = new KeyValueTemplate(adapter);
+
+		template.insert(new Person("1", "rand"));
+		template.insert(new Person("2", "mat"));
+
+		assertThat(template.findAll(Person.class)).extracting(it -> it.name).containsExactlyInAnyOrder("rand", "mat");
+		assertThat(template.count(Person.class)).isEqualTo(2);
+	}
+
+	private boolean isShared(Object key) {
+		return ((CopyOnReadKeySpace) store.getKeySpace(KEYSPACE)).isShared(key);
+	}
+
+	static class Person implements Serializable {
+
+		@Id String id;
+		String name;
+
+		Person(String id, String name) {
+			this.id = id;
+			this.name = name;
+		}
+	}
+
+	record Location(String name, int population) implements Serializable {
+	}
+
+	record Event(@Id String id, Location location, LocalDate date) implements Serializable {
+	}
+
+	record Party(@Id String id, List<String> members) implements Serializable {
+	}
+
+}
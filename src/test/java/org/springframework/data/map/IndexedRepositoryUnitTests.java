@@ -0,0 +1,169 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.repository.KeyValueRepository;
+import org.springframework.data.keyvalue.repository.support.KeyValueRepositoryFactory;
+
+/**
+ * Unit tests for derived queries resolved through {@link Indexed secondary indexes} of a {@link MapKeyValueAdapter}.
+ *
+ * @author Christoph Strobl
+ */
+class IndexedRepositoryUnitTests {
+
+	EmployeeRepository repository;
+
+	Employee cersei = new Employee("1", "cersei", 19);
+	Employee jaime = new Employee("2", "jaime", 19);
+	Employee tyrion = new Employee("3", "tyrion", 17);
+
+	@BeforeEach
+	void setUp() {
+
+		repository = new KeyValueRepositoryFactory(new KeyValueTemplate(new MapKeyValueAdapter()))
+				.getRepository(EmployeeRepository.class);
+		repository.saveAll(List.of(cersei, jaime, tyrion));
+	}
+
+	@Test
+	void findsRangeUsingOrderedIndex() {
+
+		assertThat(repository.findByAgeBetween(18, 20)).containsOnly(cersei, jaime);
+		assertThat(repository.findByAgeGreaterThanOrderByAgeAscNameDesc(17)).containsExactly(jaime, cersei);
+	}
+
+	@Test
+	void findsLimitedResultInIndexOrder() {
+
+		assertThat(repository.findTop2ByAgeGreaterThanOrderByAgeDesc(10)).containsOnly(cersei, jaime);
+		assertThat(repository.findTop1ByAgeLessThanOrderByAgeAsc(19)).containsExactly(tyrion);
+		assertThat(repository.findTop1ByNameOrderByAgeDesc("tyrion")).containsExactly(tyrion);
+	}
+
+	@Test
+	void findsInstanceMutatedInPlaceByItsCurrentValues() {
+
+		Employee stored = repository.findById("3").orElseThrow();
+		stored.name = "imp";
+		stored.age = 30;
+		repository.save(stored);
+
+		assertThat(repository.findByName("tyrion")).isEmpty();
+		assertThat(repository.findByName("imp")).containsExactly(tyrion);
+		assertThat(repository.findByAgeBetween(10, 18)).isEmpty();
+		assertThat(repository.findByAgeGreaterThanOrderByAgeAscNameDesc(10)).containsExactly(jaime, cersei, tyrion);
+		assertThat(repository.findTop2ByAgeGreaterThanOrderByAgeDesc(10)).startsWith(tyrion).hasSize(2);
+	}
+
+	@Test
+	void doesNotReturnDuplicatesForInstanceMutatedInPlaceWithoutSave() {
+
+		repository.findById("3").orElseThrow().age = 20;
+
+		assertThat(repository.findTop2ByAgeGreaterThanOrderByAgeDesc(10)).containsOnly(cersei, jaime);
+		assertThat(repository.findByAgeGreaterThanOrderByAgeAscNameDesc(10)).containsExactly(jaime, cersei, tyrion);
+	}
+
+	@Test
+	void findsCollectionValuedPropertyInCandidatesRegardlessOfIndex() {
+
+		KeyValueRepositoryFactory factory = new KeyValueRepositoryFactory(new KeyValueTemplate(new MapKeyValueAdapter()));
+		IndexedTaggedRepository indexed = factory.getRepository(IndexedTaggedRepository.class);
+		TaggedRepository unindexed = factory.getRepository(TaggedRepository.class);
+
+		indexed.saveAll(List.of(new IndexedTagged("1", List.of("a")), new IndexedTagged("2", List.of("a", "b")),
+				new IndexedTagged("3", List.of("a", "c"))));
+		unindexed.saveAll(List.of(new Tagged("1", List.of("a")), new Tagged("2", List.of("a", "b")),
+				new Tagged("3", List.of("a", "c"))));
+
+		assertThat(unindexed.findByTagsIn(List.of("a", "b"))).extracting(it -> it.id).containsOnly("1", "2");
+		assertThat(indexed.findByTagsIn(List.of("a", "b"))).extracting(it -> it.id).containsOnly("1", "2");
+	}
+
+	static class Employee {
+
+		@Id String id;
+		@Indexed String name;
+		@Indexed(ordered = true) int age;
+
+		Employee(String id, String name, int age) {
+
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+	}
+
+	static class Tagged {
+
+		@Id String id;
+		List<String> tags;
+
+		Tagged(String id, List<String> tags) {
+
+			this.id = id;
+			this.tags = tags;
+		}
+	}
+
+	static class IndexedTagged {
+
+		@Id String id;
+		@Indexed List<String> tags;
+
+		IndexedTagged(String id, List<String> tags) {
+
+			this.id = id;
+			this.tags = tags;
+		}
+	}
+
+	interface TaggedRepository extends KeyValueRepository<Tagged, String> {
+
+		List<Tagged> findByTagsIn(List<String> tags);
+	}
+
+	interface IndexedTaggedRepository extends KeyValueRepository<IndexedTagged, String> {
+
+		List<IndexedTagged> findByTagsIn(List<String> tags);
+	}
+
+	interface EmployeeRepository extends KeyValueRepository<Employee, String> {
+
+		List<Employee> findByName(String name);
+
+		List<Employee> findByAgeBetween(int from, int to);
+
+		List<Employee> findByAgeGreaterThanOrderByAgeAscNameDesc(int age);
+
+		List<Employee> findTop2ByAgeGreaterThanOrderByAgeDesc(int age);
+
+		List<Employee> findTop1ByAgeLessThanOrderByAgeAsc(int age);
+
+		List<Employee> findTop1ByNameOrderByAgeDesc(String name);
+	}
+}
@@ -0,0 +1,211 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.annotation.KeySpace;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+
+/**
+ * Unit tests for compressed keyspaces of {@link MapKeyValueAdapter}.
+ *
+ * @author Christoph Strobl
+ */
+class MapKeyValueAdapterCompressionUnitTests {
+
+	private static final String KEYSPACE = "documents";
+	private static final List<String> WORDS = List.of("status", "active", "customer", "address", "street", "region",
+			"europe", "priority", "high", "comment");
+
+	private MapKeyValueAdapter adapter;
+	private KeyValueTemplate template;
+
+	@BeforeEach
+	void setUp() {
+
+		adapter = new MapKeyValueAdapter();
+		template = new KeyValueTemplate(adapter);
+	}
+
+	@Test
+	void shouldStoreDocumentsCompressed() {
+
+		Random random = new Random(42);
+
+		for (int i = 0; i < 100; i++) {
+			template.insert(new Document(Integer.toString(i), text(random, 500)));
+		}
+
+		CompressionStatistics statistics = adapter.getCompressionStatistics(KEYSPACE);
+
+		assertThat(statistics.compressedValues()).isEqualTo(100);
+		assertThat(statistics.compressionRatio()).isGreaterThan(2.0);
+		assertThat(statistics.decompressedValues()).isZero();
+		assertThat(statistics.compressionTime()).isPositive();
+	}
+
+	@Test
+	void shouldDecompressOnRead() {
+
+		Document document = new Document("1", text(new Random(1), 500));
+		template.insert(document);
+
+		assertThat(template.findById("1", Document.class)).contains(document);
+		assertThat(template.findAll(Document.class)).containsExactly(document);
+		assertThat(adapter.getCompressionStatistics(KEYSPACE).decompressedValues()).isEqualTo(2);
+	}
+
+	@Test
+	void shouldCheckPresenceWithoutDecompressing() {
+
+		template.insert(new Document("1", text(new Random(2), 500)));
+
+		assertThat(adapter.contains("1", KEYSPACE)).isTrue();
+		assertThat(adapter.contains("2", KEYSPACE)).isFalse();
+		assertThat(adapter.getCompressionStatistics(KEYSPACE).decompressedValues()).isZero();
+	}
+
+	@Test
+	void shouldKeepSmallValuesUncompressed() {
+
+		template.insert(new Document("1", "short"));
+
+		assertThat(template.findById("1", Document.class)).contains(new Document("1", "short"));
+		assertThat(adapter.getCompressionStatistics(KEYSPACE).compressedValues()).isZero();
+	}
+
+	@Test
+	void shouldComposeWithOtherStores() {
+
+		Map<Object, Object> backingMap = OffHeapKeySpaceStore.create().getKeySpace(KEYSPACE);
+		adapter = new MapKeyValueAdapter(new KeySpaceStore() {
+
+			@Override
+			public Map<Object, Object> getKeySpace(String keyspace) {
+				return backingMap;
+			}
+
+			@Override
+			public void clear() {
+				backingMap.clear();
+			}
+		});
+		template = new KeyValueTemplate(adapter);
+
+		Document document = new Document("1", text(new Random(2), 500));
+		template.insert(document);
+
+		assertThat(template.findById("1", Document.class)).contains(document);
+		assertThat(adapter.getCompressionStatistics(KEYSPACE).compressedValues()).isOne();
+	}
+
+	@Test
+	void shouldReferenceDictionaryStoredInSeparateKeySpace() {
+
+		KeySpaceStore store = MapKeySpaceStore.create();
+		adapter = new MapKeyValueAdapter(store);
+		template = new KeyValueTemplate(adapter);
+
+		Random random = new Random(3);
+
+		for (int i = 0; i < 2 * CompressingKeySpace.SAMPLE_COUNT; i++) {
+			template.insert(new Document(Integer.toString(i), text(random, 500)));
+		}
+
+		Map<Object, Object> dictionaries = store.getKeySpace(CompressingKeySpace.getDictionaryKeySpace(KEYSPACE));
+		Object stored = store.getKeySpace(KEYSPACE).get(Integer.toString(2 * CompressingKeySpace.SAMPLE_COUNT - 1));
+
+		assertThat(dictionaries).containsOnlyKeys(1);
+		assertThat(stored).isInstanceOfSatisfying(CompressingKeySpace.Compressed.class, compressed -> {
+
+			assertThat(compressed.dictionary()).isOne();
+			assertThat(ValueCodec.serializing().decode(ValueCodec.serializing().encode(compressed)))
+					.isInstanceOf(CompressingKeySpace.Compressed.class);
+		});
+	}
+
+	@Test
+	void shouldDecompressObjectsOfReopenedPersistentStore(@TempDir Path directory) throws Exception {
+
+		Random random = new Random(4);
+		MapKeyValueAdapter source = new MapKeyValueAdapter(openStore(directory));
+		KeyValueTemplate sourceTemplate = new KeyValueTemplate(source);
+
+		for (int i = 0; i < 2 * CompressingKeySpace.SAMPLE_COUNT; i++) {
+			sourceTemplate.insert(new Document(Integer.toString(i), text(random, 500)));
+		}
+
+		Document last = sourceTemplate.findById(Integer.toString(2 * CompressingKeySpace.SAMPLE_COUNT - 1), Document.class)
+				.orElseThrow();
+		source.destroy();
+
+		AppendLogKeySpaceStore store = openStore(directory);
+		MapKeyValueAdapter reopened = new MapKeyValueAdapter(store);
+
+		try {
+
+			assertThat(reopened.get(last.id(), KEYSPACE)).isEqualTo(last);
+
+			reopened.put("new", new Document("new", text(random, 500)), KEYSPACE);
+
+			assertThat(reopened.getCompressionStatistics(KEYSPACE).compressedValues()).isOne();
+			assertThat(store.getKeySpace(CompressingKeySpace.getDictionaryKeySpace(KEYSPACE))).containsOnlyKeys(1);
+		} finally {
+			reopened.destroy();
+		}
+	}
+
+	@Test
+	void shouldNotReportStatisticsForUncompressedKeySpaces() {
+
+		adapter.put("1", "value", "plain");
+
+		assertThat(adapter.getCompressionStatistics("plain")).isEqualTo(CompressionStatistics.NONE);
+	}
+
+	private static AppendLogKeySpaceStore openStore(Path directory) {
+		return AppendLogKeySpaceStore.builder(directory).fsyncPolicy(FsyncPolicy.always()).compactionInterval(Duration.ZERO)
+				.build();
+	}
+
+	private static String text(Random random, int words) {
+
+		StringBuilder text = new StringBuilder();
+
+		for (int i = 0; i < words; i++) {
+			text.append(WORDS.get(random.nextInt(WORDS.size()))).append(' ');
+		}
+
+		return text.toString();
+	}
+
+	@KeySpace(value = KEYSPACE, compressed = true)
+	record Document(@Id String id, String body) implements Serializable {
+	}
+
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.keyvalue.annotation.TimeToLive;
+import org.springframework.data.keyvalue.core.QueryResultCache;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent;
+import org.springframework.data.keyvalue.core.event.KeyValueEvent.ExpiredEvent;
+import org.springframework.data.keyvalue.core.mapping.context.KeyValueMappingContext;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for expiration of objects declaring a {@link TimeToLive} in {@link MapKeyValueAdapter}.
+ *
+ * @author Christoph Strobl
+ */
+class MapKeyValueAdapterExpirationUnitTests {
+
+	private static final String KEYSPACE = "sessions";
+
+	private final MutableClock clock = new MutableClock();
+	private final List<Object> events = new ArrayList<>();
+
+	private MapKeyValueAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+
+		adapter = new MapKeyValueAdapter();
+		adapter.setClock(clock);
+		adapter.setEventListener(events::add);
+	}
+
+	@AfterEach
+	void tearDown() throws Exception {
+		adapter.destroy();
+	}
+
+	@Test
+	void shouldNotReturnExpiredObjects() {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+		adapter.put("2", "no-ttl", KEYSPACE);
+
+		assertThat(adapter.get("1", KEYSPACE)).isNotNull();
+
+		clock.advance(Duration.ofMinutes(5));
+
+		assertThat(adapter.get("1", KEYSPACE)).isNull();
+		assertThat(adapter.contains("1", KEYSPACE)).isFalse();
+		assertThat(adapter.getAllOf(KEYSPACE)).containsExactly("no-ttl");
+		assertThat(adapter.count(KEYSPACE)).isOne();
+
+		try (CloseableIterator<?> entries = adapter.entries(KEYSPACE)) {
+			assertThat(entries).toIterable().hasSize(1);
+		}
+	}
+
+	@Test
+	void shouldRemoveExpiredObjectsAndPublishEvent() {
+
+		Session session = new Session("1");
+		adapter.put("1", session, KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+		adapter.expireEntries();
+
+		assertThat(adapter.getKeySpaceMap(KEYSPACE)).isEmpty();
+		assertThat(events).hasSize(1).first().isInstanceOfSatisfying(ExpiredEvent.class, it -> {
+
+			assertThat(it.getKey()).isEqualTo("1");
+			assertThat(it.getKeyspace()).isEqualTo(KEYSPACE);
+			assertThat(it.getPayload()).isSameAs(session);
+		});
+	}
+
+	@Test
+	void shouldContinueExpiringWhenEventListenerFails() {
+
+		adapter.setEventListener(event -> {
+
+			events.add(event);
+			throw new IllegalStateException("listener failure");
+		});
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+		adapter.put("2", new Session("2"), KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+		adapter.expireEntries();
+
+		assertThat(adapter.getKeySpaceMap(KEYSPACE)).isEmpty();
+		assertThat(events).hasSize(2);
+
+		adapter.put("3", new Session("3"), KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(5).plusSeconds(1));
+		adapter.expireEntries();
+
+		assertThat(adapter.getKeySpaceMap(KEYSPACE)).isEmpty();
+		assertThat(events).hasSize(3);
+	}
+
+	@Test
+	void schedulerShouldKeepRunningAfterTaskFailure() throws InterruptedException {
+
+		CountDownLatch invocations = new CountDownLatch(3);
+		ExpirationScheduler scheduler = new ExpirationScheduler(() -> {
+
+			invocations.countDown();
+			throw new IllegalStateException("task failure");
+		}, 1);
+
+		scheduler.start();
+
+		try {
+			assertThat(invocations.await(5, TimeUnit.SECONDS)).isTrue();
+		} finally {
+			scheduler.shutdown();
+		}
+	}
+
+	@Test
+	void shouldApplyTimeToLiveFromProperty() {
+
+		adapter.put("1", new ExplicitSession("1", 10L), KEYSPACE);
+		adapter.put("2", new ExplicitSession("2", null), KEYSPACE);
+
+		clock.advance(Duration.ofSeconds(11));
+		adapter.expireEntries();
+
+		assertThat(adapter.get("1", KEYSPACE)).isNull();
+		assertThat(adapter.get("2", KEYSPACE)).isNotNull();
+		assertThat(events).hasSize(1);
+	}
+
+	@Test
+	void shouldNotExpireObjectReplacedWithoutTimeToLive() {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+		adapter.put("1", "no-ttl", KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(10));
+		adapter.expireEntries();
+
+		assertThat(adapter.get("1", KEYSPACE)).isEqualTo("no-ttl");
+		assertThat(events).isEmpty();
+	}
+
+	@Test
+	void shouldRenewTimeToLiveOnUpdate() {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(4));
+		adapter.put("1", new Session("1"), KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(4));
+		adapter.expireEntries();
+
+		assertThat(adapter.get("1", KEYSPACE)).isNotNull();
+	}
+
+	@Test
+	void shouldScheduleOneDeadlinePerRewrittenObject() {
+
+		KeySpaceExpiration expiration = new KeySpaceExpiration(new KeyValueMappingContext<>(), clock);
+		List<Object> expired = new ArrayList<>();
+
+		for (int i = 0; i < 1000; i++) {
+
+			expiration.register(KEYSPACE, "1", new Session("1"));
+			clock.advance(Duration.ofMillis(100));
+		}
+
+		assertThat(expiration.getScheduledCount()).isOne();
+
+		clock.advance(Duration.ofMinutes(4));
+		expiration.expire((keyspace, id, deadline) -> expired.add(id));
+
+		assertThat(expired).isEmpty();
+		assertThat(expiration.getScheduledCount()).isOne();
+
+		clock.advance(Duration.ofMinutes(1));
+		expiration.expire((keyspace, id, deadline) -> expired.add(id));
+
+		assertThat(expired).containsExactly("1");
+	}
+
+	@Test
+	void putIfAbsentShouldReplaceExpiredObject() {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+		clock.advance(Duration.ofMinutes(6));
+
+		assertThat(adapter.putIfAbsent("1", "fresh", KEYSPACE)).isNull();
+		assertThat(adapter.get("1", KEYSPACE)).isEqualTo("fresh");
+		assertThat(events).hasSize(1).first().isInstanceOf(KeyValueEvent.ExpiredEvent.class);
+	}
+
+	@Test
+	void deleteAllOfShouldDropDeadlines() {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+		adapter.deleteAllOf(KEYSPACE);
+		adapter.put("1", "no-ttl", KEYSPACE);
+
+		clock.advance(Duration.ofMinutes(10));
+		adapter.expireEntries();
+
+		assertThat(adapter.get("1", KEYSPACE)).isEqualTo("no-ttl");
+	}
+
+	@Test
+	void shouldNotCacheQueryResultsOfKeySpacesWithDeadlines() {
+
+		QueryResultCache cache = new QueryResultCache(10);
+		adapter.setQueryResultCache(cache);
+		adapter.put("1", new Session("1"), KEYSPACE);
+		adapter.put("2", "no-ttl", KEYSPACE);
+
+		KeyValueQuery<?> query = new KeyValueQuery<>();
+
+		assertThat(adapter.find(query, KEYSPACE)).hasSize(2);
+
+		clock.advance(Duration.ofMinutes(5));
+
+		assertThat(adapter.getModificationCount(KEYSPACE)).isNegative();
+		assertThat(adapter.find(query, KEYSPACE)).containsExactly("no-ttl");
+		assertThat(cache.getStatistics().size()).isZero();
+	}
+
+	@Test
+	void restoredObjectsShouldExpire(@TempDir Path directory) throws Exception {
+
+		adapter.put("1", new Session("1"), KEYSPACE);
+
+		Path file = directory.resolve("snapshot");
+		adapter.snapshot(file);
+
+		MapKeyValueAdapter target = new MapKeyValueAdapter();
+		target.setClock(clock);
+
+		try {
+
+			target.restore(file);
+
+			assertThat(target.get("1", KEYSPACE)).isNotNull();
+
+			clock.advance(Duration.ofMinutes(5));
+
+			assertThat(target.get("1", KEYSPACE)).isNull();
+		} finally {
+			target.destroy();
+		}
+	}
+
+	@Test
+	void objectsOfReopenedPersistentStoreShouldExpire(@TempDir Path directory) throws Exception {
+
+		MapKeyValueAdapter source = new MapKeyValueAdapter(openStore(directory));
+		source.put("1", new Session("1"), KEYSPACE);
+		source.destroy();
+
+		MapKeyValueAdapter reopened = new MapKeyValueAdapter(openStore(directory));
+		reopened.setClock(clock);
+
+		try {
+
+			assertThat(reopened.get("1", KEYSPACE)).isNotNull();
+
+			clock.advance(Duration.ofMinutes(5));
+
+			assertThat(reopened.get("1", KEYSPACE)).isNull();
+			assertThat(reopened.count(KEYSPACE)).isZero();
+		} finally {
+			reopened.destroy();
+		}
+	}
+
+	private static AppendLogKeySpaceStore openStore(Path directory) {
+		return AppendLogKeySpaceStore.builder(directory).fsyncPolicy(FsyncPolicy.always()).compactionInterval(Duration.ZERO)
+				.build();
+	}
+
+	@TimeToLive(value = 5, unit = TimeUnit.MINUTES)
+	record Session(String id) implements Serializable {
+
+	}
+
+	record ExplicitSession(String id, @TimeToLive Long ttl) {
+
+	}
+
+	static class MutableClock extends Clock {
+
+		private Instant instant = Instant.parse("2025-01-01T00:00:00Z");
+
+		void advance(Duration duration) {
+			instant = instant.plus(duration);
+		}
+
+		@Override
+		public ZoneId getZone() {
+			return ZoneOffset.UTC;
+		}
+
+		@Override
+		public Clock withZone(ZoneId zone) {
+			return this;
+		}
+
+		@Override
+		public Instant instant() {
+			return instant;
+		}
+	}
+
+}
@@ -0,0 +1,227 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+
+/**
+ * Unit tests for {@link MapKeyValueAdapter#snapshot(Path)} and {@link MapKeyValueAdapter#restore(Path)}.
+ *
+ * @author Christoph Strobl
+ */
+class MapKeyValueAdapterSnapshotUnitTests {
+
+	@TempDir Path directory;
+
+	@Test
+	void shouldRestoreAllKeySpaces() {
+
+		MapKeyValueAdapter source = new MapKeyValueAdapter();
+
+		for (int i = 0; i < 1000; i++) {
+			source.put(i, new Person("person-" + i, i), "persons");
+		}
+		source.put("1", "one", "strings");
+		source.put("2", "two", "strings");
+
+		Path file = directory.resolve("snapshot");
+		source.snapshot(file);
+
+		MapKeyValueAdapter target = new MapKeyValueAdapter();
+		target.restore(file);
+
+		assertThat(target.count("persons")).isEqualTo(1000);
+		assertThat(target.get(42, "persons")).isEqualTo(new Person("person-42", 42));
+		assertThat(target.count("strings")).isEqualTo(2);
+		assertThat(target.get("2", "strings")).isEqualTo("two");
+	}
+
+	@Test
+	void restoreShouldReplaceSnapshottedKeySpacesOnly() {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter();
+		adapter.put("1", "one", "strings");
+
+		Path file = directory.resolve("snapshot");
+		adapter.snapshot(file);
+
+		adapter.put("2", "two", "strings");
+		adapter.put("1", "eins", "other");
+		adapter.restore(file);
+
+		assertThat(adapter.count("strings")).isEqualTo(1);
+		assertThat(adapter.get("1", "strings")).isEqualTo("one");
+		assertThat(adapter.get("1", "other")).isEqualTo("eins");
+	}
+
+	@Test
+	void snapshotShouldReplaceExistingFile() throws Exception {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter();
+		adapter.put("1", "one", "strings");
+
+		Path file = directory.resolve("snapshot");
+		adapter.snapshot(file);
+
+		adapter.delete("1", "strings");
+		adapter.put("2", "two", "strings");
+		adapter.snapshot(file);
+
+		MapKeyValueAdapter target = new MapKeyValueAdapter();
+		target.restore(file);
+
+		assertThat(target.get("1", "strings")).isNull();
+		assertThat(target.get("2", "strings")).isEqualTo("two");
+		try (var files = Files.list(directory)) {
+			assertThat(files).containsExactly(file);
+		}
+	}
+
+	@Test
+	void snapshotShouldNotBlockWritersForItsFullDuration() throws Exception {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter();
+
+		for (int i = 0; i < 10_000; i++) {
+			adapter.put(i, "initial", "numbers");
+		}
+
+		AtomicBoolean running = new AtomicBoolean(true);
+		AtomicInteger writes = new AtomicInteger();
+		CountDownLatch started = new CountDownLatch(2);
+		List<Thread> writers = new ArrayList<>();
+
+		for (int t = 0; t < 2; t++) {
+
+			int offset = t;
+			Thread writer = new Thread(() -> {
+
+				started.countDown();
+
+				for (int i = offset; running.get(); i += 2) {
+					adapter.put(i % 10_000, "updated", "numbers");
+					writes.incrementAndGet();
+				}
+			});
+
+			writer.start();
+			writers.add(writer);
+		}
+
+		started.await();
+
+		Path file = directory.resolve("snapshot");
+		adapter.snapshot(file);
+
+		running.set(false);
+		for (Thread writer : writers) {
+			writer.join();
+		}
+
+		MapKeyValueAdapter target = new MapKeyValueAdapter();
+		target.restore(file);
+
+		assertThat(writes.get()).isPositive();
+		assertThat(target.count("numbers")).isEqualTo(10_000);
+	}
+
+	@Test
+	void snapshotShouldHoldOffWritersUntilEntriesAreEncoded() throws Exception {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter();
+		adapter.put("1", "one", "strings");
+		adapter.put("1", "uno", "other");
+
+		ValueCodec serializing = ValueCodec.serializing();
+		CountDownLatch encoding = new CountDownLatch(1);
+		AtomicBoolean written = new AtomicBoolean();
+		AtomicBoolean writtenWhileEncoding = new AtomicBoolean();
+
+		ValueCodec codec = new ValueCodec() {
+
+			@Override
+			public byte[] encode(Object value) {
+
+				encoding.countDown();
+				LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(20));
+				writtenWhileEncoding.compareAndSet(false, written.get());
+
+				return serializing.encode(value);
+			}
+
+			@Override
+			public Object decode(byte[] bytes) {
+				return serializing.decode(bytes);
+			}
+		};
+
+		Thread writer = new Thread(() -> {
+
+			try {
+				encoding.await();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+
+			adapter.put("1", "eins", "strings");
+			adapter.put("2", "zwei", "other");
+			written.set(true);
+		});
+		writer.start();
+
+		Path file = directory.resolve("snapshot");
+		adapter.snapshot(file, codec);
+		writer.join();
+
+		MapKeyValueAdapter target = new MapKeyValueAdapter();
+		target.restore(file, serializing);
+
+		assertThat(writtenWhileEncoding).isFalse();
+		assertThat(target.get("1", "strings")).isEqualTo("one");
+		assertThat(target.count("other")).isOne();
+		assertThat(adapter.get("2", "other")).isEqualTo("zwei");
+	}
+
+	@Test
+	void restoreShouldRejectInvalidFile() throws Exception {
+
+		Path file = Files.write(directory.resolve("invalid"), new byte[] { 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12 });
+
+		assertThatExceptionOfType(DataAccessResourceFailureException.class)
+				.isThrownBy(() -> new MapKeyValueAdapter().restore(file));
+	}
+
+	record Person(String name, int age) implements Serializable {
+
+	}
+
+}
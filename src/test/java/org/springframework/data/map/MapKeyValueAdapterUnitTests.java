@@ -18,11 +18,17 @@ package org.springframework.data.map;
 import static org.assertj.core.api.Assertions.*;
 
 import java.util.AbstractMap;
+import java.util.Arrays;
 import java.util.LinkedHashMap;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Range;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.core.KeyValueIndex;
+import org.springframework.data.keyvalue.core.OrderedKeyValueIndex;
 import org.springframework.data.util.CloseableIterator;
 
 /**
@@ -170,6 +176,269 @@ class MapKeyValueAdapterUnitTests {
 		assertThat(iterator.hasNext()).isFalse();
 	}
 
+	@Test
+	void putShouldMaintainIndexForIndexedProperties() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+		adapter.put("2", new IndexedObject("two"), COLLECTION_1);
+		adapter.put("3", new IndexedObject("one"), COLLECTION_1);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(index).isNotNull();
+		assertThat(index.get("one")).containsExactlyInAnyOrder("1", "3");
+		assertThat(index.get("two")).containsExactly("2");
+		assertThat(index.get("three")).isEmpty();
+	}
+
+	@Test
+	void putShouldRemoveStaleIndexEntries() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+		adapter.put("1", new IndexedObject("two"), COLLECTION_1);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(index.get("one")).isEmpty();
+		assertThat(index.get("two")).containsExactly("1");
+	}
+
+	@Test
+	void putShouldIndexNullValues() {
+
+		adapter.put("1", new IndexedObject(null), COLLECTION_1);
+
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get(null)).containsExactly("1");
+	}
+
+	@Test
+	void putShouldPopulateNewIndexWithExistingEntries() {
+
+		Map<String, Map<Object, Object>> store = new LinkedHashMap<>();
+		store.computeIfAbsent(COLLECTION_1, it -> new LinkedHashMap<>()).put("1", new IndexedObject("one"));
+
+		adapter = new MapKeyValueAdapter(store);
+		adapter.put("2", new IndexedObject("one"), COLLECTION_1);
+
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("one")).containsExactlyInAnyOrder("1", "2");
+	}
+
+	@Test
+	void deleteShouldRemoveIndexEntries() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+		adapter.delete("1", COLLECTION_1);
+
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("one")).isEmpty();
+	}
+
+	@Test
+	void deleteAllOfShouldDropIndexes() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+		adapter.put("2", new IndexedObject("one"), COLLECTION_2);
+
+		adapter.deleteAllOf(COLLECTION_1);
+
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue")).isNull();
+		assertThat(adapter.getIndex(COLLECTION_2, "indexedValue")).isNotNull();
+	}
+
+	@Test
+	void getIndexReturnsNullForNonIndexedProperties() {
+
+		adapter.put("1", object1, COLLECTION_1);
+
+		assertThat(adapter.getIndex(COLLECTION_1, "stringValue")).isNull();
+	}
+
+	@Test
+	void putShouldMaintainOrderedIndex() {
+
+		adapter.put("1", new OrderedIndexObject(3), COLLECTION_1);
+		adapter.put("2", new OrderedIndexObject(1), COLLECTION_1);
+		adapter.put("3", new OrderedIndexObject(2), COLLECTION_1);
+		adapter.put("4", new OrderedIndexObject(null), COLLECTION_1);
+
+		OrderedKeyValueIndex index = (OrderedKeyValueIndex) adapter.getIndex(COLLECTION_1, "value");
+
+		assertThat(index.getRange(Range.unbounded(), Direction.ASC)).containsExactly("2", "3", "1");
+		assertThat(index.getRange(Range.unbounded(), Direction.DESC)).containsExactly("1", "3", "2");
+		assertThat(index.getRange(Range.rightUnbounded(Range.Bound.exclusive(1)), Direction.ASC)).containsExactly("3", "1");
+		assertThat(index.getRange(Range.closed(1, 2), Direction.DESC)).containsExactly("3", "2");
+		assertThat(index.getRange(Range.open(2, 2), Direction.ASC)).isEmpty();
+		assertThat(index.get(null)).containsExactly("4");
+	}
+
+	@Test
+	void putShouldMoveEntryWithinOrderedIndex() {
+
+		adapter.put("1", new OrderedIndexObject(1), COLLECTION_1);
+		adapter.put("1", new OrderedIndexObject(5), COLLECTION_1);
+
+		OrderedKeyValueIndex index = (OrderedKeyValueIndex) adapter.getIndex(COLLECTION_1, "value");
+
+		assertThat(index.getRange(Range.closed(0, 2), Direction.ASC)).isEmpty();
+		assertThat(index.getRange(Range.closed(4, 6), Direction.ASC)).containsExactly("1");
+	}
+
+	@Test
+	void putShouldUpdateIndexForInstanceMutatedInPlace() {
+
+		IndexedObject object = new IndexedObject("one");
+		adapter.put("1", object, COLLECTION_1);
+
+		object.indexedValue = "two";
+		adapter.put("1", object, COLLECTION_1);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(index.get("one")).isEmpty();
+		assertThat(index.get("two")).containsExactly("1");
+
+		adapter.delete("1", COLLECTION_1);
+
+		assertThat(index.get("two")).isEmpty();
+	}
+
+	@Test
+	void putShouldMoveEntryOfInstanceMutatedInPlaceWithinOrderedIndex() {
+
+		OrderedIndexObject object = new OrderedIndexObject(1);
+		adapter.put("1", object, COLLECTION_1);
+		adapter.put("2", new OrderedIndexObject(3), COLLECTION_1);
+
+		object.value = 5;
+		adapter.put("1", object, COLLECTION_1);
+
+		OrderedKeyValueIndex index = (OrderedKeyValueIndex) adapter.getIndex(COLLECTION_1, "value");
+
+		assertThat(index.get(1)).isEmpty();
+		assertThat(index.getRange(Range.unbounded(), Direction.ASC)).containsExactly("2", "1");
+	}
+
+	@Test
+	void putAllShouldStoreAllItemsAndMaintainIndexes() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+
+		Map<Object, Object> items = new LinkedHashMap<>();
+		items.put("1", new IndexedObject("two"));
+		items.put("2", new IndexedObject("one"));
+		adapter.putAll(items, COLLECTION_1);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(adapter.count(COLLECTION_1)).isEqualTo(2);
+		assertThat(index.get("one")).containsExactly("2");
+		assertThat(index.get("two")).containsExactly("1");
+	}
+
+	@Test
+	void getAllShouldReturnFoundItemsOnly() {
+
+		adapter.put("1", object1, COLLECTION_1);
+		adapter.put("2", object2, COLLECTION_1);
+
+		assertThat(adapter.getAll(Arrays.asList("2", "3", "1"), COLLECTION_1)).containsExactly(entry("2", object2),
+				entry("1", object1));
+	}
+
+	@Test
+	void deleteAllShouldReturnRemovedItemsAndUpdateIndexes() {
+
+		adapter.put("1", new IndexedObject("one"), COLLECTION_1);
+		adapter.put("2", new IndexedObject("one"), COLLECTION_1);
+		adapter.put("3", new IndexedObject("two"), COLLECTION_1);
+
+		assertThat(adapter.deleteAll(Arrays.asList("1", "3", "4"), COLLECTION_1)).containsOnlyKeys("1", "3");
+		assertThat(adapter.count(COLLECTION_1)).isEqualTo(1);
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("one")).containsExactly("2");
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("two")).isEmpty();
+	}
+
+	@Test
+	void putIfAbsentShouldNotOverwriteExistingItem() {
+
+		IndexedObject existing = new IndexedObject("one");
+
+		assertThat(adapter.putIfAbsent("1", existing, COLLECTION_1)).isNull();
+		assertThat(adapter.putIfAbsent("1", new IndexedObject("two"), COLLECTION_1)).isSameAs(existing);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(adapter.get("1", COLLECTION_1)).isSameAs(existing);
+		assertThat(index.get("one")).containsExactly("1");
+		assertThat(index.get("two")).isEmpty();
+	}
+
+	@Test
+	void replaceShouldOnlyWriteExistingItems() {
+
+		IndexedObject replacement = new IndexedObject("two");
+
+		assertThat(adapter.replace("1", replacement, COLLECTION_1)).isNull();
+		assertThat(adapter.contains("1", COLLECTION_1)).isFalse();
+
+		IndexedObject existing = new IndexedObject("one");
+		adapter.put("1", existing, COLLECTION_1);
+
+		assertThat(adapter.replace("1", replacement, COLLECTION_1)).isSameAs(existing);
+		assertThat(adapter.get("1", COLLECTION_1)).isSameAs(replacement);
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("one")).isEmpty();
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("two")).containsExactly("1");
+	}
+
+	@Test
+	void replaceShouldCompareExpectedItem() {
+
+		IndexedObject existing = new IndexedObject("one");
+		IndexedObject replacement = new IndexedObject("two");
+		adapter.put("1", existing, COLLECTION_1);
+
+		assertThat(adapter.replace("1", replacement, new IndexedObject("three"), COLLECTION_1)).isFalse();
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("three")).isEmpty();
+
+		assertThat(adapter.replace("1", existing, replacement, COLLECTION_1)).isTrue();
+		assertThat(adapter.get("1", COLLECTION_1)).isSameAs(replacement);
+		assertThat(adapter.getIndex(COLLECTION_1, "indexedValue").get("one")).isEmpty();
+	}
+
+	@Test
+	void computeShouldUpdateAndRemoveItems() {
+
+		adapter.compute("1", (id, existing) -> new IndexedObject("one"), COLLECTION_1);
+		adapter.compute("1", (id, existing) -> new IndexedObject(((IndexedObject) existing).indexedValue + "-two"),
+				COLLECTION_1);
+
+		KeyValueIndex index = adapter.getIndex(COLLECTION_1, "indexedValue");
+
+		assertThat(index.get("one")).isEmpty();
+		assertThat(index.get("one-two")).containsExactly("1");
+
+		assertThat(adapter.compute("1", (id, existing) -> null, COLLECTION_1)).isNull();
+		assertThat(adapter.contains("1", COLLECTION_1)).isFalse();
+		assertThat(index.get("one-two")).isEmpty();
+	}
+
+	static class OrderedIndexObject {
+
+		@Indexed(ordered = true) Integer value;
+
+		OrderedIndexObject(Integer value) {
+			this.value = value;
+		}
+	}
+
+	static class IndexedObject {
+
+		@Indexed String indexedValue;
+
+		IndexedObject(String indexedValue) {
+			this.indexedValue = indexedValue;
+		}
+	}
+
 	static class SimpleObject {
 
 		protected String stringValue;
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.Version;
+import org.springframework.data.keyvalue.annotation.Indexed;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.keyvalue.core.query.KeyValueQuery;
+
+/**
+ * Unit tests for {@link OffHeapKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class OffHeapKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "keyspace";
+
+	private OffHeapKeySpaceStore store;
+
+	@BeforeEach
+	void setUp() {
+		store = OffHeapKeySpaceStore.create(ValueCodec.serializing(), 256);
+	}
+
+	@Test
+	void shouldStoreCopiesOfValues() {
+
+		Person person = new Person("1", "walter", 50);
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		keySpace.put("1", person);
+		person.name = "heisenberg";
+
+		Person loaded = (Person) keySpace.get("1");
+
+		assertThat(loaded).isNotSameAs(person);
+		assertThat(loaded.name).isEqualTo("walter");
+		assertThat(keySpace).containsOnlyKeys("1");
+	}
+
+	@Test
+	void shouldAccountForMemoryUsage() {
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		assertThat(store.getUsage(KEYSPACE)).isEqualTo(OffHeapKeySpaceStore.Usage.EMPTY);
+
+		keySpace.put("1", "value");
+		OffHeapKeySpaceStore.Usage usage = store.getUsage(KEYSPACE);
+
+		assertThat(usage.entries()).isOne();
+		assertThat(usage.usedBytes()).isPositive();
+		assertThat(usage.allocatedBytes()).isEqualTo(256);
+
+		keySpace.remove("1");
+
+		assertThat(store.getUsage(KEYSPACE).usedBytes()).isZero();
+		assertThat(store.getUsage("other")).isEqualTo(OffHeapKeySpaceStore.Usage.EMPTY);
+	}
+
+	@Test
+	void shouldReclaimSpaceOfOverwrittenValues() {
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 1000; i++) {
+			keySpace.put(i % 10, "value-" + i);
+		}
+
+		OffHeapKeySpaceStore.Usage usage = store.getUsage(KEYSPACE);
+
+		assertThat(usage.entries()).isEqualTo(10);
+		assertThat(usage.allocatedBytes()).isLessThan(usage.usedBytes() * 4 + 256 * 2);
+		assertThat(keySpace.get(3)).isEqualTo("value-993");
+	}
+
+	@Test
+	void shouldStoreValuesLargerThanSlab() {
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+		char[] chars = new char[1024];
+		Arrays.fill(chars, 'x');
+
+		keySpace.put("1", new String(chars));
+
+		assertThat(keySpace.get("1")).isEqualTo(new String(chars));
+	}
+
+	@Test
+	void conditionalWritesShouldCompareEncodedValues() {
+
+		Map<Object, Object> keySpace = store.getKeySpace(KEYSPACE);
+		keySpace.put("1", new Person("1", "walter", 50));
+
+		assertThat(keySpace.putIfAbsent("1", new Person("1", "jesse", 25))).isNotNull();
+		assertThat(keySpace.replace("1", new Person("1", "jesse", 25), new Person("1", "skyler", 40))).isFalse();
+		assertThat(keySpace.replace("1", new Person("1", "walter", 50), new Person("1", "skyler", 40))).isTrue();
+		assertThat(((Person) keySpace.get("1")).name).isEqualTo("skyler");
+	}
+
+	@Test
+	void shouldWorkWithKeyValueTemplate() {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+		KeyValueTemplate template = new KeyValueTemplate(adapter);
+
+		template.insert(new Person("1", "walter", 50));
+		template.insert(new Person("2", "jesse", 25));
+
+		assertThat(template.findById("1", Person.class)).hasValueSatisfying(it -> assertThat(it.name).isEqualTo("walter"));
+		assertThat(template.find(new KeyValueQuery<>((Predicate<Person>) it -> it.age > 30), Person.class)).extracting(it -> it.name)
+				.containsExactly("walter");
+		assertThat(adapter.getIndex(Person.class.getName(), "name").get("jesse")).containsExactly("2");
+
+		Person walter = template.findById("1", Person.class).get();
+		walter.age = 51;
+		template.update(walter);
+
+		Person stale = new Person("1", "walter", 50);
+		stale.version = 0L;
+
+		assertThatExceptionOfType(OptimisticLockingFailureException.class).isThrownBy(() -> template.update(stale));
+		assertThat(template.findById("1", Person.class)).hasValueSatisfying(it -> assertThat(it.age).isEqualTo(51));
+	}
+
+	static class Person implements Serializable {
+
+		@Id String id;
+		@Indexed String name;
+		int age;
+		@Version Long version;
+
+		Person(String id, String name, int age) {
+			this.id = id;
+			this.name = name;
+			this.age = age;
+		}
+
+		public int getAge() {
+			return age;
+		}
+	}
+}
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+
+/**
+ * Unit tests for {@link PrimitiveKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class PrimitiveKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "keyspace";
+
+	@Test
+	void shouldStoreLongKeysUnboxed() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		store.setKeyType(KEYSPACE, long.class);
+
+		LongKeySpace keySpace = (LongKeySpace) store.getKeySpace(KEYSPACE);
+
+		keySpace.put(1L, "one");
+		keySpace.put(2L, "two");
+
+		assertThat(keySpace.getKeyType()).isEqualTo(Long.class);
+		assertThat(keySpace.get(1L)).isEqualTo("one");
+		assertThat(keySpace.get((Object) 2L)).isEqualTo("two");
+		assertThat(keySpace.containsKey(3L)).isFalse();
+		assertThat(keySpace).containsOnlyKeys(1L, 2L);
+	}
+
+	@Test
+	void shouldBehaveLikeMapForRandomOperations() {
+
+		Map<Object, Object> keySpace = PrimitiveKeySpaceStore.create().getKeySpace(KEYSPACE, 0);
+		Map<Object, Object> reference = new HashMap<>();
+		Random random = new Random(42);
+
+		for (int i = 0; i < 100_000; i++) {
+
+			Long key = (long) random.nextInt(2_000) - 1_000;
+
+			switch (random.nextInt(4)) {
+				case 0, 1 -> assertThat(keySpace.put(key, i)).isEqualTo(reference.put(key, i));
+				case 2 -> assertThat(keySpace.remove(key)).isEqualTo(reference.remove(key));
+				default -> assertThat(keySpace.putIfAbsent(key, i)).isEqualTo(reference.putIfAbsent(key, i));
+			}
+		}
+
+		assertThat(keySpace).hasSize(reference.size()).containsExactlyInAnyOrderEntriesOf(reference);
+	}
+
+	@Test
+	void shouldStoreKeysOfOtherTypesAlongsidePrimitiveKeys() {
+
+		Map<Object, Object> keySpace = PrimitiveKeySpaceStore.create().getKeySpace(KEYSPACE);
+
+		keySpace.put(1, "int");
+		keySpace.put(1L, "long");
+		keySpace.put("1", "string");
+
+		assertThat(((LongKeySpace) keySpace).getKeyType()).isEqualTo(Integer.class);
+		assertThat(keySpace).hasSize(3).containsEntry(1, "int").containsEntry(1L, "long").containsEntry("1", "string");
+	}
+
+	@Test
+	void shouldUseConfiguredKeyType() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		store.setKeyType(KEYSPACE, int.class);
+
+		assertThat(((LongKeySpace) store.getKeySpace(KEYSPACE)).getKeyType()).isEqualTo(Integer.class);
+		assertThatIllegalArgumentException().isThrownBy(() -> store.setKeyType("other", String.class));
+	}
+
+	@Test
+	void primitivePutShouldRequireKeyType() {
+
+		LongKeySpace keySpace = (LongKeySpace) PrimitiveKeySpaceStore.create().getKeySpace(KEYSPACE);
+
+		assertThatIllegalStateException().isThrownBy(() -> keySpace.put(1L, "one"));
+		assertThat(keySpace.getKeyType()).isNull();
+	}
+
+	@Test
+	void primitivePutShouldRejectKeysExceedingIntKeyType() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		store.setKeyType(KEYSPACE, int.class);
+
+		LongKeySpace keySpace = (LongKeySpace) store.getKeySpace(KEYSPACE);
+		keySpace.put(-1L, "minus-one");
+
+		assertThatIllegalArgumentException().isThrownBy(() -> keySpace.put(1L + Integer.MAX_VALUE, "overflow"));
+		assertThat(keySpace).containsOnlyKeys(-1);
+	}
+
+	@Test
+	void shouldApplyDetectedKeyTypeToExistingKeySpace() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		LongKeySpace keySpace = (LongKeySpace) store.getKeySpace(KEYSPACE);
+
+		store.setKeyTypeIfAbsent(KEYSPACE, int.class);
+		store.setKeyTypeIfAbsent(KEYSPACE, long.class);
+
+		assertThat(keySpace.getKeyType()).isEqualTo(Integer.class);
+	}
+
+	@Test
+	void iteratorShouldRemoveEntries() {
+
+		Map<Object, Object> keySpace = PrimitiveKeySpaceStore.create().getKeySpace(KEYSPACE);
+
+		for (long i = 0; i < 100; i++) {
+			keySpace.put(i, i);
+		}
+
+		Iterator<Entry<Object, Object>> iterator = keySpace.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			if ((Long) iterator.next().getKey() % 2 == 0) {
+				iterator.remove();
+			}
+		}
+
+		assertThat(keySpace).hasSize(50).doesNotContainKey(0L).containsKey(1L);
+	}
+
+	@Test
+	void shouldAllowConcurrentReadsDuringWrites() throws InterruptedException {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		store.setKeyType(KEYSPACE, Long.class);
+
+		LongKeySpace keySpace = (LongKeySpace) store.getKeySpace(KEYSPACE, 0);
+		ExecutorService executor = Executors.newFixedThreadPool(4);
+		AtomicInteger inconsistent = new AtomicInteger();
+
+		executor.execute(() -> {
+			for (long i = 0; i < 100_000; i++) {
+				keySpace.put(i, Long.valueOf(i));
+			}
+		});
+
+		for (int reader = 0; reader < 3; reader++) {
+			executor.execute(() -> {
+				for (long i = 0; i < 100_000; i++) {
+
+					Object value = keySpace.get(i);
+
+					if (value != null && !value.equals(i)) {
+						inconsistent.incrementAndGet();
+					}
+				}
+			});
+		}
+
+		executor.shutdown();
+
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(inconsistent).hasValue(0);
+		assertThat(keySpace).hasSize(100_000);
+	}
+
+	@Test
+	void adapterShouldDetectNumericIdProperty() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+
+		adapter.put(42, new IntEntity(42), "ints");
+
+		assertThat(((LongKeySpace) store.getKeySpace("ints")).getKeyType()).isEqualTo(Integer.class);
+		assertThat(adapter.get(42L, "ints", IntEntity.class)).isEqualTo(new IntEntity(42));
+		assertThat(adapter.get(42, "ints")).isEqualTo(new IntEntity(42));
+	}
+
+	@Test
+	void primitiveLookupShouldResolveKeyTypeFromIdProperty() {
+
+		PrimitiveKeySpaceStore store = PrimitiveKeySpaceStore.create();
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(store);
+
+		assertThat(adapter.get(1L, "ints", IntEntity.class)).isNull();
+		assertThat(((LongKeySpace) store.getKeySpace("ints")).getKeyType()).isEqualTo(Integer.class);
+	}
+
+	@Test
+	void templateShouldFindByPrimitiveId() {
+
+		KeyValueTemplate template = new KeyValueTemplate(new MapKeyValueAdapter(PrimitiveKeySpaceStore.create()));
+
+		template.insert(new LongEntity(1L));
+		template.insert(new IntEntity(2));
+
+		assertThat(template.findById(1L, LongEntity.class)).contains(new LongEntity(1L));
+		assertThat(template.findById(2L, IntEntity.class)).contains(new IntEntity(2));
+		assertThat(template.findById(3L, LongEntity.class)).isEmpty();
+
+		template.setApplicationEventPublisher(event -> {});
+
+		assertThat(template.findById(2L, IntEntity.class)).contains(new IntEntity(2));
+	}
+
+	record LongEntity(@Id Long id) {
+	}
+
+	record IntEntity(@Id int id) {
+	}
+
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.map.ShardedKeySpaceStore.Hints;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for {@link ShardedKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class ShardedKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "keyspace";
+
+	@Test
+	void shouldDeriveShardCountFromHints() {
+
+		ShardedKeySpaceStore store = ShardedKeySpaceStore.create(new Hints(100, 1));
+		store.setHints("five", new Hints(100, 5));
+		store.setHints("many", new Hints(100, Integer.MAX_VALUE));
+
+		assertThat(((ShardedKeySpace) store.getKeySpace(KEYSPACE)).getShardCount()).isOne();
+		assertThat(((ShardedKeySpace) store.getKeySpace("five")).getShardCount()).isEqualTo(8);
+		assertThat(((ShardedKeySpace) store.getKeySpace("many")).getShardCount())
+				.isEqualTo(ShardedKeySpaceStore.MAX_SHARDS);
+	}
+
+	@Test
+	void shouldSpreadEntriesAcrossShards() {
+
+		Map<Object, Object> keySpace = ShardedKeySpaceStore.create(new Hints(0, 16)).getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 10_000; i++) {
+			keySpace.put(i, "value-" + i);
+		}
+
+		assertThat(keySpace).hasSize(10_000).containsEntry(42, "value-42");
+		assertThat(keySpace.keySet()).containsAll(IntStream.range(0, 10_000).boxed().toList());
+		assertThat(keySpace.values().stream().distinct().count()).isEqualTo(10_000);
+		assertThat(keySpace.entrySet().parallelStream().count()).isEqualTo(10_000);
+	}
+
+	@Test
+	void shouldSupportConditionalWrites() {
+
+		Map<Object, Object> keySpace = ShardedKeySpaceStore.create().getKeySpace(KEYSPACE);
+
+		assertThat(keySpace.putIfAbsent("1", "one")).isNull();
+		assertThat(keySpace.putIfAbsent("1", "uno")).isEqualTo("one");
+		assertThat(keySpace.replace("1", "uno", "eins")).isFalse();
+		assertThat(keySpace.replace("1", "one", "eins")).isTrue();
+		assertThat(keySpace.computeIfPresent("1", (key, value) -> null)).isNull();
+		assertThat(keySpace).isEmpty();
+	}
+
+	@Test
+	void iteratorShouldRemoveEntries() {
+
+		Map<Object, Object> keySpace = ShardedKeySpaceStore.create(new Hints(0, 4)).getKeySpace(KEYSPACE);
+
+		for (int i = 0; i < 100; i++) {
+			keySpace.put(i, i);
+		}
+
+		Iterator<Entry<Object, Object>> iterator = keySpace.entrySet().iterator();
+
+		while (iterator.hasNext()) {
+			if ((Integer) iterator.next().getKey() % 2 == 0) {
+				iterator.remove();
+			}
+		}
+
+		assertThat(keySpace).hasSize(50).doesNotContainKey(0).containsKey(1);
+	}
+
+	@Test
+	void shouldHandleConcurrentWrites() throws InterruptedException {
+
+		Map<Object, Object> keySpace = ShardedKeySpaceStore.create(new Hints(0, 8)).getKeySpace(KEYSPACE);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		for (int thread = 0; thread < 8; thread++) {
+
+			int offset = thread * 10_000;
+			executor.execute(() -> {
+				for (int i = 0; i < 10_000; i++) {
+					keySpace.put(offset + i, i);
+				}
+			});
+		}
+
+		executor.shutdown();
+
+		assertThat(executor.awaitTermination(30, TimeUnit.SECONDS)).isTrue();
+		assertThat(keySpace).hasSize(80_000);
+	}
+
+	@Test
+	void adapterShouldIterateAllShards() {
+
+		MapKeyValueAdapter adapter = new MapKeyValueAdapter(ShardedKeySpaceStore.create(new Hints(0, 4)));
+
+		for (int i = 0; i < 100; i++) {
+			adapter.put(i, "value-" + i, KEYSPACE);
+		}
+
+		assertThat(adapter.count(KEYSPACE)).isEqualTo(100);
+		assertThat(adapter.getAllOf(KEYSPACE)).hasSize(100).contains("value-0", "value-99");
+
+		try (CloseableIterator<Entry<Object, Object>> entries = adapter.entries(KEYSPACE)) {
+			assertThat(entries).toIterable().hasSize(100);
+		}
+
+		adapter.deleteAllOf(KEYSPACE);
+
+		assertThat(adapter.count(KEYSPACE)).isZero();
+	}
+
+}
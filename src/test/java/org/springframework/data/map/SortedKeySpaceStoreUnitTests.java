@@ -0,0 +1,133 @@
+/*
+ * Copyright 2026-present the original author or authors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.springframework.data.map;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.keyvalue.core.KeyValueTemplate;
+import org.springframework.data.util.CloseableIterator;
+
+/**
+ * Unit tests for {@link SortedKeySpaceStore}.
+ *
+ * @author Christoph Strobl
+ */
+class SortedKeySpaceStoreUnitTests {
+
+	private static final String KEYSPACE = "readings";
+
+	private SortedKeySpaceStore store;
+	private MapKeyValueAdapter adapter;
+
+	@BeforeEach
+	void setUp() {
+
+		store = SortedKeySpaceStore.create();
+		store.setSorted(KEYSPACE);
+		store.setSorted(Reading.class.getName());
+
+		adapter = new MapKeyValueAdapter(store);
+
+		for (String key : List.of("b:2", "a:2", "b:1", "a:1", "c:1", "ab:1")) {
+			adapter.put(key, key.toUpperCase(), KEYSPACE);
+			adapter.put(key, key.toUpperCase(), "unsorted");
+		}
+	}
+
+	@Test
+	void shouldUseSkipListForSortedKeySpacesOnly() {
+
+		assertThat(store.getKeySpace(KEYSPACE)).isInstanceOf(ConcurrentSkipListMap.class);
+		assertThat(store.getKeySpace("unsorted")).isInstanceOf(ConcurrentHashMap.class);
+		assertThat(store.getKeySpaces()).contains(KEYSPACE, "unsorted");
+	}
+
+	@Test
+	void shouldReturnEntriesWithinRangeInKeyOrder() {
+
+		assertThat(keys(adapter.entries(KEYSPACE, "a:2", "b:2"))).containsExactly("a:2", "ab:1", "b:1");
+		assertThat(keys(adapter.entries(KEYSPACE, "b", null))).containsExactly("b:1", "b:2", "c:1");
+		assertThat(keys(adapter.entries(KEYSPACE, null, "ab"))).containsExactly("a:1", "a:2");
+		assertThat(keys(adapter.entries(KEYSPACE, "x", "y"))).isEmpty();
+	}
+
+	@Test
+	void shouldReturnEntriesWithPrefixInKeyOrder() {
+
+		assertThat(keys(adapter.entriesWithPrefix(KEYSPACE, "a:"))).containsExactly("a:1", "a:2");
+		assertThat(keys(adapter.entriesWithPrefix(KEYSPACE, "a"))).containsExactly("a:1", "a:2", "ab:1");
+		assertThat(keys(adapter.entriesWithPrefix(KEYSPACE, "z"))).isEmpty();
+	}
+
+	@Test
+	void shouldScanUnsortedKeySpaces() {
+
+		assertThat(keys(adapter.entries("unsorted", "a:2", "b:2"))).containsExactly("a:2", "ab:1", "b:1");
+		assertThat(keys(adapter.entriesWithPrefix("unsorted", "b:"))).containsExactly("b:1", "b:2");
+	}
+
+	@Test
+	void shouldUseConfiguredComparator() {
+
+		store.setSorted("reversed", Comparator.reverseOrder());
+
+		for (String key : List.of("a:1", "b:1", "a:2")) {
+			adapter.put(key, key, "reversed");
+		}
+
+		assertThat(keys(adapter.entries("reversed", "b", "a:1"))).containsExactly("a:2");
+		assertThat(keys(adapter.entriesWithPrefix("reversed", "a:"))).containsExactly("a:1", "a:2");
+	}
+
+	@Test
+	void templateShouldStreamByIdRangeAndPrefix() {
+
+		KeyValueTemplate template = new KeyValueTemplate(adapter);
+
+		template.insert(new Reading("device-1:0002", 2));
+		template.insert(new Reading("device-1:0001", 1));
+		template.insert(new Reading("device-2:0001", 3));
+
+		try (Stream<Reading> readings = template.streamByIdRange("device-1:0002", "device-2", Reading.class)) {
+			assertThat(readings).extracting(Reading::value).containsExactly(2);
+		}
+
+		try (Stream<Reading> readings = template.streamByIdPrefix("device-1:", Reading.class)) {
+			assertThat(readings).extracting(Reading::value).containsExactly(1, 2);
+		}
+	}
+
+	private static List<Object> keys(CloseableIterator<Entry<Object, Object>> entries) {
+
+		try (entries) {
+			return entries.stream().map(Entry::getKey).toList();
+		}
+	}
+
+	record Reading(@Id String id, int value) {
+	}
+
+}